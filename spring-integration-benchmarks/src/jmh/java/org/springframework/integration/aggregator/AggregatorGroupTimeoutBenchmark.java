@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.NullChannel;
+import org.springframework.integration.expression.ValueExpression;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * The throughput of an {@link AggregatingMessageHandler} with a group timeout, where every message
+ * pushes the group deadline forward: a task per group on the {@code TaskScheduler}
+ * versus the timing wheel.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AggregatorGroupTimeoutBenchmark {
+
+	@Param({ "taskScheduler", "timingWheel" })
+	String groupTimeout;
+
+	@Param({ "10000" })
+	int groups;
+
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	private AggregatingMessageHandler handler;
+
+	private Message<?>[] messages;
+
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setupMessages() {
+		this.messages = new Message<?>[this.groups];
+		for (int i = 0; i < this.groups; i++) {
+			this.messages[i] = MessageBuilder.withPayload(i).setCorrelationId(i).build();
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		this.taskScheduler = new ThreadPoolTaskScheduler();
+		this.taskScheduler.afterPropertiesSet();
+		this.handler = new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor());
+		this.handler.setReleaseStrategy(group -> group.size() == 8);
+		this.handler.setExpireGroupsUponCompletion(true);
+		this.handler.setGroupTimeoutExpression(new ValueExpression<>(60_000L));
+		if ("timingWheel".equals(this.groupTimeout)) {
+			this.handler.setGroupTimeoutTickDuration(Duration.ofMillis(100));
+		}
+		this.handler.setOutputChannel(new NullChannel());
+		this.handler.setTaskScheduler(this.taskScheduler);
+		this.handler.setBeanFactory(new DefaultListableBeanFactory());
+		this.handler.afterPropertiesSet();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		this.handler.destroy();
+		this.taskScheduler.getScheduledExecutor().shutdownNow();
+	}
+
+	@Benchmark
+	public void aggregate() {
+		this.handler.handleMessage(this.messages[this.index]);
+		if (++this.index == this.messages.length) {
+			this.index = 0;
+		}
+	}
+
+}
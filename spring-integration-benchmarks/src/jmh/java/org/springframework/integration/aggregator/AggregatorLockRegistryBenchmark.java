@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.NullChannel;
+import org.springframework.integration.store.SimpleMessageStore;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.integration.support.locks.PerKeyLockRegistry;
+import org.springframework.messaging.Message;
+
+/**
+ * The throughput of an {@link AggregatingMessageHandler} with 64 threads aggregating
+ * 1M distinct groups, with the {@link DefaultLockRegistry} versus the {@link PerKeyLockRegistry}
+ * for both the handler and its {@link SimpleMessageStore}.
+ * Each thread aggregates pairs of messages for its own range of groups.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(AggregatorLockRegistryBenchmark.THREADS)
+public class AggregatorLockRegistryBenchmark {
+
+	static final int THREADS = 64;
+
+	static final int GROUPS = 1_000_000;
+
+	@Benchmark
+	public void aggregate(AggregatorState aggregator, MessagesState messages) {
+		aggregator.handler.handleMessage(messages.next());
+	}
+
+	@State(Scope.Benchmark)
+	public static class AggregatorState {
+
+		@Param({ "default", "perKey" })
+		String lockRegistry;
+
+		AggregatingMessageHandler handler;
+
+		private final AtomicInteger threads = new AtomicInteger();
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			this.handler = new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(),
+					new SimpleMessageStore(0, 0, lockRegistry()));
+			this.handler.setLockRegistry(lockRegistry());
+			this.handler.setOutputChannel(new NullChannel());
+			this.handler.setExpireGroupsUponCompletion(true);
+			this.handler.setBeanFactory(new DefaultListableBeanFactory());
+			this.handler.afterPropertiesSet();
+		}
+
+		private LockRegistry lockRegistry() {
+			return "perKey".equals(this.lockRegistry) ? new PerKeyLockRegistry() : new DefaultLockRegistry();
+		}
+
+	}
+
+	@State(Scope.Thread)
+	public static class MessagesState {
+
+		private int firstGroup;
+
+		private int index;
+
+		@Setup
+		public void setup(AggregatorState aggregator) {
+			this.firstGroup = (aggregator.threads.getAndIncrement() % THREADS) * (GROUPS / THREADS);
+		}
+
+		Message<?> next() {
+			int groups = GROUPS / THREADS;
+			int group = this.index % groups;
+			int sequence = this.index / groups;
+			if (++this.index == groups * 2) {
+				this.index = 0;
+			}
+			return MessageBuilder.withPayload(sequence)
+					.setCorrelationId(this.firstGroup + group)
+					.setSequenceNumber(sequence + 1)
+					.setSequenceSize(2)
+					.build();
+		}
+
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.NullChannel;
+import org.springframework.integration.store.MessageGroupStore;
+import org.springframework.integration.store.ShardedMessageStore;
+import org.springframework.integration.store.SimpleMessageStore;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+/**
+ * The throughput of an {@link AggregatingMessageHandler} with many concurrently open groups:
+ * the {@link SimpleMessageStore} versus the {@link ShardedMessageStore}.
+ * Each thread interleaves the messages of its own groups, so a group is only released
+ * after all the other groups of the thread have received the same number of messages.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class AggregatorMessageStoreBenchmark {
+
+	@Benchmark
+	public void aggregate(AggregatorState aggregator, MessagesState messages) {
+		aggregator.handler.handleMessage(messages.next());
+	}
+
+	@State(Scope.Benchmark)
+	public static class AggregatorState {
+
+		@Param({ "simple", "sharded" })
+		String store;
+
+		@Param({ "10000" })
+		int groups;
+
+		@Param({ "4", "32" })
+		int groupSize;
+
+		AggregatingMessageHandler handler;
+
+		private final AtomicInteger threads = new AtomicInteger();
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			MessageGroupStore messageGroupStore =
+					"sharded".equals(this.store) ? new ShardedMessageStore() : new SimpleMessageStore();
+			this.handler = new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(),
+					messageGroupStore);
+			this.handler.setOutputChannel(new NullChannel());
+			this.handler.setExpireGroupsUponCompletion(true);
+			this.handler.setBeanFactory(new DefaultListableBeanFactory());
+			this.handler.afterPropertiesSet();
+		}
+
+	}
+
+	@State(Scope.Thread)
+	public static class MessagesState {
+
+		private Message<?>[] messages;
+
+		private int index;
+
+		@Setup
+		public void setup(AggregatorState aggregator) {
+			int thread = aggregator.threads.getAndIncrement();
+			int groups = aggregator.groups;
+			int groupSize = aggregator.groupSize;
+			this.messages = new Message<?>[groups * groupSize];
+			for (int sequence = 0; sequence < groupSize; sequence++) {
+				for (int group = 0; group < groups; group++) {
+					this.messages[sequence * groups + group] =
+							MessageBuilder.withPayload(sequence)
+									.setCorrelationId(thread + "-" + group)
+									.setSequenceNumber(sequence + 1)
+									.setSequenceSize(groupSize)
+									.build();
+				}
+			}
+		}
+
+		Message<?> next() {
+			Message<?> message = this.messages[this.index];
+			if (++this.index == this.messages.length) {
+				this.index = 0;
+			}
+			return message;
+		}
+
+	}
+
+}
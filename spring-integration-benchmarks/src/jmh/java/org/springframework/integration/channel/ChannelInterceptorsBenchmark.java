@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.handler.BridgeHandler;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * The {@code AbstractMessageChannel.send()} cost depending on the number of
+ * {@link ChannelInterceptor}s and the datatype restriction on the channel.
+ * The {@code DirectChannel} is bridged into a {@code NullChannel}, so only
+ * the framework overhead is measured.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ChannelInterceptorsBenchmark {
+
+	@Param({ "0", "1", "4", "8" })
+	int interceptors;
+
+	@Param({ "false", "true" })
+	boolean datatypes;
+
+	private DirectChannel channel;
+
+	private final Message<?> message = MessageBuilder.withPayload("test").build();
+
+	@Setup(Level.Trial)
+	public void setup(Blackhole blackhole) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		this.channel = new DirectChannel();
+		this.channel.setBeanFactory(beanFactory);
+		for (int i = 0; i < this.interceptors; i++) {
+			this.channel.addInterceptor(new NoopChannelInterceptor(blackhole));
+		}
+		if (this.datatypes) {
+			this.channel.setDatatypes(Integer.class, String.class);
+		}
+		this.channel.afterPropertiesSet();
+
+		BridgeHandler bridgeHandler = new BridgeHandler();
+		bridgeHandler.setOutputChannel(new NullChannel());
+		bridgeHandler.setBeanFactory(beanFactory);
+		bridgeHandler.afterPropertiesSet();
+		this.channel.subscribe(bridgeHandler);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.channel.destroy();
+	}
+
+	@Benchmark
+	public boolean send() {
+		return this.channel.send(this.message);
+	}
+
+	private static final class NoopChannelInterceptor implements ChannelInterceptor {
+
+		private final Blackhole blackhole;
+
+		NoopChannelInterceptor(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public Message<?> preSend(Message<?> message, MessageChannel channel) {
+			this.blackhole.consume(message);
+			return message;
+		}
+
+		@Override
+		public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+			this.blackhole.consume(sent);
+		}
+
+		@Override
+		public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+				Exception ex) {
+
+			this.blackhole.consume(ex);
+		}
+
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * Multi-producer send throughput of a {@link FluxMessageChannel} with a subscriber
+ * consuming on a separate thread, for the default single-element buffer and a larger one.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class FluxMessageChannelBenchmark {
+
+	@Param({ "1", "256" })
+	int bufferSize;
+
+	private final Message<?> message = new GenericMessage<>("test");
+
+	private final LongAdder received = new LongAdder();
+
+	private FluxMessageChannel channel;
+
+	private Disposable subscription;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.channel = new FluxMessageChannel(this.bufferSize);
+		this.channel.setBeanFactory(new DefaultListableBeanFactory());
+		this.channel.afterPropertiesSet();
+		this.subscription =
+				Flux.from(this.channel)
+						.publishOn(Schedulers.single())
+						.subscribe((message) -> this.received.increment());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.subscription.dispose();
+		this.channel.destroy();
+	}
+
+	@Benchmark
+	public boolean send() {
+		return this.channel.send(this.message);
+	}
+
+}
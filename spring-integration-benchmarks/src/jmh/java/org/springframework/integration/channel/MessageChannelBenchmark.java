@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Send/receive throughput for the out-of-the-box {@link AbstractMessageChannel} implementations.
+ * The {@code direct} case measures the plain {@code AbstractMessageChannel.send()}
+ * and {@code UnicastingDispatcher} overhead.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageChannelBenchmark {
+
+	@Benchmark
+	public boolean subscribableSend(SubscribableChannelState state) {
+		return state.channel.send(state.message);
+	}
+
+	@Benchmark
+	public Message<?> pollableSendAndReceive(PollableChannelState state) {
+		state.channel.send(state.message);
+		return state.channel.receive(0);
+	}
+
+	@State(Scope.Benchmark)
+	public static class SubscribableChannelState {
+
+		@Param({ "direct", "executor", "flux" })
+		String channelType;
+
+		AbstractMessageChannel channel;
+
+		ThreadPoolTaskExecutor executor;
+
+		final Message<?> message = MessageBuilder.withPayload("test").build();
+
+		@Setup(Level.Trial)
+		public void setup(Blackhole blackhole) {
+			this.channel =
+					switch (this.channelType) {
+						case "direct" -> new DirectChannel();
+						case "executor" -> {
+							this.executor = new ThreadPoolTaskExecutor();
+							this.executor.setCorePoolSize(4);
+							this.executor.setQueueCapacity(1024);
+							this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+							this.executor.initialize();
+							yield new ExecutorChannel(this.executor);
+						}
+						case "flux" -> new FluxMessageChannel();
+						default -> throw new IllegalArgumentException("Unknown channel type: " + this.channelType);
+					};
+			this.channel.setBeanFactory(new DefaultListableBeanFactory());
+			this.channel.afterPropertiesSet();
+			if (this.channel instanceof FluxMessageChannel fluxMessageChannel) {
+				Flux.from(fluxMessageChannel).subscribe();
+			}
+			else if (this.channel instanceof DirectChannel directChannel) {
+				directChannel.subscribe(blackhole::consume);
+			}
+			else {
+				// The Blackhole must not be used from the executor threads
+				((SubscribableChannel) this.channel).subscribe((message) -> { });
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.channel.destroy();
+			if (this.executor != null) {
+				this.executor.shutdown();
+			}
+		}
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class PollableChannelState {
+
+		@Param({ "queue", "priority" })
+		String channelType;
+
+		QueueChannel channel;
+
+		final Message<?> message = MessageBuilder.withPayload("test").build();
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.channel =
+					switch (this.channelType) {
+						case "queue" -> new QueueChannel();
+						case "priority" -> new PriorityChannel();
+						default -> throw new IllegalArgumentException("Unknown channel type: " + this.channelType);
+					};
+			this.channel.setBeanFactory(new DefaultListableBeanFactory());
+			this.channel.afterPropertiesSet();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.channel.destroy();
+		}
+
+	}
+
+}
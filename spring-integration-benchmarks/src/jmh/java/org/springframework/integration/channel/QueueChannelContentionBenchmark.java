@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.util.RingBufferBlockingQueue;
+import org.springframework.messaging.Message;
+
+/**
+ * Multi-producer/multi-consumer throughput of a bounded {@link QueueChannel}
+ * with the default {@link LinkedBlockingQueue} against the {@link RingBufferChannel}.
+ * Use {@code -tg} JMH option to change the number of producer and consumer threads,
+ * e.g. {@code -tg 16,16}.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Group)
+public class QueueChannelContentionBenchmark {
+
+	private static final long TIMEOUT = 10;
+
+	@Param({ "linkedBlockingQueue", "ringBuffer-block", "ringBuffer-park", "ringBuffer-yield" })
+	String queue;
+
+	private QueueChannel channel;
+
+	private final Message<?> message = MessageBuilder.withPayload("test").build();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		int capacity = 1024;
+		this.channel =
+				switch (this.queue) {
+					case "linkedBlockingQueue" -> new QueueChannel(new LinkedBlockingQueue<>(capacity));
+					case "ringBuffer-block" ->
+							new RingBufferChannel(capacity, RingBufferBlockingQueue.WaitStrategy.BLOCK);
+					case "ringBuffer-park" ->
+							new RingBufferChannel(capacity, RingBufferBlockingQueue.WaitStrategy.PARK);
+					case "ringBuffer-yield" ->
+							new RingBufferChannel(capacity, RingBufferBlockingQueue.WaitStrategy.YIELD);
+					default -> throw new IllegalArgumentException("Unknown queue: " + this.queue);
+				};
+		this.channel.setBeanFactory(new DefaultListableBeanFactory());
+		this.channel.afterPropertiesSet();
+	}
+
+	@TearDown(Level.Iteration)
+	public void drain() {
+		this.channel.clear();
+	}
+
+	@Benchmark
+	@Group("sendAndReceive")
+	@GroupThreads(4)
+	public boolean send() {
+		return this.channel.send(this.message, TIMEOUT);
+	}
+
+	@Benchmark
+	@Group("sendAndReceive")
+	@GroupThreads(4)
+	public Message<?> receive() {
+		return this.channel.receive(TIMEOUT);
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * The time to dispatch a burst of messages through an {@link ExecutorChannel} to a handler
+ * which blocks for {@code blockMillis}: a pool of 200 platform threads versus a virtual
+ * thread per message.
+ * The {@code virtual} variant requires Java 21 or later.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class VirtualThreadExecutorChannelBenchmark {
+
+	private static final int PLATFORM_POOL_SIZE = 200;
+
+	@Param({ "platform", "virtual" })
+	String threads;
+
+	@Param({ "10000", "50000" })
+	int concurrentHandlers;
+
+	@Param({ "20" })
+	long blockMillis;
+
+	private ThreadPoolTaskExecutor platformExecutor;
+
+	private ExecutorChannel channel;
+
+	private Message<?> message;
+
+	private volatile CountDownLatch latch;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		TaskExecutor taskExecutor;
+		if ("virtual".equals(this.threads)) {
+			taskExecutor = new VirtualThreadTaskExecutor("benchmark-");
+		}
+		else {
+			this.platformExecutor = new ThreadPoolTaskExecutor();
+			this.platformExecutor.setCorePoolSize(PLATFORM_POOL_SIZE);
+			this.platformExecutor.afterPropertiesSet();
+			taskExecutor = this.platformExecutor;
+		}
+		this.channel = new ExecutorChannel(taskExecutor);
+		this.channel.setBeanFactory(new DefaultListableBeanFactory());
+		this.channel.afterPropertiesSet();
+		this.channel.subscribe(message -> {
+			try {
+				Thread.sleep(this.blockMillis);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			this.latch.countDown();
+		});
+		this.message = new GenericMessage<>("test");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (this.platformExecutor != null) {
+			this.platformExecutor.shutdown();
+		}
+	}
+
+	@Benchmark
+	public void burst() throws InterruptedException {
+		this.latch = new CountDownLatch(this.concurrentHandlers);
+		for (int i = 0; i < this.concurrentHandlers; i++) {
+			this.channel.send(this.message);
+		}
+		this.latch.await();
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.integration.codec.kryo.MessageCodec;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Round trip of a {@link Message} through the Kryo {@link MessageCodec}, via {@code byte[]}
+ * and via a reused {@link ByteBuffer}.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class MessageCodecBenchmark {
+
+	private final MessageCodec codec = new MessageCodec();
+
+	private final Message<?> message =
+			MessageBuilder.withPayload("test".repeat(64))
+					.setHeader("foo", "bar")
+					.setHeader("count", 42)
+					.build();
+
+	private final ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+	@Benchmark
+	public Object byteArray() throws IOException {
+		return this.codec.decode(this.codec.encode(this.message), GenericMessage.class);
+	}
+
+	@Benchmark
+	public Object byteBuffer() throws IOException {
+		this.codec.encode(this.message, this.buffer.clear());
+		return this.codec.decode(this.buffer.flip(), GenericMessage.class);
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.filter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.context.IntegrationProperties;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+/**
+ * {@link ExpressionEvaluatingSelector} evaluation cost with the SpEL compilation disabled
+ * ({@code -1}) and with the default compilation threshold.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ExpressionEvaluatingSelectorBenchmark {
+
+	@Param({ "-1", "100" })
+	int compileThreshold;
+
+	private ExpressionEvaluatingSelector selector;
+
+	private final Message<?> message =
+			MessageBuilder.withPayload("order-1")
+					.setHeader("type", "order")
+					.build();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		IntegrationProperties integrationProperties = new IntegrationProperties();
+		integrationProperties.setExpressionsCompileThreshold(this.compileThreshold);
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton(IntegrationContextUtils.INTEGRATION_GLOBAL_PROPERTIES_BEAN_NAME,
+				integrationProperties);
+		this.selector =
+				new ExpressionEvaluatingSelector("headers['type'] == 'order' and payload.length() > 3");
+		this.selector.setBeanFactory(beanFactory);
+	}
+
+	@Benchmark
+	public boolean accept() {
+		return this.selector.accept(this.message);
+	}
+
+}
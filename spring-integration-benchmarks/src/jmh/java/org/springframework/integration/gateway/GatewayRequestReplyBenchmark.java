@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gateway;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.AbstractSubscribableChannel;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.ExecutorChannel;
+import org.springframework.integration.handler.BridgeHandler;
+
+/**
+ * Request/reply through a {@link MessagingGatewaySupport} to a bridge replying on the caller thread
+ * ({@code direct}) or on an executor thread ({@code executor}): measures the reply correlation overhead.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GatewayRequestReplyBenchmark {
+
+	@Param({ "direct", "executor" })
+	String requestChannel;
+
+	private ExecutorService executor;
+
+	private TestGateway gateway;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		AbstractSubscribableChannel channel;
+		if ("executor".equals(this.requestChannel)) {
+			this.executor = Executors.newSingleThreadExecutor();
+			channel = new ExecutorChannel(this.executor);
+		}
+		else {
+			channel = new DirectChannel();
+		}
+		channel.setBeanFactory(beanFactory);
+		channel.afterPropertiesSet();
+		BridgeHandler bridge = new BridgeHandler();
+		bridge.setBeanFactory(beanFactory);
+		bridge.afterPropertiesSet();
+		channel.subscribe(bridge);
+		this.gateway = new TestGateway();
+		this.gateway.setRequestChannel(channel);
+		this.gateway.setBeanFactory(beanFactory);
+		this.gateway.afterPropertiesSet();
+		this.gateway.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.gateway.stop();
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+		}
+	}
+
+	@Benchmark
+	public Object sendAndReceive() {
+		return this.gateway.sendAndReceive("test");
+	}
+
+	private static final class TestGateway extends MessagingGatewaySupport {
+
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.NullChannel;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.transformer.AbstractPayloadTransformer;
+import org.springframework.integration.transformer.MessageTransformingHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+
+/**
+ * A {@link MessageHandlerChain} of payload transformers: measures the per-step
+ * overhead of the internal chain channels and reply message building,
+ * in the regular and {@link MessageHandlerChain#setFused(boolean) fused} modes.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MessageHandlerChainBenchmark {
+
+	@Param({ "1", "5", "10" })
+	int handlers;
+
+	@Param({ "false", "true" })
+	boolean fused;
+
+	private MessageHandlerChain chain;
+
+	private final Message<?> message =
+			MessageBuilder.withPayload("test")
+					.setHeader("foo", "bar")
+					.build();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		List<MessageHandler> handlerList = new ArrayList<>();
+		for (int i = 0; i < this.handlers; i++) {
+			MessageTransformingHandler handler = new MessageTransformingHandler(new IdentityPayloadTransformer());
+			handler.setBeanFactory(beanFactory);
+			handlerList.add(handler);
+		}
+		this.chain = new MessageHandlerChain();
+		this.chain.setHandlers(handlerList);
+		this.chain.setOutputChannel(new NullChannel());
+		this.chain.setFused(this.fused);
+		this.chain.setBeanFactory(beanFactory);
+		this.chain.afterPropertiesSet();
+		this.chain.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.chain.stop();
+	}
+
+	@Benchmark
+	public void handleMessage() {
+		this.chain.handleMessage(this.message);
+	}
+
+	private static final class IdentityPayloadTransformer extends AbstractPayloadTransformer<String, String> {
+
+		@Override
+		protected String transformPayload(String payload) {
+			return payload;
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.integration.channel.NullChannel;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.annotation.Header;
+
+/**
+ * Service activator invocation cost: interpreted and compiled SpEL expressions
+ * against a POJO method invoked via {@link MessagingMethodInvokerHelper}.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ServiceActivatorBenchmark {
+
+	@Param({ "spel", "compiledSpel", "method", "methodWithHeader" })
+	String invoker;
+
+	private ServiceActivatingHandler handler;
+
+	private final Message<?> message =
+			MessageBuilder.withPayload("test")
+					.setHeader("suffix", "!")
+					.build();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		TestService service = new TestService();
+		this.handler =
+				switch (this.invoker) {
+					case "spel" -> new ServiceActivatingHandler(
+							new ExpressionEvaluatingMessageProcessor<>("payload.toUpperCase() + headers.suffix"));
+					case "compiledSpel" -> new ServiceActivatingHandler(
+							new ExpressionEvaluatingMessageProcessor<>(
+									new SpelExpressionParser(
+											new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null))
+											.parseExpression("payload.toUpperCase() + headers.suffix")));
+					case "method" -> new ServiceActivatingHandler(service, "upperCase");
+					case "methodWithHeader" -> new ServiceActivatingHandler(service, "upperCaseWithSuffix");
+					default -> throw new IllegalArgumentException("Unknown invoker: " + this.invoker);
+				};
+		this.handler.setOutputChannel(new NullChannel());
+		this.handler.setBeanFactory(new DefaultListableBeanFactory());
+		this.handler.afterPropertiesSet();
+	}
+
+	@Benchmark
+	public void handleMessage() {
+		this.handler.handleMessage(this.message);
+	}
+
+	public static class TestService {
+
+		public String upperCase(String payload) {
+			return payload.toUpperCase();
+		}
+
+		public String upperCaseWithSuffix(String payload, @Header("suffix") String suffix) {
+			return payload.toUpperCase() + suffix;
+		}
+
+	}
+
+}
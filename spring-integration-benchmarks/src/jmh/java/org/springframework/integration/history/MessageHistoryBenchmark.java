@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.history;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.handler.BridgeHandler;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+/**
+ * A linear flow of {@code DirectChannel -> BridgeHandler} pairs with and without
+ * {@link MessageHistory} tracking on every component.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MessageHistoryBenchmark {
+
+	@Param({ "1", "10", "30" })
+	int components;
+
+	@Param({ "false", "true" })
+	boolean track;
+
+	private DirectChannel[] channels;
+
+	private final Message<?> message = MessageBuilder.withPayload("test").build();
+
+	@Setup(Level.Trial)
+	public void setup(Blackhole blackhole) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		this.channels = new DirectChannel[this.components];
+		for (int i = 0; i < this.components; i++) {
+			DirectChannel channel = new DirectChannel();
+			channel.setBeanName("channel" + i);
+			channel.setBeanFactory(beanFactory);
+			channel.setShouldTrack(this.track);
+			channel.afterPropertiesSet();
+			this.channels[i] = channel;
+		}
+		DirectChannel lastChannel = new DirectChannel();
+		lastChannel.setBeanFactory(beanFactory);
+		lastChannel.afterPropertiesSet();
+		lastChannel.subscribe(blackhole::consume);
+
+		for (int i = 0; i < this.components; i++) {
+			BridgeHandler bridgeHandler = new BridgeHandler();
+			bridgeHandler.setBeanName("bridge" + i);
+			bridgeHandler.setBeanFactory(beanFactory);
+			bridgeHandler.setShouldTrack(this.track);
+			bridgeHandler.setOutputChannel(i < this.components - 1 ? this.channels[i + 1] : lastChannel);
+			bridgeHandler.afterPropertiesSet();
+			this.channels[i].subscribe(bridgeHandler);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		for (DirectChannel channel : this.channels) {
+			channel.destroy();
+		}
+	}
+
+	@Benchmark
+	public boolean send() {
+		return this.channels[0].send(this.message);
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.mapping;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.messaging.MessageHeaders;
+
+/**
+ * Mapping 20 headers to and from a plain map with an {@link AbstractHeaderMapper}
+ * configured with standard, wildcard and negated patterns.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HeaderMapperBenchmark {
+
+	private final MapHeaderMapper mapper = new MapHeaderMapper();
+
+	private final MessageHeaders headers;
+
+	private final Map<String, Object> source = new HashMap<>();
+
+	public HeaderMapperBenchmark() {
+		this.mapper.setRequestHeaderNames("!secret*", AbstractHeaderMapper.STANDARD_REQUEST_HEADER_NAME_PATTERN,
+				"app-*", "*-id", "trace*", "x-custom-header");
+		this.mapper.setReplyHeaderNames("!secret*", AbstractHeaderMapper.STANDARD_REPLY_HEADER_NAME_PATTERN,
+				"app-*", "*-id", "trace*", "x-custom-header");
+		Map<String, Object> headerMap = new HashMap<>();
+		for (int i = 0; i < 5; i++) {
+			headerMap.put("app-header" + i, i);
+			headerMap.put("request" + i + "-id", i);
+			headerMap.put("unmapped" + i, i);
+			headerMap.put("secret" + i, i);
+		}
+		this.headers = new MessageHeaders(headerMap);
+		this.source.putAll(headerMap);
+		this.source.put("std_contentType", "text/plain");
+	}
+
+	@Benchmark
+	public Map<String, Object> fromHeaders() {
+		Map<String, Object> target = new HashMap<>();
+		this.mapper.fromHeadersToRequest(this.headers, target);
+		return target;
+	}
+
+	@Benchmark
+	public Map<String, Object> toHeaders() {
+		return this.mapper.toHeadersFromReply(this.source);
+	}
+
+	private static final class MapHeaderMapper extends AbstractHeaderMapper<Map<String, Object>> {
+
+		private static final String PREFIX = "std_";
+
+		MapHeaderMapper() {
+			super(PREFIX, Arrays.asList(PREFIX + "contentType", PREFIX + "replyTo"),
+					Arrays.asList(PREFIX + "contentType", PREFIX + "correlationId"));
+		}
+
+		@Override
+		protected Map<String, Object> extractStandardHeaders(Map<String, Object> source) {
+			Map<String, Object> standardHeaders = new HashMap<>();
+			source.forEach((key, value) -> {
+				if (key.startsWith(PREFIX)) {
+					standardHeaders.put(key, value);
+				}
+			});
+			return standardHeaders;
+		}
+
+		@Override
+		protected Map<String, Object> extractUserDefinedHeaders(Map<String, Object> source) {
+			Map<String, Object> userDefinedHeaders = new HashMap<>();
+			source.forEach((key, value) -> {
+				if (!key.startsWith(PREFIX)) {
+					userDefinedHeaders.put(key, value);
+				}
+			});
+			return userDefinedHeaders;
+		}
+
+		@Override
+		protected void populateStandardHeaders(Map<String, Object> headers, Map<String, Object> target) {
+			headers.forEach((key, value) -> {
+				if (key.startsWith(PREFIX)) {
+					target.put(key, value);
+				}
+			});
+		}
+
+		@Override
+		protected void populateUserDefinedHeader(String headerName, Object headerValue, Map<String, Object> target) {
+			target.put(headerName, headerValue);
+		}
+
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Tracking a batch of new file names followed by a {@code flush()}, as the
+ * {@code FileSystemPersistentAcceptOnceFileListFilter} does, against a store which already
+ * holds a large number of keys: the {@link PropertiesPersistingMetadataStore} versus the
+ * {@link AppendLogMetadataStore}.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MetadataStoreBenchmark {
+
+	@Param({ "properties", "appendLog" })
+	String store;
+
+	@Param({ "1000000" })
+	int keys;
+
+	@Param({ "1000" })
+	int batch;
+
+	private File directory;
+
+	private ConcurrentMetadataStore metadataStore;
+
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		this.directory = Files.createTempDirectory("metadata-store").toFile();
+		if ("properties".equals(this.store)) {
+			PropertiesPersistingMetadataStore propertiesStore = new PropertiesPersistingMetadataStore();
+			propertiesStore.setBaseDirectory(this.directory.getAbsolutePath());
+			propertiesStore.afterPropertiesSet();
+			this.metadataStore = propertiesStore;
+		}
+		else {
+			AppendLogMetadataStore appendLogStore = new AppendLogMetadataStore();
+			appendLogStore.setBaseDirectory(this.directory.getAbsolutePath());
+			appendLogStore.afterPropertiesSet();
+			this.metadataStore = appendLogStore;
+		}
+		for (; this.index < this.keys; this.index++) {
+			this.metadataStore.putIfAbsent("/data/in/file-" + this.index + ".csv", "1700000000000");
+		}
+		flush();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		((Closeable) this.metadataStore).close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public void putIfAbsentAndFlush() throws IOException {
+		for (int i = 0; i < this.batch; i++, this.index++) {
+			this.metadataStore.putIfAbsent("/data/in/file-" + this.index + ".csv", "1700000000000");
+		}
+		flush();
+	}
+
+	private void flush() throws IOException {
+		((Flushable) this.metadataStore).flush();
+	}
+
+}
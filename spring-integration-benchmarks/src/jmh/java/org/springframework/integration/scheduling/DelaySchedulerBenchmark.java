@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.scheduling;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * The cost of scheduling a delayed task with a {@link DelayScheduler}:
+ * a task per item on the {@link ThreadPoolTaskScheduler} versus the {@link HashedWheelDelayScheduler}.
+ * The tasks are spread over a second in the future, so many of them are pending
+ * at any moment, like the messages in a {@code DelayHandler}.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DelaySchedulerBenchmark {
+
+	private static final Runnable NOOP = () -> { };
+
+	@Param({ "taskScheduler", "hashedWheel" })
+	String scheduler;
+
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	private HashedWheelDelayScheduler hashedWheelDelayScheduler;
+
+	private DelayScheduler delayScheduler;
+
+	private long counter;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		this.taskScheduler = new ThreadPoolTaskScheduler();
+		this.taskScheduler.afterPropertiesSet();
+		if ("hashedWheel".equals(this.scheduler)) {
+			this.hashedWheelDelayScheduler = new HashedWheelDelayScheduler(this.taskScheduler);
+			this.delayScheduler = this.hashedWheelDelayScheduler;
+		}
+		else {
+			this.delayScheduler = this.taskScheduler::schedule;
+		}
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		if (this.hashedWheelDelayScheduler != null) {
+			this.hashedWheelDelayScheduler.destroy();
+		}
+		this.taskScheduler.getScheduledExecutor().shutdownNow();
+	}
+
+	@Benchmark
+	public ScheduledFuture<?> schedule() {
+		return this.delayScheduler.schedule(NOOP,
+				Instant.ofEpochMilli(System.currentTimeMillis() + 100 + (++this.counter % 1000)));
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.splitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.NullChannel;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+/**
+ * Splitting a list payload of a message which is itself a part of a sequence (a nested split):
+ * measures the per-item cost of the output message headers, with and without chunking.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SplitterBenchmark {
+
+	@Param({ "100" })
+	int items;
+
+	@Param({ "0", "10" })
+	int chunkSize;
+
+	private DefaultMessageSplitter splitter;
+
+	private Message<?> message;
+
+	@Setup
+	public void setup() {
+		List<String> payload = new ArrayList<>();
+		for (int i = 0; i < this.items; i++) {
+			payload.add("item" + i);
+		}
+		this.message =
+				MessageBuilder.withPayload(payload)
+						.setHeader("foo", "bar")
+						.pushSequenceDetails("outer", 1, 10)
+						.build();
+		this.splitter = new DefaultMessageSplitter();
+		this.splitter.setOutputChannel(new NullChannel());
+		this.splitter.setChunkSize(this.chunkSize);
+		this.splitter.setBeanFactory(new DefaultListableBeanFactory());
+		this.splitter.afterPropertiesSet();
+	}
+
+	@Benchmark
+	public void split() {
+		this.splitter.handleMessage(this.message);
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.springframework.util.AlternativeJdkIdGenerator;
+import org.springframework.util.IdGenerator;
+
+/**
+ * The cost of generating a message id with the {@link IdGenerator} implementations:
+ * the default {@link AlternativeJdkIdGenerator} of the {@code MessageHeaders},
+ * {@link UUID#randomUUID()} and the {@link IdGenerators}.
+ *
+ * @since 6.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class IdGeneratorBenchmark {
+
+	@Param({ "alternativeJdk", "jdk", "simpleIncrementing", "timeOrdered", "nodeIncrementing" })
+	String generator;
+
+	private IdGenerator idGenerator;
+
+	@Setup
+	public void setup() {
+		this.idGenerator =
+				switch (this.generator) {
+					case "alternativeJdk" -> new AlternativeJdkIdGenerator();
+					case "jdk" -> new IdGenerators.JdkIdGenerator();
+					case "simpleIncrementing" -> new IdGenerators.SimpleIncrementingIdGenerator();
+					case "timeOrdered" -> new IdGenerators.TimeOrderedIdGenerator();
+					case "nodeIncrementing" -> new IdGenerators.NodeIncrementingIdGenerator();
+					default -> throw new IllegalArgumentException("Unknown generator: " + this.generator);
+				};
+	}
+
+	@Benchmark
+	public UUID generateId() {
+		return this.idGenerator.generateId();
+	}
+
+}
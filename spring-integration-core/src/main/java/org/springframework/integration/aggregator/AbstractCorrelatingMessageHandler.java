@@ -29,6 +29,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
 
 import org.aopalliance.aop.Advice;
 
@@ -47,6 +48,7 @@ import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.handler.AbstractMessageProducingHandler;
 import org.springframework.integration.handler.DiscardingMessageHandler;
+import org.springframework.integration.store.ArrayMessageGroup;
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
 import org.springframework.integration.store.SimpleMessageGroup;
@@ -140,6 +142,12 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 
 	private Expression groupTimeoutExpression;
 
+	@Nullable
+	private Duration groupTimeoutTickDuration;
+
+	@Nullable
+	private GroupTimeoutWheel groupTimeoutWheel;
+
 	private List<Advice> forceReleaseAdviceChain;
 
 	private long expireTimeout;
@@ -223,6 +231,25 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		this.groupTimeoutExpression = groupTimeoutExpression;
 	}
 
+	/**
+	 * Configure the resolution of a timing wheel to track the group timeouts with,
+	 * instead of scheduling a task per group on the {@link #getTaskScheduler() TaskScheduler}.
+	 * With a timing wheel, a new message for a group only updates the group deadline in place
+	 * instead of cancelling and scheduling a task, and the groups with an elapsed deadline are
+	 * force completed in bulk from a single task ticking on the {@code TaskScheduler}
+	 * with this duration.
+	 * A group is never force completed before its timeout, but up to one tick later.
+	 * Defaults to {@code null} - a task per group.
+	 * @param tickDuration the duration of the timing wheel tick.
+	 * @since 6.3
+	 * @see #setGroupTimeoutExpression(Expression)
+	 */
+	public void setGroupTimeoutTickDuration(@Nullable Duration tickDuration) {
+		Assert.isTrue(tickDuration == null || tickDuration.toMillis() > 0,
+				"'tickDuration' must be at least 1 millisecond");
+		this.groupTimeoutTickDuration = tickDuration;
+	}
+
 	public void setForceReleaseAdviceChain(List<Advice> forceReleaseAdviceChain) {
 		Assert.notNull(forceReleaseAdviceChain, "'forceReleaseAdviceChain' must not be null");
 		this.forceReleaseAdviceChain = forceReleaseAdviceChain;
@@ -423,6 +450,11 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		this.lockRegistrySet = true;
 		this.forceReleaseProcessor = createGroupTimeoutProcessor();
 
+		if (this.groupTimeoutExpression != null && this.groupTimeoutTickDuration != null) {
+			this.groupTimeoutWheel = new GroupTimeoutWheel(getTaskScheduler(), this.groupTimeoutTickDuration,
+					this::forceCompleteExpiredGroup);
+		}
+
 		if (this.releaseStrategy instanceof GroupConditionProvider) {
 			this.groupConditionSupplier = ((GroupConditionProvider) this.releaseStrategy).getGroupConditionSupplier();
 		}
@@ -572,6 +604,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 				Collection<Message<?>> completedMessages = null;
 				try {
 					noOutput = false;
+					cancelGroupTimeoutIfAny(groupIdUuid);
 					completedMessages = completeGroup(message, correlationKey, messageGroup, lock);
 				}
 				finally {
@@ -589,11 +622,18 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		}
 		else {
 			noOutput = false;
+			cancelGroupTimeoutIfAny(groupIdUuid);
 			discardMessage(message, lock);
 		}
 		return noOutput;
 	}
 
+	private void cancelGroupTimeoutIfAny(UUID groupIdUuid) {
+		if (this.groupTimeoutWheel != null) {
+			this.groupTimeoutWheel.cancel(groupIdUuid);
+		}
+	}
+
 	private void cancelScheduledFutureIfAny(Object correlationKey, UUID groupIdUuid, boolean mayInterruptIfRunning) {
 		ScheduledFuture<?> scheduledFuture = this.expireGroupScheduledFutures.remove(groupIdUuid);
 		if (scheduledFuture != null) {
@@ -611,7 +651,8 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 		if (this.groupConditionSupplier != null) {
 			String condition = this.groupConditionSupplier.apply(message, messageGroupToUse.getCondition());
 			this.messageStore.setGroupCondition(messageGroupToUse.getGroupId(), condition);
-			messageGroupToUse = this.messageStore.getMessageGroup(messageGroupToUse.getGroupId());
+			// No need to re-read the group from the store just for the condition
+			messageGroupToUse.setCondition(condition);
 			if (this.sequenceAware) {
 				messageGroupToUse = new SequenceAwareMessageGroup(messageGroupToUse);
 			}
@@ -679,8 +720,12 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 				startTime = new Date(System.currentTimeMillis() + (Long) groupTimeout);
 			}
 
-			if (startTime != null) {
-				Object groupId = messageGroup.getGroupId();
+			Object groupId = messageGroup.getGroupId();
+			if (startTime != null && this.groupTimeoutWheel != null) {
+				this.groupTimeoutWheel.schedule(UUIDConverter.getUUID(groupId), groupId, startTime.getTime(),
+						messageGroup.getTimestamp(), messageGroup.getLastModified());
+			}
+			else if (startTime != null) {
 				long timestamp = messageGroup.getTimestamp();
 				long lastModified = messageGroup.getLastModified();
 				ScheduledFuture<?> scheduledFuture =
@@ -701,9 +746,44 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 				this.expireGroupScheduledFutures.put(UUIDConverter.getUUID(groupId), scheduledFuture);
 			}
 			else {
+				cancelGroupTimeoutIfAny(UUIDConverter.getUUID(groupId));
 				this.forceReleaseProcessor.processMessageGroup(messageGroup);
 			}
 		}
+		else {
+			cancelGroupTimeoutIfAny(UUIDConverter.getUUID(messageGroup.getGroupId()));
+		}
+	}
+
+	private void forceCompleteExpiredGroup(GroupTimeoutWheel.GroupDeadline groupDeadline) {
+		Object groupId = groupDeadline.groupId;
+		Lock lock = this.lockRegistry.obtain(groupDeadline.key.toString());
+		long timestamp;
+		long lastModified;
+		try {
+			lock.lockInterruptibly();
+			try {
+				if (this.groupTimeoutWheel == null || !this.groupTimeoutWheel.claim(groupDeadline)) {
+					return;
+				}
+				timestamp = groupDeadline.timestamp;
+				lastModified = groupDeadline.lastModified;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		try {
+			processForceRelease(groupId, timestamp, lastModified);
+		}
+		catch (MessageDeliveryException ex) {
+			logger.warn(ex, () -> "The MessageGroup [" + groupId + "] is rescheduled by the reason of: ");
+			scheduleGroupToForceComplete(groupId);
+		}
 	}
 
 	private void scheduleGroupToForceComplete(Object groupId) {
@@ -761,6 +841,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 			lock.lockInterruptibly();
 			try {
 				cancelScheduledFutureIfAny(correlationKey, groupId, false);
+				cancelGroupTimeoutIfAny(groupId);
 				MessageGroup groupNow = group;
 				/*
 				 * If the group argument is not already complete,
@@ -971,6 +1052,9 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 	@Override
 	public void destroy() {
 		this.expireGroupScheduledFutures.values().forEach(future -> future.cancel(true));
+		if (this.groupTimeoutWheel != null) {
+			this.groupTimeoutWheel.stop();
+		}
 	}
 
 	@Override
@@ -1024,7 +1108,8 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 
 	protected static class SequenceAwareMessageGroup extends SimpleMessageGroup {
 
-		private final SimpleMessageGroup sourceGroup;
+		@Nullable
+		private final IntPredicate sequenceLookup;
 
 		public SequenceAwareMessageGroup(MessageGroup messageGroup) {
 			/*
@@ -1034,11 +1119,14 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 			 */
 			super(messageGroup.getMessages(), null, messageGroup.getGroupId(), messageGroup.getTimestamp(),
 					messageGroup.isComplete(), true);
-			if (messageGroup instanceof SimpleMessageGroup) {
-				this.sourceGroup = (SimpleMessageGroup) messageGroup;
+			if (messageGroup instanceof SimpleMessageGroup simpleMessageGroup) {
+				this.sequenceLookup = simpleMessageGroup::containsSequence;
+			}
+			else if (messageGroup instanceof ArrayMessageGroup arrayMessageGroup) {
+				this.sequenceLookup = arrayMessageGroup::containsSequence;
 			}
 			else {
-				this.sourceGroup = null;
+				this.sequenceLookup = null;
 			}
 		}
 
@@ -1062,7 +1150,7 @@ public abstract class AbstractCorrelatingMessageHandler extends AbstractMessageP
 					messageSequenceSize = 0;
 				}
 				return messageSequenceSize.equals(getSequenceSize())
-						&& !(this.sourceGroup != null ? this.sourceGroup.containsSequence(messageSequenceNumber)
+						&& !(this.sequenceLookup != null ? this.sequenceLookup.test(messageSequenceNumber)
 						: containsSequenceNumber(this.getMessages(), messageSequenceNumber));
 			}
 			return true;
@@ -21,6 +21,7 @@ import java.util.Collection;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
+import org.springframework.integration.store.ShardedMessageStore;
 import org.springframework.integration.store.SimpleMessageStore;
 import org.springframework.messaging.Message;
 
@@ -103,8 +104,11 @@ public class AggregatingMessageHandler extends AbstractCorrelatingMessageHandler
 			remove(messageGroup);
 		}
 		else {
-			if (messageStore instanceof SimpleMessageStore) {
-				((SimpleMessageStore) messageStore).clearMessageGroup(groupId);
+			if (messageStore instanceof SimpleMessageStore simpleMessageStore) {
+				simpleMessageStore.clearMessageGroup(groupId);
+			}
+			else if (messageStore instanceof ShardedMessageStore shardedMessageStore) {
+				shardedMessageStore.clearMessageGroup(groupId);
 			}
 			else {
 				messageStore.removeMessagesFromGroup(groupId, messageGroup.getMessages());
@@ -17,8 +17,11 @@
 package org.springframework.integration.aggregator;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.core.log.LogMessage;
 import org.springframework.integration.core.MessageSource;
@@ -54,7 +57,7 @@ import org.springframework.messaging.Message;
  */
 public class CorrelatingMessageBarrier extends AbstractMessageHandler implements MessageSource<Object> {
 
-	private final ConcurrentMap<Object, Object> correlationLocks = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Object, Lock> correlationLocks = new ConcurrentHashMap<>();
 
 	private final MessageGroupStore store;
 
@@ -91,28 +94,40 @@ public class CorrelatingMessageBarrier extends AbstractMessageHandler implements
 	@Override
 	protected void handleMessageInternal(Message<?> message) {
 		Object correlationKey = this.correlationStrategy.getCorrelationKey(message);
-		Object lock = getLock(correlationKey);
-		synchronized (lock) {
-			this.store.addMessagesToGroup(correlationKey, message);
+		boolean added = false;
+		while (!added) {
+			Lock lock = getLock(correlationKey);
+			lock.lock();
+			try {
+				// The group and its lock might have been removed while waiting for the lock
+				if (this.correlationLocks.get(correlationKey) == lock) {
+					this.store.addMessagesToGroup(correlationKey, message);
+					added = true;
+				}
+			}
+			finally {
+				lock.unlock();
+			}
 		}
 		logger.debug(LogMessage.format("Handled message for key [%s]: %s.", correlationKey, message));
 	}
 
-	private Object getLock(Object correlationKey) {
-		Object existingLock = this.correlationLocks.putIfAbsent(correlationKey, correlationKey);
-		return existingLock == null ? correlationKey : existingLock;
+	private Lock getLock(Object correlationKey) {
+		return this.correlationLocks.computeIfAbsent(correlationKey, key -> new ReentrantLock());
 	}
 
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public Message<Object> receive() {
-		for (Object key : this.correlationLocks.keySet()) {
-			Object lock = getLock(key);
-			synchronized (lock) {
+		for (Map.Entry<Object, Lock> entry : this.correlationLocks.entrySet()) {
+			Object key = entry.getKey();
+			Lock lock = entry.getValue();
+			lock.lock();
+			try {
 				MessageGroup group = this.store.getMessageGroup(key);
 				//group might be removed by another thread
-				if (group != null && this.releaseStrategy.canRelease(group)) {
+				if (this.correlationLocks.get(key) == lock && group != null && this.releaseStrategy.canRelease(group)) {
 					Message<?> nextMessage = null;
 
 					Iterator<Message<?>> messages = group.getMessages().iterator();
@@ -127,6 +142,9 @@ public class CorrelatingMessageBarrier extends AbstractMessageHandler implements
 					return (Message<Object>) nextMessage;
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		return null;
 	}
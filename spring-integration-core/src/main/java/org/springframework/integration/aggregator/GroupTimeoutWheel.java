@@ -0,0 +1,281 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * A coarse-grained timing wheel for the group timeouts of an {@link AbstractCorrelatingMessageHandler}.
+ * Each open group has a single {@link GroupDeadline} whose deadline is updated in place
+ * on every message, instead of cancelling and scheduling a task on the {@link TaskScheduler}.
+ * A single fixed-rate task advances the wheel and hands the groups whose deadline has passed
+ * over to the expiry handler in bulk; a deadline which was moved forward in the meantime
+ * is just placed to the bucket of its new tick.
+ * A group never expires before its deadline, but it can expire up to one tick later.
+ * <p>
+ * The buckets are only accessed from the tick task (and on {@link #stop()}) under the lifecycle lock;
+ * new deadlines (and deadlines moved backward) are handed over to the tick task via a concurrent queue.
+ * A deadline is in one bucket at most: it is removed from its current bucket when it is placed again.
+ *
+ * @since 6.3
+ */
+final class GroupTimeoutWheel {
+
+	private static final LogAccessor LOGGER = new LogAccessor(GroupTimeoutWheel.class);
+
+	private static final int TICKS_PER_WHEEL = 512;
+
+	private static final int MASK = TICKS_PER_WHEEL - 1;
+
+	private final Map<UUID, GroupDeadline> deadlines = new ConcurrentHashMap<>();
+
+	private final Queue<GroupDeadline> pendingDeadlines = new ConcurrentLinkedQueue<>();
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private final Queue<GroupDeadline>[] buckets = new Queue[TICKS_PER_WHEEL];
+
+	private final Lock lifecycleLock = new ReentrantLock();
+
+	private final TaskScheduler taskScheduler;
+
+	private final long tickMillis;
+
+	private final Consumer<GroupDeadline> expiryHandler;
+
+	private long lastTick;
+
+	@Nullable
+	private volatile ScheduledFuture<?> tickFuture;
+
+	GroupTimeoutWheel(TaskScheduler taskScheduler, Duration tickDuration, Consumer<GroupDeadline> expiryHandler) {
+		this.taskScheduler = taskScheduler;
+		this.tickMillis = tickDuration.toMillis();
+		this.expiryHandler = expiryHandler;
+		for (int i = 0; i < TICKS_PER_WHEEL; i++) {
+			this.buckets[i] = new ArrayDeque<>();
+		}
+	}
+
+	/**
+	 * Set the deadline for the group, creating its {@link GroupDeadline} if necessary.
+	 * Must be called under the group lock.
+	 * @param key the group key.
+	 * @param groupId the group id.
+	 * @param deadline the time to expire the group at.
+	 * @param timestamp the group timestamp the deadline is set for.
+	 * @param lastModified the group last modified time the deadline is set for.
+	 */
+	void schedule(UUID key, Object groupId, long deadline, long timestamp, long lastModified) {
+		GroupDeadline groupDeadline = this.deadlines.get(key);
+		if (groupDeadline == null) {
+			groupDeadline = new GroupDeadline(key, groupId);
+			this.deadlines.put(key, groupDeadline);
+			groupDeadline.update(deadline, timestamp, lastModified);
+			this.pendingDeadlines.add(groupDeadline);
+			startIfNecessary();
+		}
+		else {
+			long previousDeadline = groupDeadline.deadline;
+			groupDeadline.update(deadline, timestamp, lastModified);
+			if (deadline < previousDeadline) {
+				this.pendingDeadlines.add(groupDeadline);
+			}
+		}
+	}
+
+	/**
+	 * Remove the deadline for the group, if any.
+	 * @param key the group key.
+	 * @return true if there was a deadline for the group.
+	 */
+	boolean cancel(UUID key) {
+		return this.deadlines.remove(key) != null;
+	}
+
+	/**
+	 * Claim an expired deadline for processing: it is removed from the wheel
+	 * if it is still current and its deadline has passed.
+	 * Otherwise, if it is still current, it is placed back to the wheel.
+	 * Must be called under the group lock.
+	 * @param groupDeadline the deadline handed over to the expiry handler.
+	 * @return true if the group has to be expired.
+	 */
+	boolean claim(GroupDeadline groupDeadline) {
+		if (this.deadlines.get(groupDeadline.key) != groupDeadline) {
+			return false;
+		}
+		if (groupDeadline.deadline > System.currentTimeMillis()) {
+			this.pendingDeadlines.add(groupDeadline);
+			return false;
+		}
+		return this.deadlines.remove(groupDeadline.key, groupDeadline);
+	}
+
+	int size() {
+		return this.deadlines.size();
+	}
+
+	void stop() {
+		this.lifecycleLock.lock();
+		try {
+			ScheduledFuture<?> future = this.tickFuture;
+			if (future != null) {
+				future.cancel(true);
+				this.tickFuture = null;
+			}
+			this.deadlines.clear();
+			this.pendingDeadlines.clear();
+			for (Queue<GroupDeadline> bucket : this.buckets) {
+				bucket.clear();
+			}
+		}
+		finally {
+			this.lifecycleLock.unlock();
+		}
+	}
+
+	private void startIfNecessary() {
+		if (this.tickFuture == null) {
+			this.lifecycleLock.lock();
+			try {
+				if (this.tickFuture == null) {
+					this.lastTick = System.currentTimeMillis() / this.tickMillis;
+					this.tickFuture =
+							this.taskScheduler.scheduleAtFixedRate(this::tick, Duration.ofMillis(this.tickMillis));
+				}
+			}
+			finally {
+				this.lifecycleLock.unlock();
+			}
+		}
+	}
+
+	private void tick() {
+		long now = System.currentTimeMillis();
+		long currentTick = now / this.tickMillis;
+		List<GroupDeadline> expired = new ArrayList<>();
+		this.lifecycleLock.lock();
+		try {
+			if (this.tickFuture == null) {
+				// stopped
+				return;
+			}
+			GroupDeadline pending;
+			while ((pending = this.pendingDeadlines.poll()) != null) {
+				place(pending, currentTick);
+			}
+			long ticks = Math.min(currentTick - this.lastTick, TICKS_PER_WHEEL);
+			for (long tick = currentTick - ticks + 1; tick <= currentTick; tick++) {
+				Queue<GroupDeadline> bucket = this.buckets[(int) (tick & MASK)];
+				int size = bucket.size();
+				for (int i = 0; i < size; i++) {
+					GroupDeadline groupDeadline = bucket.poll();
+					groupDeadline.bucket = -1;
+					if (this.deadlines.get(groupDeadline.key) != groupDeadline) {
+						continue;
+					}
+					if (groupDeadline.deadline > now) {
+						place(groupDeadline, currentTick);
+					}
+					else {
+						expired.add(groupDeadline);
+					}
+				}
+			}
+			this.lastTick = currentTick;
+		}
+		finally {
+			this.lifecycleLock.unlock();
+		}
+		for (GroupDeadline groupDeadline : expired) {
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			try {
+				this.expiryHandler.accept(groupDeadline);
+			}
+			catch (RuntimeException ex) {
+				LOGGER.error(ex, () -> "Failed to expire the MessageGroup [" + groupDeadline.groupId + "]");
+			}
+		}
+	}
+
+	private void place(GroupDeadline groupDeadline, long currentTick) {
+		long deadlineTick = (groupDeadline.deadline + this.tickMillis - 1) / this.tickMillis;
+		long tick = Math.max(deadlineTick, currentTick + 1);
+		int bucket = (int) (tick & MASK);
+		if (groupDeadline.bucket != bucket) {
+			if (groupDeadline.bucket >= 0) {
+				// The deadline has been moved backward: no stale entry in the previous bucket
+				this.buckets[groupDeadline.bucket].remove(groupDeadline);
+			}
+			this.buckets[bucket].add(groupDeadline);
+			groupDeadline.bucket = bucket;
+		}
+	}
+
+	/**
+	 * The deadline of a group together with the group state it has been set for.
+	 * The state fields are guarded by the group lock.
+	 */
+	static final class GroupDeadline {
+
+		final UUID key;
+
+		final Object groupId;
+
+		volatile long deadline;
+
+		long timestamp;
+
+		long lastModified;
+
+		/**
+		 * The index of the bucket this deadline is placed to, or -1; accessed only from the tick task.
+		 */
+		int bucket = -1;
+
+		GroupDeadline(UUID key, Object groupId) {
+			this.key = key;
+			this.groupId = groupId;
+		}
+
+		void update(long newDeadline, long newTimestamp, long newLastModified) {
+			this.timestamp = newTimestamp;
+			this.lastModified = newLastModified;
+			this.deadline = newDeadline;
+		}
+
+	}
+
+}
@@ -16,7 +16,6 @@
 
 package org.springframework.integration.channel;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -357,22 +356,32 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 	}
 
 	private boolean sendInternal(Message<?> message, long timeout) {
-		Deque<ChannelInterceptor> interceptorStack = null;
-		boolean sent = false;
 		ChannelInterceptorList interceptorList = this.interceptors;
+		// A snapshot for the whole send; the number of applied interceptors
+		// replaces a per-message stack for the afterSendCompletion() callbacks.
+		ChannelInterceptor[] interceptorsToApply = interceptorList.interceptorArray;
+		int appliedInterceptors = 0;
+		boolean sent = false;
 		Message<?> messageToSend = message;
 		try {
-			messageToSend = convertPayloadIfNecessary(messageToSend);
+			if (this.datatypes.length > 0) {
+				messageToSend = convertPayloadIfNecessary(messageToSend);
+			}
 			boolean debugEnabled = this.loggingEnabled && this.logger.isDebugEnabled();
 			if (debugEnabled) {
 				logger.debug("preSend on channel '" + this + "', message: " + messageToSend);
 			}
-			if (interceptorList.getSize() > 0) {
-				interceptorStack = new ArrayDeque<>();
-				messageToSend = interceptorList.preSend(messageToSend, this, interceptorStack);
+			for (ChannelInterceptor interceptor : interceptorsToApply) {
+				Message<?> previous = messageToSend;
+				messageToSend = interceptor.preSend(messageToSend, this);
 				if (messageToSend == null) {
+					this.logger.debug(() -> interceptor.getClass().getSimpleName()
+							+ " returned null from preSend, i.e. precluding the send.");
+					interceptorList.afterSendCompletion(previous, this, false, null,
+							interceptorsToApply, appliedInterceptors);
 					return false;
 				}
+				appliedInterceptors++;
 			}
 
 			sent = doSend(messageToSend, timeout);
@@ -380,15 +389,17 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 			if (debugEnabled) {
 				logger.debug("postSend (sent=" + sent + ") on channel '" + this + "', message: " + messageToSend);
 			}
-			if (interceptorStack != null) {
-				interceptorList.postSend(messageToSend, this, sent);
-				interceptorList.afterSendCompletion(messageToSend, this, sent, null, interceptorStack);
+			if (appliedInterceptors > 0) {
+				interceptorList.postSend(messageToSend, this, sent, interceptorsToApply);
+				interceptorList.afterSendCompletion(messageToSend, this, sent, null,
+						interceptorsToApply, appliedInterceptors);
 			}
 			return sent;
 		}
 		catch (Exception ex) {
-			if (interceptorStack != null) {
-				interceptorList.afterSendCompletion(messageToSend, this, sent, ex, interceptorStack);
+			if (appliedInterceptors > 0) {
+				interceptorList.afterSendCompletion(messageToSend, this, sent, ex,
+						interceptorsToApply, appliedInterceptors);
 			}
 			throw IntegrationUtils.wrapInDeliveryExceptionIfNecessary(messageToSend,
 					() -> "failed to send Message to channel '" + getComponentName() + "'", ex);
@@ -480,13 +491,15 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 	 */
 	protected static class ChannelInterceptorList {
 
+		private static final ChannelInterceptor[] NO_INTERCEPTORS = new ChannelInterceptor[0];
+
 		private final Lock lock = new ReentrantLock();
 
 		protected final List<ChannelInterceptor> interceptors = new CopyOnWriteArrayList<>(); // NOSONAR
 
 		private final LogAccessor logger;
 
-		private int size;
+		private volatile ChannelInterceptor[] interceptorArray = NO_INTERCEPTORS;
 
 		public ChannelInterceptorList(LogAccessor logger) {
 			this.logger = logger;
@@ -496,8 +509,9 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 			this.lock.lock();
 			try {
 				this.interceptors.clear();
-				this.size = interceptors.size();
-				return this.interceptors.addAll(interceptors);
+				boolean changed = this.interceptors.addAll(interceptors);
+				refreshInterceptorArray();
+				return changed;
 			}
 			finally {
 				this.lock.unlock();
@@ -505,17 +519,34 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 
 		public int getSize() {
-			return this.size;
+			return this.interceptorArray.length;
 		}
 
 		public boolean add(ChannelInterceptor interceptor) {
-			this.size++;
-			return this.interceptors.add(interceptor);
+			this.lock.lock();
+			try {
+				boolean added = this.interceptors.add(interceptor);
+				refreshInterceptorArray();
+				return added;
+			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 
 		public void add(int index, ChannelInterceptor interceptor) {
-			this.size++;
-			this.interceptors.add(index, interceptor);
+			this.lock.lock();
+			try {
+				this.interceptors.add(index, interceptor);
+				refreshInterceptorArray();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void refreshInterceptorArray() {
+			this.interceptorArray = this.interceptors.toArray(NO_INTERCEPTORS);
 		}
 
 		@Nullable
@@ -523,7 +554,7 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 				Deque<ChannelInterceptor> interceptorStack) {
 
 			Message<?> message = messageArg;
-			if (this.size > 0) {
+			if (getSize() > 0) {
 				for (ChannelInterceptor interceptor : this.interceptors) {
 					Message<?> previous = message;
 					message = interceptor.preSend(message, channel);
@@ -540,10 +571,22 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 
 		public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
-			if (this.size > 0) {
-				for (ChannelInterceptor interceptor : this.interceptors) {
-					interceptor.postSend(message, channel, sent);
-				}
+			postSend(message, channel, sent, this.interceptorArray);
+		}
+
+		/**
+		 * Invoke {@link ChannelInterceptor#postSend} on the provided interceptors.
+		 * @param message the sent message.
+		 * @param channel the channel.
+		 * @param sent the send result.
+		 * @param interceptors the interceptors snapshot the {@code preSend()} has been called on.
+		 * @since 6.3
+		 */
+		public void postSend(Message<?> message, MessageChannel channel, boolean sent,
+				ChannelInterceptor[] interceptors) {
+
+			for (ChannelInterceptor interceptor : interceptors) {
+				interceptor.postSend(message, channel, sent);
 			}
 		}
 
@@ -561,8 +604,34 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 			}
 		}
 
+		/**
+		 * Invoke {@link ChannelInterceptor#afterSendCompletion} in reverse order on the
+		 * interceptors whose {@code preSend()} has been completed successfully.
+		 * @param message the message.
+		 * @param channel the channel.
+		 * @param sent the send result.
+		 * @param ex the exception, if any.
+		 * @param interceptors the interceptors snapshot the {@code preSend()} has been called on.
+		 * @param appliedInterceptors the number of interceptors from the start of the snapshot
+		 * which have successfully completed {@code preSend()}.
+		 * @since 6.3
+		 */
+		public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+				@Nullable Exception ex, ChannelInterceptor[] interceptors, int appliedInterceptors) {
+
+			for (int i = appliedInterceptors - 1; i >= 0; i--) {
+				ChannelInterceptor interceptor = interceptors[i];
+				try {
+					interceptor.afterSendCompletion(message, channel, sent, ex);
+				}
+				catch (Exception ex2) {
+					this.logger.error(ex2, () -> "Exception from afterSendCompletion in " + interceptor);
+				}
+			}
+		}
+
 		public boolean preReceive(MessageChannel channel, Deque<ChannelInterceptor> interceptorStack) {
-			if (this.size > 0) {
+			if (getSize() > 0) {
 				for (ChannelInterceptor interceptor : this.interceptors) {
 					if (!interceptor.preReceive(channel)) {
 						afterReceiveCompletion(null, channel, null, interceptorStack);
@@ -577,7 +646,7 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		@Nullable
 		public Message<?> postReceive(Message<?> messageArg, MessageChannel channel) {
 			Message<?> message = messageArg;
-			if (this.size > 0) {
+			if (getSize() > 0) {
 				for (ChannelInterceptor interceptor : this.interceptors) {
 					message = interceptor.postReceive(message, channel);
 					if (message == null) {
@@ -609,22 +678,28 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 
 		public boolean remove(ChannelInterceptor interceptor) {
-			if (this.interceptors.remove(interceptor)) {
-				this.size--;
-				return true;
+			this.lock.lock();
+			try {
+				boolean removed = this.interceptors.remove(interceptor);
+				refreshInterceptorArray();
+				return removed;
 			}
-			else {
-				return false;
+			finally {
+				this.lock.unlock();
 			}
 		}
 
 		@Nullable
 		public ChannelInterceptor remove(int index) {
-			ChannelInterceptor removed = this.interceptors.remove(index);
-			if (removed != null) {
-				this.size--;
+			this.lock.lock();
+			try {
+				ChannelInterceptor removed = this.interceptors.remove(index);
+				refreshInterceptorArray();
+				return removed;
+			}
+			finally {
+				this.lock.unlock();
 			}
-			return removed;
 		}
 
 	}
@@ -19,7 +19,8 @@ package org.springframework.integration.channel;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -42,6 +43,11 @@ import org.springframework.util.Assert;
 /**
  * The {@link AbstractMessageChannel} implementation for the
  * Reactive Streams {@link Publisher} based on the Project Reactor {@link Flux}.
+ * <p>
+ * The messages are emitted into a multicast sink with a bounded buffer
+ * (a single element by default). Concurrent producers are serialized, and a producer
+ * which finds the buffer full waits (up to the send timeout) for the subscribers to
+ * request more messages.
  *
  * @author Artem Bilan
  * @author Gary Russell
@@ -52,9 +58,15 @@ import org.springframework.util.Assert;
 public class FluxMessageChannel extends AbstractMessageChannel
 		implements Publisher<Message<?>>, ReactiveStreamsSubscribableChannel {
 
+	private static final long MAX_DEMAND_WAIT = TimeUnit.MILLISECONDS.toNanos(10);
+
 	private final Scheduler scheduler = Schedulers.boundedElastic();
 
-	private final Sinks.Many<Message<?>> sink = Sinks.many().multicast().onBackpressureBuffer(1, false);
+	private final ReentrantLock emitLock = new ReentrantLock();
+
+	private final Condition demand = this.emitLock.newCondition();
+
+	private final Sinks.Many<Message<?>> sink;
 
 	private final Sinks.Many<Boolean> subscribedSignal = Sinks.many().replay().limit(1);
 
@@ -62,24 +74,76 @@ public class FluxMessageChannel extends AbstractMessageChannel
 
 	private volatile boolean active = true;
 
+	/**
+	 * Create a channel with a single element buffer.
+	 */
+	public FluxMessageChannel() {
+		this(1);
+	}
+
+	/**
+	 * Create a channel with a buffer for the provided number of messages
+	 * which are not requested yet by the subscribers.
+	 * @param bufferSize the buffer size.
+	 * @since 6.3
+	 */
+	public FluxMessageChannel(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be greater than 0");
+		this.sink = Sinks.many().multicast().onBackpressureBuffer(bufferSize, false);
+	}
+
 	@Override
 	protected boolean doSend(Message<?> message, long timeout) {
 		Assert.state(this.active && this.sink.currentSubscriberCount() > 0,
 				() -> "The [" + this + "] doesn't have subscribers to accept messages");
-		long remainingTime = 0;
-		if (timeout > 0) {
-			remainingTime = timeout;
+		long remainingTime = timeout > 0 ? TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+		try {
+			if (timeout < 0) {
+				this.emitLock.lockInterruptibly();
+			}
+			else {
+				long start = System.nanoTime();
+				if (!this.emitLock.tryLock(remainingTime, TimeUnit.NANOSECONDS)) {
+					return false;
+				}
+				remainingTime -= System.nanoTime() - start;
+			}
+			try {
+				while (this.active && !tryEmitMessage(message)) {
+					if (timeout < 0) {
+						this.demand.awaitNanos(MAX_DEMAND_WAIT);
+					}
+					else if (remainingTime <= 0) {
+						return false;
+					}
+					else {
+						// The wait is limited since the demand signal may come before the buffer is drained
+						long waited = Math.min(remainingTime, MAX_DEMAND_WAIT);
+						remainingTime -= waited - this.demand.awaitNanos(waited);
+					}
+				}
+				return true;
+			}
+			finally {
+				this.emitLock.unlock();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
 		}
-		long parkTimeout = 10; // NOSONAR
-		long parkTimeoutNs = TimeUnit.MILLISECONDS.toNanos(parkTimeout);
-		while (this.active && !tryEmitMessage(message)) {
-			remainingTime -= parkTimeout;
-			if (timeout >= 0 && remainingTime <= 0) {
-				return false;
+	}
+
+	private void signalDemand() {
+		// Never block the subscriber: if a producer holds the lock, it is going to retry anyway
+		if (this.emitLock.tryLock()) {
+			try {
+				this.demand.signalAll();
+			}
+			finally {
+				this.emitLock.unlock();
 			}
-			LockSupport.parkNanos(parkTimeoutNs);
 		}
-		return true;
 	}
 
 	private boolean tryEmitMessage(Message<?> message) {
@@ -97,6 +161,7 @@ public class FluxMessageChannel extends AbstractMessageChannel
 	@Override
 	public void subscribe(Subscriber<? super Message<?>> subscriber) {
 		this.sink.asFlux()
+				.doOnRequest((n) -> signalDemand())
 				.doFinally((s) -> this.subscribedSignal.tryEmitNext(this.sink.currentSubscriberCount() > 0))
 				.share()
 				.subscribe(subscriber);
@@ -175,7 +240,14 @@ public class FluxMessageChannel extends AbstractMessageChannel
 		this.active = false;
 		this.upstreamSubscriptions.dispose();
 		this.subscribedSignal.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
-		this.sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+		this.emitLock.lock();
+		try {
+			this.demand.signalAll();
+			this.sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+		}
+		finally {
+			this.emitLock.unlock();
+		}
 		this.scheduler.dispose();
 		super.destroy();
 	}
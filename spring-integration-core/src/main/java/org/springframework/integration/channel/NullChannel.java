@@ -123,8 +123,8 @@ public class NullChannel implements PollableChannel,
 
 	@Override
 	public boolean send(Message<?> message) {
-		if (this.loggingEnabled) {
-			LOG.debug(() -> "message sent to null channel: " + message);
+		if (this.loggingEnabled && LOG.isDebugEnabled()) {
+			LOG.debug("message sent to null channel: " + message);
 		}
 
 		Object payload = message.getPayload();
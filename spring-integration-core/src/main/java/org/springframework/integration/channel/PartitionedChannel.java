@@ -21,7 +21,9 @@ import java.util.function.Function;
 
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.dispatcher.LoadBalancingStrategy;
+import org.springframework.integration.dispatcher.PartitionStrategy;
 import org.springframework.integration.dispatcher.PartitionedDispatcher;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
@@ -40,6 +42,11 @@ import org.springframework.util.Assert;
  * The default {@link ThreadFactory} is based on the bean name of this channel plus {@code -partition-thread-}.
  * Thus, every thread name will reflect a partition it belongs to.
  * <p>
+ * A partition for a key is selected by the {@link PartitionStrategy} and the number of partitions can
+ * be changed at runtime, preserving the order of messages per key.
+ * When a {@link MetricsCaptor} is registered, the queue depth and the latency of every partition
+ * are exposed as meters.
+ * <p>
  * The rest of the logic is similar to the {@link ExecutorChannel}, which includes:
  * - load balancing for subscribers;
  * - fail-over and error handling;
@@ -107,6 +114,42 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 		getDispatcher().setLoadBalancingStrategy(loadBalancingStrategy);
 	}
 
+	/**
+	 * Set a {@link PartitionStrategy} to select a partition for a key without messages in flight.
+	 * @param partitionStrategy the {@link PartitionStrategy} to use.
+	 * @since 6.3
+	 * @see PartitionedDispatcher#setPartitionStrategy(PartitionStrategy)
+	 */
+	public void setPartitionStrategy(PartitionStrategy partitionStrategy) {
+		getDispatcher().setPartitionStrategy(partitionStrategy);
+	}
+
+	/**
+	 * Change the number of partitions at runtime.
+	 * @param partitionCount the number of partitions.
+	 * @since 6.3
+	 * @see PartitionedDispatcher#setPartitionCount(int)
+	 */
+	public void setPartitionCount(int partitionCount) {
+		getDispatcher().setPartitionCount(partitionCount);
+	}
+
+	/**
+	 * Return the current number of partitions.
+	 * @return the number of partitions.
+	 * @since 6.3
+	 */
+	public int getPartitionCount() {
+		return getDispatcher().getPartitionCount();
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		getDispatcher().registerMetricsCaptor(metricsCaptor,
+				getComponentName() == null ? "unknown" : getComponentName());
+	}
+
 	@Override
 	protected PartitionedDispatcher getDispatcher() {
 		return (PartitionedDispatcher) this.dispatcher;
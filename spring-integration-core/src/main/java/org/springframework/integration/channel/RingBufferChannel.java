@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.util.RingBufferBlockingQueue;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+
+/**
+ * A {@link QueueChannel} based on a bounded, lock-free {@link RingBufferBlockingQueue}.
+ * Unlike the default {@link java.util.concurrent.LinkedBlockingQueue}, the ring buffer
+ * does not allocate a node per message and producers do not share a lock with consumers,
+ * which reduces contention when many threads send to and poll from the channel.
+ * <p>
+ * The capacity is rounded up to the next power of two.
+ * How the blocking {@code send()} and {@code receive()} operations wait
+ * is determined by the provided {@link RingBufferBlockingQueue.WaitStrategy}.
+ *
+ * @since 6.3
+ */
+public class RingBufferChannel extends QueueChannel {
+
+	private final RingBufferBlockingQueue<Message<?>> ringBuffer;
+
+	/**
+	 * Create a channel with the specified capacity and the
+	 * {@link RingBufferBlockingQueue.WaitStrategy#BLOCK} wait strategy.
+	 * @param capacity the capacity; rounded up to the next power of two.
+	 */
+	public RingBufferChannel(int capacity) {
+		this(capacity, RingBufferBlockingQueue.WaitStrategy.BLOCK);
+	}
+
+	/**
+	 * Create a channel with the specified capacity and wait strategy.
+	 * @param capacity the capacity; rounded up to the next power of two.
+	 * @param waitStrategy the wait strategy for blocking {@code send()} and {@code receive()} operations.
+	 */
+	public RingBufferChannel(int capacity, RingBufferBlockingQueue.WaitStrategy waitStrategy) {
+		this(new RingBufferBlockingQueue<>(capacity, waitStrategy));
+	}
+
+	/**
+	 * Create a channel based on the provided {@link RingBufferBlockingQueue}.
+	 * @param ringBuffer the {@link RingBufferBlockingQueue} to use.
+	 */
+	public RingBufferChannel(RingBufferBlockingQueue<Message<?>> ringBuffer) {
+		super(ringBuffer);
+		this.ringBuffer = ringBuffer;
+	}
+
+	/**
+	 * Remove any {@link Message Messages} that are not accepted by the provided selector.
+	 * Since the ring buffer does not support removal from the middle, the channel is drained
+	 * and the accepted messages are put back to the tail of the buffer.
+	 * Therefore, the purge is not atomic against concurrent {@code send()} and {@code receive()}
+	 * operations and the order of accepted messages may change relatively to concurrently sent ones.
+	 * @param selector The message selector.
+	 * @return The list of messages that were purged.
+	 */
+	@Override
+	public List<Message<?>> purge(@Nullable MessageSelector selector) {
+		List<Message<?>> drained = clear();
+		if (selector == null) {
+			return drained;
+		}
+		List<Message<?>> purgedMessages = new ArrayList<>();
+		for (Message<?> message : drained) {
+			if (!selector.accept(message)) {
+				purgedMessages.add(message);
+			}
+			else if (!this.ringBuffer.offer(message)) {
+				this.logger.warn(() -> "No room in the ring buffer to restore a message after purge; " +
+						"the message is purged: " + message);
+				purgedMessages.add(message);
+			}
+		}
+		return purgedMessages;
+	}
+
+}
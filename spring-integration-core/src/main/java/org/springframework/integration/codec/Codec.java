@@ -16,9 +16,11 @@
 
 package org.springframework.integration.codec;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Interface for classes that perform both encode (serialize) and decode (deserialize) on multiple classes.
@@ -43,6 +45,22 @@ public interface Codec {
 	 */
 	byte[] encode(Object object) throws IOException;
 
+	/**
+	 * Encode an object into a {@link ByteBuffer}, starting at the buffer position.
+	 * The position is advanced past the encoded data.
+	 * If there is not enough space between the position and the limit of the buffer,
+	 * a {@link java.nio.BufferOverflowException} is thrown, and the buffer position and
+	 * content after the position are undefined.
+	 * The default implementation copies the result of {@link #encode(Object)} into the buffer.
+	 * @param object the object to encode
+	 * @param buffer the buffer
+	 * @throws IOException if the operation fails
+	 * @since 6.3
+	 */
+	default void encode(Object object, ByteBuffer buffer) throws IOException {
+		buffer.put(encode(object));
+	}
+
 	/**
 	 * Decode an object of a given type.
 	 * @param inputStream the input stream containing the encoded object
@@ -63,4 +81,27 @@ public interface Codec {
 	 */
 	<T> T decode(byte[] bytes, Class<T> type) throws IOException;
 
+	/**
+	 * Decode an object of a given type from the data starting at the buffer position.
+	 * The position is advanced past the decoded data; the default implementation
+	 * consumes all the data up to the buffer limit.
+	 * @param buffer the buffer containing the encoded object
+	 * @param type the object's class
+	 * @param <T> the object's type
+	 * @return the object
+	 * @throws IOException if the operation fails
+	 * @since 6.3
+	 */
+	default <T> T decode(ByteBuffer buffer, Class<T> type) throws IOException {
+		if (buffer.hasArray()) {
+			T decoded = decode(new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(),
+					buffer.remaining()), type);
+			buffer.position(buffer.limit());
+			return decoded;
+		}
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return decode(bytes, type);
+	}
+
 }
@@ -17,6 +17,7 @@
 package org.springframework.integration.codec;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.springframework.integration.context.IntegrationObjectSupport;
 import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
@@ -29,6 +30,7 @@ import org.springframework.util.Assert;
 
 /**
  * A {@link MessageConverter} that delegates to a {@link Codec} to convert.
+ * Messages are decoded from {@code byte[]} or {@link ByteBuffer} payloads.
  *
  * @author Gary Russell
  *
@@ -58,9 +60,13 @@ public class CodecMessageConverter extends IntegrationObjectSupport implements M
 
 	@Override
 	public Message<?> toMessage(Object payload, MessageHeaders headers) {
-		Assert.isInstanceOf(byte[].class, payload);
+		Assert.isTrue(payload instanceof byte[] || payload instanceof ByteBuffer,
+				() -> "Payload must be a byte[] or ByteBuffer, not: " + payload.getClass());
 		try {
-			Message<?> decoded = (Message<?>) this.codec.decode((byte[]) payload, this.messageClass);
+			Message<?> decoded =
+					payload instanceof ByteBuffer buffer
+							? (Message<?>) this.codec.decode(buffer, this.messageClass)
+							: (Message<?>) this.codec.decode((byte[]) payload, this.messageClass);
 			if (headers != null) {
 				AbstractIntegrationMessageBuilder<?> builder = getMessageBuilderFactory().fromMessage(decoded);
 				builder.copyHeaders(headers);
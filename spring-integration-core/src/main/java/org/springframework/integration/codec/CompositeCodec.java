@@ -16,10 +16,10 @@
 
 package org.springframework.integration.codec;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -72,6 +72,13 @@ public class CompositeCodec implements Codec {
 		}
 	}
 
+	@Override
+	public void encode(Object object, ByteBuffer buffer) throws IOException {
+		Assert.notNull(object, "cannot encode a null object");
+		Assert.notNull(buffer, "'buffer' cannot be null");
+		findDelegateOrDefault(object.getClass()).encode(object, buffer);
+	}
+
 	@Override
 	public <T> T decode(InputStream inputStream, Class<T> type) throws IOException {
 		Assert.notNull(inputStream, "'inputStream' cannot be null");
@@ -87,7 +94,21 @@ public class CompositeCodec implements Codec {
 
 	@Override
 	public <T> T decode(byte[] bytes, Class<T> type) throws IOException {
-		return decode(new ByteArrayInputStream(bytes), type);
+		Assert.notNull(bytes, "'bytes' cannot be null");
+		Assert.notNull(type, "'type' cannot be null");
+		return findDelegateOrDefault(type).decode(bytes, type);
+	}
+
+	@Override
+	public <T> T decode(ByteBuffer buffer, Class<T> type) throws IOException {
+		Assert.notNull(buffer, "'buffer' cannot be null");
+		Assert.notNull(type, "'type' cannot be null");
+		return findDelegateOrDefault(type).decode(buffer, type);
+	}
+
+	private Codec findDelegateOrDefault(Class<?> type) {
+		Codec codec = findDelegate(type);
+		return codec != null ? codec : this.defaultCodec;
 	}
 
 	private Codec findDelegate(Class<?> type) {
@@ -16,22 +16,30 @@
 
 package org.springframework.integration.codec.kryo;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.ByteBufferInput;
+import com.esotericsoftware.kryo.io.ByteBufferOutput;
 import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.KryoBufferOverflowException;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.util.Pool;
 
 import org.springframework.integration.codec.Codec;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * Base class for {@link Codec}s using {@link Kryo}.
- * Manages pooled {@link Kryo} instances.
+ * Manages pooled {@link Kryo} instances, as well as pooled {@link Output} and {@link Input}
+ * buffers for the {@code byte[]} and stream based operations.
+ * The {@link ByteBuffer} based operations encode into and decode from the provided buffer directly.
  *
  * @author David Turanski
  * @author Artem Bilan
@@ -40,8 +48,30 @@ import org.springframework.util.Assert;
  */
 public abstract class AbstractKryoCodec implements Codec {
 
+	private static final int BUFFER_SIZE = 4096;
+
+	private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
 	protected final Pool<Kryo> pool; // NOSONAR final
 
+	private final Pool<Output> outputPool = new Pool<>(true, true) {
+
+		@Override
+		protected Output create() {
+			return new Output(BUFFER_SIZE, -1);
+		}
+
+	};
+
+	private final Pool<Input> inputPool = new Pool<>(true, true) {
+
+		@Override
+		protected Input create() {
+			return new Input(BUFFER_SIZE);
+		}
+
+	};
+
 	protected AbstractKryoCodec() {
 		this.pool = new Pool<>(true, true) {
 
@@ -63,15 +93,40 @@ public abstract class AbstractKryoCodec implements Codec {
 		Assert.notNull(outputStream, "'outputSteam' cannot be null");
 
 		Kryo kryo = this.pool.obtain();
-		try (Output output = (outputStream instanceof Output ? (Output) outputStream : new Output(outputStream))) {
+		Output output = outputStream instanceof Output kryoOutput ? kryoOutput : obtainOutput(outputStream);
+		try (output) {
 			doEncode(kryo, object, output);
 		}
 		finally {
 			this.pool.free(kryo);
+			if (output != outputStream) {
+				releaseOutput(output);
+			}
 		}
 
 	}
 
+	@Override
+	public void encode(Object object, ByteBuffer buffer) {
+		Assert.notNull(object, "cannot encode a null object");
+		Assert.notNull(buffer, "'buffer' cannot be null");
+
+		Kryo kryo = this.pool.obtain();
+		ByteOrder order = buffer.order();
+		try {
+			doEncode(kryo, object, new ByteBufferOutput(buffer));
+		}
+		catch (KryoBufferOverflowException ex) {
+			BufferOverflowException overflow = new BufferOverflowException();
+			overflow.initCause(ex);
+			throw overflow;
+		}
+		finally {
+			buffer.order(order);
+			this.pool.free(kryo);
+		}
+	}
+
 	@Override
 	public <T> T decode(byte[] bytes, Class<T> type) throws IOException {
 		Assert.notNull(bytes, "'bytes' cannot be null");
@@ -80,27 +135,74 @@ public abstract class AbstractKryoCodec implements Codec {
 		}
 	}
 
+	@Override
+	public <T> T decode(ByteBuffer buffer, Class<T> type) {
+		Assert.notNull(buffer, "'buffer' cannot be null");
+		Assert.notNull(type, "'type' cannot be null");
+
+		Kryo kryo = this.pool.obtain();
+		ByteOrder order = buffer.order();
+		try {
+			return doDecode(kryo, new ByteBufferInput(buffer), type);
+		}
+		finally {
+			buffer.order(order);
+			this.pool.free(kryo);
+		}
+	}
+
 	@Override
 	public <T> T decode(InputStream inputStream, final Class<T> type) {
 		Assert.notNull(inputStream, "'inputStream' cannot be null");
 		Assert.notNull(type, "'type' cannot be null");
 
 		Kryo kryo = this.pool.obtain();
-		try (Input input = (inputStream instanceof Input ? (Input) inputStream : new Input(inputStream))) {
+		Input input = inputStream instanceof Input kryoInput ? kryoInput : obtainInput(inputStream);
+		try (input) {
 			return doDecode(kryo, input, type);
 		}
 		finally {
 			this.pool.free(kryo);
+			if (input != inputStream) {
+				input.setInputStream(null);
+				this.inputPool.free(input);
+			}
 		}
 	}
 
 	@Override
-	public byte[] encode(Object object) throws IOException {
-		ByteArrayOutputStream bos = new ByteArrayOutputStream();
-		encode(object, bos);
-		byte[] bytes = bos.toByteArray();
-		bos.close();
-		return bytes;
+	public byte[] encode(Object object) {
+		Assert.notNull(object, "cannot encode a null object");
+
+		Kryo kryo = this.pool.obtain();
+		Output output = obtainOutput(null);
+		try {
+			doEncode(kryo, object, output);
+			return output.toBytes();
+		}
+		finally {
+			this.pool.free(kryo);
+			releaseOutput(output);
+		}
+	}
+
+	private Output obtainOutput(@Nullable OutputStream outputStream) {
+		Output output = this.outputPool.obtain();
+		output.setOutputStream(outputStream);
+		return output;
+	}
+
+	private void releaseOutput(Output output) {
+		output.setOutputStream(null);
+		if (output.getBuffer().length <= MAX_POOLED_BUFFER_SIZE) {
+			this.outputPool.free(output);
+		}
+	}
+
+	private Input obtainInput(InputStream inputStream) {
+		Input input = this.inputPool.obtain();
+		input.setInputStream(inputStream);
+		return input;
 	}
 
 	/**
@@ -271,6 +271,8 @@ public class ConsumerEndpointFactoryBean
 			 *  Or if one (or more) of advices is IdempotentReceiverInterceptor.
 			 *  If the handler is already advised,
 			 *  add the configured advices to its chain, otherwise create a proxy.
+			 *  The PollingConsumer hands the messages over to an advised BatchMessageHandler one by one,
+			 *  so the advices are never bypassed by the handleMessages(List).
 			 */
 			Class<?> targetClass = AopUtils.getTargetClass(theHandler);
 			boolean replyMessageHandler = AbstractReplyProducingMessageHandler.class.isAssignableFrom(targetClass);
@@ -406,6 +408,8 @@ public class ConsumerEndpointFactoryBean
 		pollingConsumer.setErrorHandler(this.pollerMetadata.getErrorHandler());
 
 		pollingConsumer.setReceiveTimeout(this.pollerMetadata.getReceiveTimeout());
+		pollingConsumer.setBatchSize(this.pollerMetadata.getBatchSize());
+		pollingConsumer.setBatchTimeout(this.pollerMetadata.getBatchTimeout());
 		pollingConsumer.setTransactionSynchronizationFactory(
 				this.pollerMetadata.getTransactionSynchronizationFactory());
 		pollingConsumer.setBeanClassLoader(this.beanClassLoader);
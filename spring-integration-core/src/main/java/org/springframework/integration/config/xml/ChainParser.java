@@ -105,6 +105,7 @@ public class ChainParser extends AbstractConsumerEndpointParser {
 		}
 		builder.addPropertyValue("handlers", handlerList);
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "send-timeout");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "fused");
 		return builder;
 	}
 
@@ -21,6 +21,7 @@ import org.w3c.dom.Element;
 import org.springframework.beans.factory.config.TypedStringValue;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.channel.ExecutorChannel;
 import org.springframework.integration.channel.FixedSubscriberChannel;
@@ -158,10 +159,22 @@ public class PointToPointChannelParser extends AbstractChannelParser {
 		}
 		// configure either an ExecutorChannel or DirectChannel based on existence of 'task-executor'
 		String taskExecutor = dispatcherElement.getAttribute("task-executor");
+		boolean virtualThreads = "true".equals(dispatcherElement.getAttribute("virtual-threads"));
+		if (virtualThreads && StringUtils.hasText(taskExecutor)) {
+			parserContext.getReaderContext().error(
+					"The 'task-executor' and 'virtual-threads' attributes are mutually exclusive.", element);
+		}
 		if (StringUtils.hasText(taskExecutor)) {
 			builder = BeanDefinitionBuilder.genericBeanDefinition(ExecutorChannel.class);
 			builder.addConstructorArgReference(taskExecutor);
 		}
+		else if (virtualThreads) {
+			builder = BeanDefinitionBuilder.genericBeanDefinition(ExecutorChannel.class);
+			builder.addConstructorArgValue(
+					BeanDefinitionBuilder.genericBeanDefinition(VirtualThreadTaskExecutor.class)
+							.addConstructorArgValue(element.getAttribute(ID_ATTRIBUTE) + "-")
+							.getBeanDefinition());
+		}
 		else {
 			builder = BeanDefinitionBuilder.genericBeanDefinition(DirectChannel.class);
 		}
@@ -27,6 +27,7 @@ import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
 import org.springframework.beans.factory.xml.AbstractBeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.channel.MessagePublishingErrorHandler;
 import org.springframework.integration.config.PeriodicTriggerFactoryBean;
 import org.springframework.integration.scheduling.PollerMetadata;
@@ -88,6 +89,14 @@ public class PollerParser extends AbstractBeanDefinitionParser {
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(metadataBuilder, element, "max-messages-per-poll");
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(metadataBuilder, element, "receive-timeout");
 		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(metadataBuilder, element, "task-executor");
+		if ("true".equals(element.getAttribute("virtual-threads"))) {
+			if (StringUtils.hasText(element.getAttribute("task-executor"))) {
+				parserContext.getReaderContext().error(
+						"The 'task-executor' and 'virtual-threads' attributes are mutually exclusive.", element);
+			}
+			metadataBuilder.addPropertyValue("taskExecutor",
+					BeanDefinitionBuilder.genericBeanDefinition(VirtualThreadTaskExecutor.class).getBeanDefinition());
+		}
 
 		Element txElement = DomUtils.getChildElementByTagName(element, "transactional");
 		Element adviceChainElement = DomUtils.getChildElementByTagName(element, "advice-chain");
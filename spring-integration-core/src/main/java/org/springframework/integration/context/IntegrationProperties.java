@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Properties;
 
 import org.springframework.integration.JavaUtils;
+import org.springframework.integration.expression.ExpressionCompilationPolicy;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -38,6 +39,7 @@ import org.springframework.util.StringUtils;
  *   <li> {@code spring.integration.channels.error.requireSubscribers=true}
  *   <li> {@code spring.integration.channels.error.ignoreFailures=true}
  *   <li> {@code spring.integration.endpoints.defaultTimeout=30000}
+ *   <li> {@code spring.integration.expressions.compileThreshold=100}
  * </ul>
  *
  * @author Artem Bilan
@@ -119,6 +121,14 @@ public final class IntegrationProperties {
 	 */
 	public static final String ENDPOINTS_DEFAULT_TIMEOUT = INTEGRATION_PROPERTIES_PREFIX + "endpoints.defaultTimeout";
 
+	/**
+	 * Specifies the number of interpreted evaluations before a SpEL expression is compiled.
+	 * @since 6.3
+	 * @see org.springframework.integration.expression.ExpressionCompilationPolicy
+	 */
+	public static final String EXPRESSIONS_COMPILE_THRESHOLD =
+			INTEGRATION_PROPERTIES_PREFIX + "expressions.compileThreshold";
+
 	private static final Properties DEFAULTS;
 
 	private boolean channelsAutoCreate = true;
@@ -141,6 +151,8 @@ public final class IntegrationProperties {
 
 	private long endpointsDefaultTimeout = IntegrationContextUtils.DEFAULT_TIMEOUT;
 
+	private int expressionsCompileThreshold = ExpressionCompilationPolicy.DEFAULT_COMPILE_THRESHOLD;
+
 	private volatile Properties properties;
 
 	static {
@@ -319,6 +331,25 @@ public final class IntegrationProperties {
 		this.endpointsDefaultTimeout = endpointsDefaultTimeout;
 	}
 
+	/**
+	 * Return the value of {@link #EXPRESSIONS_COMPILE_THRESHOLD} option.
+	 * @return the value of {@link #EXPRESSIONS_COMPILE_THRESHOLD} option.
+	 * @since 6.3
+	 */
+	public int getExpressionsCompileThreshold() {
+		return this.expressionsCompileThreshold;
+	}
+
+	/**
+	 * Configure a value for {@link #EXPRESSIONS_COMPILE_THRESHOLD} option.
+	 * A negative value disables the compilation of expressions.
+	 * @param expressionsCompileThreshold the value for {@link #EXPRESSIONS_COMPILE_THRESHOLD} option.
+	 * @since 6.3
+	 */
+	public void setExpressionsCompileThreshold(int expressionsCompileThreshold) {
+		this.expressionsCompileThreshold = expressionsCompileThreshold;
+	}
+
 	/**
 	 * Represent the current instance as a {@link Properties}.
 	 * @return the {@link Properties} representation.
@@ -339,6 +370,7 @@ public final class IntegrationProperties {
 			props.setProperty(ENDPOINTS_NO_AUTO_STARTUP,
 					StringUtils.arrayToCommaDelimitedString(this.noAutoStartupEndpoints));
 			props.setProperty(ENDPOINTS_DEFAULT_TIMEOUT, "" + this.endpointsDefaultTimeout);
+			props.setProperty(EXPRESSIONS_COMPILE_THRESHOLD, "" + this.expressionsCompileThreshold);
 
 			this.properties = props;
 		}
@@ -377,7 +409,9 @@ public final class IntegrationProperties {
 						(value) -> integrationProperties.setNoAutoStartupEndpoints(
 								StringUtils.commaDelimitedListToStringArray(value)))
 				.acceptIfHasText(properties.getProperty(ENDPOINTS_DEFAULT_TIMEOUT),
-						(value) -> integrationProperties.setEndpointsDefaultTimeout(Long.parseLong(value)));
+						(value) -> integrationProperties.setEndpointsDefaultTimeout(Long.parseLong(value)))
+				.acceptIfHasText(properties.getProperty(EXPRESSIONS_COMPILE_THRESHOLD),
+						(value) -> integrationProperties.setExpressionsCompileThreshold(Integer.parseInt(value)));
 		return integrationProperties;
 	}
 
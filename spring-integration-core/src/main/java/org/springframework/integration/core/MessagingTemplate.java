@@ -27,7 +27,9 @@ import org.springframework.integration.support.channel.ChannelResolverUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.core.GenericMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 
 /**
  * @author Mark Fisher
@@ -47,6 +49,8 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 
 	private volatile boolean throwExceptionOnLateReplySet;
 
+	private volatile boolean throwExceptionOnLateReply;
+
 	/**
 	 * Create a MessagingTemplate with no default channel. Note, that one
 	 * may be provided by invoking {@link #setDefaultChannel(MessageChannel)}.
@@ -74,6 +78,7 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 	@Override
 	public void setThrowExceptionOnLateReply(boolean throwExceptionOnLateReply) {
 		super.setThrowExceptionOnLateReply(throwExceptionOnLateReply);
+		this.throwExceptionOnLateReply = throwExceptionOnLateReply;
 		this.throwExceptionOnLateReplySet = true;
 	}
 
@@ -95,8 +100,9 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 				if (!this.throwExceptionOnLateReplySet) {
 					IntegrationProperties integrationProperties = IntegrationContextUtils
 							.getIntegrationProperties(this.beanFactory);
-					super.setThrowExceptionOnLateReply(
-							integrationProperties.isMessagingTemplateThrowExceptionOnLateReply());
+					boolean throwOnLateReply = integrationProperties.isMessagingTemplateThrowExceptionOnLateReply();
+					super.setThrowExceptionOnLateReply(throwOnLateReply);
+					this.throwExceptionOnLateReply = throwOnLateReply;
 					this.throwExceptionOnLateReplySet = true;
 				}
 			}
@@ -104,7 +110,57 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 				this.lock.unlock();
 			}
 		}
-		return super.sendAndReceive(destination, requestMessage);
+		return doSendAndReceiveWithReplyHandoff(destination, requestMessage);
+	}
+
+	/**
+	 * The same algorithm as the {@code GenericMessagingTemplate.doSendAndReceive()}, but with a
+	 * {@link ReplyHandoffChannel} instead of a latch-based temporary reply channel.
+	 */
+	@Nullable
+	private Message<?> doSendAndReceiveWithReplyHandoff(MessageChannel destination, Message<?> requestMessage) {
+		MessageHeaders requestHeaders = requestMessage.getHeaders();
+		Object originalReplyChannelHeader = requestHeaders.getReplyChannel();
+		Object originalErrorChannelHeader = requestHeaders.getErrorChannel();
+		long sendTimeout = headerToTimeout(requestHeaders.get(getSendTimeoutHeader()), getSendTimeout());
+		long receiveTimeout = headerToTimeout(requestHeaders.get(getReceiveTimeoutHeader()), getReceiveTimeout());
+
+		ReplyHandoffChannel replyChannel = new ReplyHandoffChannel(this.throwExceptionOnLateReply);
+		Message<?> messageToSend = MessageBuilder.fromMessage(requestMessage)
+				.setReplyChannel(replyChannel)
+				.setHeader(getSendTimeoutHeader(), null)
+				.setHeader(getReceiveTimeoutHeader(), null)
+				.setErrorChannel(replyChannel)
+				.build();
+
+		try {
+			doSend(destination, messageToSend, sendTimeout);
+		}
+		catch (RuntimeException ex) {
+			replyChannel.setSendFailed();
+			throw ex;
+		}
+
+		Message<?> replyMessage = replyChannel.receive(receiveTimeout);
+		if (replyMessage != null) {
+			replyMessage = MessageBuilder.fromMessage(replyMessage)
+					.setHeader(MessageHeaders.REPLY_CHANNEL, originalReplyChannelHeader)
+					.setHeader(MessageHeaders.ERROR_CHANNEL, originalErrorChannelHeader)
+					.build();
+		}
+		return replyMessage;
+	}
+
+	private static long headerToTimeout(@Nullable Object headerValue, long defaultTimeout) {
+		if (headerValue instanceof Number number) {
+			return number.longValue();
+		}
+		else if (headerValue instanceof String text) {
+			return Long.parseLong(text);
+		}
+		else {
+			return defaultTimeout;
+		}
 	}
 
 	public Object receiveAndConvert(MessageChannel destination, long timeout) {
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.PollableChannel;
+
+/**
+ * The reply channel of a single {@link MessagingTemplate#sendAndReceive(
+ * org.springframework.messaging.MessageChannel, Message)} call.
+ * Unlike the {@code GenericMessagingTemplate.TemporaryReplyChannel}, there is no
+ * {@link java.util.concurrent.CountDownLatch} and no logger lookup per instance:
+ * the only waiter is the thread which has created the channel, so the reply is handed
+ * over with a volatile write and {@link LockSupport#unpark(Thread)}.
+ * A reply which arrives before the {@link #receive(long)} is returned without parking.
+ * <p>
+ * The sender of the reply and the waiter which gives up claim the {@code WAITING} state
+ * with a compare-and-set, so only one of them wins: the waiter is unparked only when
+ * the reply has been accepted for it, and a waiter which has lost the race to a reply
+ * keeps waiting for that reply instead of returning without it.
+ *
+ * @since 6.3
+ */
+final class ReplyHandoffChannel implements PollableChannel {
+
+	private static final Log LOGGER = LogFactory.getLog(ReplyHandoffChannel.class);
+
+	private static final int WAITING = 0;
+
+	private static final int RECEIVED = 1;
+
+	private static final int TIMED_OUT = 2;
+
+	private static final int SEND_FAILED = 3;
+
+	private static final int INTERRUPTED = 4;
+
+	private static final VarHandle STATE;
+
+	static {
+		try {
+			STATE = MethodHandles.lookup().findVarHandle(ReplyHandoffChannel.class, "state", int.class);
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	private final Thread waiter = Thread.currentThread();
+
+	private final boolean throwExceptionOnLateReply;
+
+	@Nullable
+	private volatile Message<?> replyMessage;
+
+	/**
+	 * Moved from {@link #WAITING} only with a compare-and-set: to {@link #RECEIVED}
+	 * by the sender of the reply, or to another state by the {@link #waiter} thread.
+	 */
+	private volatile int state = WAITING;
+
+	ReplyHandoffChannel(boolean throwExceptionOnLateReply) {
+		this.throwExceptionOnLateReply = throwExceptionOnLateReply;
+	}
+
+	void setSendFailed() {
+		STATE.compareAndSet(this, WAITING, SEND_FAILED);
+	}
+
+	@Override
+	@Nullable
+	public Message<?> receive() {
+		return receive(-1);
+	}
+
+	@Override
+	@Nullable
+	public Message<?> receive(long timeout) {
+		long deadline = timeout < 0 ? 0 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		boolean interrupted = false;
+		Message<?> reply = this.replyMessage;
+		while (reply == null) {
+			int currentState = this.state;
+			if (currentState == WAITING) {
+				long remaining = timeout < 0 ? 1 : deadline - System.nanoTime();
+				if (interrupted || remaining <= 0) {
+					if (STATE.compareAndSet(this, WAITING, interrupted ? INTERRUPTED : TIMED_OUT)) {
+						break;
+					}
+					// A reply has been accepted concurrently and is about to be set
+					LockSupport.park(this);
+				}
+				else if (timeout < 0) {
+					LockSupport.park(this);
+				}
+				else {
+					LockSupport.parkNanos(this, remaining);
+				}
+			}
+			else if (currentState == RECEIVED) {
+				// The reply is set and the waiter unparked right after the state is claimed
+				LockSupport.park(this);
+			}
+			else {
+				break;
+			}
+			if (Thread.interrupted()) {
+				interrupted = true;
+			}
+			reply = this.replyMessage;
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		return reply;
+	}
+
+	@Override
+	public boolean send(Message<?> message) {
+		return send(message, -1);
+	}
+
+	@Override
+	public boolean send(Message<?> message, long timeout) {
+		if (STATE.compareAndSet(this, WAITING, RECEIVED)) {
+			this.replyMessage = message;
+			if (Thread.currentThread() != this.waiter) {
+				LockSupport.unpark(this.waiter);
+			}
+			return true;
+		}
+		int currentState = this.state;
+		if (currentState == INTERRUPTED) {
+			return true;
+		}
+		String errorDescription =
+				switch (currentState) {
+					case TIMED_OUT -> "Reply message received but the receiving thread has exited due to a timeout";
+					case RECEIVED -> "Reply message received but the receiving thread has already received a reply";
+					default -> "Reply message received but the receiving thread has exited due to "
+							+ "an exception while sending the request message";
+				};
+		if (LOGGER.isWarnEnabled()) {
+			LOGGER.warn(errorDescription + ": " + message);
+		}
+		if (this.throwExceptionOnLateReply) {
+			throw new MessageDeliveryException(message, errorDescription);
+		}
+		return true;
+	}
+
+}
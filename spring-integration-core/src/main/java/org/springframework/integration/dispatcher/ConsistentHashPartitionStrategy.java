@@ -0,0 +1,161 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.dispatcher;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link PartitionStrategy} based on a consistent hash ring with a number of virtual nodes
+ * per partition, so only about {@code 1/n} of the keys move to another partition when the
+ * partition count changes.
+ * <p>
+ * With a {@code loadFactor} greater than zero, the strategy applies the bounded-load variant of
+ * consistent hashing: a key is assigned to the first partition along the ring whose queue depth
+ * is below {@code ceil(loadFactor * (totalDepth + 1) / partitionCount)}.
+ * This way a partition kept busy by a hot key does not get new keys assigned while other
+ * partitions are idle.
+ * The hot key itself stays on its partition as long as it has messages in flight.
+ *
+ * @since 6.3
+ */
+public class ConsistentHashPartitionStrategy implements PartitionStrategy {
+
+	/**
+	 * The default number of virtual nodes per partition.
+	 */
+	public static final int DEFAULT_VIRTUAL_NODES = 64;
+
+	private final int virtualNodes;
+
+	private final double loadFactor;
+
+	/**
+	 * The rings per partition count: during a resize both the former and the new count are used.
+	 */
+	private final Map<Integer, Ring> rings = new ConcurrentHashMap<>();
+
+	/**
+	 * Create an instance with {@value #DEFAULT_VIRTUAL_NODES} virtual nodes per partition
+	 * and without the load bound.
+	 */
+	public ConsistentHashPartitionStrategy() {
+		this(0);
+	}
+
+	/**
+	 * Create an instance with {@value #DEFAULT_VIRTUAL_NODES} virtual nodes per partition.
+	 * @param loadFactor the factor of the average queue depth a partition may reach
+	 * to get a new key assigned; must be {@code >= 1} or {@code 0} for no load bound.
+	 */
+	public ConsistentHashPartitionStrategy(double loadFactor) {
+		this(DEFAULT_VIRTUAL_NODES, loadFactor);
+	}
+
+	/**
+	 * Create an instance with the provided number of virtual nodes per partition and load factor.
+	 * @param virtualNodes the number of points on the hash ring per partition.
+	 * @param loadFactor the factor of the average queue depth a partition may reach
+	 * to get a new key assigned; must be {@code >= 1} or {@code 0} for no load bound.
+	 */
+	public ConsistentHashPartitionStrategy(int virtualNodes, double loadFactor) {
+		Assert.isTrue(virtualNodes > 0, "'virtualNodes' must be greater than 0");
+		Assert.isTrue(loadFactor == 0 || loadFactor >= 1, "'loadFactor' must be 0 or greater than or equal to 1");
+		this.virtualNodes = virtualNodes;
+		this.loadFactor = loadFactor;
+	}
+
+	/**
+	 * Return true if the strategy is created without the load bound.
+	 * @return true if the {@code loadFactor} is {@code 0}.
+	 */
+	@Override
+	public boolean isStateless() {
+		return this.loadFactor == 0;
+	}
+
+	@Override
+	public int selectPartition(Object partitionKey, Partitions partitions) {
+		int partitionCount = partitions.count();
+		Ring ringToUse = this.rings.computeIfAbsent(partitionCount, this::buildRing);
+		int[] nodePartitions = ringToUse.partitions;
+		int index = ringToUse.indexOf(mix(partitionKey.hashCode()));
+		if (this.loadFactor == 0 || partitionCount == 1) {
+			return nodePartitions[index];
+		}
+		long totalDepth = 0;
+		for (int i = 0; i < partitionCount; i++) {
+			totalDepth += partitions.queueDepth(i);
+		}
+		double bound = Math.ceil(this.loadFactor * (totalDepth + 1) / partitionCount);
+		for (int i = 0; i < nodePartitions.length; i++) {
+			int partition = nodePartitions[(index + i) % nodePartitions.length];
+			if (partitions.queueDepth(partition) < bound) {
+				return partition;
+			}
+		}
+		return nodePartitions[index];
+	}
+
+	private Ring buildRing(int partitionCount) {
+		long[] nodes = new long[partitionCount * this.virtualNodes];
+		int n = 0;
+		for (int partition = 0; partition < partitionCount; partition++) {
+			for (int node = 0; node < this.virtualNodes; node++) {
+				int hash = mix(partition * 0x9E3779B9 + mix(node));
+				nodes[n++] = ((long) hash << 32) | partition;
+			}
+		}
+		Arrays.sort(nodes);
+		int[] hashes = new int[nodes.length];
+		int[] partitions = new int[nodes.length];
+		for (int i = 0; i < nodes.length; i++) {
+			hashes[i] = (int) (nodes[i] >> 32);
+			partitions[i] = (int) nodes[i];
+		}
+		return new Ring(hashes, partitions);
+	}
+
+	/**
+	 * The MurmurHash3 finalizer to spread the bits of {@link Object#hashCode()} over the ring.
+	 */
+	private static int mix(int hash) {
+		int h = hash;
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	private record Ring(int[] hashes, int[] partitions) {
+
+		int indexOf(int hash) {
+			int index = Arrays.binarySearch(this.hashes, hash);
+			if (index < 0) {
+				index = -index - 1;
+			}
+			return index == this.hashes.length ? 0 : index;
+		}
+
+	}
+
+}
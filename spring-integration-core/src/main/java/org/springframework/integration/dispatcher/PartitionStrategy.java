@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.dispatcher;
+
+/**
+ * Strategy for selecting a partition of the {@link PartitionedDispatcher} for a partition key
+ * which has no messages in flight.
+ * A key with messages in flight stays on its current partition to preserve ordering,
+ * so the strategy is free to take the current load of the partitions into account.
+ * <p>
+ * The strategy is called while the dispatcher holds a lock for the key,
+ * therefore it must be fast and must not dispatch messages itself.
+ *
+ * @since 6.3
+ *
+ * @see ConsistentHashPartitionStrategy
+ */
+@FunctionalInterface
+public interface PartitionStrategy {
+
+	/**
+	 * Select a partition for the key.
+	 * @param partitionKey the partition key.
+	 * @param partitions the current partitions.
+	 * @return the partition index from {@code 0} to {@code partitions.count() - 1}.
+	 */
+	int selectPartition(Object partitionKey, Partitions partitions);
+
+	/**
+	 * Return true if the selected partition depends only on the key and the number of
+	 * partitions, not on their {@link Partitions#queueDepth(int) queue depth}.
+	 * In this case, the {@link PartitionedDispatcher} does not track the keys in flight
+	 * (until the number of partitions is changed at runtime), since the same partition is
+	 * selected for all the messages of a key anyway.
+	 * @return true if the strategy does not depend on the partitions load.
+	 */
+	default boolean isStateless() {
+		return false;
+	}
+
+	/**
+	 * A view of the current partitions of the {@link PartitionedDispatcher}.
+	 */
+	interface Partitions {
+
+		/**
+		 * Return the number of partitions.
+		 * @return the number of partitions.
+		 */
+		int count();
+
+		/**
+		 * Return the number of messages dispatched to the partition and not handled yet.
+		 * @param partition the partition index.
+		 * @return the queue depth.
+		 */
+		int queueDepth(int partition);
+
+	}
+
+}
@@ -16,23 +16,29 @@
 
 package org.springframework.integration.dispatcher;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.TimerFacade;
 import org.springframework.integration.util.ErrorHandlingTaskExecutor;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.MessageHandlingRunnable;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
@@ -48,6 +54,17 @@ import org.springframework.util.ErrorHandler;
  * The number of partitions should be a reasonable value for the application environment
  * since every partition is based on a dedicated thread for message processing.
  * <p>
+ * A partition for a key is selected by the {@link PartitionStrategy} when the key has no messages
+ * in flight; otherwise the message is dispatched to the partition which handles the previous
+ * messages for the same key. This way the order of messages per key is preserved when the
+ * {@link PartitionStrategy} takes the load of partitions into account
+ * (see {@link ConsistentHashPartitionStrategy}) and when the number of partitions is changed
+ * at runtime via {@link #setPartitionCount(int)}: a key migrates to another partition only after
+ * all its messages are handled (drain-then-migrate).
+ * With a {@link PartitionStrategy#isStateless() stateless} strategy (e.g. the default one), the
+ * keys in flight are not tracked until the number of partitions is changed at runtime,
+ * and only until the messages for the keys on their former partitions are handled.
+ * <p>
  * The rest of the logic is similar to {@link UnicastingDispatcher} behavior.
  *
  * @author Artem Bilan
@@ -57,14 +74,54 @@ import org.springframework.util.ErrorHandler;
  */
 public class PartitionedDispatcher extends AbstractDispatcher {
 
-	private final Map<Integer, UnicastingDispatcher> partitions = new HashMap<>();
+	private static final PartitionStrategy DEFAULT_PARTITION_STRATEGY = new PartitionStrategy() {
+
+		@Override
+		public int selectPartition(Object partitionKey, Partitions partitions) {
+			return Math.abs(partitionKey.hashCode() % partitions.count());
+		}
 
-	private final List<ExecutorService> executors = new ArrayList<>();
+		@Override
+		public boolean isStateless() {
+			return true;
+		}
 
-	private final int partitionCount;
+	};
+
+	private final Map<Object, KeyAssignment> assignments = new ConcurrentHashMap<>();
+
+	private final Set<Partition> retiredPartitions = ConcurrentHashMap.newKeySet();
 
 	private final Function<Message<?>, Object> partitionKeyFunction;
 
+	private final Lock lock = new ReentrantLock();
+
+	private volatile int partitionCount;
+
+	@Nullable
+	private volatile Partitions partitions;
+
+	/**
+	 * The partitions which may have messages dispatched without tracking their keys.
+	 */
+	@Nullable
+	private volatile Partitions untrackedPartitions;
+
+	private volatile boolean trackKeys;
+
+	/**
+	 * The number of keys assigned to their former partitions from the {@link #untrackedPartitions}.
+	 */
+	private final AtomicInteger misplacedKeys = new AtomicInteger();
+
+	/**
+	 * Whether the number of partitions has been changed again while the keys were tracked
+	 * only because of a previous change.
+	 */
+	private volatile boolean resizedWhileTracking;
+
+	private PartitionStrategy partitionStrategy = DEFAULT_PARTITION_STRATEGY;
+
 	private ThreadFactory threadFactory = new CustomizableThreadFactory("partition-thread-");
 
 	private boolean failover = true;
@@ -76,7 +133,10 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 
 	private MessageHandlingTaskDecorator messageHandlingTaskDecorator = task -> task;
 
-	private final Lock lock = new ReentrantLock();
+	@Nullable
+	private MetricsCaptor metricsCaptor;
+
+	private String metricsName = "unknown";
 
 	/**
 	 * Instantiate based on a provided number of partitions and function for partition key against
@@ -102,6 +162,66 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 		this.threadFactory = threadFactory;
 	}
 
+	/**
+	 * Set a {@link PartitionStrategy} to select a partition for a key without messages in flight.
+	 * Defaults to the {@code Math.abs(partitionKey.hashCode() % partitionCount)} function.
+	 * @param partitionStrategy the {@link PartitionStrategy} to use.
+	 * @since 6.3
+	 */
+	public void setPartitionStrategy(PartitionStrategy partitionStrategy) {
+		Assert.notNull(partitionStrategy, "'partitionStrategy' must not be null");
+		this.partitionStrategy = partitionStrategy;
+		this.trackKeys = !partitionStrategy.isStateless();
+	}
+
+	/**
+	 * Change the number of partitions.
+	 * Can be called at runtime: new partitions are started immediately;
+	 * the partitions beyond the new count do not get new keys and are shut down when all
+	 * the messages dispatched to them are handled.
+	 * @param partitionCount the number of partitions.
+	 * @since 6.3
+	 */
+	public void setPartitionCount(int partitionCount) {
+		Assert.isTrue(partitionCount > 0, "'partitionCount' must be greater than 0");
+		this.lock.lock();
+		try {
+			Partitions currentPartitions = this.partitions;
+			this.partitionCount = partitionCount;
+			if (currentPartitions != null && currentPartitions.count() != partitionCount) {
+				if (!this.trackKeys) {
+					// The keys have to stay on their partitions until their messages are handled
+					this.untrackedPartitions = currentPartitions;
+					this.trackKeys = true;
+				}
+				else if (this.untrackedPartitions != null) {
+					this.resizedWhileTracking = true;
+				}
+				int currentCount = currentPartitions.count();
+				Partition[] newPartitions = Arrays.copyOf(currentPartitions.partitions, partitionCount);
+				for (int i = currentCount; i < partitionCount; i++) {
+					newPartitions[i] = newPartition(i);
+				}
+				this.partitions = new Partitions(newPartitions);
+				for (int i = partitionCount; i < currentCount; i++) {
+					retire(currentPartitions.partitions[i]);
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the current number of partitions.
+	 * @return the number of partitions.
+	 * @since 6.3
+	 */
+	public int getPartitionCount() {
+		return this.partitionCount;
+	}
+
 	/**
 	 * Specify whether partition dispatchers should have failover enabled.
 	 * By default, it will. Set this value to 'false' to disable it.
@@ -138,57 +258,390 @@ public class PartitionedDispatcher extends AbstractDispatcher {
 		this.messageHandlingTaskDecorator = messageHandlingTaskDecorator;
 	}
 
+	/**
+	 * Register a {@link MetricsCaptor} to expose the queue depth gauge and the latency timer
+	 * (from dispatching to the end of handling) per partition.
+	 * Must be called before the first message is dispatched.
+	 * @param metricsCaptorToRegister the {@link MetricsCaptor} to use.
+	 * @param name the value for the {@code name} tag of the meters; usually the channel name.
+	 * @since 6.3
+	 */
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptorToRegister, String name) {
+		this.metricsCaptor = metricsCaptorToRegister;
+		this.metricsName = name;
+	}
+
 	/**
 	 * Shutdown this dispatcher on application close.
 	 * The partition executors are shutdown and internal state of this instance is cleared.
 	 */
 	public void shutdown() {
-		this.executors.forEach(ExecutorService::shutdown);
-		this.executors.clear();
-		this.partitions.clear();
+		this.lock.lock();
+		try {
+			Partitions currentPartitions = this.partitions;
+			if (currentPartitions != null) {
+				for (Partition partition : currentPartitions.partitions) {
+					partition.terminate();
+				}
+			}
+			this.retiredPartitions.forEach(Partition::terminate);
+			this.retiredPartitions.clear();
+			this.assignments.clear();
+			this.untrackedPartitions = null;
+			this.resizedWhileTracking = false;
+			this.misplacedKeys.set(0);
+			this.partitions = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 	@Override
 	public boolean dispatch(Message<?> message) {
-		populatedPartitions();
-		int partition = Math.abs(this.partitionKeyFunction.apply(message).hashCode()) % this.partitionCount;
-		UnicastingDispatcher partitionDispatcher = this.partitions.get(partition);
-		return partitionDispatcher.dispatch(message);
+		Partitions partitionsToUse = populatedPartitions();
+		Object partitionKey = this.partitionKeyFunction.apply(message);
+		// The 'trackKeys' is set before new partitions are published
+		if (!this.trackKeys && dispatchUntracked(message, partitionKey, partitionsToUse)) {
+			return true;
+		}
+		KeyAssignment assignment = this.assignments.compute(partitionKey, this::assign);
+		Partition partition = assignment.partition;
+		long start = System.nanoTime();
+		Runnable task = this.messageHandlingTaskDecorator.decorate(new PartitionTask(message, partition.dispatcher));
+		try {
+			partition.executor.execute(() -> {
+				try {
+					task.run();
+				}
+				finally {
+					complete(assignment, start);
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			complete(assignment, start);
+			throw ex;
+		}
+		return true;
+	}
+
+	private boolean dispatchUntracked(Message<?> message, Object partitionKey, Partitions partitionsToUse) {
+		Partition partition =
+				partitionsToUse.partitions[this.partitionStrategy.selectPartition(partitionKey, partitionsToUse)];
+		partition.depth.incrementAndGet();
+		partition.untracked.incrementAndGet();
+		if (partition.retired) {
+			// Lost a race with the 'setPartitionCount()' - dispatch with the key tracking
+			partition.untracked.decrementAndGet();
+			release(partition);
+			return false;
+		}
+		long start = System.nanoTime();
+		Runnable task = this.messageHandlingTaskDecorator.decorate(new PartitionTask(message, partition.dispatcher));
+		try {
+			partition.executor.execute(() -> {
+				try {
+					task.run();
+				}
+				finally {
+					completeUntracked(partition, start);
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			completeUntracked(partition, start);
+			throw ex;
+		}
+		return true;
 	}
 
-	private void populatedPartitions() {
-		if (this.partitions.isEmpty()) {
+	private Partitions populatedPartitions() {
+		Partitions partitionsToUse = this.partitions;
+		if (partitionsToUse == null) {
 			this.lock.lock();
 			try {
-				if (this.partitions.isEmpty()) {
-					Map<Integer, UnicastingDispatcher> partitionsToUse = new HashMap<>();
-					for (int i = 0; i < this.partitionCount; i++) {
-						partitionsToUse.put(i, newPartition());
+				partitionsToUse = this.partitions;
+				if (partitionsToUse == null) {
+					Partition[] newPartitions = new Partition[this.partitionCount];
+					for (int i = 0; i < newPartitions.length; i++) {
+						newPartitions[i] = newPartition(i);
 					}
-					this.partitions.putAll(partitionsToUse);
+					partitionsToUse = new Partitions(newPartitions);
+					this.partitions = partitionsToUse;
 				}
 			}
 			finally {
 				this.lock.unlock();
 			}
 		}
+		return partitionsToUse;
 	}
 
-	private UnicastingDispatcher newPartition() {
+	private KeyAssignment assign(Object partitionKey, @Nullable KeyAssignment existingAssignment) {
+		KeyAssignment assignment = existingAssignment;
+		if (assignment == null) {
+			Partitions untracked = this.untrackedPartitions;
+			Partition partition = untracked != null ? formerPartition(partitionKey, untracked) : null;
+			if (partition != null) {
+				assignment = new KeyAssignment(partitionKey, partition);
+				assignment.misplaced = true;
+			}
+			else {
+				assignment = new KeyAssignment(partitionKey, selectPartition(partitionKey));
+			}
+		}
+		else {
+			assignment.partition.depth.incrementAndGet();
+		}
+		assignment.inFlight++;
+		return assignment;
+	}
+
+	/**
+	 * Return the partition the key has been dispatched to without tracking, if the partition
+	 * still has such messages in flight.
+	 */
+	@Nullable
+	private Partition formerPartition(Object partitionKey, Partitions untracked) {
+		Partition partition = untracked.partitions[this.partitionStrategy.selectPartition(partitionKey, untracked)];
+		partition.depth.incrementAndGet();
+		// Counted before checking 'untracked' for the 'isDrained()' to not miss this key
+		this.misplacedKeys.incrementAndGet();
+		if (partition.untracked.get() > 0) {
+			return partition;
+		}
+		this.misplacedKeys.decrementAndGet();
+		release(partition);
+		return null;
+	}
+
+	private Partition selectPartition(Object partitionKey) {
+		while (true) {
+			Partitions partitionsToUse = this.partitions;
+			Assert.state(partitionsToUse != null, "The dispatcher has been shut down");
+			Partition partition =
+					partitionsToUse.partitions[this.partitionStrategy.selectPartition(partitionKey, partitionsToUse)];
+			partition.depth.incrementAndGet();
+			if (!partition.retired) {
+				return partition;
+			}
+			// Lost a race with the 'setPartitionCount()' - select again from the new partitions
+			release(partition);
+		}
+	}
+
+	private void complete(KeyAssignment assignment, long start) {
+		Partition partition = assignment.partition;
+		if (partition.latencyTimer != null) {
+			partition.latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+		this.assignments.computeIfPresent(assignment.partitionKey, (key, existingAssignment) -> {
+			release(partition);
+			if (--existingAssignment.inFlight == 0) {
+				if (existingAssignment.misplaced) {
+					this.misplacedKeys.decrementAndGet();
+				}
+				return null;
+			}
+			return existingAssignment;
+		});
+		if (this.untrackedPartitions != null) {
+			restoreUntrackedIfDrained();
+		}
+	}
+
+	private void completeUntracked(Partition partition, long start) {
+		if (partition.latencyTimer != null) {
+			partition.latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+		int untracked = partition.untracked.decrementAndGet();
+		release(partition);
+		if (untracked == 0 && this.untrackedPartitions != null) {
+			restoreUntrackedIfDrained();
+		}
+	}
+
+	/**
+	 * Stop tracking the keys when no messages are in flight for them on their former partitions
+	 * after the number of partitions has been changed for the stateless {@link PartitionStrategy}.
+	 */
+	private void restoreUntrackedIfDrained() {
+		Partitions untracked = this.untrackedPartitions;
+		if (untracked != null && isDrained(untracked)) {
+			this.lock.lock();
+			try {
+				if (this.untrackedPartitions == untracked && isDrained(untracked)) {
+					this.untrackedPartitions = null;
+					this.resizedWhileTracking = false;
+					this.trackKeys = false;
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	private boolean isDrained(Partitions untracked) {
+		for (Partition partition : untracked.partitions) {
+			if (partition.untracked.get() > 0) {
+				return false;
+			}
+		}
+		// The keys assigned to the current partitions are on the same partitions as without tracking,
+		// unless the number of partitions has been changed again.
+		return this.misplacedKeys.get() == 0 && (!this.resizedWhileTracking || this.assignments.isEmpty());
+	}
+
+	private void release(Partition partition) {
+		if (partition.depth.decrementAndGet() == 0 && partition.retired) {
+			this.retiredPartitions.remove(partition);
+			partition.terminate();
+		}
+	}
+
+	private void retire(Partition partition) {
+		this.retiredPartitions.add(partition);
+		partition.retired = true;
+		if (partition.depth.get() == 0) {
+			this.retiredPartitions.remove(partition);
+			partition.terminate();
+		}
+	}
+
+	private Partition newPartition(int index) {
 		ExecutorService executor = Executors.newSingleThreadExecutor(this.threadFactory);
-		this.executors.add(executor);
-		DelegateDispatcher delegateDispatcher =
-				new DelegateDispatcher(new ErrorHandlingTaskExecutor(executor, this.errorHandler));
+		DelegateDispatcher delegateDispatcher = new DelegateDispatcher();
 		delegateDispatcher.setFailover(this.failover);
 		delegateDispatcher.setLoadBalancingStrategy(this.loadBalancingStrategy);
-		delegateDispatcher.setMessageHandlingTaskDecorator(this.messageHandlingTaskDecorator);
-		return delegateDispatcher;
+		Partition partition = new Partition(executor, this.errorHandler, delegateDispatcher);
+		if (this.metricsCaptor != null) {
+			String partitionTag = Integer.toString(index);
+			partition.depthGauge =
+					this.metricsCaptor.gaugeBuilder("spring.integration.channel.partition.queue.depth", partition,
+									(obj) -> partition.depth.get())
+							.tag("name", this.metricsName)
+							.tag("type", "channel")
+							.tag("partition", partitionTag)
+							.description("The number of messages dispatched to the partition and not handled yet")
+							.build();
+			partition.latencyTimer =
+					this.metricsCaptor.timerBuilder("spring.integration.channel.partition.latency")
+							.tag("name", this.metricsName)
+							.tag("type", "channel")
+							.tag("partition", partitionTag)
+							.description("The time from dispatching a message to the partition until it is handled")
+							.build();
+		}
+		return partition;
+	}
+
+	private static final class Partitions implements PartitionStrategy.Partitions {
+
+		private final Partition[] partitions;
+
+		Partitions(Partition[] partitions) {
+			this.partitions = partitions;
+		}
+
+		@Override
+		public int count() {
+			return this.partitions.length;
+		}
+
+		@Override
+		public int queueDepth(int partition) {
+			return this.partitions[partition].depth.get();
+		}
+
+	}
+
+	private static final class Partition {
+
+		private final AtomicInteger depth = new AtomicInteger();
+
+		/**
+		 * The number of messages in flight dispatched without tracking their keys.
+		 */
+		private final AtomicInteger untracked = new AtomicInteger();
+
+		private final AtomicBoolean terminated = new AtomicBoolean();
+
+		private final ExecutorService executorService;
+
+		private final Executor executor;
+
+		private final UnicastingDispatcher dispatcher;
+
+		private volatile boolean retired;
+
+		@Nullable
+		private GaugeFacade depthGauge;
+
+		@Nullable
+		private TimerFacade latencyTimer;
+
+		Partition(ExecutorService executorService, ErrorHandler errorHandler, UnicastingDispatcher dispatcher) {
+			this.executorService = executorService;
+			this.executor = new ErrorHandlingTaskExecutor(executorService, errorHandler);
+			this.dispatcher = dispatcher;
+		}
+
+		void terminate() {
+			if (this.terminated.compareAndSet(false, true)) {
+				this.executorService.shutdown();
+				if (this.depthGauge != null) {
+					this.depthGauge.remove();
+				}
+				if (this.latencyTimer != null) {
+					this.latencyTimer.remove();
+				}
+			}
+		}
+
+	}
+
+	private static final class KeyAssignment {
+
+		private final Object partitionKey;
+
+		private final Partition partition;
+
+		private int inFlight;
+
+		private boolean misplaced;
+
+		KeyAssignment(Object partitionKey, Partition partition) {
+			this.partitionKey = partitionKey;
+			this.partition = partition;
+		}
+
+	}
+
+	private record PartitionTask(Message<?> message, UnicastingDispatcher dispatcher)
+			implements MessageHandlingRunnable {
+
+		@Override
+		public void run() {
+			this.dispatcher.dispatch(this.message);
+		}
+
+		@Override
+		public Message<?> getMessage() {
+			return this.message;
+		}
+
+		@Override
+		public MessageHandler getMessageHandler() {
+			return this.dispatcher::dispatch;
+		}
+
 	}
 
 	private final class DelegateDispatcher extends UnicastingDispatcher {
 
-		DelegateDispatcher(Executor executor) {
-			super(executor);
+		DelegateDispatcher() {
 		}
 
 		@Override
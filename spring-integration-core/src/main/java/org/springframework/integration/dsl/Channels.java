@@ -168,6 +168,27 @@ public final class Channels {
 		return MessageChannels.partitioned(id, partitionCount);
 	}
 
+	/**
+	 * Create a {@link RingBufferChannelSpec}.
+	 * @param capacity the capacity of the ring buffer; rounded up to the next power of two.
+	 * @return the {@link RingBufferChannelSpec}.
+	 * @since 6.3
+	 */
+	public RingBufferChannelSpec ringBuffer(int capacity) {
+		return MessageChannels.ringBuffer(capacity);
+	}
+
+	/**
+	 * Create a {@link RingBufferChannelSpec}.
+	 * @param id the bean name for the channel.
+	 * @param capacity the capacity of the ring buffer; rounded up to the next power of two.
+	 * @return the {@link RingBufferChannelSpec}.
+	 * @since 6.3
+	 */
+	public RingBufferChannelSpec ringBuffer(String id, int capacity) {
+		return MessageChannels.ringBuffer(id, capacity);
+	}
+
 	private Channels() {
 	}
 
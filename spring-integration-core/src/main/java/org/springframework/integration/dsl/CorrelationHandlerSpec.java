@@ -136,6 +136,19 @@ public abstract class CorrelationHandlerSpec<S extends CorrelationHandlerSpec<S,
 		return _this();
 	}
 
+	/**
+	 * Track the group timeouts in a timing wheel with the provided resolution instead of
+	 * scheduling a task per group.
+	 * @param tickDuration the duration of the timing wheel tick.
+	 * @return the handler spec.
+	 * @since 6.3
+	 * @see AbstractCorrelatingMessageHandler#setGroupTimeoutTickDuration(Duration)
+	 */
+	public S groupTimeoutTickDuration(Duration tickDuration) {
+		this.handler.setGroupTimeoutTickDuration(tickDuration);
+		return _this();
+	}
+
 	/**
 	 * @param taskScheduler the task scheduler.
 	 * @return the handler spec.
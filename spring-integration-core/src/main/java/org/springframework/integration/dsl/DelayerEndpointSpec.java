@@ -26,6 +26,7 @@ import org.aopalliance.aop.Advice;
 import org.springframework.expression.Expression;
 import org.springframework.integration.expression.FunctionExpression;
 import org.springframework.integration.handler.DelayHandler;
+import org.springframework.integration.scheduling.DelayScheduler;
 import org.springframework.integration.store.MessageGroupStore;
 import org.springframework.integration.transaction.TransactionInterceptorBuilder;
 import org.springframework.messaging.Message;
@@ -243,4 +244,17 @@ public class DelayerEndpointSpec extends ConsumerEndpointSpec<DelayerEndpointSpe
 		return this;
 	}
 
+	/**
+	 * Set a {@link DelayScheduler} to schedule the release of delayed messages.
+	 * @param delayScheduler the {@link DelayScheduler} to use.
+	 * @return the endpoint spec.
+	 * @since 6.3
+	 * @see DelayHandler#setDelayScheduler(DelayScheduler)
+	 * @see org.springframework.integration.scheduling.HashedWheelDelayScheduler
+	 */
+	public DelayerEndpointSpec delayScheduler(DelayScheduler delayScheduler) {
+		this.handler.setDelayScheduler(delayScheduler);
+		return this;
+	}
+
 }
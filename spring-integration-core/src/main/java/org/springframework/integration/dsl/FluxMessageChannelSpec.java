@@ -30,4 +30,13 @@ public class FluxMessageChannelSpec extends MessageChannelSpec<FluxMessageChanne
 		this.channel = new FluxMessageChannel();
 	}
 
+	/**
+	 * Create a spec for a {@link FluxMessageChannel} with the provided buffer size.
+	 * @param bufferSize the buffer size.
+	 * @since 6.3
+	 */
+	protected FluxMessageChannelSpec(int bufferSize) {
+		this.channel = new FluxMessageChannel(bufferSize);
+	}
+
 }
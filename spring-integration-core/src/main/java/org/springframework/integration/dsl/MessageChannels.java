@@ -19,6 +19,7 @@ package org.springframework.integration.dsl;
 import java.util.Queue;
 import java.util.concurrent.Executor;
 
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.store.ChannelMessageStore;
 import org.springframework.integration.store.PriorityCapableChannelMessageStore;
 import org.springframework.messaging.Message;
@@ -81,6 +82,30 @@ public final class MessageChannels {
 		return executor(executor).id(id);
 	}
 
+	/**
+	 * Create an {@link ExecutorChannelSpec} which dispatches every message on a new virtual thread.
+	 * Requires Java 21 or later.
+	 * @return the {@link ExecutorChannelSpec}.
+	 * @since 6.3
+	 * @see VirtualThreadTaskExecutor
+	 */
+	public static ExecutorChannelSpec virtualThreadExecutor() {
+		return executor(new VirtualThreadTaskExecutor());
+	}
+
+	/**
+	 * Create an {@link ExecutorChannelSpec} which dispatches every message on a new virtual thread.
+	 * The virtual threads are named after the channel.
+	 * Requires Java 21 or later.
+	 * @param id the bean name for the channel.
+	 * @return the {@link ExecutorChannelSpec}.
+	 * @since 6.3
+	 * @see VirtualThreadTaskExecutor
+	 */
+	public static ExecutorChannelSpec virtualThreadExecutor(String id) {
+		return executor(id, new VirtualThreadTaskExecutor(id + "-"));
+	}
+
 	public static RendezvousChannelSpec rendezvous() {
 		return new RendezvousChannelSpec();
 	}
@@ -149,6 +174,27 @@ public final class MessageChannels {
 		return flux().id(id);
 	}
 
+	/**
+	 * Create a {@link FluxMessageChannelSpec} with a buffer for the provided number of messages.
+	 * @param bufferSize the buffer size.
+	 * @return the {@link FluxMessageChannelSpec}.
+	 * @since 6.3
+	 */
+	public static FluxMessageChannelSpec flux(int bufferSize) {
+		return new FluxMessageChannelSpec(bufferSize);
+	}
+
+	/**
+	 * Create a {@link FluxMessageChannelSpec} with a buffer for the provided number of messages.
+	 * @param id the bean name for the channel.
+	 * @param bufferSize the buffer size.
+	 * @return the {@link FluxMessageChannelSpec}.
+	 * @since 6.3
+	 */
+	public static FluxMessageChannelSpec flux(String id, int bufferSize) {
+		return flux(bufferSize).id(id);
+	}
+
 	/**
 	 * Create a {@link PartitionedChannelSpec}.
 	 * @param partitionCount the number of partitions in the channel.
@@ -170,6 +216,27 @@ public final class MessageChannels {
 		return new PartitionedChannelSpec(partitionCount).id(id);
 	}
 
+	/**
+	 * Create a {@link RingBufferChannelSpec}.
+	 * @param capacity the capacity of the ring buffer; rounded up to the next power of two.
+	 * @return the {@link RingBufferChannelSpec}.
+	 * @since 6.3
+	 */
+	public static RingBufferChannelSpec ringBuffer(int capacity) {
+		return new RingBufferChannelSpec(capacity);
+	}
+
+	/**
+	 * Create a {@link RingBufferChannelSpec}.
+	 * @param id the bean name for the channel.
+	 * @param capacity the capacity of the ring buffer; rounded up to the next power of two.
+	 * @return the {@link RingBufferChannelSpec}.
+	 * @since 6.3
+	 */
+	public static RingBufferChannelSpec ringBuffer(String id, int capacity) {
+		return ringBuffer(capacity).id(id);
+	}
+
 	private MessageChannels() {
 	}
 
@@ -19,7 +19,9 @@ package org.springframework.integration.dsl;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Function;
 
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.channel.PartitionedChannel;
+import org.springframework.integration.dispatcher.PartitionStrategy;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 
@@ -40,6 +42,11 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 	@Nullable
 	private ThreadFactory threadFactory;
 
+	private boolean virtualThreads;
+
+	@Nullable
+	private PartitionStrategy partitionStrategy;
+
 	protected PartitionedChannelSpec(int partitionCount) {
 		this.partitionCount = partitionCount;
 	}
@@ -54,6 +61,31 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 		return this;
 	}
 
+	/**
+	 * Set a {@link PartitionStrategy} to select a partition for a key without messages in flight.
+	 * @param partitionStrategy the {@link PartitionStrategy} to use.
+	 * @return the spec.
+	 * @since 6.3
+	 * @see org.springframework.integration.dispatcher.ConsistentHashPartitionStrategy
+	 */
+	public PartitionedChannelSpec partitionStrategy(PartitionStrategy partitionStrategy) {
+		this.partitionStrategy = partitionStrategy;
+		return this;
+	}
+
+	/**
+	 * Run the partitions on virtual threads instead of platform threads.
+	 * Ignored if a {@link #threadFactory(ThreadFactory)} is provided.
+	 * Requires Java 21 or later.
+	 * @return the spec.
+	 * @since 6.3
+	 * @see VirtualThreadTaskExecutor#getVirtualThreadFactory()
+	 */
+	public PartitionedChannelSpec virtualThreads() {
+		this.virtualThreads = true;
+		return this;
+	}
+
 	@Override
 	protected PartitionedChannel doGet() {
 		if (this.partitionKeyFunction != null) {
@@ -72,6 +104,14 @@ public class PartitionedChannelSpec extends LoadBalancingChannelSpec<Partitioned
 		if (this.threadFactory != null) {
 			this.channel.setThreadFactory(this.threadFactory);
 		}
+		else if (this.virtualThreads) {
+			String prefix = getId() != null ? getId() : "partitioned";
+			this.channel.setThreadFactory(
+					new VirtualThreadTaskExecutor(prefix + "-partition-thread-").getVirtualThreadFactory());
+		}
+		if (this.partitionStrategy != null) {
+			this.channel.setPartitionStrategy(this.partitionStrategy);
+		}
 		return super.doGet();
 	}
 
@@ -25,6 +25,7 @@ import java.util.concurrent.Executor;
 
 import org.aopalliance.aop.Advice;
 
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.channel.MessagePublishingErrorHandler;
 import org.springframework.integration.scheduling.PollerMetadata;
 import org.springframework.integration.transaction.TransactionInterceptorBuilder;
@@ -179,6 +180,31 @@ public final class PollerSpec extends IntegrationComponentSpec<PollerSpec, Polle
 		return advice(transactionInterceptor);
 	}
 
+	/**
+	 * Specify the maximum number of messages a polling consumer hands over to a
+	 * {@link org.springframework.integration.handler.BatchMessageHandler} in one call.
+	 * @param batchSize the maximum number of messages in a batch.
+	 * @return the spec.
+	 * @since 6.3
+	 * @see PollerMetadata#setBatchSize(int)
+	 */
+	public PollerSpec batchSize(int batchSize) {
+		this.target.setBatchSize(batchSize);
+		return this;
+	}
+
+	/**
+	 * Specify a time in milliseconds to wait for more messages to fill a batch.
+	 * @param batchTimeout the batch timeout.
+	 * @return the spec.
+	 * @since 6.3
+	 * @see PollerMetadata#setBatchTimeout(long)
+	 */
+	public PollerSpec batchTimeout(long batchTimeout) {
+		this.target.setBatchTimeout(batchTimeout);
+		return this;
+	}
+
 	/**
 	 * Specify an {@link Executor} to perform the {@code pollingTask}.
 	 * @param taskExecutor the {@link Executor} to use.
@@ -189,6 +215,18 @@ public final class PollerSpec extends IntegrationComponentSpec<PollerSpec, Polle
 		return this;
 	}
 
+	/**
+	 * Perform each {@code pollingTask} on a new virtual thread.
+	 * A shortcut for the {@code taskExecutor(new VirtualThreadTaskExecutor())}.
+	 * Requires Java 21 or later.
+	 * @return the spec.
+	 * @since 6.3
+	 * @see VirtualThreadTaskExecutor
+	 */
+	public PollerSpec virtualThreads() {
+		return taskExecutor(new VirtualThreadTaskExecutor());
+	}
+
 	public PollerSpec sendTimeout(long sendTimeout) {
 		this.target.setSendTimeout(sendTimeout);
 		return this;
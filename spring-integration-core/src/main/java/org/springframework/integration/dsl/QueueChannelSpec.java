@@ -71,6 +71,8 @@ public class QueueChannelSpec extends MessageChannelSpec<QueueChannelSpec, Queue
 
 		private Lock storeLock;
 
+		private Integer prefetchSize;
+
 		protected MessageStoreSpec(ChannelMessageStore messageGroupStore, Object groupId) {
 			this.messageGroupStore = messageGroupStore;
 			this.groupId = groupId;
@@ -92,23 +94,40 @@ public class QueueChannelSpec extends MessageChannelSpec<QueueChannelSpec, Queue
 			return this;
 		}
 
+		/**
+		 * Set the number of messages to poll from the store in one go.
+		 * @param prefetchSizeToSet the number of messages to prefetch.
+		 * @return the spec.
+		 * @since 6.3
+		 * @see MessageGroupQueue#setPrefetchSize(int)
+		 */
+		public MessageStoreSpec prefetchSize(int prefetchSizeToSet) {
+			this.prefetchSize = prefetchSizeToSet;
+			return this;
+		}
+
 		@Override
 		protected QueueChannel doGet() {
+			MessageGroupQueue messageGroupQueue;
 			if (this.capacity != null) {
 				if (this.storeLock != null) {
-					this.queue = new MessageGroupQueue(this.messageGroupStore, this.groupId, this.capacity,
+					messageGroupQueue = new MessageGroupQueue(this.messageGroupStore, this.groupId, this.capacity,
 							this.storeLock);
 				}
 				else {
-					this.queue = new MessageGroupQueue(this.messageGroupStore, this.groupId, this.capacity);
+					messageGroupQueue = new MessageGroupQueue(this.messageGroupStore, this.groupId, this.capacity);
 				}
 			}
 			else if (this.storeLock != null) {
-				this.queue = new MessageGroupQueue(this.messageGroupStore, this.groupId, this.storeLock);
+				messageGroupQueue = new MessageGroupQueue(this.messageGroupStore, this.groupId, this.storeLock);
 			}
 			else {
-				this.queue = new MessageGroupQueue(this.messageGroupStore, this.groupId);
+				messageGroupQueue = new MessageGroupQueue(this.messageGroupStore, this.groupId);
+			}
+			if (this.prefetchSize != null) {
+				messageGroupQueue.setPrefetchSize(this.prefetchSize);
 			}
+			this.queue = messageGroupQueue;
 
 			return super.doGet();
 		}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.dsl;
+
+import org.springframework.integration.channel.RingBufferChannel;
+import org.springframework.integration.util.RingBufferBlockingQueue;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MessageChannelSpec} for a {@link RingBufferChannel}.
+ *
+ * @since 6.3
+ */
+public class RingBufferChannelSpec extends MessageChannelSpec<RingBufferChannelSpec, RingBufferChannel> {
+
+	private final int capacity;
+
+	private RingBufferBlockingQueue.WaitStrategy waitStrategy = RingBufferBlockingQueue.WaitStrategy.BLOCK;
+
+	protected RingBufferChannelSpec(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Set a {@link RingBufferBlockingQueue.WaitStrategy} for blocking {@code send()}
+	 * and {@code receive()} operations.
+	 * Defaults to {@link RingBufferBlockingQueue.WaitStrategy#BLOCK}.
+	 * @param waitStrategy the wait strategy to use.
+	 * @return the spec.
+	 */
+	public RingBufferChannelSpec waitStrategy(RingBufferBlockingQueue.WaitStrategy waitStrategy) {
+		Assert.notNull(waitStrategy, "'waitStrategy' must not be null");
+		this.waitStrategy = waitStrategy;
+		return this;
+	}
+
+	@Override
+	protected RingBufferChannel doGet() {
+		this.channel = new RingBufferChannel(this.capacity, this.waitStrategy);
+		return super.doGet();
+	}
+
+}
@@ -74,6 +74,12 @@ public class SplitterSpec extends ConsumerEndpointSpec<SplitterSpec, AbstractMes
 	@Nullable
 	private Boolean applySequence;
 
+	@Nullable
+	private Integer maxInFlight;
+
+	@Nullable
+	private Integer chunkSize;
+
 	protected SplitterSpec() {
 		super(null);
 	}
@@ -184,6 +190,30 @@ public class SplitterSpec extends ConsumerEndpointSpec<SplitterSpec, AbstractMes
 		return this;
 	}
 
+	/**
+	 * Set the maximum number of messages sent by the splitter to the output channel, but not yet handled.
+	 * @param maxInFlight the maximum number of in-flight messages.
+	 * @return the endpoint spec.
+	 * @since 6.3
+	 * @see AbstractMessageSplitter#setMaxInFlight(int)
+	 */
+	public SplitterSpec maxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+		return this;
+	}
+
+	/**
+	 * Set the number of items to emit together as a {@link java.util.List} payload of a single output message.
+	 * @param chunkSize the number of items per output message.
+	 * @return the endpoint spec.
+	 * @since 6.3
+	 * @see AbstractMessageSplitter#setChunkSize(int)
+	 */
+	public SplitterSpec chunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
 	/**
 	 * Specify a channel where rejected Messages should be sent. If the discard
 	 * channel is null (the default), rejected Messages will be dropped.
@@ -292,7 +322,9 @@ public class SplitterSpec extends ConsumerEndpointSpec<SplitterSpec, AbstractMes
 		JavaUtils.INSTANCE
 				.acceptIfNotNull(this.discardChannel, splitter::setDiscardChannel)
 				.acceptIfHasText(this.discardChannelName, splitter::setDiscardChannelName)
-				.acceptIfNotNull(this.applySequence, splitter::setApplySequence);
+				.acceptIfNotNull(this.applySequence, splitter::setApplySequence)
+				.acceptIfNotNull(this.maxInFlight, splitter::setMaxInFlight)
+				.acceptIfNotNull(this.chunkSize, splitter::setChunkSize);
 
 		this.handler = splitter;
 
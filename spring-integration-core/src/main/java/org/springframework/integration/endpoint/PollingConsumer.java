@@ -17,20 +17,27 @@
 package org.springframework.integration.endpoint;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 
 import org.reactivestreams.Subscriber;
 
+import org.springframework.aop.framework.Advised;
 import org.springframework.context.Lifecycle;
 import org.springframework.integration.channel.ExecutorChannelInterceptorAware;
 import org.springframework.integration.channel.NullChannel;
 import org.springframework.integration.channel.ReactiveStreamsSubscribableChannel;
 import org.springframework.integration.core.MessageProducer;
+import org.springframework.integration.handler.BatchMessageHandler;
 import org.springframework.integration.router.MessageRouter;
+import org.springframework.integration.support.PartialSuccessException;
+import org.springframework.integration.support.management.IntegrationManagement;
 import org.springframework.integration.support.utils.IntegrationUtils;
 import org.springframework.integration.transaction.IntegrationResourceHolder;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageDeliveryException;
@@ -44,6 +51,18 @@ import org.springframework.util.CollectionUtils;
 /**
  * Message Endpoint that connects any {@link MessageHandler} implementation
  * to a {@link PollableChannel}.
+ * <p>
+ * When the handler is a {@link BatchMessageHandler} which {@link BatchMessageHandler#isBatchCapable()
+ * is batch capable} and the {@code batchSize} is greater than {@code 1}, every poll drains up to
+ * {@code batchSize} messages from the channel and hands them over to the
+ * {@link BatchMessageHandler#handleMessages(List)} in one call.
+ * The messages are still handled one by one when the handler is advised (an AOP proxy,
+ * e.g. with a poller-level {@code adviceChain} on the endpoint) or observed, since the
+ * advices and the observation apply to a single message.
+ * The first message of a batch represents the whole batch for the poll: it is the message
+ * bound to the transaction resource and the {@code failedMessage} of the exception thrown
+ * for a failed batch, unless the handler reports the failed message with a
+ * {@link PartialSuccessException}.
  *
  * @author Mark Fisher
  * @author Oleg Zhurakousky
@@ -65,6 +84,16 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 
 	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
 
+	private int batchSize = 1;
+
+	private long batchTimeout;
+
+	/**
+	 * The messages drained from the channel in the current poll; the first of them is
+	 * returned from the {@link #receiveMessage()} and then handled with the rest as a batch.
+	 */
+	private final ThreadLocal<List<Message<?>>> drainedMessages = new ThreadLocal<>();
+
 	public PollingConsumer(PollableChannel inputChannel, MessageHandler handler) {
 		Assert.notNull(inputChannel, "inputChannel must not be null");
 		Assert.notNull(handler, "handler must not be null");
@@ -87,6 +116,36 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 		this.receiveTimeout = receiveTimeout;
 	}
 
+	/**
+	 * Set the maximum number of messages to hand over to a {@link BatchMessageHandler} in one call.
+	 * Ignored if the handler is not a {@link BatchMessageHandler}, is not
+	 * {@link BatchMessageHandler#isBatchCapable() batch capable}, or if it is advised or observed.
+	 * In batch mode, the {@code maxMessagesPerPoll} counts batches.
+	 * Defaults to {@code 1} - no batching.
+	 * @param batchSize the maximum number of messages in a batch.
+	 * @since 6.3
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+		if (batchSize > 1 && this.handler instanceof BatchMessageHandler && this.handler instanceof Advised) {
+			logger.warn(() -> "The 'batchSize' is ignored for the advised handler " + this.handler
+					+ "; the messages are handled one by one.");
+		}
+	}
+
+	/**
+	 * Set the time in milliseconds to wait for more messages to fill a batch after the
+	 * first message of the batch is received.
+	 * Defaults to {@code 0} - the batch contains only the messages available immediately.
+	 * @param batchTimeout the batch timeout.
+	 * @since 6.3
+	 * @see #setBatchSize(int)
+	 */
+	public void setBatchTimeout(long batchTimeout) {
+		this.batchTimeout = batchTimeout;
+	}
+
 	@Override
 	public MessageChannel getInputChannel() {
 		return this.inputChannel;
@@ -144,6 +203,51 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 
 	@Override
 	protected void handleMessage(Message<?> message) {
+		List<Message<?>> messages = this.drainedMessages.get();
+		if (messages != null) {
+			this.drainedMessages.remove();
+			if (messages.get(0) == message) {
+				handleBatch(messages);
+			}
+			else {
+				// The polled message has been replaced on its way here: the batch cannot be trusted
+				handleOneByOne(message, messages.subList(1, messages.size()));
+			}
+		}
+		else {
+			handleSingleMessage(message);
+		}
+	}
+
+	/**
+	 * Handle the provided message and then the rest of the drained messages one by one.
+	 * A failure does not prevent the rest of the messages to be handled;
+	 * the first one is rethrown in the end.
+	 */
+	private void handleOneByOne(Message<?> message, List<Message<?>> rest) {
+		RuntimeException failure = null;
+		List<Message<?>> messages = new ArrayList<>(rest.size() + 1);
+		messages.add(message);
+		messages.addAll(rest);
+		for (Message<?> messageToHandle : messages) {
+			try {
+				handleSingleMessage(messageToHandle);
+			}
+			catch (RuntimeException ex) {
+				if (failure == null) {
+					failure = ex;
+				}
+				else {
+					failure.addSuppressed(ex);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private void handleSingleMessage(Message<?> message) {
 		Message<?> theMessage = message;
 		Deque<ExecutorChannelInterceptor> interceptorStack = null;
 		try {
@@ -178,6 +282,56 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 		}
 	}
 
+	private void handleBatch(List<Message<?>> drained) {
+		BatchMessageHandler batchMessageHandler = (BatchMessageHandler) this.handler;
+		List<Message<?>> messages = drained;
+		List<Deque<ExecutorChannelInterceptor>> interceptorStacks = null;
+		if (this.channelInterceptors != null
+				&& ((ExecutorChannelInterceptorAware) this.inputChannel).hasExecutorInterceptors()) {
+			interceptorStacks = new ArrayList<>(messages.size());
+			List<Message<?>> messagesToHandle = new ArrayList<>(messages.size());
+			for (Message<?> message : messages) {
+				Deque<ExecutorChannelInterceptor> interceptorStack = new ArrayDeque<>();
+				Message<?> messageToHandle = applyBeforeHandle(message, interceptorStack);
+				if (messageToHandle != null) {
+					messagesToHandle.add(messageToHandle);
+					interceptorStacks.add(interceptorStack);
+				}
+			}
+			if (messagesToHandle.isEmpty()) {
+				return;
+			}
+			messages = messagesToHandle;
+		}
+		try {
+			batchMessageHandler.handleMessages(messages);
+			triggerAfterBatchHandled(messages, null, interceptorStacks);
+		}
+		catch (Exception ex) {
+			triggerAfterBatchHandled(messages, ex, interceptorStacks);
+			throw IntegrationUtils.wrapInDeliveryExceptionIfNecessary(messages.get(0),
+					() -> "Failed to handle batch of " + drained.size() + " messages to " + this
+							+ " in " + this.handler, ex);
+		}
+	}
+
+	private void triggerAfterBatchHandled(List<Message<?>> messages, @Nullable Exception ex,
+			@Nullable List<Deque<ExecutorChannelInterceptor>> interceptorStacks) {
+
+		if (interceptorStacks != null) {
+			Collection<?> handledMessages =
+					ex instanceof PartialSuccessException partialSuccess ? partialSuccess.getPartialResults() : null;
+			for (int i = 0; i < messages.size(); i++) {
+				Message<?> message = messages.get(i);
+				Exception exToReport = handledMessages != null && handledMessages.contains(message) ? null : ex;
+				Deque<ExecutorChannelInterceptor> interceptorStack = interceptorStacks.get(i);
+				if (!interceptorStack.isEmpty()) {
+					triggerAfterMessageHandled(message, exToReport, interceptorStack);
+				}
+			}
+		}
+	}
+
 	private Message<?> applyBeforeHandle(Message<?> message, Deque<ExecutorChannelInterceptor> interceptorStack) {
 		Message<?> theMessage = message;
 		for (ChannelInterceptor interceptor : this.channelInterceptors) {
@@ -213,9 +367,42 @@ public class PollingConsumer extends AbstractPollingEndpoint implements Integrat
 
 	@Override
 	protected Message<?> receiveMessage() {
-		return (this.receiveTimeout >= 0)
+		Message<?> message = (this.receiveTimeout >= 0)
 				? this.inputChannel.receive(this.receiveTimeout)
 				: this.inputChannel.receive();
+		if (message == null || !isBatching()) {
+			return message;
+		}
+		List<Message<?>> messages = new ArrayList<>(this.batchSize);
+		messages.add(message);
+		long deadline = System.currentTimeMillis() + this.batchTimeout;
+		while (messages.size() < this.batchSize) {
+			Message<?> nextMessage;
+			try {
+				nextMessage = this.inputChannel.receive(Math.max(0, deadline - System.currentTimeMillis()));
+			}
+			catch (RuntimeException ex) {
+				// Don't lose the messages already taken from the channel: handle the partial batch
+				logger.warn(ex, () -> "Failed to receive more messages for the batch from " + this.inputChannel
+						+ "; handling " + messages.size() + " messages received so far");
+				break;
+			}
+			if (nextMessage == null) {
+				break;
+			}
+			messages.add(nextMessage);
+		}
+		this.drainedMessages.set(messages);
+		return message;
+	}
+
+	private boolean isBatching() {
+		return this.batchSize > 1
+				&& this.handler instanceof BatchMessageHandler batchMessageHandler
+				&& batchMessageHandler.isBatchCapable()
+				&& !isReactive()
+				&& !(this.handler instanceof Advised)
+				&& !(this.handler instanceof IntegrationManagement management && management.isObserved());
 	}
 
 	@Override
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.expression;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.expression.EvaluationException;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.lang.Nullable;
+
+/**
+ * The policy for compiling {@link SpelExpression} instances evaluated by the framework
+ * components.
+ * An expression is evaluated by the interpreter until it has been evaluated
+ * {@link #getCompileThreshold()} times; then it is compiled to bytecode.
+ * A failed compilation is retried after the next threshold of evaluations (a few times).
+ * If the compiled form itself fails (e.g. with a {@link ClassCastException} when the type
+ * of the evaluation root has changed), the expression is reverted to the interpreted mode
+ * for good, and the failed evaluation is repeated by the interpreter.
+ * Any other failure (e.g. an exception thrown by an invoked method) is rethrown as the
+ * interpreter would do it, and the expression remains compiled.
+ * A negative threshold disables the compilation.
+ * <p>
+ * The evaluation count, the time spent in interpreted evaluations and the compilation
+ * state of each expression are tracked in the {@link Statistics} obtained from the
+ * {@link #getStatistics(Expression)}; they are shared by all the policies evaluating
+ * the same expression instance.
+ * The evaluations of a compiled expression are not tracked.
+ * <p>
+ * A policy caches the statistics of the expressions it evaluates, therefore an instance
+ * is expected to be used by a single component for its own (long-lived) expressions.
+ *
+ * @since 6.3
+ *
+ * @see org.springframework.integration.context.IntegrationProperties#EXPRESSIONS_COMPILE_THRESHOLD
+ */
+public final class ExpressionCompilationPolicy {
+
+	/**
+	 * The default number of interpreted evaluations before an expression is compiled.
+	 */
+	public static final int DEFAULT_COMPILE_THRESHOLD = 100;
+
+	private static final int MAX_COMPILE_ATTEMPTS = 3;
+
+	/**
+	 * The package of the classes generated by the {@link org.springframework.expression.spel.standard.SpelCompiler}.
+	 */
+	private static final String COMPILED_EXPRESSION_PACKAGE = "spel.";
+
+	private static final String SPEL_PACKAGE = "org.springframework.expression.spel.";
+
+	private static final Log LOGGER = LogFactory.getLog(ExpressionCompilationPolicy.class);
+
+	private static final Map<SpelExpression, Statistics> STATISTICS = new WeakHashMap<>();
+
+	private static final Lock STATISTICS_LOCK = new ReentrantLock();
+
+	private final Map<SpelExpression, Statistics> statistics = new ConcurrentHashMap<>();
+
+	private final int compileThreshold;
+
+	@Nullable
+	private volatile CompiledExpression compiledExpression;
+
+	/**
+	 * Create a policy which compiles an expression after the provided number of
+	 * interpreted evaluations.
+	 * @param compileThreshold the number of interpreted evaluations; {@code 0} to compile
+	 * on the first evaluation, a negative value to disable the compilation.
+	 */
+	public ExpressionCompilationPolicy(int compileThreshold) {
+		this.compileThreshold = compileThreshold;
+	}
+
+	public int getCompileThreshold() {
+		return this.compileThreshold;
+	}
+
+	/**
+	 * Perform the provided evaluation of the expression according to this policy.
+	 * The expressions other than {@link SpelExpression} are evaluated as is.
+	 * @param expression the expression to evaluate.
+	 * @param evaluation the function to perform the evaluation on the expression.
+	 * @param <T> the type of the evaluation result.
+	 * @return the evaluation result.
+	 */
+	@Nullable
+	public <T> T evaluate(Expression expression, Function<Expression, T> evaluation) {
+		if (this.compileThreshold < 0 || !(expression instanceof SpelExpression spelExpression)) {
+			return evaluation.apply(expression);
+		}
+		return this.statistics.computeIfAbsent(spelExpression, ExpressionCompilationPolicy::statisticsFor)
+				.evaluate(spelExpression, evaluation, this.compileThreshold);
+	}
+
+	/**
+	 * Return true if the expression has been compiled by this policy and can be evaluated
+	 * directly, without {@link #evaluate(Expression, Function)}.
+	 * In that case the caller must hand a failed evaluation to the
+	 * {@link #revertOrRethrow(Expression, EvaluationException)}.
+	 * @param expression the expression.
+	 * @return true if the expression is compiled.
+	 */
+	public boolean isCompiled(Expression expression) {
+		if (this.compileThreshold < 0) {
+			return false;
+		}
+		CompiledExpression compiled = this.compiledExpression;
+		if (compiled != null && compiled.expression() == expression) {
+			return compiled.statistics().state == CompilationState.COMPILED;
+		}
+		Statistics stats = this.statistics.get(expression);
+		if (stats != null && stats.state == CompilationState.COMPILED) {
+			if (compiled == null) {
+				// Most of the components have a single hot expression: save the map lookup for it
+				this.compiledExpression = new CompiledExpression((SpelExpression) expression, stats);
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Revert the expression to the interpreted mode if the exception is a failure of
+	 * its compiled form; then the evaluation has to be repeated via
+	 * {@link #evaluate(Expression, Function)}.
+	 * Otherwise, the exception is rethrown: unwrapped from the compiled expression failure
+	 * if its cause is unchecked, as the interpreter would throw it.
+	 * @param expression the expression which has failed.
+	 * @param exception the evaluation failure.
+	 */
+	public void revertOrRethrow(Expression expression, EvaluationException exception) {
+		if (expression instanceof SpelExpression spelExpression) {
+			Statistics stats = this.statistics.get(spelExpression);
+			if (stats != null && stats.revertOnFailure(spelExpression, exception)) {
+				return;
+			}
+		}
+		throw unwrap(exception);
+	}
+
+	/**
+	 * Return the evaluation statistics for the provided expression.
+	 * @param expression the expression.
+	 * @return the statistics or null if the expression is not a {@link SpelExpression}.
+	 */
+	@Nullable
+	public static Statistics getStatistics(@Nullable Expression expression) {
+		if (expression instanceof SpelExpression spelExpression) {
+			return statisticsFor(spelExpression);
+		}
+		return null;
+	}
+
+	private static Statistics statisticsFor(SpelExpression expression) {
+		STATISTICS_LOCK.lock();
+		try {
+			return STATISTICS.computeIfAbsent(expression, (key) -> new Statistics());
+		}
+		finally {
+			STATISTICS_LOCK.unlock();
+		}
+	}
+
+	private static RuntimeException unwrap(EvaluationException exception) {
+		if (exception instanceof SpelEvaluationException spelException
+				&& SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION.equals(spelException.getMessageCode())) {
+
+			Throwable cause = exception.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				return runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+		}
+		return exception;
+	}
+
+	/**
+	 * Return true if the failure comes from the generated accessor of a compiled expression
+	 * (or the SpEL support it calls) rather than from the code invoked by the expression.
+	 */
+	private static boolean isCompiledFormFailure(@Nullable Throwable cause) {
+		if (cause instanceof VerifyError) {
+			return true;
+		}
+		if (cause instanceof ClassCastException || cause instanceof IllegalStateException) {
+			StackTraceElement[] stackTrace = cause.getStackTrace();
+			if (stackTrace.length > 0) {
+				String className = stackTrace[0].getClassName();
+				return className.startsWith(COMPILED_EXPRESSION_PACKAGE) || className.startsWith(SPEL_PACKAGE);
+			}
+		}
+		return false;
+	}
+
+	private record CompiledExpression(SpelExpression expression, Statistics statistics) {
+
+	}
+
+	/**
+	 * The compilation state of an expression.
+	 */
+	public enum CompilationState {
+
+		/**
+		 * The expression is evaluated by the interpreter and has not reached the threshold yet.
+		 */
+		INTERPRETED,
+
+		/**
+		 * The expression is compiled.
+		 */
+		COMPILED,
+
+		/**
+		 * The expression cannot be compiled and is evaluated by the interpreter.
+		 */
+		NOT_COMPILABLE,
+
+		/**
+		 * The compiled expression failed and has been reverted to the interpreter.
+		 */
+		REVERTED
+
+	}
+
+	/**
+	 * The evaluation statistics and the compilation state of a single expression.
+	 */
+	public static final class Statistics {
+
+		private final AtomicInteger interpretedCount = new AtomicInteger();
+
+		private final AtomicInteger compileAttempts = new AtomicInteger();
+
+		private final LongAdder evaluationCount = new LongAdder();
+
+		private final LongAdder evaluationTime = new LongAdder();
+
+		private volatile CompilationState state = CompilationState.INTERPRETED;
+
+		Statistics() {
+		}
+
+		@Nullable
+		<T> T evaluate(SpelExpression expression, Function<Expression, T> evaluation, int compileThreshold) {
+			if (this.state == CompilationState.COMPILED) {
+				try {
+					return evaluation.apply(expression);
+				}
+				catch (SpelEvaluationException ex) {
+					if (!revertOnFailure(expression, ex)) {
+						throw unwrap(ex);
+					}
+				}
+			}
+			long start = System.nanoTime();
+			try {
+				T result = evaluation.apply(expression);
+				// The compiler relies on the types observed by the interpreter
+				if (this.state == CompilationState.INTERPRETED
+						&& this.interpretedCount.incrementAndGet() == Math.max(compileThreshold, 1)) {
+
+					compile(expression);
+				}
+				return result;
+			}
+			finally {
+				this.evaluationCount.increment();
+				this.evaluationTime.add(System.nanoTime() - start);
+			}
+		}
+
+		private void compile(SpelExpression expression) {
+			boolean compiled = false;
+			try {
+				compiled = expression.compileExpression();
+			}
+			catch (RuntimeException ex) {
+				LOGGER.debug("Failed to compile expression: " + expression.getExpressionString(), ex);
+			}
+			if (compiled) {
+				this.state = CompilationState.COMPILED;
+			}
+			else if (this.compileAttempts.incrementAndGet() < MAX_COMPILE_ATTEMPTS) {
+				// e.g. a not yet evaluated branch; try again after another threshold of evaluations
+				this.interpretedCount.set(0);
+			}
+			else {
+				this.state = CompilationState.NOT_COMPILABLE;
+			}
+		}
+
+		boolean revertOnFailure(SpelExpression expression, EvaluationException exception) {
+			if (this.state == CompilationState.COMPILED
+					&& exception instanceof SpelEvaluationException spelException
+					&& SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION.equals(spelException.getMessageCode())
+					&& isCompiledFormFailure(spelException.getCause())) {
+
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Reverting expression to the interpreted mode: "
+							+ expression.getExpressionString(), exception);
+				}
+				this.state = CompilationState.REVERTED;
+				expression.revertToInterpreted();
+				return true;
+			}
+			return false;
+		}
+
+		public CompilationState getState() {
+			return this.state;
+		}
+
+		/**
+		 * Return the number of interpreted evaluations.
+		 * @return the number of evaluations before the compilation or after the revert.
+		 */
+		public long getEvaluationCount() {
+			return this.evaluationCount.sum();
+		}
+
+		/**
+		 * Return the mean time of an interpreted evaluation.
+		 * @return the mean time in milliseconds.
+		 */
+		public double getMeanEvaluationTime() {
+			long count = this.evaluationCount.sum();
+			return count > 0 ? (double) this.evaluationTime.sum() / count / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+		}
+
+		@Override
+		public String toString() {
+			return "Statistics{" +
+					"state=" + this.state +
+					", evaluationCount=" + getEvaluationCount() +
+					", meanEvaluationTime=" + getMeanEvaluationTime() +
+					'}';
+		}
+
+	}
+
+}
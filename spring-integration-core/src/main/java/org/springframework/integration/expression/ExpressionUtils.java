@@ -106,6 +106,19 @@ public final class ExpressionUtils {
 		return (SimpleEvaluationContext) doCreateContext(beanFactory, true);
 	}
 
+	/**
+	 * Create an {@link ExpressionCompilationPolicy} according to the
+	 * {@link org.springframework.integration.context.IntegrationProperties#EXPRESSIONS_COMPILE_THRESHOLD}
+	 * global property obtained from the beanFactory.
+	 * @param beanFactory The bean factory.
+	 * @return The compilation policy.
+	 * @since 6.3
+	 */
+	public static ExpressionCompilationPolicy createCompilationPolicy(@Nullable BeanFactory beanFactory) {
+		return new ExpressionCompilationPolicy(
+				IntegrationContextUtils.getIntegrationProperties(beanFactory).getExpressionsCompileThreshold());
+	}
+
 	private static EvaluationContext doCreateContext(@Nullable BeanFactory beanFactory, boolean simple) {
 		ConversionService conversionService = null;
 		EvaluationContext evaluationContext = null;
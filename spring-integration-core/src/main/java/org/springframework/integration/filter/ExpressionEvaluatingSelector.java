@@ -39,19 +39,29 @@ public class ExpressionEvaluatingSelector extends AbstractMessageProcessingSelec
 	private static final ExpressionParser EXPRESSION_PARSER =
 			new SpelExpressionParser(new SpelParserConfiguration(true, true));
 
+	private final Expression expression;
+
 	private final String expressionString;
 
 	public ExpressionEvaluatingSelector(String expressionString) {
-		super(new ExpressionEvaluatingMessageProcessor<Boolean>(EXPRESSION_PARSER.parseExpression(expressionString),
-				Boolean.class));
-		this.expressionString = expressionString;
+		this(EXPRESSION_PARSER.parseExpression(expressionString));
 	}
 
 	public ExpressionEvaluatingSelector(Expression expression) {
 		super(new ExpressionEvaluatingMessageProcessor<Boolean>(expression, Boolean.class));
+		this.expression = expression;
 		this.expressionString = expression.getExpressionString();
 	}
 
+	/**
+	 * Return the expression evaluated by this selector.
+	 * Not public to avoid an ambiguity when the selector is used as a POJO target.
+	 * @return the expression.
+	 */
+	Expression getExpression() {
+		return this.expression;
+	}
+
 	public String getExpressionString() {
 		return this.expressionString;
 	}
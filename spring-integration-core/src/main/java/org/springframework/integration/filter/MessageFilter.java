@@ -64,6 +64,9 @@ public class MessageFilter extends AbstractReplyProducingPostProcessingMessageHa
 	public MessageFilter(MessageSelector selector) {
 		Assert.notNull(selector, "selector must not be null");
 		this.selector = selector;
+		if (selector instanceof ExpressionEvaluatingSelector expressionEvaluatingSelector) {
+			setPrimaryExpression(expressionEvaluatingSelector.getExpression());
+		}
 	}
 
 
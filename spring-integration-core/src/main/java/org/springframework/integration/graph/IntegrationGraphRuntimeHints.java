@@ -19,6 +19,7 @@ package org.springframework.integration.graph;
 import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
 import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.integration.expression.ExpressionCompilationPolicy;
 
 /**
  * The {@link RuntimeHintsRegistrar} implementation for {@link Graph}
@@ -42,7 +43,8 @@ class IntegrationGraphRuntimeHints implements RuntimeHintsRegistrar {
 						MessageGatewayNode.class,
 						MessageProducerNode.class,
 						MessageSourceNode.class,
-						PollableChannelNode.class);
+						PollableChannelNode.class,
+						ExpressionCompilationPolicy.Statistics.class);
 	}
 
 }
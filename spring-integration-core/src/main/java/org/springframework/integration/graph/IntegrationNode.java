@@ -24,6 +24,7 @@ import org.springframework.expression.Expression;
 import org.springframework.integration.IntegrationPattern;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.context.ExpressionCapable;
+import org.springframework.integration.expression.ExpressionCompilationPolicy;
 import org.springframework.integration.support.context.NamedComponent;
 import org.springframework.integration.support.management.IntegrationManagement;
 import org.springframework.lang.Nullable;
@@ -72,6 +73,10 @@ public abstract class IntegrationNode {
 			Expression expression = expressionCapable.getExpression();
 			if (expression != null) {
 				this.properties.put("expression", expression.getExpressionString());
+				ExpressionCompilationPolicy.Statistics statistics = ExpressionCompilationPolicy.getStatistics(expression);
+				if (statistics != null) {
+					this.properties.put("expressionStatistics", statistics);
+				}
 			}
 		}
 
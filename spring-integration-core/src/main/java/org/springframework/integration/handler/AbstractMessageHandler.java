@@ -16,11 +16,17 @@
 
 package org.springframework.integration.handler;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
 import io.micrometer.observation.ObservationRegistry;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
 
 import org.springframework.integration.history.MessageHistory;
+import org.springframework.integration.support.PartialSuccessException;
 import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.integration.support.management.metrics.SampleFacade;
 import org.springframework.integration.support.management.observation.DefaultMessageReceiverObservationConvention;
@@ -58,8 +64,8 @@ public abstract class AbstractMessageHandler extends MessageHandlerSupport
 	@Override // NOSONAR
 	public void handleMessage(Message<?> message) {
 		Assert.notNull(message, "Message must not be null");
-		if (isLoggingEnabled()) {
-			this.logger.debug(() -> this + " received message: " + message);
+		if (isLoggingEnabled() && this.logger.isDebugEnabled()) {
+			this.logger.debug(this + " received message: " + message);
 		}
 		if (isObserved()) {
 			handleWithObservation(message, getObservationRegistry());
@@ -110,6 +116,79 @@ public abstract class AbstractMessageHandler extends MessageHandlerSupport
 		}
 	}
 
+	/**
+	 * Handle a batch of messages on behalf of a {@link BatchMessageHandler} implementation.
+	 * The message history is written into each message, the batch is handed over to the
+	 * provided {@code batchHandler} and the handler metrics (if any) record the
+	 * whole batch as a single sample.
+	 * Not intended for an observed handler: an observation is per message, therefore the
+	 * {@link org.springframework.integration.endpoint.PollingConsumer} hands the messages
+	 * over one by one in that case.
+	 * @param messages the messages to handle.
+	 * @param batchHandler the actual handling of the batch by this handler.
+	 * @since 6.3
+	 */
+	protected void handleMessageBatch(List<Message<?>> messages, Consumer<List<Message<?>>> batchHandler) {
+		Assert.notEmpty(messages, "Messages must not be empty");
+		if (isLoggingEnabled() && this.logger.isDebugEnabled()) {
+			this.logger.debug(this + " received batch of " + messages.size() + " messages");
+		}
+		MetricsCaptor metricsCaptor = getMetricsCaptor();
+		if (metricsCaptor != null) {
+			SampleFacade sample = metricsCaptor.start();
+			try {
+				doHandleMessageBatch(messages, batchHandler);
+				sample.stop(sendTimer());
+			}
+			catch (RuntimeException ex) {
+				sample.stop(buildSendTimer(false, ex.getClass().getSimpleName()));
+				throw ex;
+			}
+		}
+		else {
+			doHandleMessageBatch(messages, batchHandler);
+		}
+	}
+
+	private void doHandleMessageBatch(List<Message<?>> messages, Consumer<List<Message<?>>> batchHandler) {
+		if (!shouldTrack()) {
+			batchHandler.accept(messages);
+			return;
+		}
+		List<Message<?>> messagesToUse = new ArrayList<>(messages.size());
+		for (Message<?> message : messages) {
+			messagesToUse.add(MessageHistory.write(message, this, getMessageBuilderFactory()));
+		}
+		try {
+			batchHandler.accept(messagesToUse);
+		}
+		catch (PartialSuccessException ex) {
+			// The caller correlates the result with the messages it has provided
+			throw new PartialSuccessException(
+					messages.get(indexOf(messagesToUse, ex.getFailedMessage())), ex.getMessage(), ex.getCause(),
+					originalMessages(messages, messagesToUse, ex.getPartialResults()), messages);
+		}
+	}
+
+	private static List<Message<?>> originalMessages(List<Message<?>> messages, List<Message<?>> messagesToUse,
+			Collection<?> handledMessages) {
+
+		List<Message<?>> originals = new ArrayList<>(handledMessages.size());
+		for (Object handled : handledMessages) {
+			originals.add(messages.get(indexOf(messagesToUse, handled)));
+		}
+		return originals;
+	}
+
+	private static int indexOf(List<Message<?>> messages, @Nullable Object message) {
+		for (int i = 0; i < messages.size(); i++) {
+			if (messages.get(i) == message) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("The message is not a part of the batch: " + message);
+	}
+
 	@Override
 	public void onSubscribe(Subscription subscription) {
 		Assert.notNull(subscription, "'subscription' must not be null");
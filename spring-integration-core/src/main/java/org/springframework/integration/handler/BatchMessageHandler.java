@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler;
+
+import java.util.List;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+
+/**
+ * A {@link MessageHandler} which can handle several messages at once,
+ * e.g. to amortize round-trips to the target system.
+ * <p>
+ * A {@link org.springframework.integration.endpoint.PollingConsumer} configured with a
+ * {@code batchSize} greater than {@code 1} drains up to {@code batchSize} messages from its
+ * {@link org.springframework.messaging.PollableChannel} (waiting up to the {@code batchTimeout}
+ * after the first message) and hands them over to {@link #handleMessages(List)} in one call.
+ * <p>
+ * If only some messages in the batch are handled, the implementation should throw a
+ * {@link org.springframework.integration.support.PartialSuccessException} with one of the failed
+ * messages as the {@code failedMessage}, the handled messages as the {@code partialResults}
+ * and the whole batch as the {@code derivedInput}.
+ *
+ * @since 6.3
+ */
+public interface BatchMessageHandler extends MessageHandler {
+
+	/**
+	 * Handle the batch of messages.
+	 * @param messages the messages to handle.
+	 */
+	void handleMessages(List<Message<?>> messages);
+
+	/**
+	 * Whether the batches of messages should be handed over to {@link #handleMessages(List)}
+	 * with the current configuration of this handler.
+	 * When {@code false}, the messages are handed over to the {@link #handleMessage(Message)} one by one.
+	 * @return true if this handler handles batches of messages.
+	 */
+	default boolean isBatchCapable() {
+		return true;
+	}
+
+}
@@ -42,11 +42,13 @@ import org.springframework.expression.Expression;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.expression.ExpressionUtils;
+import org.springframework.integration.scheduling.DelayScheduler;
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
 import org.springframework.integration.store.SimpleMessageStore;
 import org.springframework.integration.support.management.IntegrationManagedResource;
 import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
@@ -92,6 +94,11 @@ import org.springframework.util.ObjectUtils;
  * After application restart the bean may get a different generated name and its delayed
  * messages might be lost from reschedule since its group is not managed
  * by the application anymore.
+ * <p>
+ * By default, each delayed message is scheduled as a separate task on the {@link TaskScheduler}.
+ * Starting with version 6.3, a {@link DelayScheduler} can be provided instead, e.g. a
+ * {@link org.springframework.integration.scheduling.HashedWheelDelayScheduler} to release
+ * a large number of delayed messages in batches per tick of a timing wheel.
  *
  * @author Mark Fisher
  * @author Artem Bilan
@@ -139,6 +146,9 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 	private long retryDelay = DEFAULT_RETRY_DELAY;
 
+	@Nullable
+	private DelayScheduler delayScheduler;
+
 	/**
 	 * Construct an instance with default options.
 	 * The {@link #messageGroupId} must then be provided via the setter.
@@ -305,6 +315,19 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 		this.retryDelay = retryDelay;
 	}
 
+	/**
+	 * Set a {@link DelayScheduler} to schedule the release of delayed messages,
+	 * including the ones rescheduled from the message store on startup.
+	 * By default, a task per message is scheduled on the {@link #getTaskScheduler()}.
+	 * @param delayScheduler the {@link DelayScheduler} to use.
+	 * @since 6.3
+	 * @see org.springframework.integration.scheduling.HashedWheelDelayScheduler
+	 */
+	public void setDelayScheduler(DelayScheduler delayScheduler) {
+		Assert.notNull(delayScheduler, "'delayScheduler' must not be null");
+		this.delayScheduler = delayScheduler;
+	}
+
 	private MessageChannel getErrorChannel() {
 		if (this.delayedMessageErrorChannel != null) {
 			return this.delayedMessageErrorChannel;
@@ -469,16 +492,28 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 						@Override
 						public void afterCommit() {
-							getTaskScheduler().schedule(releaseTask, startTime);
+							schedule(releaseTask, startTime);
 						}
 
 					});
 		}
 		else {
-			getTaskScheduler().schedule(releaseTask, startTime);
+			schedule(releaseTask, startTime);
 		}
 	}
 
+	private void schedule(Runnable task, Instant startTime) {
+		obtainDelayScheduler().schedule(task, startTime);
+	}
+
+	/**
+	 * Return the {@link #setDelayScheduler(DelayScheduler) delayScheduler}, if provided,
+	 * or the {@link #getTaskScheduler()} otherwise.
+	 */
+	private DelayScheduler obtainDelayScheduler() {
+		return this.delayScheduler != null ? this.delayScheduler : getTaskScheduler()::schedule;
+	}
+
 	private Runnable releaseTaskForMessage(Message<?> delayedMessage) {
 		if (this.messageStore instanceof SimpleMessageStore) {
 			return () -> releaseMessage(delayedMessage);
@@ -564,7 +599,7 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 	protected void rescheduleAt(Message<?> message, Date startTime) {
 		Runnable releaseTask = releaseTaskForMessage(message);
-		getTaskScheduler().schedule(releaseTask, startTime.toInstant());
+		schedule(releaseTask, startTime.toInstant());
 	}
 
 	private void doReleaseMessage(Message<?> message) {
@@ -589,6 +624,12 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 	 * upon application restart. The logic is based on iteration over
 	 * {@code messageGroup.getMessages()} and schedules task for 'delay' logic. This
 	 * behavior is dictated by the avoidance of invocation thread overload.
+	 * Without a {@code delayExpression}, the release of each message is scheduled
+	 * directly at its original time (the request date plus the {@code defaultDelay}),
+	 * so with a {@link #setDelayScheduler(DelayScheduler) delayScheduler} like the
+	 * {@link org.springframework.integration.scheduling.HashedWheelDelayScheduler}
+	 * the recovered messages are spread across the wheel ticks instead of flooding the
+	 * {@link TaskScheduler} with a task per persisted message.
 	 */
 	@Override
 	public void reschedulePersistedMessages() {
@@ -596,9 +637,15 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 		try {
 			MessageGroup messageGroup = this.messageStore.getMessageGroup(this.messageGroupId);
 			try (Stream<Message<?>> messageStream = messageGroup.streamMessages()) {
-				TaskScheduler taskScheduler = getTaskScheduler();
-				messageStream.forEach((message) -> // NOSONAR
-						taskScheduler.schedule(() -> {
+				DelayScheduler scheduler = obtainDelayScheduler();
+				messageStream.forEach((message) -> { // NOSONAR
+					if (this.delayExpression == null && message.getPayload() instanceof DelayedMessageWrapper wrapper) {
+						// The release time does not depend on an evaluation: keep the original one
+						scheduler.schedule(releaseTaskForMessage(message),
+								Instant.ofEpochMilli(wrapper.getRequestDate()).plusMillis(this.defaultDelay));
+					}
+					else {
+						scheduler.schedule(() -> {
 							// This is fine to keep the reference to the message,
 							// because the scheduled task is performed immediately.
 							long delay = determineDelayForMessage(message);
@@ -608,7 +655,9 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 							else {
 								releaseMessage(message);
 							}
-						}, Instant.now()));
+						}, Instant.now());
+					}
+				});
 			}
 		}
 		finally {
@@ -78,6 +78,14 @@ public class ExpressionCommandMessageProcessor extends AbstractMessageProcessor<
 		}
 	}
 
+	/**
+	 * The command expressions come from the messages, so they are not compiled.
+	 */
+	@Override
+	protected boolean isExpressionCompilationSupported() {
+		return false;
+	}
+
 	@Override
 	public IntegrationPatternType getIntegrationPatternType() {
 		return IntegrationPatternType.control_bus;
@@ -23,14 +23,19 @@ import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.springframework.aop.support.AopUtils;
 import org.springframework.context.Lifecycle;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.core.MessageProducer;
+import org.springframework.integration.history.MessageHistory;
 import org.springframework.integration.support.management.ManageableLifecycle;
+import org.springframework.integration.support.utils.IntegrationUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * A composite {@link MessageHandler} implementation that invokes a chain of
@@ -50,6 +55,10 @@ import org.springframework.util.Assert;
  * <p>
  * This component can be used from the namespace to improve the readability of
  * the configuration by removing channels that can be created implicitly.
+ * <p>
+ * In the {@link #setFused(boolean) fused} mode, the
+ * {@link AbstractReplyProducingMessageHandler}s of the chain are invoked directly
+ * one after another, without the internal output channels between them.
  *
  * <pre class="code">
  * {@code
@@ -78,6 +87,11 @@ public class MessageHandlerChain extends AbstractMessageProducingHandler
 
 	private List<MessageHandler> handlers;
 
+	private boolean fused;
+
+	@Nullable
+	private AbstractReplyProducingMessageHandler[] fusedHandlers;
+
 	private volatile boolean initialized;
 
 	private volatile boolean running;
@@ -86,6 +100,25 @@ public class MessageHandlerChain extends AbstractMessageProducingHandler
 		this.handlers = new LinkedList<>(handlers);
 	}
 
+	/**
+	 * Set to true to invoke the {@link AbstractReplyProducingMessageHandler}s of the chain
+	 * directly: the reply of such a handler is built into a message and passed to the next one
+	 * without an output channel send and without the per-handler
+	 * {@link MessageHandler#handleMessage(Message)} processing.
+	 * Handlers which are async, advised, observed or with metrics enabled,
+	 * as well as replies to be split, are processed in the regular way.
+	 * The per-handler debug logging of received messages is not performed for fused handlers.
+	 * @param fused true to fuse the handlers.
+	 * @since 6.3
+	 */
+	public void setFused(boolean fused) {
+		this.fused = fused;
+	}
+
+	public boolean isFused() {
+		return this.fused;
+	}
+
 	@Override
 	public List<MessageHandler> getHandlers() {
 		return Collections.unmodifiableList(this.handlers);
@@ -120,16 +153,26 @@ public class MessageHandlerChain extends AbstractMessageProducingHandler
 	private void configureChain() {
 		Assert.isTrue(this.handlers.size() == new HashSet<>(this.handlers).size(),
 				"duplicate handlers are not allowed in a chain");
+		this.fusedHandlers = this.fused ? new AbstractReplyProducingMessageHandler[this.handlers.size()] : null;
 		for (int i = 0; i < this.handlers.size(); i++) {
 			MessageHandler handler = this.handlers.get(i);
+			if (this.fusedHandlers != null && isFusible(handler)) {
+				this.fusedHandlers[i] = (AbstractReplyProducingMessageHandler) handler;
+			}
 			if (i < this.handlers.size() - 1) { // not the last handler
 				Assert.isInstanceOf(MessageProducer.class, handler, "All handlers except for " +
 						"the last one in the chain must implement the MessageProducer interface.");
 
 				MessageHandler nextHandler = this.handlers.get(i + 1);
+				int nextIndex = i + 1;
 				MessageChannel nextChannel =
 						(message, timeout) -> {
-							nextHandler.handleMessage(message);
+							if (this.fusedHandlers != null) {
+								handleFused(message, nextIndex);
+							}
+							else {
+								nextHandler.handleMessage(message);
+							}
 							return true;
 						};
 
@@ -154,12 +197,88 @@ public class MessageHandlerChain extends AbstractMessageProducingHandler
 		}
 	}
 
+	private static boolean isFusible(MessageHandler handler) {
+		if (!(handler instanceof AbstractReplyProducingMessageHandler) || AopUtils.isAopProxy(handler)) {
+			return false;
+		}
+		Class<?> handlerClass = handler.getClass();
+		return isNotOverridden(handlerClass, AbstractMessageHandler.class, "handleMessage", Message.class)
+				&& isNotOverridden(handlerClass, AbstractMessageProducingHandler.class, "sendOutputs",
+				Object.class, Message.class)
+				&& isNotOverridden(handlerClass, AbstractMessageProducingHandler.class, "produceOutput",
+				Object.class, Message.class);
+	}
+
+	private static boolean isNotOverridden(Class<?> handlerClass, Class<?> declaringClass, String methodName,
+			Class<?>... parameterTypes) {
+
+		return declaringClass.equals(
+				ReflectionUtils.findMethod(handlerClass, methodName, parameterTypes).getDeclaringClass());
+	}
+
 	@Override
 	protected void handleMessageInternal(Message<?> message) {
 		if (!this.initialized) {
 			onInit();
 		}
-		this.handlers.get(0).handleMessage(message);
+		if (this.fusedHandlers != null) {
+			handleFused(message, 0);
+		}
+		else {
+			this.handlers.get(0).handleMessage(message);
+		}
+	}
+
+	private void handleFused(Message<?> message, int startIndex) {
+		AbstractReplyProducingMessageHandler[] fusedHandlersToUse = this.fusedHandlers;
+		Message<?> current = message;
+		int last = fusedHandlersToUse.length - 1;
+		for (int i = startIndex; current != null && i <= last; i++) {
+			AbstractReplyProducingMessageHandler handler = fusedHandlersToUse[i];
+			if (handler == null || handler.isAsync() || handler.hasAdviceChain() || handler.isObserved()
+					|| handler.getMetricsCaptor() != null) {
+
+				// The rest of the chain is continued from this handler output channel
+				this.handlers.get(i).handleMessage(current);
+				return;
+			}
+			current = invokeFused(handler, current, i == last);
+		}
+	}
+
+	@Nullable
+	private Message<?> invokeFused(AbstractReplyProducingMessageHandler handler, Message<?> message,
+			boolean last) {
+
+		Message<?> requestMessage = message;
+		try {
+			if (handler.shouldTrack()) {
+				requestMessage = MessageHistory.write(requestMessage, handler, getMessageBuilderFactory());
+			}
+			Object result = handler.handleRequestMessage(requestMessage);
+			if (result == null) {
+				if (handler.getRequiresReply()) {
+					throw new ReplyRequiredException(requestMessage, "No reply produced by handler '" +
+							handler.getComponentName() + "', and its 'requiresReply' property is set to true.");
+				}
+				return null;
+			}
+			if (result instanceof Iterable<?> iterable && handler.shouldSplitOutput(iterable)) {
+				// The split replies are sent to the rest of the chain via the output channel
+				handler.sendOutputs(result, requestMessage);
+				return null;
+			}
+			Message<?> outputMessage = handler.createOutputMessage(result, requestMessage.getHeaders());
+			if (last) {
+				produceOutput(outputMessage, outputMessage);
+				return null;
+			}
+			return outputMessage;
+		}
+		catch (Exception ex) {
+			throw IntegrationUtils.wrapInHandlingExceptionIfNecessary(requestMessage,
+					() -> "error occurred in message handler [" + handler + "]", ex);
+		}
 	}
 
 	@Override
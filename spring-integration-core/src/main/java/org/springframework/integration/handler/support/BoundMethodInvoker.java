@@ -0,0 +1,271 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.KotlinDetector;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Headers;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * An invoker for handler methods with simple signatures, which binds the method and the
+ * argument extraction plan once, instead of resolving the arguments through the
+ * {@link org.springframework.messaging.handler.invocation.InvocableHandlerMethod}
+ * argument resolvers on each call.
+ * <p>
+ * The supported parameters are:
+ * <ul>
+ * <li>a {@link Message} (the payload must be an instance of its generic type);
+ * <li>a {@link MessageHeaders} or a {@link Headers @Headers} {@link Map};
+ * <li>a {@link Header @Header} with an explicit or discoverable name;
+ * <li>a single payload parameter, un-annotated or with a plain {@link Payload @Payload}.
+ * </ul>
+ * When an argument cannot be extracted as is (e.g. the payload is empty or not an instance
+ * of the parameter type, or a header is missing), the {@link #invoke(Message)}
+ * returns {@link #NOT_INVOKED} and the caller must fall back to the regular invocation.
+ * <p>
+ * The method is invoked via a {@link MethodHandle}; in a native image, where the method
+ * handles for arbitrary methods are not available without additional metadata, it is
+ * invoked reflectively, relying on the same reflection hints as the regular invocation.
+ *
+ * @since 6.3
+ */
+final class BoundMethodInvoker {
+
+	/**
+	 * The marker result for an invocation which has to be performed in a regular way.
+	 */
+	static final Object NOT_INVOKED = new Object();
+
+	private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+	private final Object target;
+
+	private final Method method;
+
+	@Nullable
+	private final MethodHandle methodHandle;
+
+	private final Function<Message<?>, Object>[] arguments;
+
+	private BoundMethodInvoker(Object target, Method method, @Nullable MethodHandle methodHandle,
+			Function<Message<?>, Object>[] arguments) {
+
+		this.target = target;
+		this.method = method;
+		this.methodHandle = methodHandle;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * Invoke the method with the arguments extracted from the message.
+	 * @param message the message.
+	 * @return the result of the method or {@link #NOT_INVOKED}.
+	 * @throws Exception the exception thrown by the method.
+	 */
+	@Nullable
+	Object invoke(Message<?> message) throws Exception {
+		Object[] args = new Object[this.arguments.length];
+		for (int i = 0; i < args.length; i++) {
+			Object arg = this.arguments[i].apply(message);
+			if (arg == NOT_INVOKED) {
+				return NOT_INVOKED;
+			}
+			args[i] = arg;
+		}
+		if (this.methodHandle != null) {
+			try {
+				return (Object) this.methodHandle.invokeExact(args);
+			}
+			catch (Exception | Error ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new IllegalStateException("Invocation failure for: " + this.method, ex);
+			}
+		}
+		try {
+			return this.method.invoke(this.target, args);
+		}
+		catch (InvocationTargetException ex) {
+			Throwable targetException = ex.getTargetException();
+			if (targetException instanceof Exception exception) {
+				throw exception;
+			}
+			if (targetException instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Invocation failure for: " + this.method, targetException);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "BoundMethodInvoker for: " + this.method;
+	}
+
+	/**
+	 * Create an invoker for the method if its signature is supported.
+	 * @param target the target object.
+	 * @param method the method to invoke.
+	 * @return the invoker or null if the method has to be invoked in a regular way.
+	 */
+	@Nullable
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static BoundMethodInvoker create(Object target, Method method) {
+		Method bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
+		if (KotlinDetector.isSuspendingFunction(bridgedMethod)) {
+			return null;
+		}
+		int parameterCount = bridgedMethod.getParameterCount();
+		Function<Message<?>, Object>[] arguments = new Function[parameterCount];
+		boolean payloadBound = false;
+		for (int i = 0; i < parameterCount; i++) {
+			MethodParameter parameter = new MethodParameter(bridgedMethod, i);
+			parameter.initParameterNameDiscovery(PARAMETER_NAME_DISCOVERER);
+			boolean payload = isPayload(parameter);
+			Function<Message<?>, Object> argument = payload ? payloadArgument(parameter) : argument(parameter);
+			if (argument == null || (payload && payloadBound)) {
+				return null;
+			}
+			payloadBound |= payload;
+			arguments[i] = argument;
+		}
+		try {
+			ReflectionUtils.makeAccessible(bridgedMethod);
+			MethodHandle methodHandle = null;
+			if (!NativeDetector.inNativeImage()) {
+				methodHandle = MethodHandles.lookup().unreflect(bridgedMethod);
+				if (!Modifier.isStatic(bridgedMethod.getModifiers())) {
+					methodHandle = methodHandle.bindTo(target);
+				}
+				methodHandle =
+						methodHandle.asType(MethodType.genericMethodType(parameterCount))
+								.asSpreader(Object[].class, parameterCount);
+			}
+			return new BoundMethodInvoker(target, bridgedMethod, methodHandle, arguments);
+		}
+		catch (RuntimeException | IllegalAccessException ex) {
+			// Not accessible for this module or not a method of the target: invoke in a regular way
+			return null;
+		}
+	}
+
+	private static boolean isPayload(MethodParameter parameter) {
+		if (parameter.hasParameterAnnotation(Payload.class)) {
+			return true;
+		}
+		Class<?> parameterType = parameter.getParameterType();
+		return parameter.getParameterAnnotations().length == 0
+				&& !Message.class.isAssignableFrom(parameterType)
+				&& !MessageHeaders.class.equals(parameterType);
+	}
+
+	@Nullable
+	private static Function<Message<?>, Object> payloadArgument(MethodParameter parameter) {
+		Class<?> parameterType = parameter.getParameterType();
+		Payload payload = parameter.getParameterAnnotation(Payload.class);
+		if ((payload != null
+				&& (StringUtils.hasText(payload.value()) || StringUtils.hasText(payload.expression())
+				|| parameter.getParameterAnnotations().length > 1))
+				|| Map.class.isAssignableFrom(parameterType)
+				|| Optional.class.equals(parameterType)) {
+
+			return null;
+		}
+		Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(parameterType);
+		return (message) -> {
+			Object value = message.getPayload();
+			return type.isInstance(value) && !isEmptyPayload(value) ? value : NOT_INVOKED;
+		};
+	}
+
+	/**
+	 * Empty payloads are rejected or turned to null by the payload argument resolvers.
+	 * @see org.springframework.integration.support.NullAwarePayloadArgumentResolver
+	 */
+	private static boolean isEmptyPayload(Object payload) {
+		return (payload instanceof String string && !StringUtils.hasText(string))
+				|| (payload instanceof byte[] bytes && bytes.length == 0)
+				|| "KafkaNull".equals(payload.getClass().getSimpleName());
+	}
+
+	@Nullable
+	private static Function<Message<?>, Object> argument(MethodParameter parameter) {
+		Class<?> parameterType = parameter.getParameterType();
+		if (parameter.getParameterAnnotations().length > 1) {
+			return null;
+		}
+		if (Message.class.isAssignableFrom(parameterType)) {
+			if (parameter.getParameterAnnotations().length > 0) {
+				return null;
+			}
+			Class<?> payloadType =
+					ResolvableType.forMethodParameter(parameter).as(Message.class).getGeneric().toClass();
+			return (message) ->
+					parameterType.isInstance(message) && payloadType.isInstance(message.getPayload())
+							? message
+							: NOT_INVOKED;
+		}
+		if (MessageHeaders.class.equals(parameterType)
+				|| (parameter.hasParameterAnnotation(Headers.class)
+				&& parameterType.isAssignableFrom(MessageHeaders.class))) {
+
+			return Message::getHeaders;
+		}
+		Header header = parameter.getParameterAnnotation(Header.class);
+		if (header != null && !Optional.class.equals(parameterType)) {
+			String headerName = StringUtils.hasText(header.value()) ? header.value() : header.name();
+			if (!StringUtils.hasText(headerName)) {
+				headerName = parameter.getParameterName();
+			}
+			if (headerName == null || headerName.contains("${") || headerName.contains("#{")) {
+				return null;
+			}
+			String name = headerName;
+			Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(parameterType);
+			return (message) -> {
+				Object value = message.getHeaders().get(name);
+				return type.isInstance(value) ? value : NOT_INVOKED;
+			};
+		}
+		return null;
+	}
+
+}
@@ -354,6 +354,14 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 		}
 	}
 
+	/**
+	 * The SpEL invoker compilation is controlled by the {@link UseSpelInvoker#compilerMode()}.
+	 */
+	@Override
+	protected boolean isExpressionCompilationSupported() {
+		return false;
+	}
+
 	@Nullable
 	public Object process(Message<?> message) {
 		ParametersWrapper parameters = new ParametersWrapper(message);
@@ -559,6 +567,11 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 		candidate.expression = parser.parseExpression(candidate.expressionString);
 		if (!this.useSpelInvoker && !candidate.spelOnly) {
 			candidate.setInvocableHandlerMethod(createInvocableHandlerMethod(candidate.method));
+			if (!this.canProcessMessageList
+					&& IntegrationMessageHandlerMethodFactory.class.equals(this.messageHandlerMethodFactory.getClass())) {
+
+				candidate.boundMethodInvoker = BoundMethodInvoker.create(this.targetObject, candidate.method);
+			}
 		}
 		candidate.initialized = true;
 	}
@@ -1045,6 +1058,9 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 
 		private InvocableHandlerMethod invocableHandlerMethod;
 
+		@Nullable
+		private BoundMethodInvoker boundMethodInvoker;
+
 		private Expression expression;
 
 		private TypeDescriptor targetParameterTypeDescriptor;
@@ -1083,7 +1099,13 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 				message = new MutableMessage<>(parameters.getMessages(), parameters.getHeaders());
 			}
 			try {
-				Object result = this.invocableHandlerMethod.invoke(message);
+				Object result = BoundMethodInvoker.NOT_INVOKED;
+				if (this.boundMethodInvoker != null) {
+					result = this.boundMethodInvoker.invoke(message);
+				}
+				if (result == BoundMethodInvoker.NOT_INVOKED) {
+					result = this.invocableHandlerMethod.invoke(message);
+				}
 				if (result != null
 						&& org.springframework.integration.util.ClassUtils.isKotlinUnit(result.getClass())) {
 
@@ -16,16 +16,22 @@
 
 package org.springframework.integration.history;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import org.apache.commons.logging.Log;
@@ -43,8 +49,18 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
 
 /**
+ * The immutable history of components a message has passed through, stored
+ * in the {@link #HEADER_NAME} message header.
+ * <p>
+ * Starting with version 6.3, the history is a persistent linked chain of nodes with
+ * interned component names and types and primitive timestamps: a {@link #write}
+ * prepends a single node sharing the rest of the chain with the previous history.
+ * The {@link List} of {@link Properties} view is materialized lazily on first access.
+ *
  * @author Mark Fisher
  * @author Artem Bilan
  * @author Gary Russell
@@ -72,7 +88,18 @@ public final class MessageHistory implements List<Properties>, Serializable {
 	private static final MessageBuilderFactory MESSAGE_BUILDER_FACTORY = new DefaultMessageBuilderFactory();
 
 
-	private final List<Properties> components;
+	/**
+	 * The most recent node of the persistent history chain.
+	 * The previous nodes are shared with the histories of upstream messages.
+	 */
+	private transient Node last;
+
+	/**
+	 * The {@link Properties} view of the chain; materialized on first access.
+	 * This is also the only state of the serialized form.
+	 */
+	@Nullable
+	private volatile List<Properties> components;
 
 	@Nullable
 	public static MessageHistory read(@Nullable Message<?> message) {
@@ -92,15 +119,12 @@ public final class MessageHistory implements List<Properties>, Serializable {
 		Message<T> message = messageArg;
 		Assert.notNull(message, "Message must not be null");
 		Assert.notNull(component, "Component must not be null");
-		Properties metadata = extractMetadata(component);
-		if (!metadata.isEmpty()) {
+		TrackedComponent trackedComponent = TrackedComponent.of(component);
+		if (trackedComponent != null) {
 			MessageHistory previousHistory = message.getHeaders().get(HEADER_NAME, MessageHistory.class);
-			List<Properties> components =
-					previousHistory != null
-							? new ArrayList<>(previousHistory)
-							: new ArrayList<>();
-			components.add(metadata);
-			MessageHistory history = new MessageHistory(components);
+			Node previous = previousHistory != null ? previousHistory.last : null;
+			MessageHistory history =
+					new MessageHistory(new Node(previous, trackedComponent, System.currentTimeMillis()));
 
 			if (message instanceof MutableMessage) {
 				message.getHeaders().put(HEADER_NAME, history);
@@ -144,76 +168,80 @@ public final class MessageHistory implements List<Properties>, Serializable {
 		return message;
 	}
 
+	/**
+	 * The only constructor, also used for deserialization from a plain list of {@link Properties}.
+	 * A {@link Node} argument is the chain built by the {@link #write} operation.
+	 * @param components the history components.
+	 */
 	@JsonCreator
 	private MessageHistory(List<Properties> components) {
 		Assert.notEmpty(components, "component list must not be empty");
-		this.components = components;
+		this.last = components instanceof Node node ? node : Node.of(components);
 	}
 
-
 	@Override
 	public int size() {
-		return this.components.size();
+		return this.last.size;
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return this.components.isEmpty();
+		return false;
 	}
 
 	@Override
 	public boolean contains(Object o) {
-		return this.components.contains(o);
+		return getComponents().contains(o);
 	}
 
 	@Override
 	public boolean containsAll(Collection<?> c) {
-		return this.components.containsAll(c);
+		return getComponents().containsAll(c);
 	}
 
 	@Override
 	public Properties get(int index) {
-		return this.components.get(index);
+		return getComponents().get(index);
 	}
 
 	@Override
 	public Iterator<Properties> iterator() {
-		return Collections.unmodifiableList(this.components).iterator();
+		return getComponents().iterator();
 	}
 
 	@Override
 	public ListIterator<Properties> listIterator() {
-		return Collections.unmodifiableList(this.components).listIterator();
+		return getComponents().listIterator();
 	}
 
 	@Override
 	public ListIterator<Properties> listIterator(int index) {
-		return Collections.unmodifiableList(this.components).listIterator(index);
+		return getComponents().listIterator(index);
 	}
 
 	@Override
 	public List<Properties> subList(int fromIndex, int toIndex) {
-		return Collections.unmodifiableList(this.components).subList(fromIndex, toIndex);
+		return getComponents().subList(fromIndex, toIndex);
 	}
 
 	@Override
 	public Object[] toArray() {
-		return this.components.toArray();
+		return getComponents().toArray();
 	}
 
 	@Override
 	public <T> T[] toArray(T[] a) {
-		return this.components.toArray(a);
+		return getComponents().toArray(a);
 	}
 
 	@Override
 	public int indexOf(Object o) {
-		return this.components.indexOf(o);
+		return getComponents().indexOf(o);
 	}
 
 	@Override
 	public int lastIndexOf(Object o) {
-		return this.components.lastIndexOf(o);
+		return getComponents().lastIndexOf(o);
 	}
 
 	@Override
@@ -225,20 +253,60 @@ public final class MessageHistory implements List<Properties>, Serializable {
 			return false;
 		}
 		MessageHistory that = (MessageHistory) o;
-		return this.components.equals(that.components);
+		if (this.last.size != that.last.size) {
+			return false;
+		}
+		// Walk both chains until they converge on a shared node, without materializing the entries
+		for (Node node = this.last, other = that.last; node != other; node = node.previous, other = other.previous) {
+			if (!node.isSameEntry(other)) { // NOSONAR never null with the same size
+				return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.components);
+		return Objects.hash(getComponents());
 	}
 
 	@Override
 	public String toString() {
-		return this.components
-				.stream()
-				.map((props) -> props.getProperty(NAME_PROPERTY))
-				.collect(Collectors.joining(","));
+		String[] names = new String[this.last.size];
+		for (Node node = this.last; node != null; node = node.previous) {
+			names[node.size - 1] = node.getName();
+		}
+		return String.join(",", names);
+	}
+
+	private List<Properties> getComponents() {
+		List<Properties> view = this.components;
+		if (view == null) {
+			Properties[] entries = new Properties[this.last.size];
+			for (Node node = this.last; node != null; node = node.previous) {
+				entries[node.size - 1] = node.toProperties();
+			}
+			view = Collections.unmodifiableList(Arrays.asList(entries));
+			this.components = view;
+		}
+		return view;
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// Keep the serialized form of the previous versions: an ArrayList of the components
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("components", new ArrayList<>(getComponents()));
+		out.writeFields();
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		List<Properties> properties = this.components;
+		if (properties == null || properties.isEmpty()) {
+			throw new InvalidObjectException("component list must not be empty");
+		}
+		this.components = Collections.unmodifiableList(properties);
+		this.last = Node.of(properties);
 	}
 
 
@@ -297,22 +365,6 @@ public final class MessageHistory implements List<Properties>, Serializable {
 	}
 
 
-	private static Properties extractMetadata(NamedComponent component) {
-		Entry entry = new Entry();
-		String name = component.getComponentName();
-		String type = component.getComponentType();
-		if (name != null && !name.startsWith("org.springframework.integration")) {
-			entry.setName(name);
-			if (type != null) {
-				entry.setType(type);
-			}
-		}
-		if (!entry.isEmpty()) {
-			entry.setTimestamp(Long.toString(System.currentTimeMillis()));
-		}
-		return entry;
-	}
-
 	/**
 	 * Inner class for each Entry in the history.
 	 */
@@ -346,4 +398,117 @@ public final class MessageHistory implements List<Properties>, Serializable {
 
 	}
 
+	/**
+	 * The name and type of a tracked component; interned by the component name,
+	 * so the history nodes for the same component share an instance.
+	 */
+	private record TrackedComponent(String name, @Nullable String type) {
+
+		private static final Map<String, TrackedComponent> INTERNED = new ConcurrentReferenceHashMap<>();
+
+		@Nullable
+		static TrackedComponent of(NamedComponent component) {
+			String name = component.getComponentName();
+			if (name == null || name.startsWith("org.springframework.integration")) {
+				return null;
+			}
+			String type = component.getComponentType();
+			TrackedComponent trackedComponent = INTERNED.get(name);
+			if (trackedComponent == null || !ObjectUtils.nullSafeEquals(trackedComponent.type, type)) {
+				trackedComponent = new TrackedComponent(name, type);
+				INTERNED.put(name, trackedComponent);
+			}
+			return trackedComponent;
+		}
+
+	}
+
+	/**
+	 * An immutable node of the persistent history chain pointing to the previous one.
+	 * Represented as a {@link List} only to be accepted by the {@link MessageHistory} constructor.
+	 */
+	private static final class Node extends AbstractList<Properties> {
+
+		@Nullable
+		private final Node previous;
+
+		private final int size;
+
+		@Nullable
+		private final TrackedComponent component;
+
+		private final long timestamp;
+
+		@Nullable
+		private final Properties properties;
+
+		Node(@Nullable Node previous, TrackedComponent component, long timestamp) {
+			this.previous = previous;
+			this.size = previous != null ? previous.size + 1 : 1;
+			this.component = component;
+			this.timestamp = timestamp;
+			this.properties = null;
+		}
+
+		Node(@Nullable Node previous, Properties properties) {
+			this.previous = previous;
+			this.size = previous != null ? previous.size + 1 : 1;
+			this.component = null;
+			this.timestamp = 0;
+			this.properties = properties;
+		}
+
+		static Node of(List<Properties> components) {
+			Node node = null;
+			for (Properties properties : components) {
+				node = new Node(node, properties);
+			}
+			Assert.state(node != null, "component list must not be empty");
+			return node;
+		}
+
+		boolean isSameEntry(Node other) {
+			if (this.component != null && other.component != null) {
+				return this.component.equals(other.component) && this.timestamp == other.timestamp;
+			}
+			return toProperties().equals(other.toProperties());
+		}
+
+		String getName() {
+			return this.component != null
+					? this.component.name()
+					: this.properties.getProperty(NAME_PROPERTY); // NOSONAR never null
+		}
+
+		Properties toProperties() {
+			if (this.properties != null) {
+				return this.properties;
+			}
+			Entry entry = new Entry();
+			entry.setName(this.component.name()); // NOSONAR never null
+			String type = this.component.type();
+			if (type != null) {
+				entry.setType(type);
+			}
+			entry.setTimestamp(Long.toString(this.timestamp));
+			return entry;
+		}
+
+		@Override
+		public Properties get(int index) {
+			Assert.isTrue(index >= 0 && index < this.size, () -> "Index out of bounds: " + index);
+			Node node = this;
+			for (int i = this.size - 1; i > index; i--) {
+				node = node.previous; // NOSONAR never null
+			}
+			return node.toProperties();
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+	}
+
 }
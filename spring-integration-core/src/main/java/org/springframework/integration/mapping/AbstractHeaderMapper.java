@@ -31,6 +31,8 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.core.ResolvableType;
 import org.springframework.integration.mapping.support.JsonHeaders;
+import org.springframework.integration.support.utils.CompiledPatternSet;
+import org.springframework.integration.support.utils.NameMatchCache;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHeaders;
@@ -102,8 +104,10 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 		this.standardHeaderPrefix = standardHeaderPrefix;
 		this.requestHeaderNames = requestHeaderNames;
 		this.replyHeaderNames = replyHeaderNames;
-		this.requestHeaderMatcher = createDefaultHeaderMatcher(this.standardHeaderPrefix, this.requestHeaderNames);
-		this.replyHeaderMatcher = createDefaultHeaderMatcher(this.standardHeaderPrefix, this.replyHeaderNames);
+		this.requestHeaderMatcher = new CachingHeaderMatcher(
+				createDefaultHeaderMatcher(this.standardHeaderPrefix, this.requestHeaderNames));
+		this.replyHeaderMatcher = new CachingHeaderMatcher(
+				createDefaultHeaderMatcher(this.standardHeaderPrefix, this.replyHeaderNames));
 	}
 
 	@Override
@@ -123,7 +127,7 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 	 */
 	public void setRequestHeaderNames(String... requestHeaderNames) {
 		Assert.notNull(requestHeaderNames, "'requestHeaderNames' must not be null");
-		this.requestHeaderMatcher = createHeaderMatcher(Arrays.asList(requestHeaderNames));
+		this.requestHeaderMatcher = new CachingHeaderMatcher(createHeaderMatcher(Arrays.asList(requestHeaderNames)));
 	}
 
 	/**
@@ -134,7 +138,7 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 	 */
 	public void setReplyHeaderNames(String... replyHeaderNames) {
 		Assert.notNull(replyHeaderNames, "'replyHeaderNames' must not be null");
-		this.replyHeaderMatcher = createHeaderMatcher(Arrays.asList(replyHeaderNames));
+		this.replyHeaderMatcher = new CachingHeaderMatcher(createHeaderMatcher(Arrays.asList(replyHeaderNames)));
 	}
 
 	/**
@@ -154,11 +158,15 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 	 * {@code foo*}, {@code *foo}, or {@code within*foo}.
 	 * <p>Special patterns are also recognized: {@link #STANDARD_REQUEST_HEADER_NAME_PATTERN},
 	 * {@link #STANDARD_REQUEST_HEADER_NAME_PATTERN} and {@link #NON_STANDARD_HEADER_NAME_PATTERN}.
+	 * <p>The simple patterns are compiled into a {@link PatternBasedHeaderMatcher} for the negated
+	 * patterns, which gets priority, and another one for the positive patterns.
 	 * @param patterns the patterns to apply
 	 * @return a header mapper that match if any of the specified patters match
 	 */
 	protected HeaderMatcher createHeaderMatcher(Collection<String> patterns) {
 		List<HeaderMatcher> matchers = new ArrayList<>();
+		List<String> simplePatterns = new ArrayList<>();
+		List<String> negatedPatterns = new ArrayList<>();
 		for (String pattern : patterns) {
 			if (STANDARD_REQUEST_HEADER_NAME_PATTERN.equals(pattern)) {
 				matchers.add(new ContentBasedHeaderMatcher(true, this.requestHeaderNames));
@@ -180,14 +188,20 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 					thePattern = pattern.substring(1);
 				}
 				if (negate) {
-					// negative matchers get priority
-					matchers.add(0, new SinglePatternBasedHeaderMatcher(thePattern, negate));
+					negatedPatterns.add(thePattern);
 				}
 				else {
-					matchers.add(new SinglePatternBasedHeaderMatcher(thePattern, negate));
+					simplePatterns.add(thePattern);
 				}
 			}
 		}
+		if (!simplePatterns.isEmpty()) {
+			matchers.add(new PatternBasedHeaderMatcher(simplePatterns));
+		}
+		if (!negatedPatterns.isEmpty()) {
+			// negative matchers get priority
+			matchers.add(0, new PatternBasedHeaderMatcher(negatedPatterns, true));
+		}
 		return new CompositeHeaderMatcher(matchers);
 	}
 
@@ -475,6 +489,8 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 	/**
 	 * A pattern-based {@link HeaderMatcher} that matches if the specified
 	 * header matches one of the specified simple patterns.
+	 * The patterns are compiled into a {@link CompiledPatternSet}.
+	 * <p> The {@code negate == true} state indicates if the matching should be treated as "not matched".
 	 *
 	 * @since 4.1
 	 *
@@ -486,29 +502,53 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 
 		private final Collection<String> patterns = new ArrayList<>();
 
+		private final CompiledPatternSet compiledPatterns;
+
+		private final boolean negate;
+
 		public PatternBasedHeaderMatcher(Collection<String> patterns) {
+			this(patterns, false);
+		}
+
+		/**
+		 * Construct an instance for the provided patterns.
+		 * @param patterns the patterns.
+		 * @param negate true if a match should be treated as "not matched".
+		 * @since 6.3
+		 */
+		public PatternBasedHeaderMatcher(Collection<String> patterns, boolean negate) {
 			Assert.notNull(patterns, "Patterns must no be null");
 			Assert.notEmpty(patterns, "At least one pattern must be specified");
 			for (String pattern : patterns) {
 				this.patterns.add(pattern.toLowerCase());
 			}
+			this.compiledPatterns = new CompiledPatternSet(this.patterns);
+			this.negate = negate;
 		}
 
 		@Override
 		public boolean matchHeader(String headerName) {
 			String header = headerName.toLowerCase();
-			for (String pattern : this.patterns) {
-				if (PatternMatchUtils.simpleMatch(pattern, header)) {
-					if (LOGGER.isDebugEnabled()) {
-						LOGGER.debug(MessageFormat.format(
-								"headerName=[{0}] WILL be mapped, matched pattern={1}", headerName, pattern));
-					}
-					return true;
+			if (this.compiledPatterns.match(header)) {
+				if (LOGGER.isDebugEnabled()) {
+					String pattern =
+							this.patterns.stream()
+									.filter((candidate) -> PatternMatchUtils.simpleMatch(candidate, header))
+									.findFirst()
+									.orElse(null);
+					LOGGER.debug(MessageFormat.format(
+							"headerName=[{0}] WILL be mapped, matched pattern={1}", headerName, pattern));
 				}
+				return true;
 			}
 			return false;
 		}
 
+		@Override
+		public boolean isNegated() {
+			return this.negate;
+		}
+
 	}
 
 	/**
@@ -631,4 +671,37 @@ public abstract class AbstractHeaderMapper<T> implements RequestReplyHeaderMappe
 
 	}
 
+	/**
+	 * A {@link HeaderMatcher} which caches the results of another one per header name,
+	 * for up to {@value NameMatchCache#DEFAULT_MAX_SIZE} header names.
+	 * The cache is bypassed when debug logging is enabled for the matchers.
+	 */
+	private static final class CachingHeaderMatcher implements HeaderMatcher {
+
+		private static final Log LOGGER = LogFactory.getLog(HeaderMatcher.class);
+
+		private final NameMatchCache results;
+
+		private final HeaderMatcher delegate;
+
+		CachingHeaderMatcher(HeaderMatcher delegate) {
+			this.delegate = delegate;
+			this.results = new NameMatchCache(delegate::matchHeader);
+		}
+
+		@Override
+		public boolean matchHeader(String headerName) {
+			if (LOGGER.isDebugEnabled()) {
+				return this.delegate.matchHeader(headerName);
+			}
+			return this.results.match(headerName);
+		}
+
+		@Override
+		public boolean isNegated() {
+			return this.delegate.isNegated();
+		}
+
+	}
+
 }
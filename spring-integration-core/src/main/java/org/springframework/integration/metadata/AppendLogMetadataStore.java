@@ -0,0 +1,756 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A file-based {@link ConcurrentMetadataStore} which keeps the entries in a
+ * {@link ConcurrentHashMap} and persists each modification as a record appended to a log file,
+ * instead of rewriting the whole file on {@link #flush()} like the
+ * {@link PropertiesPersistingMetadataStore} does.
+ * <p>
+ * The records are collected in a memory buffer which is appended to the file when it is full,
+ * on {@link #flush()} and on {@link #close()}. With {@link #setSyncOnWrite(boolean)} each
+ * modification waits until its record is forced to the storage device; concurrent writers share
+ * a single {@code fsync} (group commit).
+ * When the log holds more than twice as many records as there are live entries and it is
+ * larger than the {@link #setCompactionThreshold(long) compaction threshold}, it is replaced
+ * by a snapshot of the live entries.
+ * <p>
+ * Each record is protected by a checksum; on start up the log is replayed up to the first
+ * incomplete or corrupted record (e.g. after a crash in the middle of a write) and the
+ * rest of the file is truncated.
+ * By default, the log file is
+ * {@code 'java.io.tmpdir' +  "/spring-integration/metadata-store.log"},
+ * but the directory and filename are settable.
+ *
+ * @since 6.3
+ */
+public class AppendLogMetadataStore implements ConcurrentMetadataStore, InitializingBean, DisposableBean,
+		Closeable, Flushable {
+
+	private static final String KEY_CANNOT_BE_NULL = "'key' cannot be null";
+
+	private static final String VALUE_CANNOT_BE_NULL = "'value' cannot be null";
+
+	private static final byte PUT = 1;
+
+	private static final byte REMOVE = 2;
+
+	private static final int RECORD_HEADER_SIZE = 8;
+
+	private static final String COMPACTION_SUFFIX = ".compact";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ConcurrentMap<String, String> metadata = new ConcurrentHashMap<>();
+
+	private final ReadWriteLock compactionLock = new ReentrantReadWriteLock();
+
+	private final Lock writeLock = new ReentrantLock();
+
+	private final Lock bufferLock = new ReentrantLock();
+
+	private String baseDirectory = System.getProperty("java.io.tmpdir") + "/spring-integration/";
+
+	private String fileName = "metadata-store.log";
+
+	private int bufferSize = 64 * 1024; // NOSONAR
+
+	private long compactionThreshold = 16 * 1024 * 1024; // NOSONAR
+
+	private boolean syncOnWrite;
+
+	private File file;
+
+	private FileChannel channel;
+
+	private RecordBuffer buffer;
+
+	private RecordBuffer spareBuffer;
+
+	private volatile long logSize;
+
+	private volatile long logRecords;
+
+	private volatile long appendedSequence;
+
+	private volatile long syncedSequence;
+
+	private volatile boolean writePending;
+
+	/**
+	 * Set the location for the log file. Defaults to
+	 * {@code 'java.io.tmpdir' +  "/spring-integration/"}.
+	 * @param baseDirectory the directory.
+	 */
+	public void setBaseDirectory(String baseDirectory) {
+		Assert.hasText(baseDirectory, "'baseDirectory' must be non-empty");
+		this.baseDirectory = baseDirectory;
+	}
+
+	/**
+	 * Set the name of the log file in {@link #setBaseDirectory(String)}.
+	 * Defaults to {@code metadata-store.log},
+	 * @param fileName the log file name.
+	 */
+	public void setFileName(String fileName) {
+		Assert.hasText(fileName, "'fileName' must be non-empty");
+		this.fileName = fileName;
+	}
+
+	/**
+	 * Set the size of the memory buffer for records; when it is full, it is appended
+	 * to the log file. Defaults to 64 kilobytes.
+	 * @param bufferSize the buffer size in bytes.
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be greater than 0");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Set the minimum size of the log file before it is compacted.
+	 * Defaults to 16 megabytes.
+	 * @param compactionThreshold the threshold in bytes.
+	 */
+	public void setCompactionThreshold(long compactionThreshold) {
+		Assert.isTrue(compactionThreshold >= 0, "'compactionThreshold' must not be negative");
+		this.compactionThreshold = compactionThreshold;
+	}
+
+	/**
+	 * Set to true to force the record of each modification to the storage device before
+	 * the modifying method returns. The records of concurrent modifications are forced
+	 * together. Defaults to false: the records are forced on {@link #flush()} and {@link #close()}.
+	 * When true, a failure to write or force the log is thrown to the caller as an
+	 * {@link UncheckedIOException} and the modification is rolled back, unless the entry
+	 * has been modified again in the meantime; otherwise the failure is logged and the
+	 * buffered records are discarded.
+	 * @param syncOnWrite true to force the log on each modification.
+	 */
+	public void setSyncOnWrite(boolean syncOnWrite) {
+		this.syncOnWrite = syncOnWrite;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		File baseDir = new File(this.baseDirectory);
+		if (!baseDir.mkdirs() && !baseDir.exists() && this.logger.isWarnEnabled()) {
+			this.logger.warn("Failed to create directories for " + baseDir);
+		}
+		this.file = new File(baseDir, this.fileName);
+		this.buffer = new RecordBuffer(this.bufferSize);
+		this.spareBuffer = new RecordBuffer(this.bufferSize);
+		try {
+			Files.deleteIfExists(compactionPath());
+			this.channel = FileChannel.open(this.file.toPath(),
+					StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			loadMetadata();
+		}
+		catch (IOException ex) {
+			throw new IllegalArgumentException("Failed to open metadata-store file '"
+					+ this.file.getAbsolutePath() + "'", ex);
+		}
+	}
+
+	@Override
+	public void put(String key, String value) {
+		Assert.notNull(key, KEY_CANNOT_BE_NULL);
+		Assert.notNull(value, VALUE_CANNOT_BE_NULL);
+		String[] previous = new String[1];
+		Lock lock = this.compactionLock.readLock();
+		lock.lock();
+		try {
+			this.metadata.compute(key, (k, v) -> {
+				append(PUT, k, value);
+				previous[0] = v;
+				return value;
+			});
+		}
+		finally {
+			lock.unlock();
+		}
+		afterAppend(key, value, previous[0]);
+	}
+
+	@Override
+	@Nullable
+	public String get(String key) {
+		Assert.notNull(key, KEY_CANNOT_BE_NULL);
+		return this.metadata.get(key);
+	}
+
+	@Override
+	@Nullable
+	public String remove(String key) {
+		Assert.notNull(key, KEY_CANNOT_BE_NULL);
+		if (!this.metadata.containsKey(key)) {
+			return null;
+		}
+		String[] removed = new String[1];
+		Lock lock = this.compactionLock.readLock();
+		lock.lock();
+		try {
+			this.metadata.computeIfPresent(key, (k, v) -> {
+				append(REMOVE, k, null);
+				removed[0] = v;
+				return null;
+			});
+		}
+		finally {
+			lock.unlock();
+		}
+		if (removed[0] != null) {
+			afterAppend(key, null, removed[0]);
+		}
+		return removed[0];
+	}
+
+	@Override
+	@Nullable
+	public String putIfAbsent(String key, String value) {
+		Assert.notNull(key, KEY_CANNOT_BE_NULL);
+		Assert.notNull(value, VALUE_CANNOT_BE_NULL);
+		String existing = this.metadata.get(key);
+		if (existing != null) {
+			return existing;
+		}
+		boolean[] added = new boolean[1];
+		Lock lock = this.compactionLock.readLock();
+		lock.lock();
+		try {
+			existing = this.metadata.computeIfAbsent(key, k -> {
+				append(PUT, k, value);
+				added[0] = true;
+				return value;
+			});
+		}
+		finally {
+			lock.unlock();
+		}
+		if (added[0]) {
+			afterAppend(key, value, null);
+			return null;
+		}
+		return existing;
+	}
+
+	@Override
+	public boolean replace(String key, String oldValue, String newValue) {
+		Assert.notNull(key, KEY_CANNOT_BE_NULL);
+		Assert.notNull(oldValue, "'oldValue' cannot be null");
+		Assert.notNull(newValue, "'newValue' cannot be null");
+		if (!oldValue.equals(this.metadata.get(key))) {
+			return false;
+		}
+		boolean[] replaced = new boolean[1];
+		Lock lock = this.compactionLock.readLock();
+		lock.lock();
+		try {
+			this.metadata.computeIfPresent(key, (k, v) -> {
+				if (oldValue.equals(v)) {
+					append(PUT, k, newValue);
+					replaced[0] = true;
+					return newValue;
+				}
+				return v;
+			});
+		}
+		finally {
+			lock.unlock();
+		}
+		if (replaced[0]) {
+			afterAppend(key, newValue, oldValue);
+		}
+		return replaced[0];
+	}
+
+	/**
+	 * Append the buffered records to the log file and force it to the storage device.
+	 */
+	@Override
+	public void flush() {
+		if (this.channel == null) {
+			return;
+		}
+		this.writeLock.lock();
+		try {
+			writeBuffer(true);
+		}
+		catch (IOException ex) {
+			writeFailed(ex);
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		if (this.channel == null) {
+			return;
+		}
+		this.writeLock.lock();
+		try {
+			if (this.channel.isOpen()) {
+				try {
+					writeBuffer(true);
+				}
+				finally {
+					this.channel.close();
+				}
+			}
+		}
+		catch (IOException ex) {
+			this.logger.warn("Failed to close metadata-store file '" + this.file + "'", ex);
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		close();
+	}
+
+	private void append(byte operation, String key, @Nullable String value) {
+		this.bufferLock.lock();
+		try {
+			this.buffer.append(operation, key, value);
+			this.logRecords++; // NOSONAR guarded by the bufferLock
+			this.appendedSequence++; // NOSONAR guarded by the bufferLock
+			if (this.buffer.position >= this.bufferSize) {
+				this.writePending = true;
+			}
+		}
+		finally {
+			this.bufferLock.unlock();
+		}
+	}
+
+	/**
+	 * Write the buffered records according to the {@link #setSyncOnWrite(boolean)} and compact the log
+	 * if necessary. If the record of the modification fails to be persisted, the modification is
+	 * rolled back.
+	 * @param key the modified key.
+	 * @param value the new value, or null if the key has been removed.
+	 * @param previousValue the value before the modification.
+	 */
+	private void afterAppend(String key, @Nullable String value, @Nullable String previousValue) {
+		try {
+			writeAppended();
+		}
+		catch (UncheckedIOException ex) {
+			rollback(key, value, previousValue);
+			throw ex;
+		}
+		if (isCompactionRequired()) {
+			compact();
+		}
+	}
+
+	private void writeAppended() {
+		if (this.syncOnWrite) {
+			long sequence = this.appendedSequence;
+			if (this.syncedSequence < sequence) {
+				this.writeLock.lock();
+				try {
+					// Another writer may have forced our record in the meantime
+					if (this.syncedSequence < sequence) {
+						writeBuffer(true);
+					}
+				}
+				catch (IOException ex) {
+					writeFailed(ex);
+				}
+				finally {
+					this.writeLock.unlock();
+				}
+			}
+		}
+		else if (this.writePending) {
+			this.writeLock.lock();
+			try {
+				if (this.writePending) {
+					writeBuffer(false);
+				}
+			}
+			catch (IOException ex) {
+				writeFailed(ex);
+			}
+			finally {
+				this.writeLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Restore the previous value of the key after its modification has failed to be persisted,
+	 * unless the key has been modified again since then.
+	 * The restoration is appended to the log too: the failed record is kept in the buffer,
+	 * so the log still matches the entries when it is written by the next attempt.
+	 * @param key the modified key.
+	 * @param failedValue the value which has failed to be persisted, or null for a removal.
+	 * @param previousValue the value to restore, or null to remove the key.
+	 */
+	private void rollback(String key, @Nullable String failedValue, @Nullable String previousValue) {
+		Lock lock = this.compactionLock.readLock();
+		lock.lock();
+		try {
+			this.metadata.compute(key, (k, v) -> {
+				if (v != failedValue) { // NOSONAR - the identity of the value of this modification
+					return v;
+				}
+				append(previousValue != null ? PUT : REMOVE, k, previousValue);
+				return previousValue;
+			});
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Swap the buffers and append the full one to the log file.
+	 * Must be called under the {@link #writeLock}, so the buffers are written in order.
+	 * The records are written at the end of the persisted log, so the bytes of a failed
+	 * attempt are overwritten by the next one.
+	 * @param force whether to force the log file to the storage device.
+	 * @throws IOException if the log cannot be written or forced.
+	 */
+	private void writeBuffer(boolean force) throws IOException {
+		RecordBuffer toWrite;
+		long sequence;
+		this.bufferLock.lock();
+		try {
+			toWrite = this.buffer;
+			sequence = this.appendedSequence;
+			this.buffer = this.spareBuffer;
+			this.spareBuffer = toWrite;
+			this.writePending = false;
+		}
+		finally {
+			this.bufferLock.unlock();
+		}
+		try {
+			long position = this.logSize;
+			if (toWrite.position > 0) {
+				ByteBuffer bytes = ByteBuffer.wrap(toWrite.bytes, 0, toWrite.position);
+				while (bytes.hasRemaining()) {
+					position += this.channel.write(bytes, position);
+				}
+			}
+			if (force) {
+				this.channel.force(false);
+			}
+			this.logSize = position;
+			if (force) {
+				this.syncedSequence = sequence;
+			}
+			toWrite.position = 0;
+		}
+		catch (IOException ex) {
+			if (this.syncOnWrite) {
+				restoreBuffer(toWrite);
+			}
+			else {
+				toWrite.position = 0;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Put the records of a failed write back in front of the records appended since then.
+	 * @param failed the buffer which has failed to be written.
+	 */
+	private void restoreBuffer(RecordBuffer failed) {
+		this.bufferLock.lock();
+		try {
+			RecordBuffer current = this.buffer;
+			failed.append(current);
+			current.position = 0;
+			this.buffer = failed;
+			this.spareBuffer = current;
+		}
+		finally {
+			this.bufferLock.unlock();
+		}
+	}
+
+	private void writeFailed(IOException ex) {
+		if (this.syncOnWrite) {
+			throw new UncheckedIOException("Failed to persist entries to the metadata-store file '"
+					+ this.file + "'", ex);
+		}
+		// not fatal for the functionality of the component
+		this.logger.warn("Failed to persist entries. This may result in a duplicate "
+				+ "entry after this component is restarted.", ex);
+	}
+
+	private boolean isCompactionRequired() {
+		long records = this.logRecords;
+		return records > 2L * this.metadata.size()
+				&& this.logSize + this.bufferSize >= this.compactionThreshold;
+	}
+
+	/**
+	 * Replace the log file with a snapshot of the live entries.
+	 * The modifications are blocked for the duration of the snapshot.
+	 */
+	private void compact() {
+		Lock lock = this.compactionLock.writeLock();
+		lock.lock();
+		try {
+			this.writeLock.lock();
+			try {
+				if (!this.channel.isOpen() || !isCompactionRequired()) {
+					return;
+				}
+				// The current log stays complete, if the compaction fails
+				writeBuffer(false);
+				writeSnapshot();
+			}
+			catch (IOException ex) {
+				this.logger.warn("Failed to compact metadata-store file '" + this.file + "'", ex);
+			}
+			finally {
+				this.writeLock.unlock();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void writeSnapshot() {
+		Path compactionPath = compactionPath();
+		RecordBuffer snapshot = this.spareBuffer;
+		long size = 0;
+		try (FileChannel out = FileChannel.open(compactionPath,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			for (Map.Entry<String, String> entry : this.metadata.entrySet()) {
+				snapshot.append(PUT, entry.getKey(), entry.getValue());
+				if (snapshot.position >= this.bufferSize) {
+					size += snapshot.writeTo(out);
+				}
+			}
+			size += snapshot.writeTo(out);
+			out.force(true);
+			this.channel.close();
+			Files.move(compactionPath, this.file.toPath(),
+					StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException ex) {
+			this.logger.warn("Failed to compact metadata-store file '" + this.file + "'", ex);
+			size = -1;
+		}
+		finally {
+			snapshot.position = 0;
+		}
+		try {
+			if (!this.channel.isOpen()) {
+				this.channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+				this.channel.position(this.channel.size());
+			}
+			if (size >= 0) {
+				this.logSize = size;
+				this.logRecords = this.metadata.size();
+				this.syncedSequence = this.appendedSequence;
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to reopen metadata-store file '" + this.file + "'", ex);
+		}
+	}
+
+	private Path compactionPath() {
+		return new File(this.file.getParentFile(), this.fileName + COMPACTION_SUFFIX).toPath();
+	}
+
+	private void loadMetadata() throws IOException {
+		long fileSize = this.channel.size();
+		long position = 0;
+		long records = 0;
+		CRC32 crc = new CRC32();
+		InputStream channelStream = Channels.newInputStream(this.channel);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(channelStream, this.bufferSize));
+		try {
+			while (fileSize - position >= RECORD_HEADER_SIZE) {
+				int length = in.readInt();
+				long checksum = in.readInt() & 0xFFFFFFFFL;
+				if (length <= 0 || length > fileSize - position - RECORD_HEADER_SIZE) {
+					break;
+				}
+				byte[] payload = new byte[length];
+				in.readFully(payload);
+				crc.reset();
+				crc.update(payload);
+				if (crc.getValue() != checksum || !applyRecord(payload)) {
+					break;
+				}
+				position += RECORD_HEADER_SIZE + length;
+				records++;
+			}
+		}
+		catch (EOFException ex) {
+			// an incomplete record; truncated below
+		}
+		if (position < fileSize) {
+			this.logger.warn("Discarding an incomplete or corrupted tail of the metadata-store file '"
+					+ this.file + "' at position " + position + ". This may result in a duplicate "
+					+ "entry after this component is restarted.");
+			this.channel.truncate(position);
+		}
+		this.channel.position(position);
+		this.logSize = position;
+		this.logRecords = records;
+	}
+
+	private boolean applyRecord(byte[] payload) {
+		ByteBuffer record = ByteBuffer.wrap(payload);
+		byte operation = record.get();
+		int keyLength = record.getInt();
+		if (keyLength < 0 || keyLength > record.remaining()) {
+			return false;
+		}
+		String key = new String(payload, record.position(), keyLength, StandardCharsets.UTF_8);
+		record.position(record.position() + keyLength);
+		if (operation == REMOVE) {
+			this.metadata.remove(key);
+			return true;
+		}
+		if (operation != PUT || record.remaining() < 4) { // NOSONAR
+			return false;
+		}
+		int valueLength = record.getInt();
+		if (valueLength != record.remaining()) {
+			return false;
+		}
+		this.metadata.put(key, new String(payload, record.position(), valueLength, StandardCharsets.UTF_8));
+		return true;
+	}
+
+	/**
+	 * A growable buffer of log records: {@code [length][crc32][operation][keyLength][key][valueLength][value]}.
+	 */
+	private static final class RecordBuffer {
+
+		private final CRC32 crc = new CRC32();
+
+		private byte[] bytes;
+
+		private int position;
+
+		RecordBuffer(int initialSize) {
+			this.bytes = new byte[initialSize];
+		}
+
+		void append(byte operation, String key, @Nullable String value) {
+			byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+			byte[] valueBytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+			int length = 1 + 4 + keyBytes.length + (valueBytes != null ? 4 + valueBytes.length : 0); // NOSONAR
+			ensureCapacity(RECORD_HEADER_SIZE + length);
+			int start = this.position;
+			this.position += RECORD_HEADER_SIZE;
+			this.bytes[this.position++] = operation;
+			putBytes(keyBytes);
+			if (valueBytes != null) {
+				putBytes(valueBytes);
+			}
+			this.crc.reset();
+			this.crc.update(this.bytes, start + RECORD_HEADER_SIZE, length);
+			putInt(start, length);
+			putInt(start + 4, (int) this.crc.getValue());
+		}
+
+		void append(RecordBuffer records) {
+			ensureCapacity(records.position);
+			System.arraycopy(records.bytes, 0, this.bytes, this.position, records.position);
+			this.position += records.position;
+		}
+
+		long writeTo(FileChannel out) throws IOException {
+			ByteBuffer toWrite = ByteBuffer.wrap(this.bytes, 0, this.position);
+			while (toWrite.hasRemaining()) {
+				out.write(toWrite);
+			}
+			long written = this.position;
+			this.position = 0;
+			return written;
+		}
+
+		private void putBytes(byte[] data) {
+			putInt(this.position, data.length);
+			System.arraycopy(data, 0, this.bytes, this.position + 4, data.length);
+			this.position += 4 + data.length;
+		}
+
+		private void putInt(int index, int value) {
+			this.bytes[index] = (byte) (value >>> 24);
+			this.bytes[index + 1] = (byte) (value >>> 16);
+			this.bytes[index + 2] = (byte) (value >>> 8);
+			this.bytes[index + 3] = (byte) value;
+		}
+
+		private void ensureCapacity(int required) {
+			if (this.position + required > this.bytes.length) {
+				byte[] newBytes = new byte[Math.max(this.bytes.length << 1, this.position + required)];
+				System.arraycopy(this.bytes, 0, newBytes, 0, this.position);
+				this.bytes = newBytes;
+			}
+		}
+
+	}
+
+}
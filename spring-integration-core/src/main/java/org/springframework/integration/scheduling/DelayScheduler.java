@@ -0,0 +1,44 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.scheduling;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A strategy for scheduling one-time tasks to be performed at a specific time,
+ * e.g. the release of delayed messages.
+ * A {@link org.springframework.scheduling.TaskScheduler#schedule(Runnable, Instant)}
+ * method reference is a simple implementation of this contract.
+ *
+ * @since 6.3
+ *
+ * @see HashedWheelDelayScheduler
+ */
+@FunctionalInterface
+public interface DelayScheduler {
+
+	/**
+	 * Schedule the given {@link Runnable} to be performed at the specified time.
+	 * If the time is in the past, the task is performed as soon as possible.
+	 * @param task the task to perform.
+	 * @param startTime the time to perform the task at.
+	 * @return the {@link ScheduledFuture} for the scheduled task.
+	 */
+	ScheduledFuture<?> schedule(Runnable task, Instant startTime);
+
+}
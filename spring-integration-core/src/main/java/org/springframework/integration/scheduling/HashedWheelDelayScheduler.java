@@ -0,0 +1,350 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * A {@link DelayScheduler} based on a hashed timing wheel.
+ * <p>
+ * Instead of a scheduled task per delayed item, the tasks are placed into the buckets
+ * of a wheel of {@code ticksPerWheel} size with an O(1) cost, and a single periodic
+ * task on the provided {@link TaskScheduler} advances the wheel every {@code tickDuration}.
+ * All the tasks expired on a tick are performed as a single batch: on the tick thread,
+ * or as one task on the provided {@link #setTaskExecutor(Executor) task executor}.
+ * <p>
+ * The tasks are performed not earlier than their start time, but with up to one
+ * {@code tickDuration} of lateness, so the tick duration is a trade-off between
+ * the precision and the cost of advancing the wheel.
+ * The wheel starts ticking on the first scheduled task and stops on {@link #destroy()}.
+ *
+ * @since 6.3
+ */
+public class HashedWheelDelayScheduler implements DelayScheduler, DisposableBean {
+
+	/**
+	 * The default tick duration - 100 milliseconds.
+	 */
+	public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100);
+
+	/**
+	 * The default number of ticks per wheel.
+	 */
+	public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+	private final TaskScheduler taskScheduler;
+
+	private final Duration tickDuration;
+
+	private final long tickNanos;
+
+	private final Bucket[] wheel;
+
+	private final int mask;
+
+	private final long startNanos = System.nanoTime();
+
+	private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+	private final AtomicBoolean started = new AtomicBoolean();
+
+	private final Lock tickLock = new ReentrantLock();
+
+	@Nullable
+	private Executor taskExecutor;
+
+	private ErrorHandler errorHandler = TaskUtils.LOG_AND_SUPPRESS_ERROR_HANDLER;
+
+	private long tick;
+
+	private volatile ScheduledFuture<?> tickFuture;
+
+	private volatile boolean destroyed;
+
+	/**
+	 * Create an instance with the {@link #DEFAULT_TICK_DURATION} and {@link #DEFAULT_TICKS_PER_WHEEL}.
+	 * @param taskScheduler the {@link TaskScheduler} to advance the wheel.
+	 */
+	public HashedWheelDelayScheduler(TaskScheduler taskScheduler) {
+		this(taskScheduler, DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+	}
+
+	/**
+	 * Create an instance with the provided tick duration and wheel size.
+	 * @param taskScheduler the {@link TaskScheduler} to advance the wheel.
+	 * @param tickDuration the duration between ticks.
+	 * @param ticksPerWheel the number of buckets in the wheel; rounded up to the next power of two.
+	 */
+	public HashedWheelDelayScheduler(TaskScheduler taskScheduler, Duration tickDuration, int ticksPerWheel) {
+		Assert.notNull(taskScheduler, "'taskScheduler' must not be null");
+		Assert.isTrue(tickDuration.toNanos() > 0, "'tickDuration' must be positive");
+		Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= 1 << 30, "'ticksPerWheel' must be in (0, 2^30] range");
+		this.taskScheduler = taskScheduler;
+		this.tickDuration = tickDuration;
+		this.tickNanos = tickDuration.toNanos();
+		int wheelSize = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+		this.wheel = new Bucket[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			this.wheel[i] = new Bucket();
+		}
+		this.mask = wheelSize - 1;
+	}
+
+	/**
+	 * Set an {@link Executor} to perform the batch of tasks expired on a tick.
+	 * By default, the tasks are performed on the thread advancing the wheel,
+	 * so long-running tasks delay the subsequent ticks.
+	 * @param taskExecutor the executor to use.
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set an {@link ErrorHandler} for exceptions thrown from the tasks.
+	 * Defaults to {@link TaskUtils#LOG_AND_SUPPRESS_ERROR_HANDLER}.
+	 * @param errorHandler the error handler to use.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		Assert.notNull(errorHandler, "'errorHandler' must not be null");
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Return the number of wheel buckets.
+	 * @return the wheel size.
+	 */
+	public int getTicksPerWheel() {
+		return this.wheel.length;
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+		Assert.notNull(task, "'task' must not be null");
+		Assert.notNull(startTime, "'startTime' must not be null");
+		Assert.state(!this.destroyed, "The scheduler has been destroyed");
+		if (!this.started.get() && this.started.compareAndSet(false, true)) {
+			this.tickFuture = this.taskScheduler.scheduleAtFixedRate(this::tick, this.tickDuration);
+		}
+		long delayNanos =
+				TimeUnit.MILLISECONDS.toNanos(Math.max(0, startTime.toEpochMilli() - System.currentTimeMillis()));
+		Timeout timeout = new Timeout(task, elapsedNanos() + delayNanos);
+		this.pendingTimeouts.add(timeout);
+		return timeout;
+	}
+
+	@Override
+	public void destroy() {
+		this.destroyed = true;
+		ScheduledFuture<?> future = this.tickFuture;
+		if (future != null) {
+			future.cancel(false);
+		}
+	}
+
+	private long elapsedNanos() {
+		return System.nanoTime() - this.startNanos;
+	}
+
+	private void tick() {
+		if (!this.tickLock.tryLock()) {
+			return;
+		}
+		List<Timeout> expired = null;
+		try {
+			transferPendingTimeouts();
+			long elapsed = elapsedNanos();
+			// The bucket for a tick is processed when the whole tick has passed: never earlier than a deadline
+			while ((this.tick + 1) * this.tickNanos <= elapsed) {
+				expired = this.wheel[(int) (this.tick & this.mask)].expire(expired);
+				this.tick++;
+			}
+		}
+		finally {
+			this.tickLock.unlock();
+		}
+		if (expired != null) {
+			performExpired(expired);
+		}
+	}
+
+	private void transferPendingTimeouts() {
+		Timeout timeout;
+		while ((timeout = this.pendingTimeouts.poll()) != null) {
+			if (timeout.isCancelled()) {
+				continue;
+			}
+			long deadlineTick = Math.max(timeout.deadline / this.tickNanos, this.tick);
+			timeout.remainingRounds = (deadlineTick - this.tick) / this.wheel.length;
+			this.wheel[(int) (deadlineTick & this.mask)].add(timeout);
+		}
+	}
+
+	private void performExpired(List<Timeout> expired) {
+		Executor executor = this.taskExecutor;
+		if (executor != null) {
+			try {
+				executor.execute(() -> expired.forEach(Timeout::perform));
+				return;
+			}
+			catch (RejectedExecutionException ex) {
+				this.errorHandler.handleError(ex);
+			}
+		}
+		expired.forEach(Timeout::perform);
+	}
+
+	/**
+	 * A doubly-linked list of timeouts; accessed only from the tick thread.
+	 */
+	private static final class Bucket {
+
+		@Nullable
+		private Timeout head;
+
+		@Nullable
+		private Timeout tail;
+
+		Bucket() {
+		}
+
+		void add(Timeout timeout) {
+			if (this.head == null) {
+				this.head = timeout;
+				this.tail = timeout;
+			}
+			else {
+				this.tail.next = timeout; // NOSONAR never null with the head
+				timeout.previous = this.tail;
+				this.tail = timeout;
+			}
+		}
+
+		@Nullable
+		List<Timeout> expire(@Nullable List<Timeout> expiredArg) {
+			List<Timeout> expired = expiredArg;
+			Timeout timeout = this.head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				if (timeout.isCancelled()) {
+					remove(timeout);
+				}
+				else if (timeout.remainingRounds <= 0) {
+					remove(timeout);
+					if (expired == null) {
+						expired = new ArrayList<>();
+					}
+					expired.add(timeout);
+				}
+				else {
+					timeout.remainingRounds--;
+				}
+				timeout = next;
+			}
+			return expired;
+		}
+
+		private void remove(Timeout timeout) {
+			Timeout next = timeout.next;
+			if (timeout.previous != null) {
+				timeout.previous.next = next;
+			}
+			if (next != null) {
+				next.previous = timeout.previous;
+			}
+			if (timeout == this.head) {
+				this.head = next;
+			}
+			if (timeout == this.tail) {
+				this.tail = timeout.previous;
+			}
+			timeout.previous = null;
+			timeout.next = null;
+		}
+
+	}
+
+	/**
+	 * The scheduled task and its position in the wheel.
+	 */
+	private final class Timeout extends CompletableFuture<Object> implements ScheduledFuture<Object> {
+
+		private final Runnable task;
+
+		private final long deadline;
+
+		private long remainingRounds;
+
+		@Nullable
+		private Timeout previous;
+
+		@Nullable
+		private Timeout next;
+
+		Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		void perform() {
+			if (isDone()) {
+				return;
+			}
+			try {
+				this.task.run();
+				complete(null);
+			}
+			catch (Throwable ex) { // NOSONAR
+				completeExceptionally(ex);
+				HashedWheelDelayScheduler.this.errorHandler.handleError(ex);
+			}
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(this.deadline - elapsedNanos(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+	}
+
+}
@@ -62,6 +62,10 @@ public class PollerMetadata {
 
 	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
 
+	private int batchSize = 1;
+
+	private long batchTimeout;
+
 	private ErrorHandler errorHandler;
 
 	private List<Advice> adviceChain;
@@ -123,6 +127,40 @@ public class PollerMetadata {
 		return this.receiveTimeout;
 	}
 
+	/**
+	 * Set the maximum number of messages a polling consumer hands over to a
+	 * {@link org.springframework.integration.handler.BatchMessageHandler} in one call.
+	 * Ignored for other handlers and for polled inbound channel adapters.
+	 * In batch mode, the {@code maxMessagesPerPoll} counts batches.
+	 * <p>The default is {@code 1} - no batching.
+	 * @param batchSize the maximum number of messages in a batch.
+	 * @since 6.3
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Set the time in milliseconds to wait for more messages to fill a batch after the
+	 * first message of the batch is received.
+	 * <p>The default is {@code 0} - the batch contains only the messages available immediately.
+	 * @param batchTimeout the batch timeout.
+	 * @since 6.3
+	 * @see #setBatchSize(int)
+	 */
+	public void setBatchTimeout(long batchTimeout) {
+		this.batchTimeout = batchTimeout;
+	}
+
+	public long getBatchTimeout() {
+		return this.batchTimeout;
+	}
+
 	public void setAdviceChain(List<Advice> adviceChain) {
 		this.adviceChain = adviceChain;
 	}
@@ -16,13 +16,24 @@
 
 package org.springframework.integration.splitter;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -32,14 +43,24 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.integration.IntegrationPatternType;
+import org.springframework.integration.channel.AbstractExecutorChannel;
+import org.springframework.integration.channel.AbstractPollableChannel;
+import org.springframework.integration.channel.QueueChannelOperations;
 import org.springframework.integration.channel.ReactiveStreamsSubscribableChannel;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
 import org.springframework.integration.handler.DiscardingMessageHandler;
 import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.support.json.JacksonPresent;
 import org.springframework.integration.util.FunctionIterator;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.InterceptableChannel;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
@@ -55,12 +76,23 @@ import org.springframework.util.ObjectUtils;
 public abstract class AbstractMessageSplitter extends AbstractReplyProducingMessageHandler
 		implements DiscardingMessageHandler {
 
+	private final Lock lock = new ReentrantLock();
+
 	private boolean applySequence = true;
 
 	private MessageChannel discardChannel;
 
 	private String discardChannelName;
 
+	private int maxInFlight;
+
+	private int chunkSize;
+
+	@Nullable
+	private volatile InFlightTracker inFlightTracker;
+
+	private volatile boolean inFlightTrackerResolved;
+
 	/**
 	 * Set the applySequence flag to the specified value. Defaults to true.
 	 * @param applySequence true to apply sequence information.
@@ -95,6 +127,41 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 		this.discardChannelName = discardChannelName;
 	}
 
+	/**
+	 * Set the maximum number of messages sent by this splitter to the output channel, but not
+	 * yet handled by its subscriber (or received from a {@link org.springframework.messaging.PollableChannel}).
+	 * When the limit is reached, the splitter waits for the downstream flow to catch up
+	 * (up to the {@code sendTimeout}; indefinitely by default) before sending the next item,
+	 * so a producer such as a large file does not fill the memory of an
+	 * {@link org.springframework.integration.channel.ExecutorChannel} or a {@code QueueChannel}.
+	 * The limit is shared by all the messages this splitter splits concurrently.
+	 * Only the messages of this splitter are counted: interceptors are added to the output
+	 * channel on the first send to recognize them, and removed when this splitter is destroyed.
+	 * Applies to an {@link AbstractExecutorChannel} and an {@link AbstractPollableChannel}
+	 * output channel; the send to other channels is either synchronous or back-pressured
+	 * by the subscriber demand (a {@link ReactiveStreamsSubscribableChannel}).
+	 * Defaults to 0 - no limit.
+	 * @param maxInFlight the maximum number of in-flight messages.
+	 * @since 6.3
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+		Assert.isTrue(maxInFlight >= 0, "'maxInFlight' must not be negative");
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Set the number of items to emit together as a {@link List} payload of a single
+	 * output message. The last chunk may contain fewer items.
+	 * The sequence details (if applied) describe the chunks, not the items.
+	 * Defaults to 0 - each item is emitted in its own message.
+	 * @param chunkSize the number of items per output message.
+	 * @since 6.3
+	 */
+	public void setChunkSize(int chunkSize) {
+		Assert.isTrue(chunkSize >= 0, "'chunkSize' must not be negative");
+		this.chunkSize = chunkSize;
+	}
+
 	@Override
 	public MessageChannel getDiscardChannel() {
 		if (this.discardChannel == null) {
@@ -168,6 +235,11 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 			flux = Flux.from(publisher);
 		}
 
+		if (this.chunkSize > 1) {
+			sequenceSize = chunkCount(sequenceSize);
+			flux = flux.buffer(this.chunkSize);
+		}
+
 		Function<Object, ?> messageBuilderFunction = prepareMessageBuilderFunction(message, sequenceSize);
 
 		return flux
@@ -220,11 +292,24 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 			return null;
 		}
 
+		AutoCloseable closeable =
+				result instanceof AutoCloseable && !result.equals(iterator) ? (AutoCloseable) result : null;
+
+		if (this.chunkSize > 1) {
+			sequenceSize = chunkCount(sequenceSize);
+			if (closeable == null && iterator instanceof AutoCloseable autoCloseable) {
+				closeable = autoCloseable;
+			}
+			iterator = new ChunkIterator(iterator, this.chunkSize);
+		}
+
 		Function<Object, ?> messageBuilderFunction = prepareMessageBuilderFunction(message, sequenceSize);
 
-		return new FunctionIterator<>(
-				result instanceof AutoCloseable && !result.equals(iterator) ? (AutoCloseable) result : null,
-				iterator, messageBuilderFunction);
+		return new FunctionIterator<>(closeable, iterator, messageBuilderFunction);
+	}
+
+	private int chunkCount(int sequenceSize) {
+		return (sequenceSize + this.chunkSize - 1) / this.chunkSize;
 	}
 
 	private Function<Object, ?> prepareMessageBuilderFunction(Message<?> message, int sequenceSize) {
@@ -237,8 +322,24 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 		Map<String, Object> headers = messageHeaders;
 		Object correlationId = message.getHeaders().getId();
 		AtomicInteger sequenceNumber = new AtomicInteger(1);
+		Map<String, Object> sequenceHeaders =
+				this.applySequence ? sequenceHeaders(headers, correlationId, sequenceSize) : headers;
 
-		return object -> createBuilder(object, headers, correlationId, sequenceNumber.getAndIncrement(), sequenceSize);
+		return object -> createBuilder(object, headers, sequenceHeaders, correlationId,
+				sequenceNumber.getAndIncrement(), sequenceSize);
+	}
+
+	/**
+	 * Build the headers shared by all the split items (except their sequence number) once per request message,
+	 * instead of pushing the sequence details into each output message builder.
+	 */
+	private static Map<String, Object> sequenceHeaders(Map<String, Object> headers, Object correlationId,
+			int sequenceSize) {
+
+		return MessageBuilder.withPayload(Boolean.TRUE)
+				.copyHeadersIfAbsent(headers)
+				.pushSequenceDetails(correlationId, 1, sequenceSize)
+				.getHeaders();
 	}
 
 	/**
@@ -273,13 +374,20 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 	}
 
 	private AbstractIntegrationMessageBuilder<?> createBuilder(Object item, Map<String, Object> headers,
-			Object correlationId, int sequenceNumber, int sequenceSize) {
+			Map<String, Object> sequenceHeaders, Object correlationId, int sequenceNumber, int sequenceSize) {
 
 		AbstractIntegrationMessageBuilder<?> builder = messageBuilderForReply(item);
-		builder.copyHeadersIfAbsent(headers);
-		if (this.applySequence) {
+		if (!this.applySequence) {
+			builder.copyHeadersIfAbsent(headers);
+		}
+		else if (item instanceof Message<?> || item instanceof AbstractIntegrationMessageBuilder<?>) {
+			builder.copyHeadersIfAbsent(headers);
 			builder.pushSequenceDetails(correlationId, sequenceNumber, sequenceSize);
 		}
+		else {
+			builder.copyHeadersIfAbsent(sequenceHeaders);
+			builder.setSequenceNumber(sequenceNumber);
+		}
 		return builder;
 	}
 
@@ -333,11 +441,74 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 		}
 	}
 
+	@Override
+	protected void sendOutput(Object output, @Nullable Object replyChannelArg, boolean useArgChannel) {
+		InFlightTracker tracker = useArgChannel ? null : obtainInFlightTracker();
+		if (tracker == null || !(output instanceof Message<?> message)) {
+			super.sendOutput(output, replyChannelArg, useArgChannel);
+			return;
+		}
+		tracker.acquire(message, this.messagingTemplate.getSendTimeout());
+		tracker.sending.set(Boolean.TRUE);
+		try {
+			super.sendOutput(output, replyChannelArg, useArgChannel);
+		}
+		finally {
+			if (tracker.sending.get() != null) {
+				// The message has not reached the output channel, e.g. dropped by an interceptor
+				tracker.sending.remove();
+				tracker.permits.release();
+			}
+		}
+	}
+
+	@Nullable
+	private InFlightTracker obtainInFlightTracker() {
+		if (this.maxInFlight == 0) {
+			return null;
+		}
+		if (!this.inFlightTrackerResolved) {
+			this.lock.lock();
+			try {
+				if (!this.inFlightTrackerResolved) {
+					MessageChannel outputChannel = getOutputChannel();
+					if (outputChannel instanceof AbstractExecutorChannel
+							|| outputChannel instanceof AbstractPollableChannel) {
+
+						InFlightTracker tracker = new InFlightTracker(outputChannel, this.maxInFlight);
+						InterceptableChannel channel = (InterceptableChannel) outputChannel;
+						// Last, to see the message as it is sent after all the other preSend() calls
+						channel.addInterceptor(tracker.sendInterceptor);
+						// First, to see the message as it is sent before any postReceive() or beforeHandle() calls
+						channel.addInterceptor(0, tracker.handleInterceptor);
+						this.inFlightTracker = tracker;
+					}
+					this.inFlightTrackerResolved = true;
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+		return this.inFlightTracker;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "splitter";
 	}
 
+	@Override
+	public void destroy() {
+		super.destroy();
+		InFlightTracker tracker = this.inFlightTracker;
+		if (tracker != null) {
+			InterceptableChannel channel = (InterceptableChannel) tracker.channel;
+			channel.removeInterceptor(tracker.sendInterceptor);
+			channel.removeInterceptor(tracker.handleInterceptor);
+		}
+	}
+
 	/**
 	 * Subclasses must override this method to split the received Message. The return value may be a Collection or
 	 * Array. The individual elements may be Messages, but it is not necessary. If the elements are not Messages, each
@@ -349,6 +520,185 @@ public abstract class AbstractMessageSplitter extends AbstractReplyProducingMess
 	protected abstract Object splitMessage(Message<?> message);
 
 
+	/**
+	 * Groups the items of the target iterator into lists of up to {@code chunkSize} items.
+	 */
+	private static final class ChunkIterator implements Iterator<Object> {
+
+		private final Iterator<?> delegate;
+
+		private final int chunkSize;
+
+		ChunkIterator(Iterator<?> delegate, int chunkSize) {
+			this.delegate = delegate;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.delegate.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			List<Object> chunk = new ArrayList<>(this.chunkSize);
+			do {
+				chunk.add(this.delegate.next());
+			}
+			while (chunk.size() < this.chunkSize && this.delegate.hasNext());
+			return chunk;
+		}
+
+	}
+
+	/**
+	 * Holds a permit for each message of this splitter sent to the output channel,
+	 * until it is handled on the executor channel thread, or received from a pollable channel.
+	 * The messages are recognized by the id they have been sent with: the
+	 * {@link #sendInterceptor} is the last one to see the message before it is sent
+	 * (e.g. after a datatype conversion or other {@code preSend()} interceptors), and the
+	 * {@link #handleInterceptor} is the first one to see it when it is handled or received.
+	 * A permit is released exactly once: when the message is not sent, when it is handled
+	 * or received, or when it is no longer in a {@link QueueChannelOperations} channel,
+	 * e.g. purged.
+	 */
+	private static final class InFlightTracker {
+
+		private static final long RECHECK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+		private static final UUID NOT_TRACKED = new UUID(0, 0);
+
+		private final MessageChannel channel;
+
+		private final Semaphore permits;
+
+		private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+		private final ThreadLocal<Boolean> sending = new ThreadLocal<>();
+
+		private final ThreadLocal<Deque<UUID>> handling = new ThreadLocal<>();
+
+		private final ChannelInterceptor sendInterceptor = new SendInterceptor();
+
+		private final ExecutorChannelInterceptor handleInterceptor = new HandleInterceptor();
+
+		InFlightTracker(MessageChannel channel, int maxInFlight) {
+			this.channel = channel;
+			this.permits = new Semaphore(maxInFlight);
+		}
+
+		void acquire(Message<?> message, long sendTimeout) {
+			long remaining = sendTimeout < 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(sendTimeout);
+			long interval = Math.min(remaining, RECHECK_INTERVAL);
+			try {
+				while (!this.permits.tryAcquire(interval, TimeUnit.NANOSECONDS)) {
+					releaseRemoved();
+					if (sendTimeout >= 0) {
+						remaining -= interval;
+						if (remaining <= 0) {
+							if (this.permits.tryAcquire()) {
+								return;
+							}
+							throw new MessageDeliveryException(message,
+									"Timed out waiting for the in-flight split messages to be handled");
+						}
+					}
+					interval = Math.min(remaining, RECHECK_INTERVAL);
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new MessageDeliveryException(message,
+						"Interrupted waiting for the in-flight split messages to be handled", ex);
+			}
+		}
+
+		private void release(@Nullable UUID id) {
+			if (id != null && this.inFlight.remove(id)) {
+				this.permits.release();
+			}
+		}
+
+		/**
+		 * A queue cannot hold more messages of this splitter than its size:
+		 * release the permits of the messages removed without being received.
+		 */
+		private void releaseRemoved() {
+			if (this.channel instanceof QueueChannelOperations queueChannel) {
+				int removed = this.inFlight.size() - queueChannel.getQueueSize();
+				Iterator<UUID> iterator = this.inFlight.iterator();
+				while (removed > 0 && iterator.hasNext()) {
+					if (this.inFlight.remove(iterator.next())) {
+						this.permits.release();
+						removed--;
+					}
+				}
+			}
+		}
+
+		private final class SendInterceptor implements ChannelInterceptor {
+
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				UUID id = message.getHeaders().getId();
+				if (id != null && InFlightTracker.this.sending.get() != null) {
+					InFlightTracker.this.sending.remove();
+					InFlightTracker.this.inFlight.add(id);
+				}
+				return message;
+			}
+
+			@Override
+			public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+					@Nullable Exception ex) {
+
+				if (!sent || ex != null) {
+					release(message.getHeaders().getId());
+				}
+			}
+
+		}
+
+		private final class HandleInterceptor implements ExecutorChannelInterceptor {
+
+			@Override
+			public Message<?> postReceive(Message<?> message, MessageChannel channel) {
+				release(message.getHeaders().getId());
+				return message;
+			}
+
+			@Override
+			public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+				UUID id = message.getHeaders().getId();
+				// Not tracked any more when already released on receive from a pollable channel
+				Deque<UUID> stack = InFlightTracker.this.handling.get();
+				if (stack == null) {
+					stack = new ArrayDeque<>();
+					InFlightTracker.this.handling.set(stack);
+				}
+				stack.push(id != null && InFlightTracker.this.inFlight.contains(id) ? id : NOT_TRACKED);
+				return message;
+			}
+
+			@Override
+			public void afterMessageHandled(@Nullable Message<?> message, MessageChannel channel,
+					MessageHandler handler, @Nullable Exception ex) {
+
+				// The message may be rebuilt or dropped by the next interceptors: use the id it arrived with
+				Deque<UUID> stack = InFlightTracker.this.handling.get();
+				if (stack != null) {
+					UUID id = stack.pop();
+					if (stack.isEmpty()) {
+						InFlightTracker.this.handling.remove();
+					}
+					release(id);
+				}
+			}
+
+		}
+
+	}
+
 	private static final class JacksonNodeHelper {
 
 		private static boolean isNode(Object object) {
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+
+/**
+ * A compact {@link MessageGroup} which keeps its messages in insertion order in a plain array,
+ * together with a parallel {@code int[]} of their sequence numbers, instead of the
+ * {@code LinkedHashSet} and {@code HashSet<Integer>} used by {@link SimpleMessageGroup}.
+ * Polling from the head of the group is {@code O(1)}; sequence number lookups scan the
+ * primitive array without touching the message headers.
+ * <p>
+ * Unlike {@link SimpleMessageGroup}, messages are not de-duplicated on {@link #add(Message)}.
+ * The group is not thread-safe for concurrent modification: the {@link ShardedMessageStore}
+ * performs all the mutations under the lock of the shard which owns the group.
+ * The {@link #getMessages()} is an unmodifiable live view of the group.
+ *
+ * @since 6.3
+ */
+public class ArrayMessageGroup implements MessageGroup {
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	private static final Message<?>[] NO_MESSAGES = new Message<?>[0];
+
+	private static final int[] NO_SEQUENCES = new int[0];
+
+	private final Object groupId;
+
+	private final long timestamp;
+
+	private final List<Message<?>> messagesView = new MessagesView();
+
+	private Message<?>[] messages = NO_MESSAGES;
+
+	private int[] sequences = NO_SEQUENCES;
+
+	private int head;
+
+	private int tail;
+
+	private volatile int lastReleasedMessageSequence;
+
+	private volatile long lastModified;
+
+	private volatile boolean complete;
+
+	@Nullable
+	private volatile String condition;
+
+	public ArrayMessageGroup(Object groupId) {
+		this(groupId, System.currentTimeMillis());
+	}
+
+	public ArrayMessageGroup(Object groupId, long timestamp) {
+		this.groupId = groupId;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Create a snapshot of the provided group.
+	 * @param messageGroup the group to copy.
+	 */
+	public ArrayMessageGroup(MessageGroup messageGroup) {
+		this(messageGroup.getGroupId(), messageGroup.getTimestamp());
+		Collection<Message<?>> messagesToCopy = messageGroup.getMessages();
+		int size = messagesToCopy.size();
+		if (size > 0) {
+			this.messages = new Message<?>[size];
+			this.sequences = new int[size];
+			for (Message<?> message : messagesToCopy) {
+				add(message);
+			}
+		}
+		this.complete = messageGroup.isComplete();
+		this.condition = messageGroup.getCondition();
+		this.lastModified = messageGroup.getLastModified();
+		this.lastReleasedMessageSequence = messageGroup.getLastReleasedMessageSequenceNumber();
+	}
+
+	@Override
+	public boolean canAdd(Message<?> message) {
+		return true;
+	}
+
+	@Override
+	public void add(Message<?> messageToAdd) {
+		if (this.tail == this.messages.length) {
+			ensureCapacity();
+		}
+		Integer sequence = messageToAdd.getHeaders()
+				.get(IntegrationMessageHeaderAccessor.SEQUENCE_NUMBER, Integer.class);
+		this.messages[this.tail] = messageToAdd;
+		this.sequences[this.tail] = sequence != null ? sequence : 0;
+		this.tail++;
+	}
+
+	private void ensureCapacity() {
+		int size = size();
+		if (this.head > 0 && size < this.messages.length / 2) {
+			System.arraycopy(this.messages, this.head, this.messages, 0, size);
+			System.arraycopy(this.sequences, this.head, this.sequences, 0, size);
+			Arrays.fill(this.messages, size, this.tail, null);
+		}
+		else {
+			int capacity = Math.max(INITIAL_CAPACITY, size << 1);
+			Message<?>[] newMessages = new Message<?>[capacity];
+			int[] newSequences = new int[capacity];
+			System.arraycopy(this.messages, this.head, newMessages, 0, size);
+			System.arraycopy(this.sequences, this.head, newSequences, 0, size);
+			this.messages = newMessages;
+			this.sequences = newSequences;
+		}
+		this.head = 0;
+		this.tail = size;
+	}
+
+	@Override
+	public boolean remove(Message<?> messageToRemove) {
+		int index = indexOf(messageToRemove);
+		if (index < 0) {
+			return false;
+		}
+		removeAt(index);
+		return true;
+	}
+
+	/**
+	 * Remove and return the first message of the group.
+	 * @return the first message or null if the group is empty.
+	 */
+	@Nullable
+	public Message<?> poll() {
+		if (this.head == this.tail) {
+			return null;
+		}
+		Message<?> message = this.messages[this.head];
+		removeAt(this.head);
+		return message;
+	}
+
+	private int indexOf(Object message) {
+		for (int i = this.head; i < this.tail; i++) {
+			if (this.messages[i] == message) {
+				return i;
+			}
+		}
+		for (int i = this.head; i < this.tail; i++) {
+			if (this.messages[i].equals(message)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void removeAt(int index) {
+		if (index == this.head) {
+			this.messages[this.head++] = null;
+		}
+		else {
+			int moved = this.tail - index - 1;
+			System.arraycopy(this.messages, index + 1, this.messages, index, moved);
+			System.arraycopy(this.sequences, index + 1, this.sequences, index, moved);
+			this.messages[--this.tail] = null;
+		}
+		if (this.head == this.tail) {
+			this.head = 0;
+			this.tail = 0;
+		}
+	}
+
+	/**
+	 * Return true if a message with this sequence number header exists in the group.
+	 * A message without the sequence number header is recorded with sequence number {@code 0}.
+	 * @param sequence the sequence number.
+	 * @return true if it exists.
+	 */
+	public boolean containsSequence(int sequence) {
+		for (int i = this.head; i < this.tail; i++) {
+			if (this.sequences[i] == sequence) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public Collection<Message<?>> getMessages() {
+		return this.messagesView;
+	}
+
+	@Override
+	public Object getGroupId() {
+		return this.groupId;
+	}
+
+	@Override
+	public int getLastReleasedMessageSequenceNumber() {
+		return this.lastReleasedMessageSequence;
+	}
+
+	@Override
+	public void setLastReleasedMessageSequenceNumber(int sequenceNumber) {
+		this.lastReleasedMessageSequence = sequenceNumber;
+	}
+
+	@Override
+	public boolean isComplete() {
+		return this.complete;
+	}
+
+	@Override
+	public void complete() {
+		this.complete = true;
+	}
+
+	@Override
+	public int getSequenceSize() {
+		Message<?> one = getOne();
+		return one != null ? new IntegrationMessageHeaderAccessor(one).getSequenceSize() : 0;
+	}
+
+	@Override
+	public int size() {
+		return this.tail - this.head;
+	}
+
+	@Override
+	@Nullable
+	public Message<?> getOne() {
+		return this.head < this.tail ? this.messages[this.head] : null;
+	}
+
+	@Override
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	@Override
+	public long getLastModified() {
+		return this.lastModified;
+	}
+
+	@Override
+	public void setLastModified(long lastModified) {
+		this.lastModified = lastModified;
+	}
+
+	@Override
+	public void setCondition(String condition) {
+		this.condition = condition;
+	}
+
+	@Override
+	@Nullable
+	public String getCondition() {
+		return this.condition;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.messages, this.head, this.tail, null);
+		this.head = 0;
+		this.tail = 0;
+	}
+
+	@Override
+	public String toString() {
+		return "ArrayMessageGroup{" +
+				"groupId=" + this.groupId +
+				", messages=" + this.messagesView +
+				", timestamp=" + this.timestamp +
+				", lastModified=" + this.lastModified +
+				'}';
+	}
+
+	private final class MessagesView extends AbstractList<Message<?>> implements RandomAccess {
+
+		MessagesView() {
+		}
+
+		@Override
+		public Message<?> get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			}
+			return ArrayMessageGroup.this.messages[ArrayMessageGroup.this.head + index];
+		}
+
+		@Override
+		public int size() {
+			return ArrayMessageGroup.this.size();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return indexOf(o) >= 0;
+		}
+
+	}
+
+}
@@ -16,6 +16,12 @@
 
 package org.springframework.integration.store;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
 /**
  * A marker interface that indicates this message store has optimizations for
  * use in a {@link org.springframework.integration.channel.QueueChannel}.
@@ -26,4 +32,25 @@ package org.springframework.integration.store;
  */
 public interface ChannelMessageStore extends BasicMessageGroupStore {
 
+	/**
+	 * Poll up to {@code maxMessages} messages from the {@link MessageGroup}
+	 * (in FIFO style if supported by the implementation) while also removing the polled messages.
+	 * The default implementation calls {@link #pollMessageFromGroup(Object)} until the group
+	 * is exhausted or {@code maxMessages} are polled; implementations are encouraged to
+	 * override it with a single round-trip to the store.
+	 * @param groupId The group identifier.
+	 * @param maxMessages The maximum number of messages to poll.
+	 * @return The polled messages; an empty list if the group is empty.
+	 * @since 6.3
+	 */
+	default List<Message<?>> pollMessagesFromGroup(Object groupId, int maxMessages) {
+		Assert.isTrue(maxMessages > 0, "'maxMessages' must be greater than 0");
+		List<Message<?>> messages = new ArrayList<>(Math.min(maxMessages, 16));
+		Message<?> message;
+		while (messages.size() < maxMessages && (message = pollMessageFromGroup(groupId)) != null) {
+			messages.add(message);
+		}
+		return messages;
+	}
+
 }
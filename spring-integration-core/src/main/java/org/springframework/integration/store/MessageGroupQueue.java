@@ -17,9 +17,13 @@
 package org.springframework.integration.store;
 
 import java.util.AbstractQueue;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
@@ -31,6 +35,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.messaging.Message;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -38,6 +43,10 @@ import org.springframework.util.Assert;
  * the face of transaction rollback (assuming the store is transactional) and also to ensure messages are not lost if
  * the process dies (assuming the store is durable). To use the queue across process re-starts, the same group id
  * must be provided, so it needs to be unique but identifiable with a single logical instance of the queue.
+ * <p>
+ * With a {@link #setPrefetchSize(int) prefetch size} greater than 1, the queue polls several messages
+ * from a {@link ChannelMessageStore} in one go and serves subsequent polls from a local buffer
+ * before hitting the store again; except within a transaction, where a single message is polled.
  *
  * @author Dave Syer
  * @author Oleg Zhurakousky
@@ -67,6 +76,14 @@ public class MessageGroupQueue extends AbstractQueue<Message<?>> implements Bloc
 
 	private final Condition messageStoreNotEmpty;
 
+	// Guarded by the 'storeLock'
+	private final Deque<Message<?>> prefetched = new ArrayDeque<>();
+
+	// The size of the 'prefetched', updated under the 'storeLock' for the lock-free size()
+	private volatile int prefetchedCount;
+
+	private int prefetchSize = 1;
+
 	public MessageGroupQueue(BasicMessageGroupStore messageGroupStore, Object groupId) {
 		this(messageGroupStore, groupId, DEFAULT_CAPACITY, new ReentrantLock(true));
 	}
@@ -118,6 +135,30 @@ public class MessageGroupQueue extends AbstractQueue<Message<?>> implements Bloc
 		}
 	}
 
+	/**
+	 * Set the number of messages to poll from the store in one go.
+	 * The messages beyond the requested one are kept in a local buffer and
+	 * returned from the subsequent polls before hitting the store again.
+	 * Requires a {@link ChannelMessageStore} when greater than 1; defaults to 1 - no prefetching.
+	 * <p>
+	 * The prefetched messages are already removed from the store: they are not visible
+	 * to other consumers of the same group and are lost if the process dies.
+	 * No prefetching is performed within a transaction (e.g. a transactional poller):
+	 * a rollback would return all the polled messages back to the store while the extra
+	 * ones are still in the local buffer, causing duplicates; so a single message is
+	 * polled from the store instead.
+	 * @param prefetchSize the number of messages to poll from the store in one go.
+	 * @since 6.3
+	 */
+	public void setPrefetchSize(int prefetchSize) {
+		Assert.isTrue(prefetchSize > 0, "'prefetchSize' must be greater than 0");
+		if (prefetchSize > 1) {
+			Assert.isInstanceOf(ChannelMessageStore.class, this.messageGroupStore,
+					"A 'ChannelMessageStore' is required for prefetching: ");
+		}
+		this.prefetchSize = prefetchSize;
+	}
+
 	@Override
 	public Iterator<Message<?>> iterator() {
 		return stream().iterator();
@@ -161,7 +202,7 @@ public class MessageGroupQueue extends AbstractQueue<Message<?>> implements Bloc
 
 	@Override
 	public int size() {
-		return this.messageGroupStore.messageGroupSize(this.groupId);
+		return this.messageGroupStore.messageGroupSize(this.groupId) + this.prefetchedCount;
 	}
 
 	@Override
@@ -234,10 +275,20 @@ public class MessageGroupQueue extends AbstractQueue<Message<?>> implements Bloc
 		try {
 			lock.lockInterruptibly();
 			try {
-				Message<?> message = this.messageGroupStore.pollMessageFromGroup(this.groupId);
-				for (int i = 0; i < maxElements && message != null; i++) {
+				int remaining = maxElements;
+				Message<?> message;
+				while (remaining > 0 && (message = this.prefetched.poll()) != null) {
 					list.add(message);
-					message = this.messageGroupStore.pollMessageFromGroup(this.groupId);
+					remaining--;
+				}
+				this.prefetchedCount = this.prefetched.size();
+				while (remaining > 0) {
+					List<Message<?>> polled = pollFromStore(Math.min(remaining, this.prefetchSize));
+					if (polled.isEmpty()) {
+						break;
+					}
+					list.addAll(polled);
+					remaining -= polled.size();
 				}
 				this.messageStoreNotFull.signal();
 			}
@@ -345,7 +396,19 @@ public class MessageGroupQueue extends AbstractQueue<Message<?>> implements Bloc
 
 	@Override
 	public Stream<Message<?>> stream() {
-		return this.messageGroupStore.getMessageGroup(this.groupId).streamMessages();
+		Stream<Message<?>> stored = this.messageGroupStore.getMessageGroup(this.groupId).streamMessages();
+		if (this.prefetchSize > 1) {
+			List<Message<?>> prefetchedMessages;
+			this.storeLock.lock();
+			try {
+				prefetchedMessages = new ArrayList<>(this.prefetched);
+			}
+			finally {
+				this.storeLock.unlock();
+			}
+			return Stream.concat(prefetchedMessages.stream(), stored);
+		}
+		return stored;
 	}
 
 	/**
@@ -354,11 +417,35 @@ public class MessageGroupQueue extends AbstractQueue<Message<?>> implements Bloc
 	 * @return a message // TODO @Nullable
 	 */
 	protected Message<?> doPoll() {
-		Message<?> message = this.messageGroupStore.pollMessageFromGroup(this.groupId);
+		Message<?> message = this.prefetched.poll();
+		if (message != null) {
+			this.prefetchedCount = this.prefetched.size();
+		}
+		else {
+			if (this.prefetchSize > 1 && !TransactionSynchronizationManager.isActualTransactionActive()) {
+				List<Message<?>> polled = pollFromStore(this.prefetchSize);
+				if (!polled.isEmpty()) {
+					message = polled.get(0);
+					this.prefetched.addAll(polled.subList(1, polled.size()));
+					this.prefetchedCount = this.prefetched.size();
+				}
+			}
+			else {
+				message = this.messageGroupStore.pollMessageFromGroup(this.groupId);
+			}
+		}
 		this.messageStoreNotFull.signal();
 		return message;
 	}
 
+	private List<Message<?>> pollFromStore(int maxMessages) {
+		if (maxMessages > 1) {
+			return ((ChannelMessageStore) this.messageGroupStore).pollMessagesFromGroup(this.groupId, maxMessages);
+		}
+		Message<?> message = this.messageGroupStore.pollMessageFromGroup(this.groupId);
+		return message != null ? Collections.singletonList(message) : Collections.emptyList();
+	}
+
 	/**
 	 * It is assumed that the 'storeLock' is being held by the caller, otherwise
 	 * IllegalMonitorStateException may be thrown.
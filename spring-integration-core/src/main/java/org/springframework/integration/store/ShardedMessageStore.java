@@ -0,0 +1,486 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.util.Assert;
+
+/**
+ * In-memory {@link MessageGroupStore} for a large number of concurrently active groups.
+ * The groups are distributed over a fixed number of shards by the hash of their id;
+ * each shard is a plain {@link HashMap} guarded by its own lock, so operations on
+ * groups from different shards don't contend, and there is no per-group lock or
+ * capacity semaphore to allocate.
+ * The groups are {@link ArrayMessageGroup}s and the {@link #getMessageGroup(Object)} returns
+ * the live group (like the {@link SimpleMessageStore} with the default {@code copyOnGet = false}).
+ * <p>
+ * Unlike the {@link SimpleMessageStore}, individual messages (the {@link MessageStore} contract)
+ * are not supported, the group capacity is enforced without waiting for a free slot,
+ * and the {@link #setMessageGroupFactory(MessageGroupFactory) MessageGroupFactory} is not used.
+ *
+ * @since 6.3
+ */
+public class ShardedMessageStore extends AbstractMessageGroupStore implements ChannelMessageStore {
+
+	/**
+	 * The default number of shards.
+	 */
+	public static final int DEFAULT_SHARDS = 64;
+
+	private static final String MESSAGE_GROUP_FOR_GROUP_ID = "MessageGroup for groupId '";
+
+	private final Shard[] shards;
+
+	private final int shardMask;
+
+	private final int groupCapacity;
+
+	/**
+	 * Create a store with {@link #DEFAULT_SHARDS} shards and unlimited group capacity.
+	 */
+	public ShardedMessageStore() {
+		this(DEFAULT_SHARDS);
+	}
+
+	/**
+	 * Create a store with the provided number of shards and unlimited group capacity.
+	 * @param shards the number of shards; rounded up to the next power of two.
+	 */
+	public ShardedMessageStore(int shards) {
+		this(shards, 0);
+	}
+
+	/**
+	 * Create a store with the provided number of shards and group capacity.
+	 * Once a group has reached the capacity, adding another message to it fails with
+	 * a {@link MessagingException}.
+	 * @param shards the number of shards; rounded up to the next power of two.
+	 * @param groupCapacity the capacity of each group; unlimited if less than 1.
+	 */
+	public ShardedMessageStore(int shards, int groupCapacity) {
+		super(false);
+		Assert.isTrue(shards > 0, "'shards' must be greater than 0");
+		int shardCount = Integer.highestOneBit(shards);
+		if (shardCount < shards) {
+			shardCount <<= 1;
+		}
+		this.shards = new Shard[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			this.shards[i] = new Shard();
+		}
+		this.shardMask = shardCount - 1;
+		this.groupCapacity = groupCapacity;
+	}
+
+	@Override
+	public void setLazyLoadMessageGroups(boolean lazyLoadMessageGroups) {
+		throw new UnsupportedOperationException("The lazy-load isn't supported for in-memory 'ShardedMessageStore'");
+	}
+
+	/**
+	 * Return the number of shards.
+	 * @return the number of shards.
+	 */
+	public int getShardCount() {
+		return this.shards.length;
+	}
+
+	private Shard shardFor(Object groupId) {
+		int hash = groupId.hashCode();
+		return this.shards[(hash ^ (hash >>> 16)) & this.shardMask];
+	}
+
+	@Override
+	public MessageGroup getMessageGroup(Object groupId) {
+		Assert.notNull(groupId, "'groupId' must not be null");
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			return group != null ? group : new ArrayMessageGroup(groupId);
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	protected MessageGroup copy(MessageGroup group) {
+		Shard shard = shardFor(group.getGroupId());
+		shard.lock.lock();
+		try {
+			return new ArrayMessageGroup(group);
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public MessageGroup addMessageToGroup(Object groupId, Message<?> message) {
+		return doAddMessagesToGroup(groupId, message);
+	}
+
+	@Override
+	public void addMessagesToGroup(Object groupId, Message<?>... messages) {
+		doAddMessagesToGroup(groupId, messages);
+	}
+
+	private MessageGroup doAddMessagesToGroup(Object groupId, Message<?>... messages) {
+		Assert.notNull(groupId, "'groupId' must not be null");
+		Assert.notNull(messages, "'messages' must not be null");
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			int size = group != null ? group.size() : 0;
+			if (this.groupCapacity > 0 && size + messages.length > this.groupCapacity) {
+				throw new MessagingException(getClass().getSimpleName() +
+						" was out of capacity (" + this.groupCapacity + ") for group '" + groupId +
+						"', try constructing it with a larger number.");
+			}
+			if (group == null) {
+				group = new ArrayMessageGroup(groupId);
+				shard.groups.put(groupId, group);
+			}
+			for (Message<?> message : messages) {
+				group.add(message);
+			}
+			group.setLastModified(System.currentTimeMillis());
+			return group;
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public void removeMessageGroup(Object groupId) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			shard.groups.remove(groupId);
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public void removeMessagesFromGroup(Object groupId, Collection<Message<?>> messages) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			Assert.notNull(group,
+					() -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' " +
+							"can not be located while attempting to remove Message(s) from the MessageGroup");
+			boolean modified = false;
+			if (messages == group.getMessages()) {
+				modified = group.size() > 0;
+				group.clear();
+			}
+			else {
+				for (Message<?> messageToRemove : messages) {
+					modified |= group.remove(messageToRemove);
+				}
+			}
+			if (modified) {
+				group.setLastModified(System.currentTimeMillis());
+			}
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	@Nullable
+	public Message<?> getMessageFromGroup(Object groupId, UUID messageId) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			Assert.notNull(group, () -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' does not exists");
+			for (Message<?> message : group.getMessages()) {
+				if (messageId.equals(message.getHeaders().getId())) {
+					return message;
+				}
+			}
+			return null;
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean removeMessageFromGroupById(Object groupId, UUID messageId) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			Assert.notNull(group,
+					() -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' " +
+							"can not be located while attempting to remove Message from the MessageGroup");
+			for (Message<?> message : group.getMessages()) {
+				if (messageId.equals(message.getHeaders().getId())) {
+					group.remove(message);
+					group.setLastModified(System.currentTimeMillis());
+					return true;
+				}
+			}
+			return false;
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public Iterator<MessageGroup> iterator() {
+		List<MessageGroup> groups = new ArrayList<>();
+		for (Shard shard : this.shards) {
+			shard.lock.lock();
+			try {
+				groups.addAll(shard.groups.values());
+			}
+			finally {
+				shard.lock.unlock();
+			}
+		}
+		return groups.iterator();
+	}
+
+	@Override
+	@ManagedAttribute
+	public int getMessageGroupCount() {
+		int count = 0;
+		for (Shard shard : this.shards) {
+			shard.lock.lock();
+			try {
+				count += shard.groups.size();
+			}
+			finally {
+				shard.lock.unlock();
+			}
+		}
+		return count;
+	}
+
+	@Override
+	@ManagedAttribute
+	public int getMessageCountForAllMessageGroups() {
+		int count = 0;
+		for (Shard shard : this.shards) {
+			shard.lock.lock();
+			try {
+				for (ArrayMessageGroup group : shard.groups.values()) {
+					count += group.size();
+				}
+			}
+			finally {
+				shard.lock.unlock();
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public void setGroupCondition(Object groupId, String condition) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			if (group != null) {
+				group.setCondition(condition);
+			}
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public void setLastReleasedSequenceNumberForGroup(Object groupId, int sequenceNumber) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			Assert.notNull(group,
+					() -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' " +
+							"can not be located while attempting to set 'lastReleasedSequenceNumber'");
+			group.setLastReleasedMessageSequenceNumber(sequenceNumber);
+			group.setLastModified(System.currentTimeMillis());
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public void completeGroup(Object groupId) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			Assert.notNull(group,
+					() -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' " +
+							"can not be located while attempting to complete the MessageGroup");
+			group.complete();
+			group.setLastModified(System.currentTimeMillis());
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove all the messages from the group, but keep the group itself.
+	 * @param groupId the group id.
+	 */
+	public void clearMessageGroup(Object groupId) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			Assert.notNull(group,
+					() -> MESSAGE_GROUP_FOR_GROUP_ID + groupId + "' " +
+							"can not be located while attempting to clear the MessageGroup");
+			group.clear();
+			group.setLastModified(System.currentTimeMillis());
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	@Nullable
+	public Message<?> pollMessageFromGroup(Object groupId) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			Message<?> message = group != null ? group.poll() : null;
+			if (message != null) {
+				group.setLastModified(System.currentTimeMillis());
+			}
+			return message;
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public List<Message<?>> pollMessagesFromGroup(Object groupId, int maxMessages) {
+		Assert.isTrue(maxMessages > 0, "'maxMessages' must be greater than 0");
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			if (group == null || group.size() == 0) {
+				return new ArrayList<>();
+			}
+			List<Message<?>> messages = new ArrayList<>(Math.min(maxMessages, group.size()));
+			Message<?> message;
+			while (messages.size() < maxMessages && (message = group.poll()) != null) {
+				messages.add(message);
+			}
+			group.setLastModified(System.currentTimeMillis());
+			return messages;
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public int messageGroupSize(Object groupId) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			return group != null ? group.size() : 0;
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	public MessageGroupMetadata getGroupMetadata(Object groupId) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			return new MessageGroupMetadata(getMessageGroup(groupId));
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	@Override
+	@Nullable
+	public Message<?> getOneMessageFromGroup(Object groupId) {
+		return getMessageGroup(groupId).getOne();
+	}
+
+	/**
+	 * Return a snapshot of the messages in the group.
+	 * Use {@link #getMessageGroup(Object)} for the live (read-only) view.
+	 * @param groupId The group id.
+	 * @return the messages.
+	 */
+	@Override
+	public Collection<Message<?>> getMessagesForGroup(Object groupId) {
+		Shard shard = shardFor(groupId);
+		shard.lock.lock();
+		try {
+			ArrayMessageGroup group = shard.groups.get(groupId);
+			return group != null ? new ArrayList<>(group.getMessages()) : new ArrayList<>();
+		}
+		finally {
+			shard.lock.unlock();
+		}
+	}
+
+	private static final class Shard {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Map<Object, ArrayMessageGroup> groups = new HashMap<>();
+
+		Shard() {
+		}
+
+	}
+
+}
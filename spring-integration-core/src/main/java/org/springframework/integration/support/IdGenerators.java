@@ -16,7 +16,9 @@
 
 package org.springframework.integration.support;
 
+import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.util.IdGenerator;
@@ -80,4 +82,141 @@ public class IdGenerators {
 
 	}
 
+	/**
+	 * Time-ordered {@link UUID}s - version 7 of the RFC 9562: the 48 most significant bits
+	 * are the Unix epoch time in milliseconds, followed by a 12-bit counter and 62 random bits.
+	 * <p>
+	 * Each thread keeps its own sequence block: the random bits are drawn from the
+	 * {@link ThreadLocalRandom} once per millisecond and the counter is incremented for each id in
+	 * the same millisecond; when it overflows, the time is advanced by one millisecond, so the ids
+	 * generated by the same thread are strictly increasing, even if the clock moves backwards.
+	 * Ids generated on different threads and nodes within the same millisecond are distinguished
+	 * by their random bits.
+	 * No shared state is updated, so the generation doesn't contend between threads.
+	 * <p>
+	 * The ids are roughly ordered by their creation time across threads and nodes,
+	 * which makes them friendlier for the indexes of persistent message stores.
+	 * The random bits are not cryptographically secure.
+	 *
+	 * @since 6.3
+	 */
+	public static class TimeOrderedIdGenerator implements IdGenerator {
+
+		private static final int MAX_COUNTER = 0xfff;
+
+		private static final long VERSION = 0x7000L;
+
+		private static final long VARIANT = 0x8000000000000000L;
+
+		private static final long RANDOM_MASK = 0x3fffffffffffffffL;
+
+		private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+		@Override
+		public UUID generateId() {
+			Block block = this.blocks.get();
+			long now = System.currentTimeMillis();
+			if (now > block.millis) {
+				block.millis = now;
+				block.counter = 0;
+				block.random = ThreadLocalRandom.current().nextLong();
+			}
+			else if (++block.counter > MAX_COUNTER) {
+				block.millis++;
+				block.counter = 0;
+				block.random = ThreadLocalRandom.current().nextLong();
+			}
+			return new UUID((block.millis << 16) | VERSION | block.counter, (block.random & RANDOM_MASK) | VARIANT);
+		}
+
+		private static final class Block {
+
+			long millis = -1;
+
+			int counter;
+
+			long random;
+
+			Block() {
+			}
+
+		}
+
+	}
+
+	/**
+	 * {@link UUID}s composed of a node id (the most significant bits) and an incrementing
+	 * counter (the least significant bits).
+	 * The ids are unique across nodes as long as each node uses its own node id;
+	 * the default constructor uses a random node id.
+	 * <p>
+	 * The counter starts at the current time in milliseconds shifted left by 20 bits, so the ids
+	 * generated by a node after a restart don't repeat the ids of its previous run, unless
+	 * more than 2^20 ids per millisecond were generated on average during that run.
+	 * Each thread reserves blocks of counter values, so the shared counter is only updated
+	 * once per block; consequently, the ids are not ordered across threads.
+	 * The first block of a thread is small and the next ones double in size up to 1024 values,
+	 * so short-lived (e.g. virtual) threads leave few reserved values unused.
+	 *
+	 * @since 6.3
+	 */
+	public static class NodeIncrementingIdGenerator implements IdGenerator {
+
+		private static final int MIN_BLOCK_SIZE = 16;
+
+		private static final int MAX_BLOCK_SIZE = 1024;
+
+		private final AtomicLong counter = new AtomicLong(System.currentTimeMillis() << 20);
+
+		private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+		private final long nodeId;
+
+		/**
+		 * Create an instance with a random node id.
+		 */
+		public NodeIncrementingIdGenerator() {
+			this(new SecureRandom().nextLong());
+		}
+
+		/**
+		 * Create an instance with the provided node id.
+		 * @param nodeId the node id, unique across the nodes generating ids for the same system.
+		 */
+		public NodeIncrementingIdGenerator(long nodeId) {
+			this.nodeId = nodeId;
+		}
+
+		public long getNodeId() {
+			return this.nodeId;
+		}
+
+		@Override
+		public UUID generateId() {
+			Block block = this.blocks.get();
+			if (block.next == block.limit) {
+				block.next = this.counter.getAndAdd(block.size);
+				block.limit = block.next + block.size;
+				if (block.size < MAX_BLOCK_SIZE) {
+					block.size <<= 1;
+				}
+			}
+			return new UUID(this.nodeId, block.next++);
+		}
+
+		private static final class Block {
+
+			long next;
+
+			long limit;
+
+			int size = MIN_BLOCK_SIZE;
+
+			Block() {
+			}
+
+		}
+
+	}
+
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.locks;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An in-memory {@link LockRegistry} with a lock per key, instead of the fixed table of
+ * locks shared by all the keys with the same masked hash code in the {@link DefaultLockRegistry}.
+ * Unrelated keys never contend, regardless of the number of keys.
+ * <p>
+ * A lock is created when a thread first locks (or waits for) a key, and is reference counted:
+ * it is removed from the registry when the last thread holding or waiting for it unlocks,
+ * so the registry does not grow with the number of keys ever locked.
+ * The {@link Lock} returned by {@link #obtain(Object)} is a lightweight handle to the lock of the key;
+ * handles obtained for equal keys are interchangeable.
+ * <p>
+ * {@link Lock#tryLock()} on a key locked by another thread fails without creating or
+ * updating any registry state.
+ * <p>
+ * A {@link Condition} from the {@link Lock#newCondition()} is bound to the key, not to the
+ * lock currently registered for it: it delegates to a condition of that lock, which must be
+ * held by the calling thread, as for a {@link ReentrantLock}. A waiting thread keeps the lock
+ * of the key registered, so the signals from other threads holding the key reach it.
+ *
+ * @since 6.3
+ */
+public final class PerKeyLockRegistry implements LockRegistry {
+
+	private static final int BINS_PER_THREAD = 16;
+
+	private final ConcurrentMap<Object, KeyLock> locks;
+
+	/**
+	 * Construct an instance sized for the number of available processors.
+	 */
+	public PerKeyLockRegistry() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Construct an instance sized for the provided number of concurrently locking threads.
+	 * @param concurrencyLevel the estimated number of threads locking concurrently.
+	 */
+	public PerKeyLockRegistry(int concurrencyLevel) {
+		Assert.isTrue(concurrencyLevel > 0, "'concurrencyLevel' must be greater than 0");
+		this.locks = new ConcurrentHashMap<>(concurrencyLevel * BINS_PER_THREAD, 0.75f, concurrencyLevel); // NOSONAR
+	}
+
+	@Override
+	public Lock obtain(Object lockKey) {
+		Assert.notNull(lockKey, "'lockKey' must not be null");
+		return new PerKeyLock(lockKey);
+	}
+
+	private KeyLock retain(Object lockKey) {
+		return this.locks.compute(lockKey, (key, lock) -> {
+			KeyLock keyLock = lock != null ? lock : new KeyLock();
+			keyLock.references++;
+			return keyLock;
+		});
+	}
+
+	private void release(Object lockKey) {
+		this.locks.computeIfPresent(lockKey, (key, lock) -> --lock.references == 0 ? null : lock);
+	}
+
+	@SuppressWarnings("serial")
+	private static final class KeyLock extends ReentrantLock {
+
+		/**
+		 * The number of threads holding or waiting for the lock; guarded by the map bin of the key.
+		 */
+		private int references;
+
+		/**
+		 * The conditions of this lock per {@link PerKeyCondition}; guarded by this lock.
+		 */
+		@Nullable
+		private Map<PerKeyCondition, Condition> conditions;
+
+		KeyLock() {
+		}
+
+		Condition conditionFor(PerKeyCondition perKeyCondition) {
+			if (this.conditions == null) {
+				this.conditions = new HashMap<>();
+			}
+			return this.conditions.computeIfAbsent(perKeyCondition, (key) -> newCondition());
+		}
+
+	}
+
+	private final class PerKeyLock implements Lock {
+
+		private final Object lockKey;
+
+		PerKeyLock(Object lockKey) {
+			this.lockKey = lockKey;
+		}
+
+		@Override
+		public void lock() {
+			retain(this.lockKey).lock();
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			KeyLock lock = retain(this.lockKey);
+			try {
+				lock.lockInterruptibly();
+			}
+			catch (InterruptedException ex) {
+				release(this.lockKey);
+				throw ex;
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			KeyLock existing = PerKeyLockRegistry.this.locks.get(this.lockKey);
+			if (existing != null && existing.isLocked() && !existing.isHeldByCurrentThread()) {
+				return false;
+			}
+			if (retain(this.lockKey).tryLock()) {
+				return true;
+			}
+			release(this.lockKey);
+			return false;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			KeyLock lock = retain(this.lockKey);
+			boolean locked = false;
+			try {
+				locked = lock.tryLock(time, unit);
+				return locked;
+			}
+			finally {
+				if (!locked) {
+					release(this.lockKey);
+				}
+			}
+		}
+
+		@Override
+		public void unlock() {
+			KeyLock lock = PerKeyLockRegistry.this.locks.get(this.lockKey);
+			if (lock == null) {
+				throw new IllegalMonitorStateException("The lock for [" + this.lockKey + "] is not held");
+			}
+			lock.unlock();
+			release(this.lockKey);
+		}
+
+		@Override
+		public Condition newCondition() {
+			return new PerKeyCondition(this.lockKey);
+		}
+
+		@Override
+		public String toString() {
+			return "PerKeyLock [lockKey=" + this.lockKey + "]";
+		}
+
+	}
+
+	private final class PerKeyCondition implements Condition {
+
+		private final Object lockKey;
+
+		PerKeyCondition(Object lockKey) {
+			this.lockKey = lockKey;
+		}
+
+		private Condition condition() {
+			KeyLock lock = PerKeyLockRegistry.this.locks.get(this.lockKey);
+			if (lock == null || !lock.isHeldByCurrentThread()) {
+				throw new IllegalMonitorStateException("The lock for [" + this.lockKey + "] is not held");
+			}
+			return lock.conditionFor(this);
+		}
+
+		@Override
+		public void await() throws InterruptedException {
+			condition().await();
+		}
+
+		@Override
+		public void awaitUninterruptibly() {
+			condition().awaitUninterruptibly();
+		}
+
+		@Override
+		public long awaitNanos(long nanosTimeout) throws InterruptedException {
+			return condition().awaitNanos(nanosTimeout);
+		}
+
+		@Override
+		public boolean await(long time, TimeUnit unit) throws InterruptedException {
+			return condition().await(time, unit);
+		}
+
+		@Override
+		public boolean awaitUntil(Date deadline) throws InterruptedException {
+			return condition().awaitUntil(deadline);
+		}
+
+		@Override
+		public void signal() {
+			condition().signal();
+		}
+
+		@Override
+		public void signalAll() {
+			condition().signalAll();
+		}
+
+		@Override
+		public String toString() {
+			return "PerKeyCondition [lockKey=" + this.lockKey + "]";
+		}
+
+	}
+
+}
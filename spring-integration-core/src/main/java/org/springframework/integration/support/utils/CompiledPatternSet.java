@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * A set of simple patterns (see {@link PatternMatchUtils#simpleMatch(String, String)})
+ * compiled for matching names against all of them at once.
+ * Patterns without wildcards are looked up in a hash set; {@code xxx*} and {@code *xxx} patterns
+ * are held in character tries, walked from the start and from the end of the name respectively;
+ * only the other patterns (such as {@code xxx*yyy}) are matched one by one.
+ * <p>
+ * The matching is case-sensitive: lower case both the patterns and the names to match
+ * ignoring case.
+ *
+ * @since 6.3
+ */
+public final class CompiledPatternSet {
+
+	private final Set<String> names = new HashSet<>();
+
+	private final Node prefixes = new Node();
+
+	private final Node suffixes = new Node();
+
+	private final List<String> otherPatterns = new ArrayList<>();
+
+	private boolean matchAll;
+
+	/**
+	 * Compile the provided patterns.
+	 * @param patterns the patterns.
+	 */
+	public CompiledPatternSet(Collection<String> patterns) {
+		Assert.notNull(patterns, "'patterns' must not be null");
+		for (String pattern : patterns) {
+			int first = pattern.indexOf('*');
+			int last = pattern.lastIndexOf('*');
+			int length = pattern.length();
+			if (first < 0) {
+				this.names.add(pattern);
+			}
+			else if (length == 1) {
+				this.matchAll = true;
+			}
+			else if (first == last && first == length - 1) {
+				Node node = this.prefixes;
+				for (int i = 0; i < length - 1; i++) {
+					node = node.addChild(pattern.charAt(i));
+				}
+				node.terminal = true;
+			}
+			else if (first == last && first == 0) {
+				Node node = this.suffixes;
+				for (int i = length - 1; i > 0; i--) {
+					node = node.addChild(pattern.charAt(i));
+				}
+				node.terminal = true;
+			}
+			else {
+				this.otherPatterns.add(pattern);
+			}
+		}
+	}
+
+	/**
+	 * Return true if the name matches any of the patterns.
+	 * @param name the name.
+	 * @return true if it matches.
+	 */
+	public boolean match(String name) {
+		if (this.matchAll || this.names.contains(name)) {
+			return true;
+		}
+		int length = name.length();
+		Node node = this.prefixes;
+		for (int i = 0; i < length && node != null; i++) {
+			node = node.child(name.charAt(i));
+			if (node != null && node.terminal) {
+				return true;
+			}
+		}
+		node = this.suffixes;
+		for (int i = length - 1; i >= 0 && node != null; i--) {
+			node = node.child(name.charAt(i));
+			if (node != null && node.terminal) {
+				return true;
+			}
+		}
+		for (String pattern : this.otherPatterns) {
+			if (PatternMatchUtils.simpleMatch(pattern, name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class Node {
+
+		private char[] keys = new char[0];
+
+		private Node[] children = new Node[0];
+
+		private boolean terminal;
+
+		Node() {
+		}
+
+		@Nullable
+		Node child(char key) {
+			for (int i = 0; i < this.keys.length; i++) {
+				if (this.keys[i] == key) {
+					return this.children[i];
+				}
+			}
+			return null;
+		}
+
+		Node addChild(char key) {
+			Node child = child(key);
+			if (child == null) {
+				int size = this.keys.length;
+				this.keys = Arrays.copyOf(this.keys, size + 1);
+				this.children = Arrays.copyOf(this.children, size + 1);
+				child = new Node();
+				this.keys[size] = key;
+				this.children[size] = child;
+			}
+			return child;
+		}
+
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+
+/**
+ * A lock-free cache of the results of a name matching function, such as a
+ * {@link CompiledPatternSet} match, bounded to a maximum number of names.
+ * When the bound is reached, the cache is cleared and starts over with the names
+ * matched from then on, so a changing set of names does not stop the caching.
+ *
+ * @since 6.3
+ */
+public final class NameMatchCache {
+
+	/**
+	 * The default maximum number of cached names.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 1024;
+
+	private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+	private final Predicate<String> matcher;
+
+	private final int maxSize;
+
+	/**
+	 * Create a cache for up to {@value #DEFAULT_MAX_SIZE} names.
+	 * @param matcher the matching function to cache the results of.
+	 */
+	public NameMatchCache(Predicate<String> matcher) {
+		this(matcher, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Create a cache for up to the provided number of names.
+	 * @param matcher the matching function to cache the results of.
+	 * @param maxSize the maximum number of cached names.
+	 */
+	public NameMatchCache(Predicate<String> matcher, int maxSize) {
+		Assert.notNull(matcher, "'matcher' must not be null");
+		Assert.isTrue(maxSize > 0, "'maxSize' must be greater than 0");
+		this.matcher = matcher;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Return the cached result for the name, or match it and cache the result.
+	 * @param name the name to match.
+	 * @return the match result.
+	 */
+	public boolean match(String name) {
+		Boolean result = this.results.get(name);
+		if (result == null) {
+			result = this.matcher.test(name);
+			if (this.results.size() >= this.maxSize) {
+				// The names in use are cached again on their next match
+				this.results.clear();
+			}
+			this.results.put(name, result);
+		}
+		return result;
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.util;
 
+import java.util.function.Function;
+
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
@@ -27,6 +29,7 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.integration.expression.ExpressionCompilationPolicy;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.support.DefaultMessageBuilderFactory;
 import org.springframework.integration.support.MessageBuilderFactory;
@@ -57,6 +60,8 @@ public abstract class AbstractExpressionEvaluator implements BeanFactoryAware, I
 
 	private volatile MessageBuilderFactory messageBuilderFactory = new DefaultMessageBuilderFactory();
 
+	private volatile ExpressionCompilationPolicy compilationPolicy;
+
 	/**
 	 * Specify a BeanFactory in order to enable resolution via <code>@beanName</code> in the expression.
 	 */
@@ -89,6 +94,7 @@ public abstract class AbstractExpressionEvaluator implements BeanFactoryAware, I
 		if (this.beanFactory != null) {
 			this.messageBuilderFactory = IntegrationUtils.getMessageBuilderFactory(this.beanFactory);
 		}
+		this.compilationPolicy = ExpressionUtils.createCompilationPolicy(this.beanFactory);
 
 		onInit();
 	}
@@ -121,6 +127,45 @@ public abstract class AbstractExpressionEvaluator implements BeanFactoryAware, I
 		return this.evaluationContext;
 	}
 
+	/**
+	 * Return true if the expressions evaluated by this component are subject to the
+	 * {@link ExpressionCompilationPolicy}.
+	 * Subclasses evaluating arbitrary (e.g. per-message) expressions, or managing the
+	 * compilation on their own, should return false.
+	 * @return true to apply the compilation policy.
+	 * @since 6.3
+	 */
+	protected boolean isExpressionCompilationSupported() {
+		return true;
+	}
+
+	private ExpressionCompilationPolicy getCompilationPolicy() {
+		if (this.compilationPolicy == null) {
+			this.compilationPolicy = ExpressionUtils.createCompilationPolicy(this.beanFactory);
+		}
+		return this.compilationPolicy;
+	}
+
+	private boolean isCompiled(Expression expression) {
+		return isExpressionCompilationSupported() && getCompilationPolicy().isCompiled(expression);
+	}
+
+	/**
+	 * Rethrow the failure of a compiled expression unless it has been reverted
+	 * to the interpreted mode; then the caller falls back to {@link #evaluate}.
+	 */
+	private void revertOrRethrow(Expression expression, EvaluationException ex) {
+		getCompilationPolicy().revertOrRethrow(expression, ex);
+	}
+
+	@Nullable
+	private <T> T evaluate(Expression expression, Function<Expression, T> evaluation) {
+		if (isExpressionCompilationSupported()) {
+			return getCompilationPolicy().evaluate(expression, evaluation);
+		}
+		return evaluation.apply(expression);
+	}
+
 	@Nullable
 	protected <T> T evaluateExpression(Expression expression, Message<?> message, @Nullable Class<T> expectedType) {
 		try {
@@ -156,17 +201,41 @@ public abstract class AbstractExpressionEvaluator implements BeanFactoryAware, I
 
 	@Nullable
 	protected <T> T evaluateExpression(Expression expression, @Nullable Class<T> expectedType) {
-		return expression.getValue(getEvaluationContext(), expectedType);
+		if (isCompiled(expression)) {
+			try {
+				return expression.getValue(getEvaluationContext(), expectedType);
+			}
+			catch (EvaluationException ex) {
+				revertOrRethrow(expression, ex);
+			}
+		}
+		return evaluate(expression, (expr) -> expr.getValue(getEvaluationContext(), expectedType));
 	}
 
 	@Nullable
 	protected Object evaluateExpression(Expression expression) {
-		return expression.getValue(getEvaluationContext());
+		if (isCompiled(expression)) {
+			try {
+				return expression.getValue(getEvaluationContext());
+			}
+			catch (EvaluationException ex) {
+				revertOrRethrow(expression, ex);
+			}
+		}
+		return evaluate(expression, (expr) -> expr.getValue(getEvaluationContext()));
 	}
 
 	@Nullable
 	protected <T> T evaluateExpression(Expression expression, Object input, @Nullable Class<T> expectedType) {
-		return expression.getValue(getEvaluationContext(), input, expectedType);
+		if (isCompiled(expression)) {
+			try {
+				return expression.getValue(getEvaluationContext(), input, expectedType);
+			}
+			catch (EvaluationException ex) {
+				revertOrRethrow(expression, ex);
+			}
+		}
+		return evaluate(expression, (expr) -> expr.getValue(getEvaluationContext(), input, expectedType));
 	}
 
 	protected void onInit() {
@@ -17,6 +17,9 @@
 package org.springframework.integration.util;
 
 import java.beans.PropertyEditor;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.SimpleTypeConverter;
@@ -31,6 +34,7 @@ import org.springframework.integration.history.MessageHistory;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * @author Dave Syer
@@ -41,6 +45,15 @@ import org.springframework.util.ClassUtils;
  */
 public class BeanFactoryTypeConverter implements TypeConverter, BeanFactoryAware {
 
+	/**
+	 * The locks for the type converter and the property editors which are not thread-safe.
+	 * They may be shared with other instances via the bean factory, so the locks are per target object.
+	 */
+	private static final Map<Object, Lock> LOCKS =
+			new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+	private final Lock lock = new ReentrantLock();
+
 	private SimpleTypeConverter delegate = new SimpleTypeConverter();
 
 	private ConversionService conversionService;
@@ -123,8 +136,14 @@ public class BeanFactoryTypeConverter implements TypeConverter, BeanFactoryAware
 		Object editorResult = valueFromEditorIfAny(value, sourceType.getType(), targetType);
 
 		if (editorResult == null) {
-			synchronized (this.delegate) {
-				return this.delegate.convertIfNecessary(value, targetType.getType());
+			SimpleTypeConverter typeConverter = this.delegate;
+			Lock delegateLock = lockFor(typeConverter);
+			delegateLock.lock();
+			try {
+				return typeConverter.convertIfNecessary(value, targetType.getType());
+			}
+			finally {
+				delegateLock.unlock();
 			}
 		}
 		else {
@@ -138,10 +157,14 @@ public class BeanFactoryTypeConverter implements TypeConverter, BeanFactoryAware
 			defaultEditor = this.delegate.getDefaultEditor(sourceType);
 		}
 		else {
-			synchronized (this) {
+			this.lock.lock();
+			try {
 				// not thread-safe - it builds the defaultEditors field in-place (SPR-10191)
 				defaultEditor = this.delegate.getDefaultEditor(sourceType);
 			}
+			finally {
+				this.lock.unlock();
+			}
 			this.haveCalledDelegateGetDefaultEditor = true;
 		}
 		return defaultEditor;
@@ -156,10 +179,15 @@ public class BeanFactoryTypeConverter implements TypeConverter, BeanFactoryAware
 			}
 			if (editor != null) { // INT-1441
 				String text;
-				synchronized (editor) {
+				Lock editorLock = lockFor(editor);
+				editorLock.lock();
+				try {
 					editor.setValue(value);
 					text = editor.getAsText();
 				}
+				finally {
+					editorLock.unlock();
+				}
 
 				if (String.class.isAssignableFrom(targetType.getType())) {
 					return text;
@@ -171,4 +199,8 @@ public class BeanFactoryTypeConverter implements TypeConverter, BeanFactoryAware
 		return null;
 	}
 
+	private static Lock lockFor(Object target) {
+		return LOCKS.computeIfAbsent(target, (key) -> new ReentrantLock());
+	}
+
 }
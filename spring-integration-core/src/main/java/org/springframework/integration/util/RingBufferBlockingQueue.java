@@ -0,0 +1,501 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded, lock-free, multi-producer/multi-consumer {@link BlockingQueue} based on a
+ * preallocated ring buffer.
+ * <p>
+ * Each slot carries its own sequence number, so producers and consumers only contend on
+ * the (cache-line padded) tail and head counters via CAS, and no node is allocated
+ * per element. The capacity is rounded up to the next power of two (and is at least 2).
+ * <p>
+ * The non-blocking {@link #offer(Object)} and {@link #poll()} never wait.
+ * The blocking operations ({@link #put(Object)}, {@link #take()} and the timed
+ * {@code offer}/{@code poll} variants) wait for a free slot or an element according
+ * to the configured {@link WaitStrategy}.
+ * <p>
+ * The {@link #iterator()} (and all the operations based on it) works on a weakly consistent
+ * snapshot and does not support element removal.
+ *
+ * @param <E> the type of elements held in this queue.
+ *
+ * @since 6.3
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private static final int SPIN_TRIES = 100;
+
+	private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private final Object[] slots;
+
+	private final AtomicLongArray sequences;
+
+	private final int mask;
+
+	private final PaddedSequence head = new PaddedSequence();
+
+	private final PaddedSequence tail = new PaddedSequence();
+
+	private final WaitStrategy waitStrategy;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition notEmpty = this.lock.newCondition();
+
+	private final Condition notFull = this.lock.newCondition();
+
+	private final AtomicInteger waitingConsumers = new AtomicInteger();
+
+	private final AtomicInteger waitingProducers = new AtomicInteger();
+
+	/**
+	 * Create a queue with the provided capacity and the {@link WaitStrategy#BLOCK} wait strategy.
+	 * @param capacity the capacity; rounded up to the next power of two.
+	 */
+	public RingBufferBlockingQueue(int capacity) {
+		this(capacity, WaitStrategy.BLOCK);
+	}
+
+	/**
+	 * Create a queue with the provided capacity and wait strategy.
+	 * @param capacity the capacity; rounded up to the next power of two.
+	 * @param waitStrategy the {@link WaitStrategy} for blocking operations.
+	 */
+	public RingBufferBlockingQueue(int capacity, WaitStrategy waitStrategy) {
+		Assert.isTrue(capacity > 0 && capacity <= MAX_CAPACITY,
+				() -> "'capacity' must be in the range [1.." + MAX_CAPACITY + "]; was: " + capacity);
+		Assert.notNull(waitStrategy, "'waitStrategy' must not be null");
+		int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+		this.slots = new Object[size];
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			this.sequences.set(i, i);
+		}
+		this.mask = size - 1;
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * Return the actual capacity of this queue (a power of two).
+	 * @return the capacity.
+	 */
+	public int getCapacity() {
+		return this.slots.length;
+	}
+
+	public WaitStrategy getWaitStrategy() {
+		return this.waitStrategy;
+	}
+
+	@Override
+	public boolean offer(E element) {
+		Assert.notNull(element, "'element' must not be null");
+		long position = this.tail.get();
+		int index;
+		while (true) {
+			index = (int) (position & this.mask);
+			long difference = this.sequences.getAcquire(index) - position;
+			if (difference == 0) {
+				long witness = this.tail.compareAndExchange(position, position + 1);
+				if (witness == position) {
+					break;
+				}
+				position = witness;
+			}
+			else if (difference < 0) {
+				return false;
+			}
+			else {
+				position = this.tail.get();
+			}
+		}
+		this.slots[index] = element;
+		this.sequences.setRelease(index, position + 1);
+		if (this.waitStrategy == WaitStrategy.BLOCK) {
+			signalIfWaiting(this.waitingConsumers, this.notEmpty);
+		}
+		return true;
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		long position = this.head.get();
+		int index;
+		while (true) {
+			index = (int) (position & this.mask);
+			long difference = this.sequences.getAcquire(index) - (position + 1);
+			if (difference == 0) {
+				long witness = this.head.compareAndExchange(position, position + 1);
+				if (witness == position) {
+					break;
+				}
+				position = witness;
+			}
+			else if (difference < 0) {
+				return null;
+			}
+			else {
+				position = this.head.get();
+			}
+		}
+		E element = (E) this.slots[index];
+		this.slots[index] = null;
+		this.sequences.setRelease(index, position + this.mask + 1);
+		if (this.waitStrategy == WaitStrategy.BLOCK) {
+			signalIfWaiting(this.waitingProducers, this.notFull);
+		}
+		return element;
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public E peek() {
+		while (true) {
+			long position = this.head.get();
+			int index = (int) (position & this.mask);
+			long difference = this.sequences.getAcquire(index) - (position + 1);
+			if (difference < 0) {
+				return null;
+			}
+			E element = (E) this.slots[index];
+			if (difference == 0 && element != null && this.head.get() == position) {
+				return element;
+			}
+		}
+	}
+
+	@Override
+	public void put(E element) throws InterruptedException {
+		Assert.notNull(element, "'element' must not be null");
+		int tries = 0;
+		while (!offer(element)) {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			tries = idle(tries, this.waitingProducers, this.notFull, -1);
+		}
+	}
+
+	@Override
+	public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+		Assert.notNull(element, "'element' must not be null");
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		int tries = 0;
+		while (!offer(element)) {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return false;
+			}
+			tries = idle(tries, this.waitingProducers, this.notFull, remaining);
+		}
+		return true;
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		int tries = 0;
+		E element;
+		while ((element = poll()) == null) {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			tries = idle(tries, this.waitingConsumers, this.notEmpty, -1);
+		}
+		return element;
+	}
+
+	@Override
+	@Nullable
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		int tries = 0;
+		E element;
+		while ((element = poll()) == null) {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return null;
+			}
+			tries = idle(tries, this.waitingConsumers, this.notEmpty, remaining);
+		}
+		return element;
+	}
+
+	@Override
+	public int size() {
+		while (true) {
+			long head = this.head.get();
+			long tail = this.tail.get();
+			if (this.head.get() == head) {
+				return (int) Math.max(0, Math.min(tail - head, this.slots.length));
+			}
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return this.slots.length - size();
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection) {
+		return drainTo(collection, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection, int maxElements) {
+		Assert.notNull(collection, "'collection' must not be null");
+		Assert.isTrue(collection != this, "Cannot drain a queue to itself");
+		int drained = 0;
+		E element;
+		while (drained < maxElements && (element = poll()) != null) {
+			collection.add(element);
+			drained++;
+		}
+		return drained;
+	}
+
+	@Override
+	public void clear() {
+		while (poll() != null) {
+			// drain
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterator<E> iterator() {
+		List<E> snapshot = new ArrayList<>();
+		long head = this.head.get();
+		long tail = this.tail.get();
+		for (long position = head; position < tail; position++) {
+			int index = (int) (position & this.mask);
+			Object element = this.slots[index];
+			if (element != null && this.sequences.getAcquire(index) == position + 1) {
+				snapshot.add((E) element);
+			}
+		}
+		return Collections.unmodifiableList(snapshot).iterator();
+	}
+
+	private void signalIfWaiting(AtomicInteger waiters, Condition condition) {
+		// Pairs with the volatile increment of the waiters counter before a re-check in the waiting thread
+		VarHandle.fullFence();
+		if (waiters.get() > 0) {
+			this.lock.lock();
+			try {
+				condition.signalAll();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	private boolean mayHaveElement() {
+		long position = this.head.get();
+		return this.sequences.getAcquire((int) (position & this.mask)) >= position + 1;
+	}
+
+	private boolean mayHaveFreeSlot() {
+		long position = this.tail.get();
+		return this.sequences.getAcquire((int) (position & this.mask)) >= position;
+	}
+
+	private int idle(int tries, AtomicInteger waiters, Condition condition, long nanos)
+			throws InterruptedException {
+
+		switch (this.waitStrategy) {
+			case SPIN -> Thread.onSpinWait();
+			case YIELD -> {
+				if (tries < SPIN_TRIES) {
+					Thread.onSpinWait();
+				}
+				else {
+					Thread.yield();
+				}
+			}
+			case PARK -> {
+				if (tries < SPIN_TRIES) {
+					Thread.onSpinWait();
+				}
+				else {
+					LockSupport.parkNanos(this, nanos > 0 ? Math.min(nanos, PARK_NANOS) : PARK_NANOS);
+				}
+			}
+			case BLOCK -> await(waiters, condition, nanos);
+		}
+		return Math.min(tries + 1, SPIN_TRIES);
+	}
+
+	private void await(AtomicInteger waiters, Condition condition, long nanos) throws InterruptedException {
+		this.lock.lockInterruptibly();
+		try {
+			waiters.incrementAndGet();
+			try {
+				boolean available = condition == this.notEmpty ? mayHaveElement() : mayHaveFreeSlot();
+				if (!available) {
+					if (nanos > 0) {
+						condition.awaitNanos(nanos);
+					}
+					else {
+						condition.await();
+					}
+				}
+			}
+			finally {
+				waiters.decrementAndGet();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * The strategy for blocking operations to wait for a free slot or an available element.
+	 */
+	public enum WaitStrategy {
+
+		/**
+		 * Busy spin with {@link Thread#onSpinWait()}: the lowest latency for the highest CPU usage.
+		 * Makes sense only when there are enough cores for all the producer and consumer threads.
+		 */
+		SPIN,
+
+		/**
+		 * Spin for a while and then {@link Thread#yield()} to other threads.
+		 */
+		YIELD,
+
+		/**
+		 * Spin for a while and then park the thread for a short period of time.
+		 */
+		PARK,
+
+		/**
+		 * Wait on a {@link Condition}; waiting threads are signalled by the opposite side.
+		 * The non-blocking path stays lock-free: the lock is taken only if there are waiting threads.
+		 */
+		BLOCK
+
+	}
+
+	/**
+	 * A counter padded on both sides to avoid false sharing of its cache line.
+	 */
+	@SuppressWarnings("unused")
+	private static class LeftPadding {
+
+		long p01;
+
+		long p02;
+
+		long p03;
+
+		long p04;
+
+		long p05;
+
+		long p06;
+
+		long p07;
+
+	}
+
+	@SuppressWarnings("unused")
+	private static class PaddedValue extends LeftPadding {
+
+		volatile long value;
+
+	}
+
+	@SuppressWarnings("unused")
+	private static final class PaddedSequence extends PaddedValue {
+
+		private static final VarHandle VALUE;
+
+		static {
+			try {
+				VALUE = MethodHandles.lookup().findVarHandle(PaddedValue.class, "value", long.class);
+			}
+			catch (ReflectiveOperationException ex) {
+				throw new ExceptionInInitializerError(ex);
+			}
+		}
+
+		long p11;
+
+		long p12;
+
+		long p13;
+
+		long p14;
+
+		long p15;
+
+		long p16;
+
+		long p17;
+
+		long get() {
+			return this.value;
+		}
+
+		long compareAndExchange(long expected, long newValue) {
+			return (long) VALUE.compareAndExchange(this, expected, newValue);
+		}
+
+	}
+
+}
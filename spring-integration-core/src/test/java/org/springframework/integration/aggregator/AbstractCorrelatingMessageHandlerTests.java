@@ -19,9 +19,11 @@ package org.springframework.integration.aggregator;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -34,6 +36,8 @@ import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.expression.FunctionExpression;
+import org.springframework.integration.expression.ValueExpression;
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
 import org.springframework.integration.store.SimpleMessageGroup;
@@ -530,4 +534,117 @@ public class AbstractCorrelatingMessageHandlerTests {
 		taskScheduler.destroy();
 	}
 
+	@Test
+	public void testGroupTimeoutTimingWheel() {
+		MessageGroupStore groupStore = new SimpleMessageStore();
+		AggregatingMessageHandler handler = new AggregatingMessageHandler(group -> group, groupStore);
+		handler.setReleaseStrategy(group -> group.size() == 3);
+		handler.setGroupTimeoutExpression(new ValueExpression<>(500L));
+		handler.setGroupTimeoutTickDuration(Duration.ofMillis(20));
+		QueueChannel discardChannel = new QueueChannel();
+		handler.setDiscardChannel(discardChannel);
+		QueueChannel outputChannel = new QueueChannel();
+		handler.setOutputChannel(outputChannel);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.afterPropertiesSet();
+		handler.setTaskScheduler(taskScheduler);
+		handler.afterPropertiesSet();
+
+		long start = System.currentTimeMillis();
+		handler.handleMessage(MessageBuilder.withPayload("foo").setCorrelationId("foo").build());
+		handler.handleMessage(MessageBuilder.withPayload("bar").setCorrelationId("bar").build());
+		handler.handleMessage(MessageBuilder.withPayload("bar").setCorrelationId("bar").build());
+		handler.handleMessage(MessageBuilder.withPayload("bar").setCorrelationId("bar").build());
+		assertThat(outputChannel.receive(0)).isNotNull();
+
+		GroupTimeoutWheel groupTimeoutWheel = TestUtils.getPropertyValue(handler, "groupTimeoutWheel",
+				GroupTimeoutWheel.class);
+		assertThat(groupTimeoutWheel.size()).isEqualTo(1);
+		assertThat(handler.getExpireGroupScheduledFutures()).isEmpty();
+
+		Message<?> discarded = discardChannel.receive(10000);
+		assertThat(discarded).isNotNull();
+		assertThat(discarded.getPayload()).isEqualTo("foo");
+		assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(500);
+		assertThat(discardChannel.receive(0)).isNull();
+		await().until(groupTimeoutWheel::size, (size) -> size == 0);
+		assertThat(groupStore.messageGroupSize("foo")).isEqualTo(0);
+
+		handler.destroy();
+		taskScheduler.destroy();
+	}
+
+	@Test
+	public void testGroupTimeoutTimingWheelDeadlineMovedByNewMessages() throws InterruptedException {
+		MessageGroupStore groupStore = new SimpleMessageStore();
+		AggregatingMessageHandler handler = new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(),
+				groupStore);
+		handler.setReleaseStrategy(group -> false);
+		handler.setGroupTimeoutExpression(new ValueExpression<>(300L));
+		handler.setGroupTimeoutTickDuration(Duration.ofMillis(10));
+		handler.setSendPartialResultOnExpiry(true);
+		QueueChannel outputChannel = new QueueChannel();
+		handler.setOutputChannel(outputChannel);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.afterPropertiesSet();
+		handler.setTaskScheduler(taskScheduler);
+		handler.afterPropertiesSet();
+
+		long lastMessage = 0;
+		for (int i = 0; i < 5; i++) {
+			lastMessage = System.currentTimeMillis();
+			handler.handleMessage(MessageBuilder.withPayload(i).setCorrelationId("foo").build());
+			Thread.sleep(100);
+		}
+		Message<?> result = outputChannel.receive(10000);
+		assertThat(result).isNotNull();
+		assertThat(System.currentTimeMillis() - lastMessage).isGreaterThanOrEqualTo(300);
+		assertThat(result.getPayload()).asList().containsExactly(0, 1, 2, 3, 4);
+
+		handler.destroy();
+		taskScheduler.destroy();
+	}
+
+	@Test
+	public void testGroupTimeoutTimingWheelDeadlineMovedBackward() {
+		MessageGroupStore groupStore = new SimpleMessageStore();
+		AggregatingMessageHandler handler = new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(),
+				groupStore);
+		handler.setReleaseStrategy(group -> false);
+		handler.setGroupTimeoutExpression(
+				new FunctionExpression<MessageGroup>(group -> group.size() == 1 ? 60_000L : 300L));
+		handler.setGroupTimeoutTickDuration(Duration.ofMillis(10));
+		handler.setSendPartialResultOnExpiry(true);
+		QueueChannel outputChannel = new QueueChannel();
+		handler.setOutputChannel(outputChannel);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.afterPropertiesSet();
+		handler.setTaskScheduler(taskScheduler);
+		handler.afterPropertiesSet();
+
+		GroupTimeoutWheel groupTimeoutWheel = TestUtils.getPropertyValue(handler, "groupTimeoutWheel",
+				GroupTimeoutWheel.class);
+		Queue<?>[] buckets = TestUtils.getPropertyValue(groupTimeoutWheel, "buckets", Queue[].class);
+
+		handler.handleMessage(MessageBuilder.withPayload(0).setCorrelationId("foo").build());
+		await().until(() -> Arrays.stream(buckets).mapToInt(Queue::size).sum() == 1);
+		handler.handleMessage(MessageBuilder.withPayload(1).setCorrelationId("foo").build());
+		handler.handleMessage(MessageBuilder.withPayload(2).setCorrelationId("bar").build());
+
+		Message<?> result = outputChannel.receive(10000);
+		assertThat(result).isNotNull();
+		assertThat(result.getPayload()).asList().containsExactly(0, 1);
+		assertThat(outputChannel.receive(100)).isNull();
+		// The former entry of the moved deadline has been removed from its bucket
+		await().until(() -> Arrays.stream(buckets).mapToInt(Queue::size).sum() == 1);
+
+		handler.destroy();
+		assertThat(Arrays.stream(buckets).mapToInt(Queue::size).sum()).isEqualTo(0);
+		assertThat(groupTimeoutWheel.size()).isEqualTo(0);
+		taskScheduler.destroy();
+	}
+
 }
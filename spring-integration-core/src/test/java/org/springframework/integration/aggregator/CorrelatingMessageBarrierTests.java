@@ -16,12 +16,15 @@
 
 package org.springframework.integration.aggregator;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +34,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandler;
 
@@ -110,6 +114,42 @@ public class CorrelatingMessageBarrierTests {
 		exec.shutdownNow();
 	}
 
+	@Test(timeout = 20000)
+	public void concurrentSendersAndReceiversDoNotLoseMessages() throws InterruptedException {
+		int senders = 4;
+		int messagesPerSender = 1000;
+		int total = senders * messagesPerSender;
+		ExecutorService exec = Executors.newFixedThreadPool(senders + 2);
+		AtomicInteger received = new AtomicInteger();
+		for (int i = 0; i < senders; i++) {
+			exec.execute(() -> {
+				for (int j = 0; j < messagesPerSender; j++) {
+					barrier.handleMessage(testMessage());
+				}
+			});
+		}
+		for (int i = 0; i < 2; i++) {
+			exec.execute(() -> {
+				while (received.get() < total && !Thread.currentThread().isInterrupted()) {
+					if (barrier.receive() != null) {
+						received.incrementAndGet();
+					}
+				}
+			});
+		}
+		exec.shutdown();
+		assertThat(exec.awaitTermination(15, TimeUnit.SECONDS)).isTrue();
+		assertThat(received.get()).isEqualTo(total);
+
+		// The empty group is removed together with its lock
+		assertThat(barrier.receive()).isNull();
+		assertThat(TestUtils.getPropertyValue(barrier, "correlationLocks", Map.class)).isEmpty();
+
+		Message<Object> message = testMessage();
+		barrier.handleMessage(message);
+		assertThat(barrier.receive()).isEqualTo(message);
+	}
+
 	private void sendAsynchronously(final MessageHandler handler, final Message<Object> message,
 			final CountDownLatch start, final CountDownLatch sent, ExecutorService exec) {
 		exec.execute(() -> {
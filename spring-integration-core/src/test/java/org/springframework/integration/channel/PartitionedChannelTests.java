@@ -16,14 +16,26 @@
 
 package org.springframework.integration.channel;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,8 +43,12 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.dispatcher.ConsistentHashPartitionStrategy;
+import org.springframework.integration.dispatcher.PartitionStrategy;
 import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
@@ -44,6 +60,7 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -54,6 +71,10 @@ import static org.mockito.Mockito.mock;
 @SpringJUnitConfig
 public class PartitionedChannelTests {
 
+	private static final String PARTITION_DEPTH = "spring.integration.channel.partition.queue.depth";
+
+	private static final String PARTITION_LATENCY = "spring.integration.channel.partition.latency";
+
 	@Test
 	void messagesAreProperlyPartitioned() throws InterruptedException {
 		PartitionedChannel partitionedChannel =
@@ -118,6 +139,255 @@ public class PartitionedChannelTests {
 		partitionedChannel.destroy();
 	}
 
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void orderPerKeyIsPreservedWhenPartitionsAreResized(boolean loadAware) throws InterruptedException {
+		PartitionedChannel partitionedChannel =
+				new PartitionedChannel(2, (message) -> message.getHeaders().get("partitionKey"));
+		if (loadAware) {
+			partitionedChannel.setPartitionStrategy(new ConsistentHashPartitionStrategy(1.25));
+		}
+		partitionedChannel.setBeanFactory(mock(BeanFactory.class));
+		partitionedChannel.setBeanName("resizablePartitionedChannel");
+		partitionedChannel.afterPropertiesSet();
+
+		int keys = 10;
+		int messagesPerKey = 100;
+		CountDownLatch handleLatch = new CountDownLatch(keys * messagesPerKey);
+		Map<Object, List<Object>> payloadsPerKey = new ConcurrentHashMap<>();
+
+		partitionedChannel.subscribe((message) -> {
+			payloadsPerKey.computeIfAbsent(message.getHeaders().get("partitionKey"), key -> new ArrayList<>())
+					.add(message.getPayload());
+			handleLatch.countDown();
+		});
+
+		for (int i = 0; i < messagesPerKey; i++) {
+			if (i == messagesPerKey / 3) {
+				if (!loadAware) {
+					// The keys in flight are not tracked with a stateless strategy until the first resize
+					assertThat(TestUtils.getPropertyValue(partitionedChannel, "dispatcher.assignments", Map.class))
+							.isEmpty();
+				}
+				partitionedChannel.setPartitionCount(4);
+			}
+			else if (i == messagesPerKey * 2 / 3) {
+				assertThat(partitionedChannel.getPartitionCount()).isEqualTo(4);
+				partitionedChannel.setPartitionCount(1);
+			}
+			for (int key = 0; key < keys; key++) {
+				partitionedChannel.send(MessageBuilder.withPayload(i).setHeader("partitionKey", key).build());
+			}
+		}
+
+		assertThat(handleLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(partitionedChannel.getPartitionCount()).isEqualTo(1);
+		List<Object> expectedPayloads = IntStream.range(0, messagesPerKey).boxed().map(Object.class::cast).toList();
+		assertThat(payloadsPerKey).hasSize(keys);
+		payloadsPerKey.values().forEach(payloads -> assertThat(payloads).isEqualTo(expectedPayloads));
+
+		partitionedChannel.destroy();
+	}
+
+	@Test
+	void keysMoveToNewPartitionsWhenPartitionsAreAdded() {
+		ConsistentHashPartitionStrategy partitionStrategy = new ConsistentHashPartitionStrategy();
+		PartitionedChannel partitionedChannel =
+				new PartitionedChannel(2, (message) -> message.getHeaders().get("partitionKey"));
+		partitionedChannel.setPartitionStrategy(partitionStrategy);
+		partitionedChannel.setBeanFactory(mock(BeanFactory.class));
+		partitionedChannel.setBeanName("growingPartitionedChannel");
+		partitionedChannel.afterPropertiesSet();
+
+		Map<Object, String> threadPerKey = new ConcurrentHashMap<>();
+		AtomicInteger handled = new AtomicInteger();
+		partitionedChannel.subscribe((message) -> {
+			threadPerKey.put(message.getHeaders().get("partitionKey"), Thread.currentThread().getName());
+			handled.incrementAndGet();
+		});
+
+		int keys = 20;
+		for (int key = 0; key < keys; key++) {
+			partitionedChannel.send(MessageBuilder.withPayload(key).setHeader("partitionKey", key).build());
+		}
+		await().untilAsserted(() -> assertThat(handled).hasValue(keys));
+		// The keys move to the new partitions only when their former partitions are drained
+		awaitDrained(partitionedChannel);
+
+		Map<Object, String> threadPerKeyBefore = new HashMap<>(threadPerKey);
+		Set<String> threadsBefore = new HashSet<>(threadPerKeyBefore.values());
+		assertThat(threadsBefore).hasSize(2);
+
+		partitionedChannel.setPartitionCount(4);
+
+		for (int key = 0; key < keys; key++) {
+			partitionedChannel.send(MessageBuilder.withPayload(key).setHeader("partitionKey", key).build());
+		}
+		await().untilAsserted(() -> assertThat(handled).hasValue(keys * 2));
+
+		PartitionStrategy.Partitions fourPartitions = partitions(4);
+		List<Object> movedKeys = new ArrayList<>();
+		for (int key = 0; key < keys; key++) {
+			if (partitionStrategy.selectPartition(key, fourPartitions) >= 2) {
+				movedKeys.add(key);
+				assertThat(threadPerKey.get(key)).isNotIn(threadsBefore);
+			}
+			else {
+				// The consistent hashing keeps the rest of the keys on their partitions
+				assertThat(threadPerKey.get(key)).isEqualTo(threadPerKeyBefore.get(key));
+			}
+		}
+		assertThat(movedKeys).isNotEmpty();
+		assertThat(new HashSet<>(threadPerKey.values())).hasSize(4);
+
+		partitionedChannel.destroy();
+	}
+
+	@Test
+	void partitionMetricsFollowResize() throws InterruptedException {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ConsistentHashPartitionStrategy partitionStrategy = new ConsistentHashPartitionStrategy();
+		PartitionedChannel partitionedChannel =
+				new PartitionedChannel(2, (message) -> message.getHeaders().get("partitionKey"));
+		partitionedChannel.setPartitionStrategy(partitionStrategy);
+		partitionedChannel.setBeanFactory(mock(BeanFactory.class));
+		partitionedChannel.setBeanName("meteredPartitionedChannel");
+		partitionedChannel.registerMetricsCaptor(new MicrometerMetricsCaptor(meterRegistry));
+		partitionedChannel.afterPropertiesSet();
+
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+		AtomicInteger handled = new AtomicInteger();
+		partitionedChannel.subscribe((message) -> {
+			try {
+				releaseLatch.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			handled.incrementAndGet();
+		});
+
+		for (int i = 0; i < 3; i++) {
+			partitionedChannel.send(MessageBuilder.withPayload(i).setHeader("partitionKey", "someKey").build());
+		}
+
+		String partition = Integer.toString(partitionStrategy.selectPartition("someKey", partitions(2)));
+		String otherPartition = "0".equals(partition) ? "1" : "0";
+		assertThat(partitionMeter(meterRegistry, PARTITION_DEPTH, partition).gauge().value()).isEqualTo(3);
+		assertThat(partitionMeter(meterRegistry, PARTITION_DEPTH, otherPartition).gauge().value()).isEqualTo(0);
+
+		releaseLatch.countDown();
+		await().untilAsserted(() -> assertThat(handled).hasValue(3));
+
+		awaitDrained(partitionedChannel);
+		assertThat(partitionMeter(meterRegistry, PARTITION_LATENCY, partition).timer().count()).isEqualTo(3);
+		assertThat(partitionMeter(meterRegistry, PARTITION_DEPTH, partition).gauge().value()).isEqualTo(0);
+		assertThat(partitionMeter(meterRegistry, PARTITION_LATENCY, otherPartition).timer().count()).isEqualTo(0);
+
+		partitionedChannel.setPartitionCount(4);
+
+		for (String newPartition : List.of("2", "3")) {
+			assertThat(partitionMeter(meterRegistry, PARTITION_DEPTH, newPartition).gauge()).isNotNull();
+			assertThat(partitionMeter(meterRegistry, PARTITION_LATENCY, newPartition).timer()).isNotNull();
+		}
+
+		partitionedChannel.setPartitionCount(1);
+
+		// The retired partitions have no messages to handle, so they are shut down right away
+		for (String retiredPartition : List.of("1", "2", "3")) {
+			assertThat(partitionMeter(meterRegistry, PARTITION_DEPTH, retiredPartition).gauge()).isNull();
+			assertThat(partitionMeter(meterRegistry, PARTITION_LATENCY, retiredPartition).timer()).isNull();
+		}
+		assertThat(partitionMeter(meterRegistry, PARTITION_DEPTH, "0").gauge()).isNotNull();
+		assertThat(partitionMeter(meterRegistry, PARTITION_LATENCY, "0").timer()).isNotNull();
+
+		partitionedChannel.destroy();
+	}
+
+	private static void awaitDrained(PartitionedChannel partitionedChannel) {
+		await().until(() ->
+				Arrays.stream(TestUtils.getPropertyValue(partitionedChannel, "dispatcher.partitions.partitions",
+								Object[].class))
+						.allMatch(partition ->
+								TestUtils.getPropertyValue(partition, "depth", AtomicInteger.class).get() == 0));
+	}
+
+	private static Search partitionMeter(MeterRegistry meterRegistry, String name, String partition) {
+		return meterRegistry.find(name)
+				.tag("name", "meteredPartitionedChannel")
+				.tag("type", "channel")
+				.tag("partition", partition);
+	}
+
+	private static PartitionStrategy.Partitions partitions(int count) {
+		return new PartitionStrategy.Partitions() {
+
+			@Override
+			public int count() {
+				return count;
+			}
+
+			@Override
+			public int queueDepth(int partition) {
+				return 0;
+			}
+
+		};
+	}
+
+	@Test
+	void keysAreNotTrackedAfterResizeIsDrained() throws InterruptedException {
+		PartitionedChannel partitionedChannel =
+				new PartitionedChannel(2, (message) -> message.getHeaders().get("partitionKey"));
+		partitionedChannel.setBeanFactory(mock(BeanFactory.class));
+		partitionedChannel.setBeanName("drainedPartitionedChannel");
+		partitionedChannel.afterPropertiesSet();
+
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+		AtomicInteger handled = new AtomicInteger();
+		partitionedChannel.subscribe((message) -> {
+			try {
+				releaseLatch.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			handled.incrementAndGet();
+		});
+
+		for (int key = 0; key < 4; key++) {
+			partitionedChannel.send(MessageBuilder.withPayload(key).setHeader("partitionKey", key).build());
+		}
+
+		partitionedChannel.setPartitionCount(3);
+
+		for (int key = 0; key < 4; key++) {
+			partitionedChannel.send(MessageBuilder.withPayload(key).setHeader("partitionKey", key).build());
+		}
+
+		assertThat(TestUtils.getPropertyValue(partitionedChannel, "dispatcher.trackKeys", Boolean.class)).isTrue();
+		assertThat(TestUtils.getPropertyValue(partitionedChannel, "dispatcher.assignments", Map.class)).isNotEmpty();
+
+		releaseLatch.countDown();
+
+		await().untilAsserted(() -> {
+			assertThat(TestUtils.getPropertyValue(partitionedChannel, "dispatcher.trackKeys", Boolean.class))
+					.isFalse();
+			assertThat(TestUtils.getPropertyValue(partitionedChannel, "dispatcher.untrackedPartitions")).isNull();
+			assertThat(TestUtils.getPropertyValue(partitionedChannel, "dispatcher.assignments", Map.class))
+					.isEmpty();
+		});
+
+		assertThat(handled).hasValue(8);
+
+		partitionedChannel.send(MessageBuilder.withPayload(0).setHeader("partitionKey", 0).build());
+		await().untilAsserted(() -> assertThat(handled).hasValue(9));
+		assertThat(TestUtils.getPropertyValue(partitionedChannel, "dispatcher.assignments", Map.class)).isEmpty();
+
+		partitionedChannel.destroy();
+	}
+
 	@Autowired
 	@Qualifier("someFlow.input")
 	MessageChannel inputChannel;
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.dsl.MessageChannels;
+import org.springframework.integration.dsl.RingBufferChannelSpec;
+import org.springframework.integration.util.RingBufferBlockingQueue;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 6.3
+ */
+@SpringJUnitConfig
+@DirtiesContext
+public class RingBufferChannelTests {
+
+	@Autowired
+	RingBufferChannel ringBufferChannel;
+
+	@Test
+	void sendAndReceive() {
+		RingBufferChannel channel = new RingBufferChannel(3);
+		assertThat(channel.getRemainingCapacity()).isEqualTo(4);
+		for (int i = 0; i < 4; i++) {
+			assertThat(channel.send(new GenericMessage<>(i), 0)).isTrue();
+		}
+		assertThat(channel.send(new GenericMessage<>(4), 10)).isFalse();
+		assertThat(channel.getQueueSize()).isEqualTo(4);
+		assertThat(channel.receive(0).getPayload()).isEqualTo(0);
+		assertThat(channel.receive(0).getPayload()).isEqualTo(1);
+		assertThat(channel.clear()).hasSize(2);
+		assertThat(channel.receive(10)).isNull();
+	}
+
+	@Test
+	void purge() {
+		RingBufferChannel channel = new RingBufferChannel(8, RingBufferBlockingQueue.WaitStrategy.PARK);
+		for (int i = 0; i < 6; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		List<Message<?>> purged = channel.purge((message) -> (Integer) message.getPayload() % 2 == 0);
+		assertThat(purged).extracting("payload").containsExactly(1, 3, 5);
+		assertThat(channel.getQueueSize()).isEqualTo(3);
+		assertThat(channel.receive(0).getPayload()).isEqualTo(0);
+		assertThat(channel.receive(0).getPayload()).isEqualTo(2);
+		assertThat(channel.receive(0).getPayload()).isEqualTo(4);
+	}
+
+	@Test
+	void ringBufferChannelFromDsl() {
+		assertThat(this.ringBufferChannel.getComponentName()).isEqualTo("ringBufferChannel");
+		assertThat(this.ringBufferChannel.getRemainingCapacity()).isEqualTo(16);
+		this.ringBufferChannel.send(new GenericMessage<>("test"));
+		assertThat(this.ringBufferChannel.receive(10_000).getPayload()).isEqualTo("test");
+	}
+
+	@Configuration
+	@EnableIntegration
+	public static class Config {
+
+		@Bean
+		public RingBufferChannelSpec ringBufferChannel() {
+			return MessageChannels.ringBuffer(10)
+					.waitStrategy(RingBufferBlockingQueue.WaitStrategy.YIELD);
+		}
+
+	}
+
+}
@@ -24,10 +24,15 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.FatalBeanException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.channel.ExecutorChannel;
 import org.springframework.integration.channel.PublishSubscribeChannel;
@@ -71,6 +76,19 @@ public class ChannelParserTests {
 	@Autowired
 	private ApplicationContext context;
 
+	@Test
+	public void testChannelWithVirtualThreads() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		new XmlBeanDefinitionReader(beanFactory)
+				.loadBeanDefinitions(new ClassPathResource("channelWithVirtualThreads.xml", getClass()));
+		BeanDefinition channel = beanFactory.getBeanDefinition("virtualThreadsChannel");
+		assertThat(channel.getBeanClassName()).isEqualTo(ExecutorChannel.class.getName());
+		Object taskExecutor = channel.getConstructorArgumentValues().getIndexedArgumentValues().get(0).getValue();
+		assertThat(taskExecutor).isInstanceOf(BeanDefinition.class);
+		assertThat(((BeanDefinition) taskExecutor).getBeanClassName())
+				.isEqualTo(VirtualThreadTaskExecutor.class.getName());
+	}
+
 	@Test(expected = FatalBeanException.class)
 	public void testChannelWithoutId() {
 		new ClassPathXmlApplicationContext("channelWithoutId.xml", this.getClass()).close();
@@ -177,6 +177,52 @@ public class ChannelInterceptorTests {
 		assertThat(interceptor2.wasAfterCompletionInvoked()).isFalse();
 	}
 
+	@Test
+	public void afterCompletionInReverseOrderForInterceptorsAtSendTime() {
+		List<String> invocations = new ArrayList<>();
+		ChannelInterceptor lateInterceptor = new ChannelInterceptor() {
+
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				invocations.add("preSend-late");
+				return message;
+			}
+
+		};
+		this.channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				invocations.add("preSend-1");
+				ChannelInterceptorTests.this.channel.addInterceptor(lateInterceptor);
+				return message;
+			}
+
+			@Override
+			public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+				invocations.add("afterSendCompletion-1");
+			}
+
+		});
+		this.channel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+				invocations.add("postSend-2");
+			}
+
+			@Override
+			public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+				invocations.add("afterSendCompletion-2");
+			}
+
+		});
+		assertThat(this.channel.send(new GenericMessage<>("test"))).isTrue();
+		assertThat(invocations)
+				.containsExactly("preSend-1", "postSend-2", "afterSendCompletion-2", "afterSendCompletion-1");
+		assertThat(this.channel.getInterceptors()).hasSize(3).endsWith(lateInterceptor);
+	}
+
 	@Test
 	public void testPreReceiveInterceptorReturnsTrue() {
 		PreReceiveReturnsTrueInterceptor interceptor = new PreReceiveReturnsTrueInterceptor();
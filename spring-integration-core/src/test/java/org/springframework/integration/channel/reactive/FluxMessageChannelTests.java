@@ -19,13 +19,17 @@ package org.springframework.integration.channel.reactive;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
 import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -167,6 +171,51 @@ public class FluxMessageChannelTests {
 		assertThat(upstreamSubscriptions.size()).isEqualTo(0);
 	}
 
+	@Test
+	void sendWaitsForDemandWhenBufferIsFull() throws Exception {
+		FluxMessageChannel messageChannel = new FluxMessageChannel(10);
+		List<Message<?>> received = new CopyOnWriteArrayList<>();
+		BaseSubscriber<Message<?>> subscriber =
+				new BaseSubscriber<>() {
+
+					@Override
+					protected void hookOnSubscribe(Subscription subscription) {
+						// No demand until requested explicitly
+					}
+
+					@Override
+					protected void hookOnNext(Message<?> value) {
+						received.add(value);
+					}
+
+				};
+		messageChannel.subscribe(subscriber);
+
+		int accepted = 0;
+		while (messageChannel.send(new GenericMessage<>(accepted), 0)) {
+			accepted++;
+		}
+		assertThat(accepted).isGreaterThanOrEqualTo(10);
+
+		long start = System.currentTimeMillis();
+		assertThat(messageChannel.send(new GenericMessage<>("timeout"), 100)).isFalse();
+		assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(100);
+
+		CompletableFuture<Boolean> blockedSend =
+				CompletableFuture.supplyAsync(() -> messageChannel.send(new GenericMessage<>("blocked"), 10000));
+		Thread.sleep(100);
+		assertThat(blockedSend).isNotDone();
+
+		subscriber.request(Long.MAX_VALUE);
+		assertThat(blockedSend.get(10, TimeUnit.SECONDS)).isTrue();
+		int expected = accepted + 1;
+		await().until(() -> received.size() == expected);
+		assertThat(received.get(expected - 1).getPayload()).isEqualTo("blocked");
+
+		subscriber.dispose();
+		messageChannel.destroy();
+	}
+
 	@Configuration
 	@EnableIntegration
 	public static class TestConfiguration {
@@ -16,11 +16,14 @@
 
 package org.springframework.integration.codec.kryo;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,6 +31,7 @@ import org.assertj.core.data.Offset;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * @author David Turanski
@@ -127,6 +131,43 @@ public class KryoCodecTests {
 		assertThat(foo2.get("two")).isEqualTo(2);
 	}
 
+	@Test
+	public void testByteBufferSerialization() throws IOException {
+		PojoCodec codec = new PojoCodec(new KryoClassListRegistrar(SomeClassWithNoDefaultConstructors.class));
+		SomeClassWithNoDefaultConstructors foo = new SomeClassWithNoDefaultConstructors("foo", 123);
+		SomeClassWithNoDefaultConstructors bar = new SomeClassWithNoDefaultConstructors("bar", 456);
+		for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.allocate(256), ByteBuffer.allocateDirect(256) }) {
+			buffer.put((byte) 42);
+			codec.encode(foo, buffer);
+			int end = buffer.position();
+			codec.encode(bar, buffer);
+			buffer.flip().get();
+			assertThat(codec.decode(buffer, SomeClassWithNoDefaultConstructors.class)).isEqualTo(foo);
+			assertThat(buffer.position()).isEqualTo(end);
+			assertThat(codec.decode(buffer, SomeClassWithNoDefaultConstructors.class)).isEqualTo(bar);
+			assertThat(buffer.hasRemaining()).isFalse();
+		}
+
+		assertThatExceptionOfType(BufferOverflowException.class)
+				.isThrownBy(() -> codec.encode(foo, ByteBuffer.allocate(2)));
+
+		byte[] bytes = codec.encode(foo);
+		assertThat(codec.decode(ByteBuffer.wrap(bytes), SomeClassWithNoDefaultConstructors.class)).isEqualTo(foo);
+		assertThat(codec.decode(bytes, SomeClassWithNoDefaultConstructors.class)).isEqualTo(foo);
+	}
+
+	@Test
+	public void testPooledBufferGrowth() throws IOException {
+		PojoCodec codec = new PojoCodec();
+		String big = "x".repeat(100_000);
+		String small = "small";
+		assertThat(codec.decode(codec.encode(big), String.class)).isEqualTo(big);
+		assertThat(codec.decode(codec.encode(small), String.class)).isEqualTo(small);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		codec.encode(big, bos);
+		assertThat(codec.decode(new ByteArrayInputStream(bos.toByteArray()), String.class)).isEqualTo(big);
+	}
+
 	static class SomeClassWithNoDefaultConstructors {
 
 		private String val1;
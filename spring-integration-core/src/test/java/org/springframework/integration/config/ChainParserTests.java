@@ -17,6 +17,7 @@
 package org.springframework.integration.config;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -83,6 +84,14 @@ public class ChainParserTests {
 	@Qualifier("filterInput")
 	private MessageChannel filterInput;
 
+	@Autowired
+	@Qualifier("fusedInput")
+	private MessageChannel fusedInput;
+
+	@Autowired
+	@Qualifier("fusedChain.handler")
+	private MessageHandlerChain fusedChain;
+
 	@Autowired
 	@Qualifier("pollableInput1")
 	private MessageChannel pollableInput1;
@@ -174,6 +183,26 @@ public class ChainParserTests {
 		assertThat(reply.getPayload()).isEqualTo("foo");
 	}
 
+	@Test
+	public void fusedChain() {
+		assertThat(this.fusedChain.isFused()).isTrue();
+		assertThat(TestUtils.getPropertyValue(this.fusedChain, "fusedHandlers", Object[].class))
+				.extracting(Objects::nonNull)
+				.containsExactly(true, true, true, false, true);
+
+		this.fusedInput.send(new GenericMessage<>("a,b"));
+		Message<?> reply = this.output.receive(1000);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo("A!");
+		assertThat(reply.getHeaders()).containsEntry("suffix", "!");
+		reply = this.output.receive(1000);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo("B!");
+
+		this.fusedInput.send(new GenericMessage<>(123));
+		assertThat(this.output.receive(0)).isNull();
+	}
+
 	@Test
 	public void chainWithRejectingFilter() {
 		Message<?> message = MessageBuilder.withPayload(123).build();
@@ -26,6 +26,7 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.integration.support.IdGenerators.JdkIdGenerator;
 import org.springframework.integration.support.IdGenerators.SimpleIncrementingIdGenerator;
+import org.springframework.integration.support.IdGenerators.TimeOrderedIdGenerator;
 import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.util.IdGenerator;
@@ -212,6 +213,20 @@ public class IdGeneratorConfigurerTests {
 		}
 	}
 
+	@Test
+	public void testTimeOrdered() {
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+			context.registerBeanDefinition("bfpp",
+					new RootBeanDefinition(DefaultConfiguringBeanFactoryPostProcessor.class));
+			context.registerBeanDefinition("foo", new RootBeanDefinition(TimeOrderedIdGenerator.class));
+			context.refresh();
+			MessageHeaders headers = new MessageHeaders(null);
+			assertThat(TestUtils.getPropertyValue(headers, "idGenerator")).isSameAs(context.getBean(IdGenerator.class));
+			assertThat(headers.getId().version()).isEqualTo(7);
+		}
+		assertThat(new MessageHeaders(null).getId().version()).isNotEqualTo(7);
+	}
+
 	public static class MyIdGenerator implements IdGenerator {
 
 		@Override
@@ -22,8 +22,13 @@ import java.util.HashMap;
 import org.aopalliance.aop.Advice;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.parsing.BeanDefinitionParsingException;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.integration.config.TestTrigger;
 import org.springframework.integration.scheduling.PollerMetadata;
 import org.springframework.integration.test.util.TestUtils;
@@ -150,4 +155,25 @@ public class PollerParserTests {
 						new ClassPathXmlApplicationContext("pollerWithCronAndFixedDelay.xml", PollerParserTests.class));
 	}
 
+	@Test
+	public void pollerWithVirtualThreads() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		new XmlBeanDefinitionReader(beanFactory)
+				.loadBeanDefinitions(new ClassPathResource("pollerWithVirtualThreads.xml", PollerParserTests.class));
+		Object taskExecutor =
+				beanFactory.getBeanDefinition("poller").getPropertyValues().get("taskExecutor");
+		assertThat(taskExecutor).isInstanceOf(BeanDefinition.class);
+		assertThat(((BeanDefinition) taskExecutor).getBeanClassName())
+				.isEqualTo(VirtualThreadTaskExecutor.class.getName());
+	}
+
+	@Test
+	public void pollerWithVirtualThreadsAndTaskExecutor() {
+		assertThatExceptionOfType(BeanDefinitionParsingException.class)
+				.isThrownBy(() ->
+						new ClassPathXmlApplicationContext("pollerWithVirtualThreadsAndTaskExecutor.xml",
+								PollerParserTests.class))
+				.withMessageContaining("'task-executor' and 'virtual-threads' attributes are mutually exclusive");
+	}
+
 }
@@ -500,7 +500,7 @@ public class EnableIntegrationTests {
 		String payload = "bar";
 		String result = this.testGateway.echo(payload);
 		assertThat(result.substring(0, payload.length())).isEqualTo(payload.toUpperCase());
-		assertThat(result).contains("InvocableHandlerMethod");
+		assertThat(result).contains("BoundMethodInvoker");
 		assertThat(result).doesNotContain("SpelExpression");
 		result = this.testGateway2.echo2(payload);
 		assertThat(result).isNotNull();
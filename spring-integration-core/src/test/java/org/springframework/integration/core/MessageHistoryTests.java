@@ -16,10 +16,18 @@
 
 package org.springframework.integration.core;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Properties;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
 import org.springframework.integration.history.MessageHistory;
 import org.springframework.integration.message.AdviceMessage;
 import org.springframework.integration.support.MessageBuilder;
@@ -128,6 +136,66 @@ public class MessageHistoryTests {
 		assertThat(history2.toString()).isEqualTo("testComponent-1,testComponent-2");
 	}
 
+	@Test
+	public void historyIsSharedAndNotModifiedByFurtherWrites() {
+		Message<String> result1 = MessageHistory.write(new GenericMessage<>("foo"), new TestComponent(1));
+		MessageHistory history1 = MessageHistory.read(result1);
+		Message<String> result2 = MessageHistory.write(result1, new TestComponent(2));
+		MessageHistory history2 = MessageHistory.read(result2);
+		assertThat(history1).hasSize(1);
+		assertThat(history2).hasSize(2);
+		assertThat(history2.get(0)).isEqualTo(history1.get(0));
+		assertThat(history2.get(1))
+				.containsEntry(MessageHistory.NAME_PROPERTY, "testComponent-2")
+				.containsEntry(MessageHistory.TYPE_PROPERTY, "type-2")
+				.containsKey(MessageHistory.TIMESTAMP_PROPERTY);
+		assertThat(history2.get(1)).isSameAs(history2.get(1));
+		assertThat(Long.parseLong(((MessageHistory.Entry) history2.get(1)).getTimestamp()))
+				.isGreaterThanOrEqualTo(Long.parseLong(((MessageHistory.Entry) history2.get(0)).getTimestamp()));
+		assertThat(history2.subList(0, 1)).isEqualTo(history1);
+	}
+
+	@Test
+	public void serializationRoundTrip() {
+		Message<String> message = MessageHistory.write(new GenericMessage<>("foo"), new TestComponent(1));
+		message = MessageHistory.write(message, new TestComponent(2));
+		MessageHistory history = MessageHistory.read(message);
+		MessageHistory deserialized =
+				(MessageHistory) new DeserializingConverter().convert(new SerializingConverter().convert(history));
+		assertThat(deserialized).isEqualTo(history);
+		assertThat(deserialized.toString()).isEqualTo("testComponent-1,testComponent-2");
+
+		Message<String> result = MessageHistory.write(MessageBuilder.withPayload("foo")
+						.setHeader(MessageHistory.HEADER_NAME, deserialized)
+						.build(),
+				new TestComponent(3));
+		assertThat(MessageHistory.read(result).toString())
+				.isEqualTo("testComponent-1,testComponent-2,testComponent-3");
+	}
+
+	@Test
+	public void serializedFormIsListOfProperties() throws Exception {
+		Message<String> message = MessageHistory.write(new GenericMessage<>("foo"), new TestComponent(1));
+		message = MessageHistory.write(message, new TestComponent(2));
+		MessageHistory history = MessageHistory.read(message);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(history);
+		}
+		// Only the types of the previous serialized form (and registered in the CoreRuntimeHints)
+		ObjectInputFilter filter = ObjectInputFilter.Config.createFilter(
+				"java.lang.*;java.util.ArrayList;java.util.Properties;java.util.Hashtable;"
+						+ "org.springframework.integration.history.MessageHistory;"
+						+ "org.springframework.integration.history.MessageHistory$Entry;!*");
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			in.setObjectInputFilter(filter);
+			MessageHistory deserialized = (MessageHistory) in.readObject();
+			assertThat(deserialized).isEqualTo(history);
+			assertThatExceptionOfType(UnsupportedOperationException.class)
+					.isThrownBy(() -> deserialized.iterator().remove());
+		}
+	}
+
 
 	private static class TestComponent implements NamedComponent {
 
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.core;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @since 6.3
+ */
+public class MessagingTemplateTests {
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void replyOnTheCallerThreadRestoresOriginalHeaders() {
+		DirectChannel requestChannel = new DirectChannel();
+		requestChannel.subscribe(message ->
+				((MessageChannel) message.getHeaders().getReplyChannel())
+						.send(MessageBuilder.withPayload("reply")
+								.copyHeaders(message.getHeaders())
+								.build()));
+		MessagingTemplate template = new MessagingTemplate();
+		template.setThrowExceptionOnLateReply(true);
+
+		Message<?> reply = template.sendAndReceive(requestChannel, new GenericMessage<>("request"));
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo("reply");
+		assertThat(reply.getHeaders()).doesNotContainKeys(MessageHeaders.REPLY_CHANNEL, MessageHeaders.ERROR_CHANNEL);
+
+		Message<String> request = MessageBuilder.withPayload("request")
+				.setReplyChannelName("originalReply")
+				.setErrorChannelName("originalError")
+				.build();
+		reply = template.sendAndReceive(requestChannel, request);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getHeaders().getReplyChannel()).isEqualTo("originalReply");
+		assertThat(reply.getHeaders().getErrorChannel()).isEqualTo("originalError");
+	}
+
+	@Test
+	void replyOnTheCallerThreadLeavesNoParkPermit() {
+		DirectChannel requestChannel = new DirectChannel();
+		requestChannel.subscribe(message ->
+				((MessageChannel) message.getHeaders().getReplyChannel()).send(new GenericMessage<>("reply")));
+		MessagingTemplate template = new MessagingTemplate();
+
+		assertThat(template.sendAndReceive(requestChannel, new GenericMessage<>("request"))).isNotNull();
+
+		long start = System.nanoTime();
+		LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+	}
+
+	@Test
+	void replyFromAnotherThread() {
+		QueueChannel requestChannel = new QueueChannel();
+		this.executor.execute(() -> {
+			Message<?> request = requestChannel.receive(10_000);
+			((MessageChannel) request.getHeaders().getReplyChannel()).send(new GenericMessage<>("reply"));
+		});
+		MessagingTemplate template = new MessagingTemplate();
+		template.setThrowExceptionOnLateReply(true);
+		template.setReceiveTimeout(10_000);
+
+		Message<?> reply = template.sendAndReceive(requestChannel, new GenericMessage<>("request"));
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo("reply");
+	}
+
+	@Test
+	void lateReplyIsRejected() throws InterruptedException {
+		QueueChannel requestChannel = new QueueChannel();
+		MessagingTemplate template = new MessagingTemplate();
+		template.setThrowExceptionOnLateReply(true);
+		template.setReceiveTimeout(10);
+
+		assertThat(template.sendAndReceive(requestChannel, new GenericMessage<>("request"))).isNull();
+
+		Message<?> request = requestChannel.receive(0);
+		assertThat(request).isNotNull();
+		AtomicReference<Exception> lateReplyException = new AtomicReference<>();
+		CountDownLatch replied = new CountDownLatch(1);
+		this.executor.execute(() -> {
+			try {
+				((MessageChannel) request.getHeaders().getReplyChannel()).send(new GenericMessage<>("late"));
+			}
+			catch (Exception ex) {
+				lateReplyException.set(ex);
+			}
+			replied.countDown();
+		});
+		assertThat(replied.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(lateReplyException.get())
+				.isInstanceOf(MessageDeliveryException.class)
+				.hasMessageContaining("exited due to a timeout");
+	}
+
+	@Test
+	void lateReplyDoesNotUnparkTheFormerWaiter() throws InterruptedException {
+		QueueChannel requestChannel = new QueueChannel();
+		MessagingTemplate template = new MessagingTemplate();
+		template.setReceiveTimeout(10);
+
+		assertThat(template.sendAndReceive(requestChannel, new GenericMessage<>("request"))).isNull();
+
+		Message<?> request = requestChannel.receive(0);
+		CountDownLatch replied = new CountDownLatch(1);
+		this.executor.execute(() -> {
+			((MessageChannel) request.getHeaders().getReplyChannel()).send(new GenericMessage<>("late"));
+			replied.countDown();
+		});
+		assertThat(replied.await(10, TimeUnit.SECONDS)).isTrue();
+
+		long start = System.nanoTime();
+		LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+	}
+
+	@Test
+	void secondReplyDoesNotReplaceTheFirst() {
+		DirectChannel requestChannel = new DirectChannel();
+		AtomicReference<Exception> secondReplyException = new AtomicReference<>();
+		requestChannel.subscribe(message -> {
+			MessageChannel replyChannel = (MessageChannel) message.getHeaders().getReplyChannel();
+			replyChannel.send(new GenericMessage<>("first"));
+			try {
+				replyChannel.send(new GenericMessage<>("second"));
+			}
+			catch (Exception ex) {
+				secondReplyException.set(ex);
+			}
+		});
+		MessagingTemplate template = new MessagingTemplate();
+		template.setThrowExceptionOnLateReply(true);
+
+		Message<?> reply = template.sendAndReceive(requestChannel, new GenericMessage<>("request"));
+		assertThat(reply.getPayload()).isEqualTo("first");
+		assertThat(secondReplyException.get())
+				.isInstanceOf(MessageDeliveryException.class)
+				.hasMessageContaining("already received a reply");
+	}
+
+	@Test
+	void sendFailureIsPropagated() {
+		DirectChannel requestChannel = new DirectChannel();
+		requestChannel.subscribe(message -> {
+			throw new IllegalStateException("no way");
+		});
+		MessagingTemplate template = new MessagingTemplate();
+		template.setThrowExceptionOnLateReply(true);
+
+		assertThatExceptionOfType(RuntimeException.class)
+				.isThrownBy(() -> template.sendAndReceive(requestChannel, new GenericMessage<>("request")))
+				.withRootCauseInstanceOf(IllegalStateException.class);
+	}
+
+}
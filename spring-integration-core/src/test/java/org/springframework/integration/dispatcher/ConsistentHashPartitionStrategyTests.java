@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.dispatcher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 6.3
+ */
+public class ConsistentHashPartitionStrategyTests {
+
+	@Test
+	void onlyFractionOfKeysMoveWhenPartitionIsAdded() {
+		ConsistentHashPartitionStrategy strategy = new ConsistentHashPartitionStrategy();
+		int keys = 10_000;
+		int[] before = new int[keys];
+		for (int key = 0; key < keys; key++) {
+			before[key] = strategy.selectPartition("key" + key, new TestPartitions(new int[4]));
+		}
+		int moved = 0;
+		int[] perPartition = new int[5];
+		for (int key = 0; key < keys; key++) {
+			int partition = strategy.selectPartition("key" + key, new TestPartitions(new int[5]));
+			perPartition[partition]++;
+			if (partition != before[key]) {
+				assertThat(partition).isEqualTo(4);
+				moved++;
+			}
+		}
+		assertThat(moved).isBetween(keys / 10, keys * 3 / 10);
+		for (int count : perPartition) {
+			assertThat(count).isBetween(keys / 10, keys * 3 / 10);
+		}
+	}
+
+	@Test
+	void loadedPartitionDoesNotGetNewKeys() {
+		ConsistentHashPartitionStrategy strategy = new ConsistentHashPartitionStrategy(1.25);
+		int[] depths = new int[4];
+		depths[2] = 100;
+		for (int key = 0; key < 1000; key++) {
+			assertThat(strategy.selectPartition(key, new TestPartitions(depths))).isNotEqualTo(2);
+		}
+		depths[2] = 0;
+		boolean partition2Selected = false;
+		for (int key = 0; key < 1000 && !partition2Selected; key++) {
+			partition2Selected = strategy.selectPartition(key, new TestPartitions(depths)) == 2;
+		}
+		assertThat(partition2Selected).isTrue();
+	}
+
+	private record TestPartitions(int[] depths) implements PartitionStrategy.Partitions {
+
+		@Override
+		public int count() {
+			return this.depths.length;
+		}
+
+		@Override
+		public int queueDepth(int partition) {
+			return this.depths[partition];
+		}
+
+	}
+
+}
@@ -19,7 +19,10 @@ package org.springframework.integration.dsl;
 import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.support.PeriodicTrigger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,4 +56,11 @@ public class PollersTests {
 		assertThat(trigger.isFixedRate()).isTrue();
 	}
 
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	public void testVirtualThreads() {
+		assertThat(Pollers.fixedDelay(100).virtualThreads().getObject().getTaskExecutor())
+				.isInstanceOf(VirtualThreadTaskExecutor.class);
+	}
+
 }
@@ -16,19 +16,31 @@
 
 package org.springframework.integration.endpoint;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.aopalliance.intercept.MethodInterceptor;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.NameMatchMethodPointcutAdvisor;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.integration.MessageRejectedException;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.handler.AbstractMessageHandler;
+import org.springframework.integration.handler.BatchMessageHandler;
+import org.springframework.integration.history.MessageHistory;
 import org.springframework.integration.support.MessagingExceptionWrapper;
+import org.springframework.integration.support.PartialSuccessException;
 import org.springframework.integration.test.util.OnlyOnceTrigger;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.PollableChannel;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -169,6 +181,211 @@ public class PollingConsumerEndpointTests {
 		assertThat(this.consumer.counter.get()).isEqualTo(1);
 	}
 
+	@Test
+	public void batchMessages() {
+		TestBatchConsumer batchConsumer = new TestBatchConsumer();
+		PollingConsumer batchEndpoint = batchEndpoint(batchConsumer, 7);
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(batchConsumer.batches).extracting(List::size).containsExactly(3, 3, 1);
+		assertThat(batchConsumer.batches.get(2).get(0).getPayload()).isEqualTo(6);
+	}
+
+	@Test(expected = PartialSuccessException.class)
+	public void batchPartialSuccess() throws Throwable {
+		TestBatchConsumer batchConsumer = new TestBatchConsumer();
+		PollingConsumer batchEndpoint = batchEndpoint(batchConsumer, 3);
+		batchConsumer.failAt = 2;
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(batchConsumer.batches).hasSize(1);
+		this.errorHandler.throwLastErrorIfAvailable();
+	}
+
+	@Test
+	public void batchFailureIsReportedForFirstMessage() {
+		TestBatchConsumer batchConsumer = new TestBatchConsumer() {
+
+			@Override
+			public void handleMessages(List<Message<?>> messages) {
+				throw new IllegalStateException("intentional test failure");
+			}
+
+		};
+		QueueChannel channel = new QueueChannel();
+		PollingConsumer batchEndpoint = batchEndpoint(channel, batchConsumer, 3);
+		List<Message<?>> messages = new ArrayList<>(channel.clear());
+		messages.forEach(channel::send);
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		Throwable error = this.errorHandler.lastError;
+		assertThat(error).isInstanceOf(MessagingExceptionWrapper.class);
+		assertThat(((MessagingException) error).getFailedMessage()).isSameAs(messages.get(0));
+		assertThat(error.getCause()).isInstanceOf(MessageDeliveryException.class);
+		assertThat(((MessagingException) error.getCause()).getFailedMessage()).isSameAs(messages.get(0));
+	}
+
+	@Test
+	public void notBatchCapableHandlerHandlesMessagesOneByOne() {
+		TestBatchConsumer batchConsumer = new TestBatchConsumer();
+		batchConsumer.batchCapable = false;
+		PollingConsumer batchEndpoint = batchEndpoint(batchConsumer, 4);
+		batchEndpoint.setMaxMessagesPerPoll(-1);
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(batchConsumer.batches).extracting(List::size).containsExactly(1, 1, 1, 1);
+	}
+
+	@Test
+	public void advisedBatchHandlerHandlesMessagesOneByOne() {
+		TestBatchConsumer batchConsumer = new TestBatchConsumer();
+		AtomicInteger advised = new AtomicInteger();
+		ProxyFactory proxyFactory = new ProxyFactory(batchConsumer);
+		NameMatchMethodPointcutAdvisor advisor = new NameMatchMethodPointcutAdvisor((MethodInterceptor) (invocation) -> {
+			advised.incrementAndGet();
+			return invocation.proceed();
+		});
+		advisor.addMethodName("handleMessage");
+		proxyFactory.addAdvisor(advisor);
+		PollingConsumer batchEndpoint = batchEndpoint((BatchMessageHandler) proxyFactory.getProxy(), 4);
+		batchEndpoint.setMaxMessagesPerPoll(-1);
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(batchConsumer.batches).extracting(List::size).containsExactly(1, 1, 1, 1);
+		assertThat(advised.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void batchHistoryAndPartialSuccessOfOriginalMessages() {
+		TestBatchMessageHandler batchHandler = new TestBatchMessageHandler();
+		batchHandler.setBeanName("batchHandler");
+		batchHandler.setShouldTrack(true);
+		batchHandler.setBeanFactory(mock(BeanFactory.class));
+		batchHandler.afterPropertiesSet();
+		QueueChannel channel = new QueueChannel();
+		PollingConsumer batchEndpoint = batchEndpoint(channel, batchHandler, 3);
+		List<Message<?>> messages = new ArrayList<>(channel.clear());
+		messages.forEach(channel::send);
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(batchHandler.batch).hasSize(3)
+				.allSatisfy((message) -> assertThat(MessageHistory.read(message)).hasSize(1));
+		Throwable error = this.errorHandler.lastError;
+		if (error instanceof MessagingExceptionWrapper) {
+			error = error.getCause();
+		}
+		assertThat(error).isInstanceOf(PartialSuccessException.class);
+		PartialSuccessException partialSuccess = (PartialSuccessException) error;
+		assertThat(partialSuccess.getFailedMessage()).isSameAs(messages.get(1));
+		assertThat(new ArrayList<Object>(partialSuccess.getPartialResults())).containsExactly(messages.get(0));
+		assertThat(partialSuccess.getDerivedInput()).isEqualTo(messages);
+	}
+
+	@Test
+	public void partialBatchIsHandledWhenReceiveFails() {
+		AtomicInteger receives = new AtomicInteger();
+		QueueChannel channel = new QueueChannel() {
+
+			@Override
+			protected Message<?> doReceive(long timeout) {
+				if (receives.incrementAndGet() == 3) {
+					throw new IllegalStateException("intentional test failure");
+				}
+				return super.doReceive(timeout);
+			}
+
+		};
+		TestBatchConsumer batchConsumer = new TestBatchConsumer();
+		PollingConsumer batchEndpoint = batchEndpoint(channel, batchConsumer, 4);
+		batchEndpoint.start();
+		this.trigger.await();
+		batchEndpoint.stop();
+		assertThat(batchConsumer.batches).extracting(List::size).containsExactly(2, 2);
+		assertThat(channel.getQueueSize()).isEqualTo(0);
+	}
+
+	private PollingConsumer batchEndpoint(BatchMessageHandler batchConsumer, int messages) {
+		return batchEndpoint(new QueueChannel(), batchConsumer, messages);
+	}
+
+	private PollingConsumer batchEndpoint(QueueChannel channel, BatchMessageHandler batchConsumer, int messages) {
+		for (int i = 0; i < messages; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		PollingConsumer batchEndpoint = new PollingConsumer(channel, batchConsumer);
+		batchEndpoint.setErrorHandler(this.errorHandler);
+		batchEndpoint.setTaskScheduler(this.taskScheduler);
+		batchEndpoint.setTrigger(this.trigger);
+		batchEndpoint.setBeanFactory(mock(BeanFactory.class));
+		batchEndpoint.setReceiveTimeout(0);
+		batchEndpoint.setBatchSize(3);
+		batchEndpoint.afterPropertiesSet();
+		return batchEndpoint;
+	}
+
+	private static class TestBatchConsumer implements BatchMessageHandler {
+
+		private final List<List<Message<?>>> batches = new ArrayList<>();
+
+		private volatile int failAt = -1;
+
+		private volatile boolean batchCapable = true;
+
+		TestBatchConsumer() {
+		}
+
+		@Override
+		public boolean isBatchCapable() {
+			return this.batchCapable;
+		}
+
+		@Override
+		public void handleMessages(List<Message<?>> messages) {
+			this.batches.add(new ArrayList<>(messages));
+			if (this.failAt >= 0) {
+				throw new PartialSuccessException(messages.get(this.failAt), "intentional test failure",
+						new RuntimeException("test"), messages.subList(0, this.failAt), messages);
+			}
+		}
+
+		@Override
+		public void handleMessage(Message<?> message) {
+			handleMessages(List.of(message));
+		}
+
+	}
+
+	private static class TestBatchMessageHandler extends AbstractMessageHandler implements BatchMessageHandler {
+
+		private volatile List<Message<?>> batch;
+
+		TestBatchMessageHandler() {
+		}
+
+		@Override
+		public void handleMessages(List<Message<?>> messages) {
+			handleMessageBatch(messages, this::doHandleMessages);
+		}
+
+		private void doHandleMessages(List<Message<?>> messages) {
+			this.batch = messages;
+			throw new PartialSuccessException(messages.get(1), "intentional test failure",
+					new RuntimeException("test"), messages.subList(0, 1), messages);
+		}
+
+		@Override
+		protected void handleMessageInternal(Message<?> message) {
+			doHandleMessages(List.of(message));
+		}
+
+	}
+
 
 	private static class TestConsumer implements MessageHandler {
 
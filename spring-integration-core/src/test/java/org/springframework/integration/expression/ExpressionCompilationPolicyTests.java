@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.expression;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.integration.expression.ExpressionCompilationPolicy.CompilationState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * @since 6.3
+ */
+public class ExpressionCompilationPolicyTests {
+
+	private final SpelExpressionParser parser = new SpelExpressionParser();
+
+	private final EvaluationContext evaluationContext = new StandardEvaluationContext();
+
+	@Test
+	public void expressionIsCompiledAfterThreshold() {
+		ExpressionCompilationPolicy policy = new ExpressionCompilationPolicy(2);
+		Expression expression = this.parser.parseExpression("toUpperCase()");
+
+		assertThat(evaluate(policy, expression, "foo")).isEqualTo("FOO");
+		assertThat(ExpressionCompilationPolicy.getStatistics(expression).getState())
+				.isEqualTo(CompilationState.INTERPRETED);
+
+		assertThat(evaluate(policy, expression, "bar")).isEqualTo("BAR");
+		assertThat(evaluate(policy, expression, "baz")).isEqualTo("BAZ");
+
+		ExpressionCompilationPolicy.Statistics statistics = ExpressionCompilationPolicy.getStatistics(expression);
+		assertThat(statistics.getState()).isEqualTo(CompilationState.COMPILED);
+		assertThat(statistics.getEvaluationCount()).isEqualTo(2);
+		assertThat(statistics.getMeanEvaluationTime()).isGreaterThan(0);
+	}
+
+	@Test
+	public void compiledExpressionIsRevertedOnTypeChange() {
+		ExpressionCompilationPolicy policy = new ExpressionCompilationPolicy(0);
+		Expression expression = this.parser.parseExpression("length()");
+
+		assertThat(evaluate(policy, expression, "foo")).isEqualTo(3);
+		assertThat(ExpressionCompilationPolicy.getStatistics(expression).getState())
+				.isEqualTo(CompilationState.COMPILED);
+
+		assertThat(evaluate(policy, expression, new StringBuilder("quux"))).isEqualTo(4);
+		assertThat(ExpressionCompilationPolicy.getStatistics(expression).getState())
+				.isEqualTo(CompilationState.REVERTED);
+
+		assertThat(evaluate(policy, expression, "foo")).isEqualTo(3);
+		assertThat(ExpressionCompilationPolicy.getStatistics(expression).getEvaluationCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void compiledExpressionIsNotRevertedOnMethodFailure() {
+		ExpressionCompilationPolicy policy = new ExpressionCompilationPolicy(0);
+		Expression expression = this.parser.parseExpression("charAt(1)");
+
+		assertThat(evaluate(policy, expression, "foo")).isEqualTo('o');
+		assertThat(policy.isCompiled(expression)).isTrue();
+
+		// The method failure is rethrown as is, like the interpreter does
+		assertThatExceptionOfType(StringIndexOutOfBoundsException.class)
+				.isThrownBy(() -> evaluate(policy, expression, "f"));
+		assertThat(ExpressionCompilationPolicy.getStatistics(expression).getState())
+				.isEqualTo(CompilationState.COMPILED);
+		assertThat(policy.isCompiled(expression)).isTrue();
+	}
+
+	@Test
+	public void failedMethodIsNotInvokedAgain() {
+		ExpressionCompilationPolicy policy = new ExpressionCompilationPolicy(0);
+		Expression expression = this.parser.parseExpression("process()");
+		Service service = new Service();
+
+		assertThat(evaluate(policy, expression, service)).isEqualTo("processed");
+		assertThat(policy.isCompiled(expression)).isTrue();
+
+		service.fail = true;
+		assertThatIllegalStateException()
+				.isThrownBy(() -> evaluate(policy, expression, service))
+				.withMessage("business failure");
+		assertThat(service.calls).hasValue(2);
+		assertThat(policy.isCompiled(expression)).isTrue();
+
+		service.fail = false;
+		assertThat(evaluate(policy, expression, service)).isEqualTo("processed");
+		assertThat(service.calls).hasValue(3);
+	}
+
+	@Test
+	public void compiledEvaluationsAreNotTracked() {
+		ExpressionCompilationPolicy policy = new ExpressionCompilationPolicy(0);
+		Expression expression = this.parser.parseExpression("toUpperCase()");
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(evaluate(policy, expression, "foo")).isEqualTo("FOO");
+		}
+		ExpressionCompilationPolicy.Statistics statistics = ExpressionCompilationPolicy.getStatistics(expression);
+		assertThat(statistics.getState()).isEqualTo(CompilationState.COMPILED);
+		assertThat(statistics.getEvaluationCount()).isEqualTo(1);
+		assertThat(policy.isCompiled(expression)).isTrue();
+	}
+
+	@Test
+	public void directlyEvaluatedCompiledExpressionIsReverted() {
+		ExpressionCompilationPolicy policy = new ExpressionCompilationPolicy(0);
+		Expression expression = this.parser.parseExpression("length()");
+		evaluate(policy, expression, "foo");
+		assertThat(policy.isCompiled(expression)).isTrue();
+
+		SpelEvaluationException failure =
+				catchThrowableOfType(() -> expression.getValue(this.evaluationContext, new StringBuilder("quux")),
+						SpelEvaluationException.class);
+		policy.revertOrRethrow(expression, failure);
+		assertThat(policy.isCompiled(expression)).isFalse();
+		assertThat(evaluate(policy, expression, new StringBuilder("quux"))).isEqualTo(4);
+		assertThatExceptionOfType(ClassCastException.class)
+				.isThrownBy(() -> policy.revertOrRethrow(expression, failure));
+	}
+
+	@Test
+	public void notCompilableExpressionIsInterpreted() {
+		ExpressionCompilationPolicy policy = new ExpressionCompilationPolicy(0);
+		Expression expression = this.parser.parseExpression("![toUpperCase()]");
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(evaluate(policy, expression, List.of("foo"))).isEqualTo(List.of("FOO"));
+		}
+		assertThat(ExpressionCompilationPolicy.getStatistics(expression).getState())
+				.isEqualTo(CompilationState.NOT_COMPILABLE);
+	}
+
+	@Test
+	public void negativeThresholdDisablesCompilation() {
+		ExpressionCompilationPolicy policy = new ExpressionCompilationPolicy(-1);
+		Expression expression = this.parser.parseExpression("toUpperCase()");
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(evaluate(policy, expression, "foo")).isEqualTo("FOO");
+		}
+		ExpressionCompilationPolicy.Statistics statistics = ExpressionCompilationPolicy.getStatistics(expression);
+		assertThat(statistics.getState()).isEqualTo(CompilationState.INTERPRETED);
+		assertThat(statistics.getEvaluationCount()).isEqualTo(0);
+	}
+
+	private Object evaluate(ExpressionCompilationPolicy policy, Expression expression, Object root) {
+		return policy.evaluate(expression, (expr) -> expr.getValue(this.evaluationContext, root));
+	}
+
+	public static class Service {
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private volatile boolean fail;
+
+		public String process() {
+			this.calls.incrementAndGet();
+			if (this.fail) {
+				throw new IllegalStateException("business failure");
+			}
+			return "processed";
+		}
+
+	}
+
+}
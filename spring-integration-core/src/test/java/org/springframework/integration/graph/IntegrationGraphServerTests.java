@@ -211,6 +211,13 @@ public class IntegrationGraphServerTests {
 		assertThat(routes).hasSize(1);
 		assertThat(routes.get(0)).isEqualTo("fizChannel");
 
+		Map<String, Object> expressionStatistics =
+				(Map<String, Object>) ((Map<String, Object>) expressionRouter.get("properties"))
+						.get("expressionStatistics");
+		assertThat(expressionStatistics)
+				.containsEntry("state", "INTERPRETED")
+				.containsEntry("evaluationCount", 1);
+
 		Object routerNodeId = expressionRouter.get("nodeId");
 
 		Object fizChannelNodeId =
@@ -17,8 +17,11 @@
 package org.springframework.integration.handler;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
@@ -43,6 +46,7 @@ import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.channel.MessagePublishingErrorHandler;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.scheduling.HashedWheelDelayScheduler;
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
 import org.springframework.integration.store.SimpleMessageStore;
@@ -457,6 +461,75 @@ public class DelayHandlerTests {
 		assertThat(messageGroupStore.messageGroupSize(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(0);
 	}
 
+	@Test
+	public void releaseAndRescheduleWithHashedWheelDelayScheduler() {
+		HashedWheelDelayScheduler delayScheduler =
+				new HashedWheelDelayScheduler(this.taskScheduler, Duration.ofMillis(10), 16);
+		MessageGroupStore messageGroupStore = new SimpleMessageStore();
+		this.delayHandler.setDefaultDelay(50);
+		this.delayHandler.setMessageStore(messageGroupStore);
+		this.delayHandler.setDelayScheduler(delayScheduler);
+		startDelayerHandler();
+		Message<?> message = MessageBuilder.withPayload("test").build();
+		this.input.send(message);
+		waitForLatch(10000);
+		assertThat(this.resultHandler.lastMessage.getPayload()).isSameAs(message.getPayload());
+		assertThat(this.resultHandler.lastThread).isNotSameAs(Thread.currentThread());
+
+		this.delayHandler.setDefaultDelay(60_000);
+		for (int i = 0; i < 100; i++) {
+			this.input.send(new GenericMessage<>(i));
+		}
+		assertThat(messageGroupStore.messageGroupSize(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(100);
+
+		// emulate restart
+		delayScheduler.destroy();
+		delayScheduler = new HashedWheelDelayScheduler(this.taskScheduler, Duration.ofMillis(10), 16);
+		this.delayHandler = new DelayHandler(DELAYER_MESSAGE_GROUP_ID);
+		QueueChannel releasedChannel = new QueueChannel();
+		this.delayHandler.setOutputChannel(releasedChannel);
+		this.delayHandler.setDefaultDelay(10);
+		this.delayHandler.setMessageStore(messageGroupStore);
+		this.delayHandler.setDelayScheduler(delayScheduler);
+		this.delayHandler.setBeanFactory(mock(BeanFactory.class));
+		startDelayerHandler();
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(releasedChannel.receive(10000)).isNotNull();
+		}
+		assertThat(messageGroupStore.messageGroupSize(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(0);
+		// Only the wheel ticks are scheduled on the TaskScheduler
+		assertThat(((ScheduledThreadPoolExecutor) this.taskScheduler.getScheduledExecutor()).getQueue())
+				.hasSizeLessThanOrEqualTo(2);
+		delayScheduler.destroy();
+	}
+
+	@Test
+	public void rescheduleWithDelaySchedulerKeepsOriginalReleaseTime() {
+		MessageGroupStore messageGroupStore = new SimpleMessageStore();
+		this.delayHandler.setDefaultDelay(60_000);
+		this.delayHandler.setMessageStore(messageGroupStore);
+		startDelayerHandler();
+		this.input.send(new GenericMessage<>("test"));
+		Message<?> stored = messageGroupStore.getMessageGroup(DELAYER_MESSAGE_GROUP_ID).getOne();
+		long requestDate = ((DelayHandler.DelayedMessageWrapper) stored.getPayload()).getRequestDate();
+
+		// emulate restart
+		List<Instant> startTimes = new ArrayList<>();
+		this.delayHandler = new DelayHandler(DELAYER_MESSAGE_GROUP_ID);
+		this.delayHandler.setOutputChannel(new QueueChannel());
+		this.delayHandler.setDefaultDelay(60_000);
+		this.delayHandler.setMessageStore(messageGroupStore);
+		this.delayHandler.setDelayScheduler((task, startTime) -> {
+			startTimes.add(startTime);
+			return null;
+		});
+		this.delayHandler.setBeanFactory(mock(BeanFactory.class));
+		startDelayerHandler();
+
+		assertThat(startTimes).containsExactly(Instant.ofEpochMilli(requestDate + 60_000));
+	}
+
 	@Test //INT-1132
 	// Can happen in the parent-child context e.g. Spring-MVC applications
 	public void testDoubleOnApplicationEvent() {
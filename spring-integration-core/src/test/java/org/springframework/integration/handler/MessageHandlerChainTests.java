@@ -18,6 +18,7 @@ package org.springframework.integration.handler;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,13 +26,18 @@ import org.mockito.Mockito;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.context.IntegrationObjectSupport;
 import org.springframework.integration.core.MessageProducer;
+import org.springframework.integration.handler.advice.AbstractRequestHandlerAdvice;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHandlingException;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -157,6 +163,66 @@ public class MessageHandlerChainTests {
 		assertThatIllegalArgumentException().isThrownBy(chain::afterPropertiesSet);
 	}
 
+	@Test
+	public void fusedChainFallsBackToRegularHandling() {
+		AtomicInteger adviceCalls = new AtomicInteger();
+		AbstractReplyProducingMessageHandler advised = new SuffixHandler("2");
+		advised.setAdviceChain(List.of(new AbstractRequestHandlerAdvice() {
+
+			@Override
+			protected Object doInvoke(ExecutionCallback callback, Object target, Message<?> message) {
+				adviceCalls.incrementAndGet();
+				return callback.execute();
+			}
+
+		}));
+		QueueChannel replies = new QueueChannel();
+		MessageHandlerChain chain = new MessageHandlerChain();
+		chain.setBeanName("testChain");
+		chain.setHandlers(List.of(new SuffixHandler("1"), advised, new SuffixHandler("3")));
+		chain.setOutputChannel(replies);
+		chain.setFused(true);
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		chain.getHandlers().forEach((handler) -> ((IntegrationObjectSupport) handler).setBeanFactory(beanFactory));
+		chain.setBeanFactory(beanFactory);
+		chain.afterPropertiesSet();
+		chain.getHandlers().forEach((handler) -> ((IntegrationObjectSupport) handler).afterPropertiesSet());
+
+		chain.handleMessage(this.message);
+		Message<?> reply = replies.receive(0);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo("foo123");
+		assertThat(adviceCalls.get()).isEqualTo(1);
+
+		assertThatExceptionOfType(MessageHandlingException.class)
+				.isThrownBy(() -> chain.handleMessage(MessageBuilder.withPayload("fail").build()))
+				.withMessageContaining("error occurred in message handler [SuffixHandler1]")
+				.satisfies((ex) -> assertThat(ex.getFailedMessage().getPayload()).isEqualTo("fail"));
+	}
+
+	private static class SuffixHandler extends AbstractReplyProducingMessageHandler {
+
+		private final String suffix;
+
+		SuffixHandler(String suffix) {
+			this.suffix = suffix;
+		}
+
+		@Override
+		protected Object handleRequestMessage(Message<?> requestMessage) {
+			if ("fail".equals(requestMessage.getPayload())) {
+				throw new IllegalStateException("intentional");
+			}
+			return requestMessage.getPayload() + this.suffix;
+		}
+
+		@Override
+		public String toString() {
+			return "SuffixHandler" + this.suffix;
+		}
+
+	}
+
 	private static class ProducingHandlerStub extends IntegrationObjectSupport
 			implements MessageHandler, MessageProducer {
 
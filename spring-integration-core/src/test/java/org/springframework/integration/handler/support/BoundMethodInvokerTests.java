@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler.support;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Headers;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @since 6.3
+ */
+public class BoundMethodInvokerTests {
+
+	private final Service service = new Service();
+
+	@Test
+	void simpleSignaturesAreInvokedDirectly() throws Exception {
+		Message<String> message =
+				MessageBuilder.withPayload("foo")
+						.setHeader("bar", "BAR")
+						.setHeader("count", 3)
+						.build();
+
+		assertThat(invoker("payload", String.class).invoke(message)).isEqualTo("FOO");
+		assertThat(invoker("payloadAndHeaders", String.class, String.class, int.class, Map.class).invoke(message))
+				.isEqualTo("foo:BAR:3:4");
+		assertThat(invoker("message", Message.class).invoke(message)).isEqualTo("foo");
+		assertThat(invoker("headers", MessageHeaders.class).invoke(message)).isEqualTo("BAR");
+		assertThat(invoker("noArgs").invoke(message)).isEqualTo("none");
+		assertThat(invoker("staticPayload", String.class).invoke(message)).isEqualTo("static:foo");
+		assertThat(invoker("nothing", String.class).invoke(message)).isNull();
+	}
+
+	@Test
+	void argumentsRequiringResolutionAreNotInvoked() throws Exception {
+		Message<String> message = MessageBuilder.withPayload("foo").build();
+
+		assertThat(invoker("payload", String.class).invoke(MessageBuilder.withPayload(42).build()))
+				.isSameAs(BoundMethodInvoker.NOT_INVOKED);
+		assertThat(invoker("payload", String.class).invoke(MessageBuilder.withPayload("").build()))
+				.isSameAs(BoundMethodInvoker.NOT_INVOKED);
+		assertThat(invoker("payloadAndHeaders", String.class, String.class, int.class, Map.class).invoke(message))
+				.isSameAs(BoundMethodInvoker.NOT_INVOKED);
+		assertThat(invoker("integerMessage", Message.class).invoke(message))
+				.isSameAs(BoundMethodInvoker.NOT_INVOKED);
+		assertThat(this.service.invocations).isEqualTo(0);
+	}
+
+	@Test
+	void unsupportedSignaturesAreRejected() {
+		assertThat(create("payloadExpression", String.class)).isNull();
+		assertThat(create("twoPayloads", String.class, String.class)).isNull();
+		assertThat(create("mapPayload", Map.class)).isNull();
+		assertThat(create("placeholderHeader", String.class)).isNull();
+	}
+
+	@Test
+	void exceptionsArePropagated() {
+		Message<String> message = MessageBuilder.withPayload("foo").build();
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> invoker("failRuntime", String.class).invoke(message))
+				.withMessage("foo");
+		assertThatExceptionOfType(IOException.class)
+				.isThrownBy(() -> invoker("failChecked", String.class).invoke(message))
+				.withMessage("checked");
+	}
+
+	private BoundMethodInvoker invoker(String methodName, Class<?>... parameterTypes) {
+		BoundMethodInvoker invoker = create(methodName, parameterTypes);
+		assertThat(invoker).isNotNull();
+		return invoker;
+	}
+
+	private BoundMethodInvoker create(String methodName, Class<?>... parameterTypes) {
+		return BoundMethodInvoker.create(this.service,
+				ReflectionUtils.findMethod(Service.class, methodName, parameterTypes));
+	}
+
+	private static class Service {
+
+		private int invocations;
+
+		Service() {
+		}
+
+		public String payload(String payload) {
+			this.invocations++;
+			return payload.toUpperCase();
+		}
+
+		public String payloadAndHeaders(@Payload String payload, @Header("bar") String bar, @Header int count,
+				@Headers Map<String, Object> headers) {
+
+			this.invocations++;
+			return payload + ":" + bar + ":" + count + ":" + headers.size();
+		}
+
+		public Object message(Message<?> message) {
+			return message.getPayload();
+		}
+
+		public Object integerMessage(Message<Integer> message) {
+			this.invocations++;
+			return message.getPayload();
+		}
+
+		public Object headers(MessageHeaders headers) {
+			return headers.get("bar");
+		}
+
+		public String noArgs() {
+			return "none";
+		}
+
+		public static String staticPayload(String payload) {
+			return "static:" + payload;
+		}
+
+		public void nothing(String payload) {
+		}
+
+		public String payloadExpression(@Payload("toUpperCase()") String payload) {
+			return payload;
+		}
+
+		public String twoPayloads(String payload1, String payload2) {
+			return payload1 + payload2;
+		}
+
+		public String mapPayload(Map<String, Object> map) {
+			return map.toString();
+		}
+
+		public String placeholderHeader(@Header("${header.name}") String header) {
+			return header;
+		}
+
+		public String failRuntime(String payload) {
+			throw new IllegalArgumentException(payload);
+		}
+
+		public String failChecked(String payload) throws IOException {
+			throw new IOException("checked");
+		}
+
+	}
+
+}
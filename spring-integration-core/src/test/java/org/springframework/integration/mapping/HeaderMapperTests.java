@@ -30,8 +30,11 @@ import org.springframework.integration.mapping.AbstractHeaderMapper.HeaderMatche
 import org.springframework.integration.mapping.AbstractHeaderMapper.PatternBasedHeaderMatcher;
 import org.springframework.integration.mapping.AbstractHeaderMapper.PrefixBasedMatcher;
 import org.springframework.integration.mapping.AbstractHeaderMapper.SinglePatternBasedHeaderMatcher;
+import org.springframework.integration.support.utils.CompiledPatternSet;
+import org.springframework.integration.test.util.TestUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.PatternMatchUtils;
 import org.springframework.util.StringUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -417,6 +420,52 @@ public class HeaderMapperTests {
 		assertMapping(strategy, "somethingElse", true);
 	}
 
+	@Test
+	public void compiledPatternsMatchLikeSimpleMatch() {
+		Collection<String> patterns = Arrays.asList("foo", "foo_*", "fo*", "*bar", "*_bar", "b*z", "*qux*", "x**y");
+		CompiledPatternSet compiledPatterns = new CompiledPatternSet(patterns);
+		for (String name : Arrays.asList("foo", "fo", "f", "foo_", "foo_1", "bar", "ba", "1_bar", "baz", "bz",
+				"qux", "aquxb", "xy", "x1y", "y", "")) {
+
+			boolean expected = patterns.stream().anyMatch((pattern) -> PatternMatchUtils.simpleMatch(pattern, name));
+			assertThat(compiledPatterns.match(name)).as(name).isEqualTo(expected);
+		}
+		assertThat(new CompiledPatternSet(Collections.singleton("*")).match("anything")).isTrue();
+		assertThat(new CompiledPatternSet(Collections.emptyList()).match("anything")).isFalse();
+	}
+
+	@Test
+	public void negatedPatternsHavePriority() {
+		this.mapper.setReplyHeaderNames("foo*", "!foo2", "\\!bar", "!*-else", "*else");
+		GenericTestProperties properties = new GenericTestProperties();
+		properties.setUserDefinedHeader("foo", "bar");
+		properties.setUserDefinedHeader("foo2", "bar");
+		properties.setUserDefinedHeader("!bar", "bar");
+		properties.setUserDefinedHeader("something-else", "bar");
+		properties.setUserDefinedHeader("somethingElse", "bar");
+
+		for (int i = 0; i < 2; i++) {
+			Map<String, Object> attributes = this.mapper.toHeadersFromReply(properties);
+			assertThat(attributes).containsOnlyKeys("foo", "!bar", "somethingElse");
+		}
+	}
+
+	@Test
+	public void matchResultsAreCachedForRecentlyUsedHeaderNames() {
+		this.mapper.setReplyHeaderNames("foo*");
+		HeaderMatcher matcher = TestUtils.getPropertyValue(this.mapper, "replyHeaderMatcher", HeaderMatcher.class);
+		Map<Object, Object> results = TestUtils.getPropertyValue(matcher, "results.results", Map.class);
+		for (int i = 0; i < 2000; i++) {
+			assertThat(matcher.matchHeader("foo")).isTrue();
+			assertThat(matcher.matchHeader("bar" + i)).isFalse();
+		}
+		// The cache is cleared at 1024 names and goes on with the names matched after that
+		assertThat(results).hasSizeLessThanOrEqualTo(1024)
+				.containsEntry("foo", true)
+				.containsEntry("bar1999", false)
+				.doesNotContainKey("bar0");
+	}
+
 	@Test
 	public void compositeOneMatch() {
 		HeaderMatcher strategy = new CompositeHeaderMatcher(
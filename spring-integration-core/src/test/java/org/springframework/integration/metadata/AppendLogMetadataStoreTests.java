@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.DirectFieldAccessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @since 6.3
+ */
+public class AppendLogMetadataStoreTests {
+
+	@TempDir
+	File folder;
+
+	@Test
+	public void entriesSurviveRestart() {
+		AppendLogMetadataStore metadataStore = createStore();
+		assertThat(metadataStore.putIfAbsent("foo", "baz")).isNull();
+		assertThat(metadataStore.putIfAbsent("foo", "qux")).isEqualTo("baz");
+		assertThat(metadataStore.replace("foo", "xxx", "bar")).isFalse();
+		assertThat(metadataStore.replace("foo", "baz", "bar")).isTrue();
+		metadataStore.put("baz", "qux");
+		metadataStore.put("bar", "qux");
+		assertThat(metadataStore.remove("bar")).isEqualTo("qux");
+		assertThat(metadataStore.remove("bar")).isNull();
+		metadataStore.close();
+
+		metadataStore = createStore();
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThat(metadataStore.get("baz")).isEqualTo("qux");
+		assertThat(metadataStore.get("bar")).isNull();
+		metadataStore.close();
+	}
+
+	@Test
+	public void incompleteRecordIsDiscardedOnRecovery() throws Exception {
+		AppendLogMetadataStore metadataStore = createStore();
+		metadataStore.put("foo", "bar");
+		metadataStore.put("baz", "qux");
+		metadataStore.close();
+
+		File file = new File(this.folder, "metadata-store.log");
+		long length = file.length();
+		try (RandomAccessFile log = new RandomAccessFile(file, "rw")) {
+			log.setLength(length - 2);
+		}
+
+		metadataStore = createStore();
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThat(metadataStore.get("baz")).isNull();
+		metadataStore.put("baz", "fiz");
+		metadataStore.close();
+
+		metadataStore = createStore();
+		assertThat(metadataStore.get("baz")).isEqualTo("fiz");
+		metadataStore.close();
+	}
+
+	@Test
+	public void logIsCompacted() {
+		AppendLogMetadataStore metadataStore = createStore();
+		metadataStore.setCompactionThreshold(1024);
+		metadataStore.setBufferSize(128);
+		for (int i = 0; i < 1000; i++) {
+			metadataStore.put("foo" + (i % 10), "bar" + i);
+		}
+		metadataStore.close();
+		assertThat(new File(this.folder, "metadata-store.log").length()).isLessThan(4096);
+
+		metadataStore = createStore();
+		for (int i = 0; i < 10; i++) {
+			assertThat(metadataStore.get("foo" + i)).isEqualTo("bar" + (990 + i));
+		}
+		metadataStore.close();
+	}
+
+	@Test
+	public void concurrentWritersWithSyncOnWrite() throws Exception {
+		AppendLogMetadataStore metadataStore = createStore();
+		metadataStore.setSyncOnWrite(true);
+		metadataStore.setCompactionThreshold(4096);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		Future<?>[] futures = new Future<?>[4];
+		for (int t = 0; t < futures.length; t++) {
+			int thread = t;
+			futures[t] = executor.submit(() -> {
+				for (int i = 0; i < 200; i++) {
+					metadataStore.putIfAbsent("key" + thread + "-" + i, "value" + i);
+					metadataStore.put("last", "value" + i);
+				}
+			});
+		}
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+		metadataStore.close();
+
+		AppendLogMetadataStore recovered = createStore();
+		for (int t = 0; t < futures.length; t++) {
+			for (int i = 0; i < 200; i++) {
+				assertThat(recovered.get("key" + t + "-" + i)).isEqualTo("value" + i);
+			}
+		}
+		assertThat(recovered.get("last")).isEqualTo("value199");
+		recovered.close();
+	}
+
+	@Test
+	public void writeFailureIsThrownAndRolledBackWithSyncOnWrite() throws Exception {
+		AppendLogMetadataStore metadataStore = createStore();
+		metadataStore.setSyncOnWrite(true);
+		metadataStore.put("foo", "bar");
+		DirectFieldAccessor accessor = new DirectFieldAccessor(metadataStore);
+		FileChannel channel = (FileChannel) accessor.getPropertyValue("channel");
+		channel.close();
+		assertThatExceptionOfType(UncheckedIOException.class)
+				.isThrownBy(() -> metadataStore.put("baz", "qux"))
+				.withCauseInstanceOf(IOException.class);
+		assertThat(metadataStore.get("baz")).isNull();
+		assertThatExceptionOfType(UncheckedIOException.class)
+				.isThrownBy(() -> metadataStore.replace("foo", "bar", "qux"));
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+		assertThatExceptionOfType(UncheckedIOException.class)
+				.isThrownBy(() -> metadataStore.remove("foo"));
+		assertThat(metadataStore.get("foo")).isEqualTo("bar");
+
+		// The failed modifications are rolled back in the log as well
+		accessor.setPropertyValue("channel",
+				FileChannel.open(new File(this.folder, "metadata-store.log").toPath(),
+						StandardOpenOption.READ, StandardOpenOption.WRITE));
+		metadataStore.put("fiz", "buz");
+		metadataStore.close();
+
+		AppendLogMetadataStore recovered = createStore();
+		assertThat(recovered.get("foo")).isEqualTo("bar");
+		assertThat(recovered.get("baz")).isNull();
+		assertThat(recovered.get("fiz")).isEqualTo("buz");
+		recovered.close();
+	}
+
+	private AppendLogMetadataStore createStore() {
+		AppendLogMetadataStore metadataStore = new AppendLogMetadataStore();
+		metadataStore.setBaseDirectory(this.folder.getAbsolutePath());
+		metadataStore.afterPropertiesSet();
+		return metadataStore;
+	}
+
+}
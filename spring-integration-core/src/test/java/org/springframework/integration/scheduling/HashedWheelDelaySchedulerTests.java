@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @since 6.3
+ */
+public class HashedWheelDelaySchedulerTests {
+
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	private HashedWheelDelayScheduler delayScheduler;
+
+	@BeforeEach
+	void setup() {
+		this.taskScheduler = new ThreadPoolTaskScheduler();
+		this.taskScheduler.afterPropertiesSet();
+		this.delayScheduler = new HashedWheelDelayScheduler(this.taskScheduler, Duration.ofMillis(10), 6);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.delayScheduler.destroy();
+		this.taskScheduler.destroy();
+	}
+
+	@Test
+	void wheelSizeIsPowerOfTwo() {
+		assertThat(this.delayScheduler.getTicksPerWheel()).isEqualTo(8);
+	}
+
+	@Test
+	void tasksPerformedNotBeforeStartTimeAndInOrder() throws InterruptedException {
+		List<Integer> performed = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(3);
+		long start = System.currentTimeMillis();
+		// More than a whole wheel (8 * 10 millis) for the last task
+		this.delayScheduler.schedule(() -> {
+			performed.add(250);
+			latch.countDown();
+		}, Instant.ofEpochMilli(start + 250));
+		this.delayScheduler.schedule(() -> {
+			performed.add(30);
+			latch.countDown();
+		}, Instant.ofEpochMilli(start + 30));
+		this.delayScheduler.schedule(() -> {
+			performed.add(100);
+			latch.countDown();
+		}, Instant.ofEpochMilli(start + 100));
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(250);
+		assertThat(performed).containsExactly(30, 100, 250);
+	}
+
+	@Test
+	void pastStartTimePerformedOnNextTick() throws Exception {
+		ScheduledFuture<?> future =
+				this.delayScheduler.schedule(() -> { }, Instant.now().minusSeconds(10));
+		future.get(10, TimeUnit.SECONDS);
+		assertThat(future.isDone()).isTrue();
+	}
+
+	@Test
+	void cancelledTaskIsNotPerformed() throws InterruptedException {
+		CountDownLatch cancelledLatch = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(1);
+		ScheduledFuture<?> future =
+				this.delayScheduler.schedule(cancelledLatch::countDown, Instant.now().plusMillis(50));
+		this.delayScheduler.schedule(latch::countDown, Instant.now().plusMillis(100));
+		assertThat(future.cancel(false)).isTrue();
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(cancelledLatch.getCount()).isEqualTo(1);
+		assertThat(future.isCancelled()).isTrue();
+	}
+
+	@Test
+	void tasksExpiredOnSameTickPerformedInBatchOnExecutor() throws InterruptedException {
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		ThreadPoolTaskScheduler executor = new ThreadPoolTaskScheduler();
+		executor.setPoolSize(4);
+		executor.setThreadNamePrefix("batch-");
+		executor.afterPropertiesSet();
+		this.delayScheduler.setTaskExecutor(executor);
+		CountDownLatch latch = new CountDownLatch(10);
+		Instant startTime = Instant.now().plusMillis(20);
+		for (int i = 0; i < 10; i++) {
+			this.delayScheduler.schedule(() -> {
+				threads.add(Thread.currentThread());
+				latch.countDown();
+			}, startTime);
+		}
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(threads).hasSize(10).allMatch((thread) -> thread.getName().startsWith("batch-"));
+		// A single executor task per tick; the tasks might be scheduled across a tick boundary
+		assertThat(threads.stream().distinct()).hasSizeLessThanOrEqualTo(2);
+		executor.destroy();
+	}
+
+	@Test
+	void errorHandlerInvokedAndSubsequentTasksPerformed() throws InterruptedException {
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		this.delayScheduler.setErrorHandler(error::set);
+		CountDownLatch latch = new CountDownLatch(1);
+		Instant startTime = Instant.now().plusMillis(20);
+		ScheduledFuture<?> future = this.delayScheduler.schedule(() -> {
+			throw new IllegalStateException("intentional");
+		}, startTime);
+		this.delayScheduler.schedule(latch::countDown, startTime);
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		await().untilAsserted(() -> assertThat(error.get()).hasMessage("intentional"));
+		assertThat(future.isDone()).isTrue();
+	}
+
+}
@@ -20,22 +20,42 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.ExecutorChannel;
 import org.springframework.integration.channel.FluxMessageChannel;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.endpoint.EventDrivenConsumer;
+import org.springframework.integration.endpoint.PollingConsumer;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.PeriodicTrigger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
 
 /**
  * @author Mark Fisher
@@ -230,4 +250,286 @@ class DefaultSplitterTests {
 		verifier.verify(Duration.ofSeconds(1));
 	}
 
+	@Test
+	void splitIntoChunks() {
+		Message<?> message = new GenericMessage<>(List.of(1, 2, 3, 4, 5, 6, 7));
+		QueueChannel replyChannel = new QueueChannel();
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.setChunkSize(3);
+		splitter.handleMessage(message);
+		List<Message<?>> replies = replyChannel.clear();
+		assertThat(replies).<Object>extracting(Message::getPayload)
+				.containsExactly(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7));
+		assertThat(replies).extracting(reply -> new IntegrationMessageHeaderAccessor(reply).getSequenceNumber())
+				.containsExactly(1, 2, 3);
+		assertThat(replies).extracting(reply -> new IntegrationMessageHeaderAccessor(reply).getSequenceSize())
+				.containsOnly(3);
+	}
+
+	@Test
+	void nestedSplitPushesSequenceDetails() {
+		Message<?> message = MessageBuilder.withPayload(List.of("x", "y"))
+				.setCorrelationId("outer")
+				.setSequenceNumber(2)
+				.setSequenceSize(5)
+				.setHeader("foo", "bar")
+				.build();
+		QueueChannel replyChannel = new QueueChannel();
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.handleMessage(message);
+		List<Message<?>> replies = replyChannel.clear();
+		assertThat(replies).hasSize(2);
+		for (int i = 0; i < replies.size(); i++) {
+			IntegrationMessageHeaderAccessor headers = new IntegrationMessageHeaderAccessor(replies.get(i));
+			assertThat(headers.getCorrelationId()).isEqualTo(message.getHeaders().getId());
+			assertThat(headers.getSequenceNumber()).isEqualTo(i + 1);
+			assertThat(headers.getSequenceSize()).isEqualTo(2);
+			assertThat(headers.getHeader("foo")).isEqualTo("bar");
+			assertThat(headers.getHeader(IntegrationMessageHeaderAccessor.SEQUENCE_DETAILS))
+					.isEqualTo(List.of(List.of("outer", 2, 5)));
+		}
+	}
+
+	@Test
+	void maxInFlightToExecutorChannel() throws Exception {
+		ExecutorService executor = Executors.newCachedThreadPool();
+		ExecutorChannel replyChannel = executorChannel(executor);
+		AtomicInteger sent = new AtomicInteger();
+		replyChannel.addInterceptor(new ChannelInterceptor() {
+
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				sent.incrementAndGet();
+				return message;
+			}
+
+		});
+		AtomicInteger handling = new AtomicInteger();
+		AtomicInteger handled = new AtomicInteger();
+		AtomicInteger maxUnprocessed = new AtomicInteger();
+		CountDownLatch proceed = new CountDownLatch(1);
+		replyChannel.subscribe(m -> {
+			maxUnprocessed.accumulateAndGet(sent.get() - handled.get(), Math::max);
+			handling.incrementAndGet();
+			awaitQuietly(proceed);
+			handled.incrementAndGet();
+		});
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.setMaxInFlight(2);
+		Future<?> split = executor.submit(() ->
+				splitter.handleMessage(new GenericMessage<>(IntStream.range(0, 10).boxed())));
+
+		await().until(() -> handling.get() == 2);
+		Thread.sleep(100);
+		// The splitter is blocked until the executor threads are done with its messages
+		assertThat(sent.get()).isEqualTo(2);
+		assertThat(handling.get()).isEqualTo(2);
+		assertThat(split.isDone()).isFalse();
+
+		proceed.countDown();
+		split.get(10, TimeUnit.SECONDS);
+		await().until(() -> handled.get() == 10);
+		assertThat(maxUnprocessed.get()).isLessThanOrEqualTo(2);
+		executor.shutdown();
+	}
+
+	@Test
+	void maxInFlightAcrossConcurrentSplits() throws Exception {
+		ExecutorService executor = Executors.newCachedThreadPool();
+		ExecutorChannel replyChannel = executorChannel(executor);
+		AtomicInteger handling = new AtomicInteger();
+		CountDownLatch proceed = new CountDownLatch(1);
+		replyChannel.subscribe(m -> {
+			handling.incrementAndGet();
+			awaitQuietly(proceed);
+		});
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.setMaxInFlight(1);
+		Future<?> split1 = executor.submit(() -> splitter.handleMessage(new GenericMessage<>(List.of(1, 2, 3))));
+		Future<?> split2 = executor.submit(() -> splitter.handleMessage(new GenericMessage<>(List.of(4, 5, 6))));
+
+		await().until(() -> handling.get() == 1);
+		Thread.sleep(100);
+		assertThat(handling.get()).isEqualTo(1);
+		assertThat(split1.isDone()).isFalse();
+		assertThat(split2.isDone()).isFalse();
+
+		proceed.countDown();
+		split1.get(10, TimeUnit.SECONDS);
+		split2.get(10, TimeUnit.SECONDS);
+		await().until(() -> handling.get() == 6);
+		executor.shutdown();
+	}
+
+	@Test
+	void maxInFlightTimeout() {
+		ExecutorService executor = Executors.newCachedThreadPool();
+		ExecutorChannel replyChannel = executorChannel(executor);
+		AtomicInteger handling = new AtomicInteger();
+		CountDownLatch proceed = new CountDownLatch(1);
+		replyChannel.subscribe(m -> {
+			handling.incrementAndGet();
+			awaitQuietly(proceed);
+		});
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.setMaxInFlight(1);
+		splitter.setSendTimeout(100);
+
+		assertThatExceptionOfType(MessageDeliveryException.class)
+				.isThrownBy(() -> splitter.handleMessage(new GenericMessage<>(List.of(1, 2))))
+				.withMessageContaining("Timed out waiting for the in-flight split messages");
+		assertThat(handling.get()).isEqualTo(1);
+
+		proceed.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	void maxInFlightWithRebuiltMessages() throws Exception {
+		ExecutorService executor = Executors.newCachedThreadPool();
+		ExecutorChannel replyChannel = executorChannel(executor);
+		replyChannel.addInterceptor(new ExecutorChannelInterceptor() {
+
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				return MessageBuilder.fromMessage(message).build();
+			}
+
+			@Override
+			public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+				return MessageBuilder.fromMessage(message).build();
+			}
+
+		});
+		AtomicInteger handled = new AtomicInteger();
+		replyChannel.subscribe(m -> handled.incrementAndGet());
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.setMaxInFlight(2);
+		Future<?> split = executor.submit(() ->
+				splitter.handleMessage(new GenericMessage<>(IntStream.range(0, 10).boxed())));
+
+		split.get(10, TimeUnit.SECONDS);
+		await().until(() -> handled.get() == 10);
+
+		splitter.destroy();
+		assertThat(replyChannel.getInterceptors()).hasSize(1);
+		executor.shutdown();
+	}
+
+	@Test
+	void maxInFlightCountsOnlyOwnMessages() throws Exception {
+		QueueChannel replyChannel = new QueueChannel();
+		for (int i = 0; i < 5; i++) {
+			replyChannel.send(new GenericMessage<>("other"));
+		}
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.setMaxInFlight(2);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<?> split = executor.submit(() ->
+				splitter.handleMessage(new GenericMessage<>(IntStream.range(0, 4).iterator())));
+
+		// The messages of other producers do not hold the splitter back
+		await().until(() -> replyChannel.getQueueSize() == 7);
+		Thread.sleep(100);
+		assertThat(replyChannel.getQueueSize()).isEqualTo(7);
+		assertThat(split.isDone()).isFalse();
+
+		// Nor does receiving them release the split messages
+		for (int i = 0; i < 5; i++) {
+			assertThat(replyChannel.receive(0).getPayload()).isEqualTo("other");
+		}
+		Thread.sleep(100);
+		assertThat(replyChannel.getQueueSize()).isEqualTo(2);
+		assertThat(split.isDone()).isFalse();
+
+		for (int i = 0; i < 4; i++) {
+			Message<?> reply = replyChannel.receive(10_000);
+			assertThat(reply).isNotNull();
+			assertThat(reply.getPayload()).isEqualTo(i);
+		}
+		split.get(10, TimeUnit.SECONDS);
+		executor.shutdown();
+	}
+
+	@Test
+	void maxInFlightToQueueChannelWithPollingConsumer() throws Exception {
+		QueueChannel replyChannel = new QueueChannel();
+		AtomicInteger handled = new AtomicInteger();
+		CountDownLatch proceed = new CountDownLatch(1);
+		PollingConsumer consumer = new PollingConsumer(replyChannel, m -> {
+			if (handled.incrementAndGet() == 4) {
+				awaitQuietly(proceed);
+			}
+		});
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.afterPropertiesSet();
+		consumer.setTaskScheduler(taskScheduler);
+		consumer.setTrigger(new PeriodicTrigger(Duration.ofMillis(10)));
+		consumer.setBeanFactory(mock(BeanFactory.class));
+		consumer.afterPropertiesSet();
+		consumer.start();
+
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.setMaxInFlight(2);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<?> split = executor.submit(() ->
+				splitter.handleMessage(new GenericMessage<>(IntStream.range(0, 10).iterator())));
+
+		await().until(() -> handled.get() == 4 && replyChannel.getQueueSize() == 2);
+		Thread.sleep(200);
+		// The messages handled by the PollingConsumer are released only once, on receive
+		assertThat(replyChannel.getQueueSize()).isEqualTo(2);
+		assertThat(split.isDone()).isFalse();
+
+		proceed.countDown();
+		split.get(10, TimeUnit.SECONDS);
+		await().until(() -> handled.get() == 10);
+		consumer.stop();
+		taskScheduler.destroy();
+		executor.shutdown();
+	}
+
+	@Test
+	void maxInFlightToPurgedQueueChannel() throws Exception {
+		QueueChannel replyChannel = new QueueChannel();
+		DefaultMessageSplitter splitter = new DefaultMessageSplitter();
+		splitter.setOutputChannel(replyChannel);
+		splitter.setMaxInFlight(2);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<?> split = executor.submit(() ->
+				splitter.handleMessage(new GenericMessage<>(IntStream.range(0, 4).iterator())));
+
+		await().until(() -> replyChannel.getQueueSize() == 2);
+		assertThat(replyChannel.purge(null)).hasSize(2);
+
+		split.get(10, TimeUnit.SECONDS);
+		assertThat(replyChannel.receive(0).getPayload()).isEqualTo(2);
+		assertThat(replyChannel.receive(0).getPayload()).isEqualTo(3);
+		executor.shutdown();
+	}
+
+	private static ExecutorChannel executorChannel(ExecutorService executor) {
+		ExecutorChannel channel = new ExecutorChannel(executor);
+		channel.setBeanFactory(mock(BeanFactory.class));
+		channel.afterPropertiesSet();
+		return channel;
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 }
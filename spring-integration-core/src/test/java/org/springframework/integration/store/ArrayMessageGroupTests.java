@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @since 6.3
+ */
+public class ArrayMessageGroupTests {
+
+	private final ArrayMessageGroup group = new ArrayMessageGroup("foo");
+
+	@Test
+	void keepsInsertionOrderAndSequences() {
+		List<Message<?>> messages = new ArrayList<>();
+		for (int i = 1; i <= 10; i++) {
+			Message<Integer> message = MessageBuilder.withPayload(i).setSequenceNumber(i).build();
+			messages.add(message);
+			this.group.add(message);
+		}
+		assertThat(this.group.size()).isEqualTo(10);
+		assertThat(this.group.getMessages()).containsExactlyElementsOf(messages);
+		assertThat(this.group.containsSequence(7)).isTrue();
+		assertThat(this.group.remove(messages.get(6))).isTrue();
+		assertThat(this.group.remove(messages.get(6))).isFalse();
+		assertThat(this.group.containsSequence(7)).isFalse();
+		assertThat(this.group.containsSequence(10)).isTrue();
+		assertThat(this.group.getOne()).isSameAs(messages.get(0));
+		messages.remove(6);
+		assertThat(this.group.getMessages()).containsExactlyElementsOf(messages);
+	}
+
+	@Test
+	void pollFromHeadAndGrow() {
+		for (int i = 0; i < 100; i++) {
+			this.group.add(new GenericMessage<>(i));
+			this.group.add(new GenericMessage<>(i));
+			assertThat(this.group.poll().getPayload()).isEqualTo(i / 2);
+		}
+		assertThat(this.group.size()).isEqualTo(100);
+		assertThat(this.group.getMessages()).extracting("payload").startsWith(50, 50).endsWith(99, 99);
+		this.group.clear();
+		assertThat(this.group.size()).isEqualTo(0);
+		assertThat(this.group.poll()).isNull();
+		assertThat(this.group.getOne()).isNull();
+		assertThat(this.group.getSequenceSize()).isEqualTo(0);
+	}
+
+	@Test
+	void messagesViewIsLiveAndReadOnly() {
+		Collection<Message<?>> messages = this.group.getMessages();
+		Message<String> message = new GenericMessage<>("foo");
+		this.group.add(message);
+		assertThat(messages).containsExactly(message);
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> messages.add(message));
+	}
+
+	@Test
+	void copyIsSnapshot() {
+		Message<String> message = MessageBuilder.withPayload("foo").setSequenceNumber(1).setSequenceSize(2).build();
+		this.group.add(message);
+		this.group.setCondition("bar");
+		this.group.setLastReleasedMessageSequenceNumber(3);
+		ArrayMessageGroup copy = new ArrayMessageGroup(this.group);
+		this.group.add(new GenericMessage<>("bar"));
+		assertThat(copy.getMessages()).containsExactly(message);
+		assertThat(copy.getGroupId()).isEqualTo("foo");
+		assertThat(copy.getTimestamp()).isEqualTo(this.group.getTimestamp());
+		assertThat(copy.getCondition()).isEqualTo("bar");
+		assertThat(copy.getLastReleasedMessageSequenceNumber()).isEqualTo(3);
+		assertThat(copy.getSequenceSize()).isEqualTo(2);
+		assertThat(copy.containsSequence(1)).isTrue();
+	}
+
+}
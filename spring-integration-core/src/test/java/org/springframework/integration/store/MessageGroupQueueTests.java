@@ -16,7 +16,9 @@
 
 package org.springframework.integration.store;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.CountDownLatch;
@@ -32,10 +34,14 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Dave Syer
@@ -129,6 +135,53 @@ public class MessageGroupQueueTests {
 		assertThat(result).isNotNull();
 	}
 
+	@Test
+	public void testPrefetch() throws Exception {
+		SimpleMessageStore messageGroupStore = spy(new SimpleMessageStore());
+		MessageGroupQueue queue = new MessageGroupQueue(messageGroupStore, "FOO");
+		queue.setPrefetchSize(3);
+		for (int i = 0; i < 5; i++) {
+			queue.put(new GenericMessage<>(i));
+		}
+
+		assertThat(queue.poll().getPayload()).isEqualTo(0);
+		assertThat(queue.size()).isEqualTo(4);
+		assertThat(queue.peek().getPayload()).isEqualTo(1);
+		assertThat(queue.poll().getPayload()).isEqualTo(1);
+		assertThat(queue.take().getPayload()).isEqualTo(2);
+		verify(messageGroupStore).pollMessagesFromGroup("FOO", 3);
+
+		List<Message<?>> drained = new ArrayList<>();
+		assertThat(queue.drainTo(drained)).isEqualTo(2);
+		assertThat(drained).extracting("payload").containsExactly(3, 4);
+		assertThat(queue.poll()).isNull();
+		verify(messageGroupStore, times(4)).pollMessagesFromGroup("FOO", 3);
+	}
+
+	@Test
+	public void testNoPrefetchInTransaction() throws Exception {
+		SimpleMessageStore messageGroupStore = spy(new SimpleMessageStore());
+		MessageGroupQueue queue = new MessageGroupQueue(messageGroupStore, "FOO");
+		queue.setPrefetchSize(3);
+		for (int i = 0; i < 3; i++) {
+			queue.put(new GenericMessage<>(i));
+		}
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			assertThat(queue.poll().getPayload()).isEqualTo(0);
+		}
+		finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+		verify(messageGroupStore).pollMessageFromGroup("FOO");
+		verify(messageGroupStore, never()).pollMessagesFromGroup("FOO", 3);
+		assertThat(messageGroupStore.messageGroupSize("FOO")).isEqualTo(2);
+
+		assertThat(queue.poll().getPayload()).isEqualTo(1);
+		verify(messageGroupStore).pollMessagesFromGroup("FOO", 3);
+	}
+
 	@Test
 	public void testConcurrentAccess() throws Exception {
 		doTestConcurrentAccess(50, 20, new HashSet<>());
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.integration.aggregator.AggregatingMessageHandler;
+import org.springframework.integration.aggregator.DefaultAggregatingMessageGroupProcessor;
+import org.springframework.integration.aggregator.SequenceSizeReleaseStrategy;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @since 6.3
+ */
+public class ShardedMessageStoreTests {
+
+	@Test
+	void shardsRoundedToPowerOfTwo() {
+		assertThat(new ShardedMessageStore(1).getShardCount()).isEqualTo(1);
+		assertThat(new ShardedMessageStore(5).getShardCount()).isEqualTo(8);
+		assertThat(new ShardedMessageStore().getShardCount()).isEqualTo(ShardedMessageStore.DEFAULT_SHARDS);
+	}
+
+	@Test
+	void groupLifecycle() {
+		ShardedMessageStore store = new ShardedMessageStore(4);
+		Message<String> foo = new GenericMessage<>("foo");
+		Message<String> bar = new GenericMessage<>("bar");
+		MessageGroup group = store.addMessageToGroup("x", foo);
+		assertThat(store.addMessageToGroup("x", bar)).isSameAs(group);
+		assertThat(store.getMessageGroup("x")).isSameAs(group);
+		assertThat(group.getMessages()).containsExactly(foo, bar);
+		assertThat(store.getMessageFromGroup("x", bar.getHeaders().getId())).isSameAs(bar);
+		assertThat(store.getOneMessageFromGroup("x")).isSameAs(foo);
+		assertThat(store.getGroupMetadata("x").size()).isEqualTo(2);
+		assertThat(store.getMessageGroupCount()).isEqualTo(1);
+		assertThat(store.getMessageCountForAllMessageGroups()).isEqualTo(2);
+
+		store.setGroupCondition("x", "cond");
+		store.setLastReleasedSequenceNumberForGroup("x", 5);
+		store.completeGroup("x");
+		assertThat(group.getCondition()).isEqualTo("cond");
+		assertThat(group.getLastReleasedMessageSequenceNumber()).isEqualTo(5);
+		assertThat(group.isComplete()).isTrue();
+
+		assertThat(store.removeMessageFromGroupById("x", foo.getHeaders().getId())).isTrue();
+		assertThat(store.removeMessageFromGroupById("x", foo.getHeaders().getId())).isFalse();
+		store.removeMessagesFromGroup("x", group.getMessages());
+		assertThat(store.messageGroupSize("x")).isEqualTo(0);
+		assertThat(store.getMessageGroupCount()).isEqualTo(1);
+
+		store.removeMessageGroup("x");
+		assertThat(store.getMessageGroupCount()).isEqualTo(0);
+		MessageGroup empty = store.getMessageGroup("x");
+		assertThat(empty).isNotSameAs(group);
+		assertThat(empty.size()).isEqualTo(0);
+		assertThat(empty.isComplete()).isFalse();
+	}
+
+	@Test
+	void channelMessageStore() {
+		ShardedMessageStore store = new ShardedMessageStore();
+		for (int i = 0; i < 10; i++) {
+			store.addMessageToGroup("queue", new GenericMessage<>(i));
+		}
+		assertThat(store.pollMessageFromGroup("queue").getPayload()).isEqualTo(0);
+		List<Message<?>> polled = store.pollMessagesFromGroup("queue", 5);
+		assertThat(polled).extracting("payload").containsExactly(1, 2, 3, 4, 5);
+		assertThat(store.getMessagesForGroup("queue")).extracting("payload").containsExactly(6, 7, 8, 9);
+		assertThat(store.pollMessagesFromGroup("queue", 10)).hasSize(4);
+		assertThat(store.pollMessageFromGroup("queue")).isNull();
+		assertThat(store.pollMessagesFromGroup("none", 10)).isEmpty();
+	}
+
+	@Test
+	void groupCapacity() {
+		ShardedMessageStore store = new ShardedMessageStore(2, 2);
+		store.addMessagesToGroup("x", new GenericMessage<>("foo"), new GenericMessage<>("bar"));
+		assertThatExceptionOfType(MessagingException.class)
+				.isThrownBy(() -> store.addMessageToGroup("x", new GenericMessage<>("baz")))
+				.withMessageContaining("was out of capacity (2) for group 'x'");
+		store.pollMessageFromGroup("x");
+		store.addMessageToGroup("x", new GenericMessage<>("baz"));
+		assertThat(store.messageGroupSize("x")).isEqualTo(2);
+	}
+
+	@Test
+	void expireGroupsWithSnapshot() {
+		ShardedMessageStore store = new ShardedMessageStore();
+		store.addMessageToGroup("x", new GenericMessage<>("foo"));
+		AtomicInteger expired = new AtomicInteger();
+		store.registerMessageGroupExpiryCallback((messageGroupStore, group) -> {
+			assertThat(group).isNotSameAs(messageGroupStore.getMessageGroup("x"));
+			messageGroupStore.removeMessageGroup(group.getGroupId());
+			expired.incrementAndGet();
+		});
+		assertThat(store.expireMessageGroups(-10_000)).isEqualTo(1);
+		assertThat(expired.get()).isEqualTo(1);
+		assertThat(store.getMessageGroupCount()).isEqualTo(0);
+	}
+
+	@Test
+	void concurrentGroups() throws InterruptedException {
+		ShardedMessageStore store = new ShardedMessageStore(4);
+		ExecutorService exec = Executors.newFixedThreadPool(4);
+		for (int t = 0; t < 4; t++) {
+			exec.execute(() -> {
+				for (int i = 0; i < 1000; i++) {
+					store.addMessageToGroup(i % 100, new GenericMessage<>(i));
+				}
+			});
+		}
+		exec.shutdown();
+		assertThat(exec.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(store.getMessageGroupCount()).isEqualTo(100);
+		assertThat(store.getMessageCountForAllMessageGroups()).isEqualTo(4000);
+	}
+
+	@Test
+	void sequenceAwareAggregation() {
+		ShardedMessageStore store = new ShardedMessageStore();
+		AggregatingMessageHandler handler =
+				new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(), store);
+		handler.setReleaseStrategy(new SequenceSizeReleaseStrategy());
+		QueueChannel outputChannel = new QueueChannel();
+		handler.setOutputChannel(outputChannel);
+		QueueChannel discardChannel = new QueueChannel();
+		handler.setDiscardChannel(discardChannel);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(sequenceMessage("x", 1));
+		handler.handleMessage(sequenceMessage("x", 1));
+		handler.handleMessage(sequenceMessage("x", 2));
+		handler.handleMessage(sequenceMessage("x", 3));
+
+		Message<?> result = outputChannel.receive(0);
+		assertThat(result).isNotNull();
+		assertThat(result.getPayload()).asList().containsExactly("x1", "x2", "x3");
+		assertThat(discardChannel.receive(0).getPayload()).isEqualTo("x1");
+		assertThat(store.getMessageGroupCount()).isEqualTo(1);
+		assertThat(store.messageGroupSize("x")).isEqualTo(0);
+	}
+
+	private static Message<String> sequenceMessage(String correlationId, int sequenceNumber) {
+		return MessageBuilder.withPayload(correlationId + sequenceNumber)
+				.setCorrelationId(correlationId)
+				.setSequenceNumber(sequenceNumber)
+				.setSequenceSize(3)
+				.build();
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.support.IdGenerators.NodeIncrementingIdGenerator;
+import org.springframework.integration.support.IdGenerators.TimeOrderedIdGenerator;
+import org.springframework.util.IdGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @since 6.3
+ */
+public class IdGeneratorsTests {
+
+	@Test
+	void timeOrderedIdsAreVersion7AndIncreasing() {
+		TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator();
+		long start = System.currentTimeMillis();
+		UUID previous = idGenerator.generateId();
+		for (int i = 0; i < 100_000; i++) {
+			UUID id = idGenerator.generateId();
+			assertThat(id.version()).isEqualTo(7);
+			assertThat(id.variant()).isEqualTo(2);
+			assertThat(id).isGreaterThan(previous);
+			assertThat(id.toString()).isGreaterThan(previous.toString());
+			previous = id;
+		}
+		assertThat(previous.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(start);
+	}
+
+	@Test
+	void nodeIncrementingIds() {
+		NodeIncrementingIdGenerator idGenerator = new NodeIncrementingIdGenerator(42);
+		UUID first = idGenerator.generateId();
+		UUID second = idGenerator.generateId();
+		assertThat(first.getMostSignificantBits()).isEqualTo(42);
+		assertThat(second.getLeastSignificantBits()).isEqualTo(first.getLeastSignificantBits() + 1);
+		assertThat(new NodeIncrementingIdGenerator().getNodeId())
+				.isNotEqualTo(new NodeIncrementingIdGenerator().getNodeId());
+	}
+
+	@Test
+	void uniqueAcrossThreads() throws InterruptedException {
+		assertUniqueAcrossThreads(new TimeOrderedIdGenerator());
+		assertUniqueAcrossThreads(new NodeIncrementingIdGenerator());
+	}
+
+	private static void assertUniqueAcrossThreads(IdGenerator idGenerator) throws InterruptedException {
+		Set<UUID> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService exec = Executors.newFixedThreadPool(4);
+		for (int i = 0; i < 4; i++) {
+			exec.execute(() -> {
+				for (int j = 0; j < 50_000; j++) {
+					ids.add(idGenerator.generateId());
+				}
+			});
+		}
+		exec.shutdown();
+		assertThat(exec.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(ids).hasSize(200_000);
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.locks;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.test.util.TestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @since 6.3
+ */
+public class PerKeyLockRegistryTests {
+
+	@Test
+	void locksAreReentrantAndRemovedWhenReleased() {
+		PerKeyLockRegistry registry = new PerKeyLockRegistry();
+		Map<?, ?> locks = TestUtils.getPropertyValue(registry, "locks", Map.class);
+		Lock lock = registry.obtain("foo");
+		lock.lock();
+		assertThat(registry.obtain("foo").tryLock()).isTrue();
+		assertThat(locks).hasSize(1);
+		lock.unlock();
+		assertThat(locks).hasSize(1);
+		registry.obtain("foo").unlock();
+		assertThat(locks).isEmpty();
+		assertThatExceptionOfType(IllegalMonitorStateException.class)
+				.isThrownBy(lock::unlock);
+	}
+
+	@Test
+	void locksPerKey() throws Exception {
+		PerKeyLockRegistry registry = new PerKeyLockRegistry(2);
+		Map<?, ?> locks = TestUtils.getPropertyValue(registry, "locks", Map.class);
+		Lock foo = registry.obtain("foo");
+		foo.lock();
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		try {
+			assertThat(exec.submit(() -> registry.obtain("foo").tryLock()).get(10, TimeUnit.SECONDS)).isFalse();
+			assertThat(exec.submit(() -> registry.obtain("foo").tryLock(10, TimeUnit.MILLISECONDS))
+					.get(10, TimeUnit.SECONDS)).isFalse();
+			assertThat(locks).hasSize(1);
+			assertThat(exec.submit(() -> {
+				Lock bar = registry.obtain("bar");
+				boolean locked = bar.tryLock();
+				bar.unlock();
+				return locked;
+			}).get(10, TimeUnit.SECONDS)).isTrue();
+
+			CountDownLatch waiting = new CountDownLatch(1);
+			Future<?> waiter = exec.submit(() -> {
+				Lock lock = registry.obtain("foo");
+				waiting.countDown();
+				lock.lock();
+				lock.unlock();
+			});
+			assertThat(waiting.await(10, TimeUnit.SECONDS)).isTrue();
+			foo.unlock();
+			waiter.get(10, TimeUnit.SECONDS);
+			assertThat(locks).isEmpty();
+		}
+		finally {
+			exec.shutdownNow();
+		}
+	}
+
+	@Test
+	void interruptedWaiterReleasesTheLock() throws Exception {
+		PerKeyLockRegistry registry = new PerKeyLockRegistry();
+		Map<?, ?> locks = TestUtils.getPropertyValue(registry, "locks", Map.class);
+		Lock lock = registry.obtain("foo");
+		lock.lock();
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> waiter = exec.submit(() -> {
+				registry.obtain("foo").lockInterruptibly();
+				return null;
+			});
+			exec.shutdownNow();
+			assertThat(exec.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(waiter.isDone()).isTrue();
+			lock.unlock();
+			assertThat(locks).isEmpty();
+		}
+		finally {
+			exec.shutdownNow();
+		}
+	}
+
+	@Test
+	void conditionsAreSignaledAcrossHandles() throws Exception {
+		PerKeyLockRegistry registry = new PerKeyLockRegistry();
+		Map<?, ?> locks = TestUtils.getPropertyValue(registry, "locks", Map.class);
+		Lock lock = registry.obtain("foo");
+		Condition condition = lock.newCondition();
+		assertThatExceptionOfType(IllegalMonitorStateException.class)
+				.isThrownBy(condition::signal);
+		CountDownLatch waiting = new CountDownLatch(1);
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		Future<Boolean> signaled = exec.submit(() -> {
+			lock.lock();
+			try {
+				waiting.countDown();
+				return condition.await(10, TimeUnit.SECONDS);
+			}
+			finally {
+				lock.unlock();
+			}
+		});
+		assertThat(waiting.await(10, TimeUnit.SECONDS)).isTrue();
+		Lock other = registry.obtain("foo");
+		other.lock();
+		try {
+			condition.signal();
+		}
+		finally {
+			other.unlock();
+		}
+		assertThat(signaled.get(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(locks).isEmpty();
+		exec.shutdownNow();
+	}
+
+}
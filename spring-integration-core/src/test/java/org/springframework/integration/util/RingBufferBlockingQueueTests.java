@@ -0,0 +1,171 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @since 6.3
+ */
+public class RingBufferBlockingQueueTests {
+
+	@Test
+	void capacityIsRoundedUpToPowerOfTwo() {
+		assertThat(new RingBufferBlockingQueue<>(1).getCapacity()).isEqualTo(2);
+		assertThat(new RingBufferBlockingQueue<>(5).getCapacity()).isEqualTo(8);
+		assertThat(new RingBufferBlockingQueue<>(1024).getCapacity()).isEqualTo(1024);
+		assertThatIllegalArgumentException().isThrownBy(() -> new RingBufferBlockingQueue<>(0));
+	}
+
+	@Test
+	void fifoAndBounds() {
+		RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(4);
+		assertThat(queue.poll()).isNull();
+		assertThat(queue.peek()).isNull();
+		for (int i = 0; i < 4; i++) {
+			assertThat(queue.offer(i)).isTrue();
+		}
+		assertThat(queue.offer(4)).isFalse();
+		assertThat(queue.size()).isEqualTo(4);
+		assertThat(queue.remainingCapacity()).isEqualTo(0);
+		assertThat(queue).containsExactly(0, 1, 2, 3);
+		assertThat(queue.peek()).isEqualTo(0);
+		assertThat(queue.poll()).isEqualTo(0);
+		assertThat(queue.offer(4)).isTrue();
+		List<Integer> drained = new ArrayList<>();
+		assertThat(queue.drainTo(drained, 2)).isEqualTo(2);
+		assertThat(drained).containsExactly(1, 2);
+		assertThat(queue.drainTo(drained)).isEqualTo(2);
+		assertThat(drained).containsExactly(1, 2, 3, 4);
+		assertThat(queue.isEmpty()).isTrue();
+		assertThat(queue.remainingCapacity()).isEqualTo(4);
+	}
+
+	@ParameterizedTest
+	@EnumSource(RingBufferBlockingQueue.WaitStrategy.class)
+	void timedOperations(RingBufferBlockingQueue.WaitStrategy waitStrategy) throws InterruptedException {
+		RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(2, waitStrategy);
+		assertThat(queue.poll(10, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(queue.offer("foo", 10, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(queue.offer("bar", 10, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(queue.offer("baz", 10, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(queue.poll(10, TimeUnit.MILLISECONDS)).isEqualTo("foo");
+	}
+
+	@ParameterizedTest
+	@EnumSource(RingBufferBlockingQueue.WaitStrategy.class)
+	void blockedTakeIsReleasedByOffer(RingBufferBlockingQueue.WaitStrategy waitStrategy) throws Exception {
+		RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(2, waitStrategy);
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		Future<String> taken = exec.submit(queue::take);
+		Thread.sleep(50);
+		assertThat(taken.isDone()).isFalse();
+		queue.put("foo");
+		assertThat(taken.get(10, TimeUnit.SECONDS)).isEqualTo("foo");
+		exec.shutdownNow();
+	}
+
+	@ParameterizedTest
+	@EnumSource(RingBufferBlockingQueue.WaitStrategy.class)
+	void blockedPutIsReleasedByPoll(RingBufferBlockingQueue.WaitStrategy waitStrategy) throws Exception {
+		RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(2, waitStrategy);
+		queue.put("foo");
+		queue.put("bar");
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		Future<?> put = exec.submit(() -> {
+			queue.put("baz");
+			return null;
+		});
+		Thread.sleep(50);
+		assertThat(put.isDone()).isFalse();
+		assertThat(queue.take()).isEqualTo("foo");
+		put.get(10, TimeUnit.SECONDS);
+		assertThat(queue.take()).isEqualTo("bar");
+		assertThat(queue.take()).isEqualTo("baz");
+		exec.shutdownNow();
+	}
+
+	@Test
+	void blockedTakeIsInterrupted() throws Exception {
+		RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(1);
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		CountDownLatch latch = new CountDownLatch(1);
+		Thread thread = new Thread(() -> {
+			try {
+				queue.take();
+			}
+			catch (Throwable ex) {
+				error.set(ex);
+			}
+			latch.countDown();
+		});
+		thread.start();
+		Thread.sleep(50);
+		thread.interrupt();
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(error.get()).isInstanceOf(InterruptedException.class);
+	}
+
+	@ParameterizedTest
+	@EnumSource(RingBufferBlockingQueue.WaitStrategy.class)
+	void multipleProducersAndConsumers(RingBufferBlockingQueue.WaitStrategy waitStrategy) throws Exception {
+		int threads = 4;
+		int perProducer = 20_000;
+		RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(64, waitStrategy);
+		Set<Integer> received = ConcurrentHashMap.newKeySet();
+		ExecutorService exec = Executors.newFixedThreadPool(threads * 2);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			int producer = i;
+			futures.add(exec.submit(() -> {
+				for (int j = 0; j < perProducer; j++) {
+					queue.put(producer * perProducer + j);
+				}
+				return null;
+			}));
+			futures.add(exec.submit(() -> {
+				for (int j = 0; j < perProducer; j++) {
+					assertThat(received.add(queue.take())).isTrue();
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		assertThat(received).hasSize(threads * perProducer);
+		assertThat(queue.isEmpty()).isTrue();
+		exec.shutdownNow();
+	}
+
+}
@@ -50,6 +50,8 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.integration.mapping.HeaderMapper;
+import org.springframework.integration.support.utils.CompiledPatternSet;
+import org.springframework.integration.support.utils.NameMatchCache;
 import org.springframework.integration.support.utils.IntegrationUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.MessageHeaders;
@@ -217,6 +219,10 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 
 	private volatile String[] inboundHeaderNamesLower = {};
 
+	private volatile HeaderNamePatterns outboundHeaderNamePatterns = new HeaderNamePatterns(new String[0]);
+
+	private volatile HeaderNamePatterns inboundHeaderNamePatterns = new HeaderNamePatterns(new String[0]);
+
 	private volatile String[] excludedOutboundStandardRequestHeaderNames = {};
 
 	private volatile String[] excludedInboundStandardResponseHeaderNames = {};
@@ -273,6 +279,7 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 				Arrays.copyOf(outboundHeaderNamesLower, this.outboundHeaderNames.length + 1);
 		this.outboundHeaderNamesLowerWithContentType[this.outboundHeaderNamesLowerWithContentType.length - 1]
 				= MessageHeaders.CONTENT_TYPE.toLowerCase();
+		this.outboundHeaderNamePatterns = new HeaderNamePatterns(this.outboundHeaderNamesLowerWithContentType);
 	}
 
 	/**
@@ -301,6 +308,7 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 				this.inboundHeaderNamesLower[i] = this.inboundHeaderNames[i].toLowerCase();
 			}
 		}
+		this.inboundHeaderNamePatterns = new HeaderNamePatterns(this.inboundHeaderNamesLower);
 	}
 
 	/**
@@ -916,19 +924,23 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 				return false;
 			}
 		}
-		return shouldMapHeader(headerName, outboundHeaderNamesLower);
+		return shouldMapHeader(headerName, outboundHeaderNamesLower, this.outboundHeaderNamePatterns);
 	}
 
 	protected final boolean shouldMapInboundHeader(String headerName) {
-		return shouldMapHeader(headerName, this.inboundHeaderNamesLower);
+		return shouldMapHeader(headerName, this.inboundHeaderNamesLower, this.inboundHeaderNamePatterns);
 	}
 
 	/**
 	 * @param headerName the header name (lower cased).
 	 * @param patterns the patterns (lower cased).
+	 * @param compiledPatterns the compiled patterns, used when debug logging is not enabled.
 	 * @return true if should be mapped.
 	 */
-	private boolean shouldMapHeader(String headerName, String[] patterns) {
+	private boolean shouldMapHeader(String headerName, String[] patterns, HeaderNamePatterns compiledPatterns) {
+		if (!this.logger.isDebugEnabled()) {
+			return compiledPatterns.match(headerName);
+		}
 		if (patterns != null && patterns.length > 0) {
 			for (String pattern : patterns) {
 				if (matchHeaderForPattern(headerName, pattern)) {
@@ -1053,4 +1065,51 @@ public class DefaultHttpHeaderMapper implements HeaderMapper<HttpHeaders>, BeanF
 		mapper.setExcludedInboundStandardResponseHeaderNames(HTTP_RESPONSE_HEADER_NAMES_INBOUND_EXCLUSIONS);
 	}
 
+	/**
+	 * The lower cased header name patterns, compiled into a {@link CompiledPatternSet},
+	 * with the results cached per header name, for up to
+	 * {@value NameMatchCache#DEFAULT_MAX_SIZE} header names.
+	 */
+	private static final class HeaderNamePatterns {
+
+		private final NameMatchCache results = new NameMatchCache(this::doMatch);
+
+		private final CompiledPatternSet patterns;
+
+		private final boolean standardRequestHeaders;
+
+		private final boolean standardResponseHeaders;
+
+		HeaderNamePatterns(String[] patternsLower) {
+			List<String> simplePatterns = new ArrayList<>();
+			boolean requestHeaders = false;
+			boolean responseHeaders = false;
+			for (String pattern : patternsLower) {
+				if (HTTP_REQUEST_HEADER_NAME_PATTERN.equals(pattern)) {
+					requestHeaders = true;
+				}
+				else if (HTTP_RESPONSE_HEADER_NAME_PATTERN.equals(pattern)) {
+					responseHeaders = true;
+				}
+				else {
+					simplePatterns.add(pattern);
+				}
+			}
+			this.patterns = new CompiledPatternSet(simplePatterns);
+			this.standardRequestHeaders = requestHeaders;
+			this.standardResponseHeaders = responseHeaders;
+		}
+
+		boolean match(String headerName) {
+			return this.results.match(headerName);
+		}
+
+		private boolean doMatch(String headerName) {
+			return this.patterns.match(headerName)
+					|| (this.standardRequestHeaders && HTTP_REQUEST_HEADER_NAMES_LOWER.contains(headerName))
+					|| (this.standardResponseHeaders && HTTP_RESPONSE_HEADER_NAMES_LOWER.contains(headerName));
+		}
+
+	}
+
 }
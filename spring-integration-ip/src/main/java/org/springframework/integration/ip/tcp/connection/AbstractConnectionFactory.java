@@ -29,6 +29,7 @@ import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -665,12 +666,35 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 			@Nullable ServerSocketChannel server,
 			Map<SocketChannel, TcpNioConnection> connectionMap) {
 
+		this.nextCheckForClosedNioConnections =
+				processNioSelections(selectionCount, selector, server, connectionMap,
+						this.nextCheckForClosedNioConnections);
+	}
+
+	/**
+	 * Process the selected keys of the selector, checking the connections in the map
+	 * for timeouts and closed channels if the {@code nextCheckForClosedNioConnections}
+	 * time has passed. Used when several selectors are processed on their own threads,
+	 * each with its own connection map and the time of the next check.
+	 * @param selectionCount the number of keys selected.
+	 * @param selector the selector.
+	 * @param server the server socket channel, if any.
+	 * @param connectionMap the connections registered with the selector.
+	 * @param nextCheckForClosedNioConnections the time of the next connections check.
+	 * @return the time of the next connections check.
+	 * @since 6.3
+	 */
+	protected long processNioSelections(int selectionCount, final Selector selector,
+			@Nullable ServerSocketChannel server, Map<SocketChannel, TcpNioConnection> connectionMap,
+			long nextCheckForClosedNioConnections) {
+
 		final long now = System.currentTimeMillis();
-		rescheduleDelayedReads(selector, now);
+		long nextCheck = nextCheckForClosedNioConnections;
+		rescheduleDelayedReads(now);
 		if (this.soTimeout > 0 ||
-				now >= this.nextCheckForClosedNioConnections ||
+				now >= nextCheck ||
 				selectionCount == 0) {
-			this.nextCheckForClosedNioConnections = now + this.nioHarvestInterval;
+			nextCheck = now + this.nioHarvestInterval;
 			Iterator<Entry<SocketChannel, TcpNioConnection>> it = connectionMap.entrySet().iterator();
 			while (it.hasNext()) {
 				checkChannel(connectionMap, now, it);
@@ -704,6 +728,7 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 				}
 			}
 		}
+		return nextCheck;
 	}
 
 	private void checkChannel(Map<SocketChannel, TcpNioConnection> connectionMap, final long now,
@@ -820,24 +845,32 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 
 	/**
 	 * If any reads were delayed due to insufficient threads, reschedule them if
-	 * the readDelay has passed.
-	 * @param selector the selector to wake if necessary.
+	 * the readDelay has passed. The selectors of the rescheduled keys are woken;
+	 * the keys might be registered with a selector other than the current one.
 	 * @param now the current time.
 	 */
-	private void rescheduleDelayedReads(Selector selector, long now) {
-		boolean wakeSelector = false;
+	private void rescheduleDelayedReads(long now) {
+		Set<Selector> selectorsToWake = null;
 		try {
-			while (this.delayedReads.size() > 0) {
-				if (this.delayedReads.peek().failedAt + this.readDelay < now) {
-					PendingIO pendingRead = this.delayedReads.take();
-					if (pendingRead.key.channel().isOpen()) {
-						pendingRead.key.interestOps(SelectionKey.OP_READ);
-						wakeSelector = true;
+			PendingIO pendingRead;
+			while ((pendingRead = this.delayedReads.peek()) != null) {
+				if (pendingRead.failedAt + this.readDelay < now) {
+					if (!this.delayedReads.remove(pendingRead)) {
+						// rescheduled by another selector thread
+						continue;
+					}
+					SelectionKey key = pendingRead.key;
+					if (key.channel().isOpen()) {
+						key.interestOps(SelectionKey.OP_READ);
+						if (selectorsToWake == null) {
+							selectorsToWake = new HashSet<>();
+						}
+						selectorsToWake.add(key.selector());
 						logger.debug(() -> "Rescheduling delayed read for " +
-								((TcpNioConnection) pendingRead.key.attachment()).getConnectionId());
+								((TcpNioConnection) key.attachment()).getConnectionId());
 					}
 					else {
-						((TcpNioConnection) pendingRead.key.attachment())
+						((TcpNioConnection) key.attachment())
 								.sendExceptionToListener(new EOFException("Connection is closed"));
 					}
 				}
@@ -847,12 +880,9 @@ public abstract class AbstractConnectionFactory extends IntegrationObjectSupport
 				}
 			}
 		}
-		catch (@SuppressWarnings(UNUSED) InterruptedException e) {
-			Thread.currentThread().interrupt();
-		}
 		finally {
-			if (wakeSelector) {
-				selector.wakeup();
+			if (selectorsToWake != null) {
+				selectorsToWake.forEach(Selector::wakeup);
 			}
 		}
 	}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.connection;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a {@link java.nio.channels.Selector} processed by a NIO connection factory.
+ * The metrics are updated by the selector thread and can be read from any thread.
+ * <p>
+ * The processing time is the time taken to process the keys selected by one
+ * {@code select()} operation (the time blocked in the {@code select()} itself is not included);
+ * while the keys are processed, the other channels registered with the selector are not served,
+ * so a high processing time indicates a saturated selector thread.
+ * A wakeup is a {@code select()} operation returned before its timeout without selected keys;
+ * for example, when a read is completed or a new connection is registered with the selector.
+ *
+ * @since 6.3
+ */
+public final class NioSelectorMetrics {
+
+	private final String name;
+
+	private final AtomicLong selects = new AtomicLong();
+
+	private final AtomicLong selectedKeys = new AtomicLong();
+
+	private final AtomicLong wakeups = new AtomicLong();
+
+	private final AtomicLong totalProcessingTime = new AtomicLong();
+
+	private final AtomicLong maxProcessingTime = new AtomicLong();
+
+	private volatile int keys;
+
+	private volatile long lastProcessingTime;
+
+	NioSelectorMetrics(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Return the name of the selector; {@code acceptor} or {@code worker-<n>}.
+	 * @return the name.
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Return the number of keys registered with the selector after the last {@code select()}.
+	 * @return the number of keys.
+	 */
+	public int getKeys() {
+		return this.keys;
+	}
+
+	/**
+	 * Return the number of {@code select()} operations.
+	 * @return the number of selects.
+	 */
+	public long getSelects() {
+		return this.selects.get();
+	}
+
+	/**
+	 * Return the total number of selected keys.
+	 * @return the number of selected keys.
+	 */
+	public long getSelectedKeys() {
+		return this.selectedKeys.get();
+	}
+
+	/**
+	 * Return the number of {@code select()} operations returned before
+	 * their timeout without selected keys.
+	 * @return the number of wakeups.
+	 */
+	public long getWakeups() {
+		return this.wakeups.get();
+	}
+
+	/**
+	 * Return the time taken to process the keys selected by the last {@code select()}.
+	 * @return the last processing time.
+	 */
+	public Duration getLastProcessingTime() {
+		return Duration.ofNanos(this.lastProcessingTime);
+	}
+
+	/**
+	 * Return the maximum time taken to process the keys selected by a {@code select()}.
+	 * @return the max processing time.
+	 */
+	public Duration getMaxProcessingTime() {
+		return Duration.ofNanos(this.maxProcessingTime.get());
+	}
+
+	/**
+	 * Return the total time taken to process the keys selected by all {@code select()} operations.
+	 * @return the total processing time.
+	 */
+	public Duration getTotalProcessingTime() {
+		return Duration.ofNanos(this.totalProcessingTime.get());
+	}
+
+	void selected(int selectionCount, boolean wakeup, int keyCount) {
+		this.selects.incrementAndGet();
+		this.selectedKeys.addAndGet(selectionCount);
+		if (wakeup) {
+			this.wakeups.incrementAndGet();
+		}
+		this.keys = keyCount;
+	}
+
+	void processed(long processingNanos) {
+		this.lastProcessingTime = processingNanos;
+		this.totalProcessingTime.addAndGet(processingNanos);
+		this.maxProcessingTime.accumulateAndGet(processingNanos, Math::max);
+	}
+
+	@Override
+	public String toString() {
+		return "NioSelectorMetrics{" +
+				"name='" + this.name + '\'' +
+				", keys=" + this.keys +
+				", selects=" + this.selects +
+				", selectedKeys=" + this.selectedKeys +
+				", wakeups=" + this.wakeups +
+				", maxProcessingTime=" + getMaxProcessingTime() +
+				'}';
+	}
+
+}
@@ -43,7 +43,9 @@ import java.util.concurrent.locks.ReentrantLock;
 import javax.net.ssl.SSLSession;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.serializer.Deserializer;
 import org.springframework.core.serializer.Serializer;
+import org.springframework.integration.ip.tcp.serializer.ByteBufferDeserializer;
 import org.springframework.integration.ip.tcp.serializer.SoftEndOfStreamException;
 import org.springframework.integration.util.CompositeExecutor;
 import org.springframework.lang.Nullable;
@@ -53,6 +55,11 @@ import org.springframework.util.Assert;
 
 /**
  * A TcpConnection that uses and underlying {@link SocketChannel}.
+ * <p>
+ * By default, the data read from the socket is written to a pipe and the messages are
+ * assembled by the deserializer on a separate thread. When the deserializer is a
+ * {@link ByteBufferDeserializer}, the messages are decoded directly from the read buffer
+ * and sent on the thread performing the read.
  *
  * @author Gary Russell
  * @author John Anderson
@@ -71,6 +78,8 @@ public class TcpNioConnection extends TcpConnectionSupport {
 
 	private static final int MAX_MESSAGE_SIZE = 60 * 1024;
 
+	private static final int MIN_PENDING_FRAME_SIZE = 1024;
+
 	private static final long DEFAULT_PIPE_TIMEOUT = 60000;
 
 	private static final byte[] EOF = new byte[0]; // EOF marker buffer
@@ -99,6 +108,14 @@ public class TcpNioConnection extends TcpConnectionSupport {
 
 	private volatile ByteBuffer rawBuffer;
 
+	@Nullable
+	private ByteBuffer pendingFrame;
+
+	private int pendingFrameScanned;
+
+	@Nullable
+	private Object decodedPayload;
+
 	private volatile long lastRead;
 
 	private volatile long lastSend;
@@ -194,6 +211,10 @@ public class TcpNioConnection extends TcpConnectionSupport {
 
 	@Override
 	public Object getPayload() {
+		Object payload = this.decodedPayload;
+		if (payload != null) {
+			return payload;
+		}
 		try {
 			return getDeserializer()
 					.deserialize(inputStream());
@@ -440,6 +461,10 @@ public class TcpNioConnection extends TcpConnectionSupport {
 		if (this.rawBuffer == null) {
 			this.rawBuffer = allocate(MAX_MESSAGE_SIZE);
 		}
+		if (getDeserializer() instanceof ByteBufferDeserializer) {
+			doReadAndDecode();
+			return;
+		}
 
 		this.writingLatch = new CountDownLatch(1);
 		this.writingToPipe = true;
@@ -481,15 +506,114 @@ public class TcpNioConnection extends TcpConnectionSupport {
 		}
 	}
 
+	/**
+	 * Read from the socket and decode the messages on the current thread,
+	 * when the deserializer is a {@link ByteBufferDeserializer}.
+	 * @throws IOException an IO exception on the read.
+	 */
+	private void doReadAndDecode() throws IOException {
+		int len;
+		try {
+			len = this.socketChannel.read(this.rawBuffer);
+		}
+		catch (IOException e) {
+			publishConnectionExceptionEvent(e);
+			throw e;
+		}
+		this.rawBuffer.flip();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Read " + this.rawBuffer.limit() + " into raw buffer");
+		}
+		try {
+			sendToPipe(this.rawBuffer);
+		}
+		catch (Exception ex) {
+			wrapUp(ex);
+			return;
+		}
+		if (len < 0) {
+			if (this.pendingFrame != null && this.pendingFrame.position() > 0) {
+				this.pendingFrame = null;
+				this.pendingFrameScanned = 0;
+				wrapUp(new IOException("Socket closed during message assembly"));
+			}
+			else {
+				closeConnection(true);
+			}
+		}
+	}
+
 	protected void sendToPipe(ByteBuffer rawBufferToSend) throws IOException {
 		Assert.notNull(rawBufferToSend, "rawBuffer cannot be null");
 		if (logger.isTraceEnabled()) {
 			logger.trace(getConnectionId() + " Sending " + rawBufferToSend.limit() + " to pipe");
 		}
-		this.channelInputStream.write(rawBufferToSend);
+		Deserializer<?> deserializer = getDeserializer();
+		if (deserializer instanceof ByteBufferDeserializer) {
+			decode((ByteBufferDeserializer<?>) deserializer, rawBufferToSend);
+		}
+		else {
+			this.channelInputStream.write(rawBufferToSend);
+		}
 		rawBufferToSend.clear();
 	}
 
+	/**
+	 * Decode and send the messages from the data; the data is decoded in place unless
+	 * there is a partial frame from the previous read, in which case the data is appended
+	 * to that frame. A partial frame at the end of the data is retained for the next read,
+	 * together with the number of its bytes already scanned by the deserializer.
+	 * @param deserializer the deserializer.
+	 * @param data the data.
+	 * @throws IOException a decoding exception.
+	 */
+	private void decode(ByteBufferDeserializer<?> deserializer, ByteBuffer data) throws IOException {
+		ByteBuffer buffer = data;
+		int scanned = 0;
+		if (this.pendingFrame != null && this.pendingFrame.position() > 0) {
+			buffer = appendToPendingFrame(data);
+			scanned = this.pendingFrameScanned;
+		}
+		try {
+			Object payload;
+			while (buffer.hasRemaining() && (payload = deserializer.deserialize(buffer, scanned)) != null) {
+				scanned = 0;
+				this.decodedPayload = payload;
+				Message<?> message = getMapper().toMessage(this);
+				if (message != null) {
+					sendToChannel(message);
+				}
+			}
+		}
+		finally {
+			this.decodedPayload = null;
+		}
+		this.pendingFrameScanned = buffer.remaining();
+		if (buffer == this.pendingFrame) {
+			buffer.compact();
+		}
+		else if (buffer.hasRemaining()) {
+			if (this.pendingFrame == null || this.pendingFrame.capacity() < buffer.remaining()) {
+				this.pendingFrame = allocate(Math.max(buffer.remaining() * 2, MIN_PENDING_FRAME_SIZE));
+			}
+			this.pendingFrame.put(buffer);
+		}
+	}
+
+	private ByteBuffer appendToPendingFrame(ByteBuffer data) {
+		ByteBuffer pending = this.pendingFrame;
+		if (pending.remaining() < data.remaining()) {
+			ByteBuffer larger = allocate(Math.max(pending.capacity() * 2, pending.position() + data.remaining()));
+			pending.flip();
+			larger.put(pending);
+			pending = larger;
+			this.pendingFrame = larger;
+		}
+		pending.put(data);
+		pending.flip();
+		return pending;
+	}
+
 	private void checkForAssembler() {
 		this.executionControlMonitor.lock();
 		try {
@@ -23,13 +23,21 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
 import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ClosedSelectorException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -38,6 +46,12 @@ import org.springframework.util.Assert;
  /**
  * Implements a server connection factory that produces {@link TcpNioConnection}s using
  * a {@link ServerSocketChannel}. Must have a {@link TcpListener} registered.
+ * <p>
+ * By default, a single {@link Selector} is used for accepting new connections and for
+ * reading from all the connections. With {@link #setWorkerSelectors(int) worker selectors},
+ * the factory runs in a reactor mode: the selector accepts new connections only, and the
+ * accepted connections are assigned round-robin to the worker selectors, each running on
+ * its own thread.
  *
  * @author Gary Russell
  * @author Artem Bilan
@@ -49,12 +63,20 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 
 	private final Map<SocketChannel, TcpNioConnection> channelMap = new HashMap<>();
 
+	private final NioSelectorMetrics acceptorMetrics = new NioSelectorMetrics("acceptor");
+
 	private TcpNioConnectionSupport tcpNioConnectionSupport = new DefaultTcpNioConnectionSupport();
 
 	private boolean multiAccept = true;
 
 	private boolean usingDirectBuffers;
 
+	private int workerSelectors;
+
+	private int nextWorker;
+
+	private volatile List<WorkerSelector> workers = Collections.emptyList();
+
 	private volatile ServerSocketChannel serverChannel;
 
 	private volatile Selector selector;
@@ -79,6 +101,37 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 		this.multiAccept = multiAccept;
 	}
 
+	/**
+	 * Set the number of worker selectors to read from the accepted connections.
+	 * When greater than zero, the main selector only accepts new connections and
+	 * assigns them round-robin to the worker selectors; each worker selector runs on
+	 * its own thread from the task executor, so the executor must be able to
+	 * provide these threads in addition to the threads for reading the data.
+	 * Default 0 - a single selector for accepting and reading.
+	 * Takes effect on the next start of the factory.
+	 * @param workerSelectors the number of worker selectors.
+	 * @since 6.3
+	 */
+	public void setWorkerSelectors(int workerSelectors) {
+		Assert.isTrue(workerSelectors >= 0, "'workerSelectors' must not be negative");
+		this.workerSelectors = workerSelectors;
+	}
+
+	/**
+	 * Return the metrics of the selectors; the acceptor selector first,
+	 * followed by the worker selectors, if any.
+	 * @return the selector metrics.
+	 * @since 6.3
+	 * @see #setWorkerSelectors(int)
+	 */
+	public List<NioSelectorMetrics> getSelectorMetrics() {
+		List<WorkerSelector> workerList = this.workers;
+		List<NioSelectorMetrics> metrics = new ArrayList<>(workerList.size() + 1);
+		metrics.add(this.acceptorMetrics);
+		workerList.forEach((worker) -> metrics.add(worker.metrics));
+		return metrics;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "tcp-nio-server-connection-factory";
@@ -149,13 +202,14 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 			}
 			else {
 				this.serverChannel.register(theSelector, SelectionKey.OP_ACCEPT);
+				this.selector = theSelector;
+				startWorkerSelectors();
 				setListening(true);
 				publishServerListeningEvent(getPort());
-				this.selector = theSelector;
 				doSelect(this.serverChannel, theSelector);
 			}
 		}
-		catch (IOException ex) {
+		catch (IOException | RejectedExecutionException ex) {
 			if (isActive()) {
 				logger.error(ex, "Error on ServerChannel; port = " + getPort());
 				publishServerExceptionEvent(ex);
@@ -181,17 +235,11 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 	 */
 	private void doSelect(ServerSocketChannel server, final Selector selectorToSelect) throws IOException {
 		while (isActive()) {
-			int soTimeout = getSoTimeout();
-			int selectionCount;
 			try {
-				long timeout = Math.max(soTimeout, 0);
-				if (getDelayedReads().size() > 0 && (timeout == 0 || getReadDelay() < timeout)) {
-					timeout = getReadDelay();
-				}
-				long timeoutToLog = timeout;
-				logger.trace(() -> "Delayed reads: " + getDelayedReads().size() + " timeout " + timeoutToLog);
-				selectionCount = selectorToSelect.select(timeout);
+				int selectionCount = select(selectorToSelect, this.acceptorMetrics);
+				long start = System.nanoTime();
 				processNioSelections(selectionCount, selectorToSelect, server, this.channelMap);
+				this.acceptorMetrics.processed(System.nanoTime() - start);
 			}
 			catch (@SuppressWarnings("unused") CancelledKeyException cke) {
 				logger.debug("CancelledKeyException during Selector.select()");
@@ -206,6 +254,36 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 		}
 	}
 
+	private int select(Selector selectorToSelect, NioSelectorMetrics metrics) throws IOException {
+		long timeout = Math.max(getSoTimeout(), 0);
+		if (getDelayedReads().size() > 0 && (timeout == 0 || getReadDelay() < timeout)) {
+			timeout = getReadDelay();
+		}
+		long timeoutToLog = timeout;
+		logger.trace(() -> "Delayed reads: " + getDelayedReads().size() + " timeout " + timeoutToLog);
+		long start = System.currentTimeMillis();
+		int selectionCount = selectorToSelect.select(timeout);
+		boolean wakeup = selectionCount == 0 && (timeout == 0 || System.currentTimeMillis() - start < timeout);
+		metrics.selected(selectionCount, wakeup, selectorToSelect.keys().size());
+		return selectionCount;
+	}
+
+	private void startWorkerSelectors() throws IOException {
+		List<WorkerSelector> workerList = new ArrayList<>(this.workerSelectors);
+		try {
+			for (int i = 0; i < this.workerSelectors; i++) {
+				workerList.add(new WorkerSelector(Selector.open(), "worker-" + i));
+			}
+		}
+		finally {
+			this.nextWorker = 0;
+			this.workers = Collections.unmodifiableList(workerList);
+		}
+		for (WorkerSelector worker : workerList) {
+			getTaskExecutor().execute(worker);
+		}
+	}
+
 	/**
 	 * @param selectorForNewSocket The selector.
 	 * @param server The server socket channel.
@@ -256,8 +334,16 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 				if (sslHandshakeTimeout != null && connection instanceof TcpNioSSLConnection) {
 					((TcpNioSSLConnection) connection).setHandshakeTimeout(sslHandshakeTimeout);
 				}
-				this.channelMap.put(channel, connection);
-				channel.register(selectorForNewSocket, SelectionKey.OP_READ, connection);
+				List<WorkerSelector> workerList = this.workers;
+				if (workerList.isEmpty()) {
+					this.channelMap.put(channel, connection);
+					channel.register(selectorForNewSocket, SelectionKey.OP_READ, connection);
+				}
+				else {
+					WorkerSelector worker = workerList.get(this.nextWorker);
+					this.nextWorker = (this.nextWorker + 1) % workerList.size();
+					worker.register(channel, connection);
+				}
 			}
 		}
 		catch (IOException ex) {
@@ -300,6 +386,14 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 				logger.error(ex, "Error closing selector");
 			}
 		}
+		for (WorkerSelector worker : this.workers) {
+			try {
+				worker.selector.close();
+			}
+			catch (Exception ex) {
+				logger.error(ex, "Error closing worker selector");
+			}
+		}
 		if (this.serverChannel != null) {
 			try {
 				this.serverChannel.close();
@@ -346,10 +440,106 @@ public class TcpNioServerConnectionFactory extends AbstractServerConnectionFacto
 	}
 
 	/**
+	 * Return the connections; a snapshot of the connections registered with all the
+	 * worker selectors when {@link #setWorkerSelectors(int) worker selectors} are used.
 	 * @return the connections
 	 */
 	protected Map<SocketChannel, TcpNioConnection> getConnections() {
-		return this.channelMap;
+		List<WorkerSelector> workerList = this.workers;
+		if (workerList.isEmpty()) {
+			return this.channelMap;
+		}
+		Map<SocketChannel, TcpNioConnection> connections = new HashMap<>();
+		workerList.forEach((worker) -> connections.putAll(worker.channelMap));
+		return connections;
+	}
+
+	/**
+	 * A selector for reading from the connections assigned by the acceptor selector.
+	 * The connections are registered with the selector on its own thread.
+	 */
+	private final class WorkerSelector implements Runnable {
+
+		private final Selector selector;
+
+		private final NioSelectorMetrics metrics;
+
+		private final Map<SocketChannel, TcpNioConnection> channelMap = new ConcurrentHashMap<>();
+
+		private final Queue<PendingRegistration> pendingRegistrations = new ConcurrentLinkedQueue<>();
+
+		private long nextCheckForClosedNioConnections;
+
+		WorkerSelector(Selector selector, String name) {
+			this.selector = selector;
+			this.metrics = new NioSelectorMetrics(name);
+		}
+
+		void register(SocketChannel channel, TcpNioConnection connection) {
+			this.pendingRegistrations.add(new PendingRegistration(channel, connection));
+			this.selector.wakeup();
+		}
+
+		@Override
+		public void run() {
+			while (isActive()) {
+				try {
+					int selectionCount = select(this.selector, this.metrics);
+					int registered = registerPendingConnections();
+					// Just woken up for new connections - no need to check the existing ones
+					if (selectionCount > 0 || registered == 0) {
+						long start = System.nanoTime();
+						this.nextCheckForClosedNioConnections =
+								processNioSelections(selectionCount, this.selector, null, this.channelMap,
+										this.nextCheckForClosedNioConnections);
+						this.metrics.processed(System.nanoTime() - start);
+					}
+				}
+				catch (@SuppressWarnings("unused") CancelledKeyException cke) {
+					logger.debug("CancelledKeyException during Selector.select()");
+				}
+				catch (ClosedSelectorException cse) {
+					if (isActive()) {
+						logger.error(cse, "Worker selector closed");
+						publishServerExceptionEvent(cse);
+					}
+					break;
+				}
+				catch (IOException ex) {
+					if (isActive()) {
+						logger.error(ex, "Error on worker selector; port = " + getPort());
+						publishServerExceptionEvent(ex);
+						stop();
+					}
+					break;
+				}
+			}
+		}
+
+		private int registerPendingConnections() {
+			int registered = 0;
+			PendingRegistration registration;
+			while ((registration = this.pendingRegistrations.poll()) != null) {
+				registered++;
+				SocketChannel channel = registration.channel();
+				TcpNioConnection connection = registration.connection();
+				this.channelMap.put(channel, connection);
+				try {
+					channel.register(this.selector, SelectionKey.OP_READ, connection);
+				}
+				catch (@SuppressWarnings("unused") ClosedChannelException ex) {
+					logger.debug(() -> "Connection closed before registering with the worker selector: "
+							+ connection.getConnectionId());
+					this.channelMap.remove(channel);
+				}
+			}
+			return registered;
+		}
+
+	}
+
+	private record PendingRegistration(SocketChannel channel, TcpNioConnection connection) {
+
 	}
 
 }
@@ -17,6 +17,7 @@
 package org.springframework.integration.ip.tcp.serializer;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
@@ -91,4 +92,19 @@ public abstract class AbstractByteArraySerializer implements
 		}
 	}
 
+	/**
+	 * Publish a {@link TcpDeserializationExceptionEvent} with a copy of the buffer data
+	 * between the start and end indexes; the buffer position is not changed.
+	 * @param cause the cause.
+	 * @param buffer the buffer.
+	 * @param start the start index of the frame in the buffer.
+	 * @param end the index in the buffer at which the error was detected.
+	 * @since 6.3
+	 */
+	protected void publishEvent(Exception cause, ByteBuffer buffer, int start, int end) {
+		byte[] frame = new byte[end - start];
+		buffer.get(start, frame);
+		publishEvent(cause, frame, frame.length);
+	}
+
 }
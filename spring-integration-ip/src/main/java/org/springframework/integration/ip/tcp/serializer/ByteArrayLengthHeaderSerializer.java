@@ -89,6 +89,15 @@ public class ByteArrayLengthHeaderSerializer extends AbstractByteArraySerializer
 		this.headerSize = headerSize;
 	}
 
+	/**
+	 * Return the size of the length header.
+	 * @return the header size.
+	 * @since 6.3
+	 */
+	protected int getHeaderSize() {
+		return this.headerSize;
+	}
+
 	/**
 	 * Return true if the length header value includes its own length.
 	 * @return true if the length includes the header length.
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.serializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link ByteArrayCrLfSerializer} that can also decode the data directly from
+ * a {@link ByteBuffer}, when used as the deserializer of NIO connections.
+ *
+ * @since 6.3
+ * @see ByteBufferDeserializer
+ */
+public class ByteBufferCrLfSerializer extends ByteArrayCrLfSerializer implements ByteBufferDeserializer<byte[]> {
+
+	@Override
+	@Nullable
+	public byte[] deserialize(ByteBuffer buffer) throws IOException {
+		return deserialize(buffer, 0);
+	}
+
+	@Override
+	@Nullable
+	public byte[] deserialize(ByteBuffer buffer, int scanned) throws IOException {
+		int start = buffer.position();
+		int limit = buffer.limit();
+		int maxMessageSize = getMaxMessageSize();
+		for (int i = start + scanned; i < limit; i++) {
+			if (i > start && buffer.get(i) == '\n' && buffer.get(i - 1) == '\r') {
+				byte[] payload = new byte[i - 1 - start];
+				buffer.get(start, payload);
+				buffer.position(i + 1);
+				return payload;
+			}
+			if (i - start + 1 >= maxMessageSize) {
+				IOException ex = new IOException("CRLF not found before max message length: " + maxMessageSize);
+				publishEvent(ex, buffer, start, i + 1);
+				throw ex;
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.serializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A strategy to decode objects directly from a {@link ByteBuffer}.
+ * <p>
+ * When the deserializer of a NIO connection implements this interface, the frames are
+ * decoded from the buffer the data is read into from the socket, on the thread performing
+ * the read, instead of copying the data to an {@link java.io.InputStream} consumed by a
+ * separate message assembler thread. Only a partial frame at the end of the read data is
+ * retained by the connection until the rest of the frame is read.
+ *
+ * @param <T> the decoded type.
+ *
+ * @since 6.3
+ */
+@FunctionalInterface
+public interface ByteBufferDeserializer<T> {
+
+	/**
+	 * Decode the next object from the data between the buffer position and limit.
+	 * If the data starts with a complete frame, the position is advanced past that frame
+	 * and the decoded object is returned. Otherwise, the position is not changed and
+	 * {@code null} is returned; the method is invoked again when more data has been read.
+	 * Implementations must not retain a reference to the buffer.
+	 * @param buffer the buffer.
+	 * @return the decoded object, or null if the buffer does not contain a complete frame.
+	 * @throws IOException if the data cannot be decoded.
+	 */
+	@Nullable
+	T deserialize(ByteBuffer buffer) throws IOException;
+
+	/**
+	 * Decode the next object from the data between the buffer position and limit, as
+	 * {@link #deserialize(ByteBuffer)} does. The first {@code scanned} bytes after the
+	 * position have already been examined by a previous invocation which returned
+	 * {@code null}, so an implementation searching for a delimiter can resume the search
+	 * after them instead of rescanning the frame from its start on every read.
+	 * @param buffer the buffer.
+	 * @param scanned the number of bytes after the position already scanned.
+	 * @return the decoded object, or null if the buffer does not contain a complete frame.
+	 * @throws IOException if the data cannot be decoded.
+	 */
+	@Nullable
+	default T deserialize(ByteBuffer buffer, int scanned) throws IOException {
+		return deserialize(buffer);
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.serializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link ByteArrayLengthHeaderSerializer} that can also decode the data directly from
+ * a {@link ByteBuffer}, when used as the deserializer of NIO connections.
+ * <p>
+ * For other header formats, override {@link #readHeader(ByteBuffer, int)} in addition to
+ * {@link #readHeader(java.io.InputStream)} and {@link #writeHeader(java.io.OutputStream, int)}.
+ *
+ * @since 6.3
+ * @see ByteBufferDeserializer
+ */
+public class ByteBufferLengthHeaderSerializer extends ByteArrayLengthHeaderSerializer
+		implements ByteBufferDeserializer<byte[]> {
+
+	/**
+	 * Construct the serializer using {@link #HEADER_SIZE_INT}.
+	 */
+	public ByteBufferLengthHeaderSerializer() {
+		super();
+	}
+
+	/**
+	 * Construct the serializer using the supplied header size.
+	 * Valid header sizes are {@link #HEADER_SIZE_INT} (default),
+	 * {@link #HEADER_SIZE_UNSIGNED_BYTE} and {@link #HEADER_SIZE_UNSIGNED_SHORT}
+	 * @param headerSize The header size.
+	 */
+	public ByteBufferLengthHeaderSerializer(int headerSize) {
+		super(headerSize);
+	}
+
+	@Override
+	@Nullable
+	public byte[] deserialize(ByteBuffer buffer) throws IOException {
+		int messageLength = readFrameLength(buffer);
+		if (messageLength < 0) {
+			return null;
+		}
+		int start = buffer.position() + getHeaderSize();
+		byte[] payload = new byte[messageLength];
+		buffer.get(start, payload);
+		buffer.position(start + messageLength);
+		return payload;
+	}
+
+	/**
+	 * Validate the header of the frame at the buffer position, without changing the position,
+	 * and return the length of the data part if the buffer contains the complete frame.
+	 * @param buffer the buffer.
+	 * @return the length of the data part (excluding the header), or {@code -1} if the
+	 * buffer does not contain a complete frame.
+	 * @throws IOException if the length exceeds the {@link #getMaxMessageSize() max message size}.
+	 */
+	protected int readFrameLength(ByteBuffer buffer) throws IOException {
+		int start = buffer.position();
+		int headerSize = getHeaderSize();
+		if (buffer.remaining() < headerSize) {
+			return -1;
+		}
+		int messageLength;
+		try {
+			messageLength = readHeader(buffer, start) - (isInclusive() ? headerSize : 0);
+			int maxMessageSize = getMaxMessageSize();
+			if (messageLength > maxMessageSize) {
+				throw new IOException("Message length " + messageLength +
+						" exceeds max message length: " + maxMessageSize);
+			}
+			if (messageLength < 0) {
+				throw new IllegalArgumentException("Message length " + messageLength + " is negative");
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			publishEvent(ex, buffer, start, start + headerSize);
+			throw ex;
+		}
+		if (buffer.remaining() < headerSize + messageLength) {
+			return -1;
+		}
+		return messageLength;
+	}
+
+	/**
+	 * Read the header at the provided index in the buffer, without changing the buffer position,
+	 * and return the length of the data part, including the header length if
+	 * {@link #isInclusive() inclusive}.
+	 * The buffer contains at least {@link #getHeaderSize()} bytes from the index.
+	 * @param buffer the buffer.
+	 * @param index the index of the header in the buffer.
+	 * @return the length of the data part.
+	 * @throws IOException Any IOException.
+	 */
+	protected int readHeader(ByteBuffer buffer, int index) throws IOException {
+		return switch (getHeaderSize()) {
+			case HEADER_SIZE_INT -> {
+				int messageLength = buffer.getInt(index);
+				if (messageLength < 0) {
+					throw new IllegalArgumentException("Length header: " + messageLength + " is negative");
+				}
+				yield messageLength;
+			}
+			case HEADER_SIZE_UNSIGNED_BYTE -> Byte.toUnsignedInt(buffer.get(index));
+			case HEADER_SIZE_UNSIGNED_SHORT -> Short.toUnsignedInt(buffer.getShort(index));
+			default -> throw new IllegalArgumentException("Bad header size: " + getHeaderSize());
+		};
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.serializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.springframework.integration.mapping.MessageMappingException;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link ByteArrayStxEtxSerializer} that can also decode the data directly from
+ * a {@link ByteBuffer}, when used as the deserializer of NIO connections.
+ *
+ * @since 6.3
+ * @see ByteBufferDeserializer
+ */
+public class ByteBufferStxEtxSerializer extends ByteArrayStxEtxSerializer implements ByteBufferDeserializer<byte[]> {
+
+	@Override
+	@Nullable
+	public byte[] deserialize(ByteBuffer buffer) throws IOException {
+		return deserialize(buffer, 0);
+	}
+
+	@Override
+	@Nullable
+	public byte[] deserialize(ByteBuffer buffer, int scanned) throws IOException {
+		int start = buffer.position();
+		int limit = buffer.limit();
+		if (start == limit) {
+			return null;
+		}
+		if (scanned == 0 && buffer.get(start) != STX) {
+			MessageMappingException ex = new MessageMappingException("Expected STX to begin message");
+			publishEvent(ex, buffer, start, start + 1);
+			throw ex;
+		}
+		int maxMessageSize = getMaxMessageSize();
+		for (int i = start + Math.max(scanned, 1); i < limit; i++) {
+			if (buffer.get(i) == ETX) {
+				byte[] payload = new byte[i - start - 1];
+				buffer.get(start + 1, payload);
+				buffer.position(i + 1);
+				return payload;
+			}
+			if (i - start >= maxMessageSize) {
+				IOException ex = new IOException("ETX not found before max message length: " + maxMessageSize);
+				publishEvent(ex, buffer, start, i + 1);
+				throw ex;
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.serializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.integration.codec.Codec;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Serializes objects with a {@link Codec}, delimiting them with a length header.
+ * The framing (header size, inclusive length, max message size) is delegated to a
+ * {@link ByteBufferLengthHeaderSerializer}.
+ * <p>
+ * Objects are encoded into pooled {@link ByteBuffer}s, which are written to the stream
+ * after the header, without creating an intermediate {@code byte[]} per object.
+ * The encoding buffer does not grow beyond the framing's
+ * {@link ByteBufferLengthHeaderSerializer#getMaxMessageSize() max message size}:
+ * an {@link IOException} is thrown for a larger object.
+ * When used as the deserializer of NIO connections, the objects are decoded directly from
+ * the connection read buffer (see {@link ByteBufferDeserializer}).
+ *
+ * @param <T> the type of the objects.
+ *
+ * @since 6.3
+ */
+public class CodecLengthHeaderSerializer<T>
+		implements Serializer<T>, Deserializer<T>, ByteBufferDeserializer<T>, ApplicationEventPublisherAware {
+
+	private static final int INITIAL_BUFFER_SIZE = 1024;
+
+	private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+	private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+	private final Codec codec;
+
+	private final Class<T> type;
+
+	private final ByteBufferLengthHeaderSerializer framing;
+
+	/**
+	 * Construct an instance with a default {@link ByteBufferLengthHeaderSerializer}.
+	 * @param codec the codec.
+	 * @param type the type of the objects.
+	 */
+	public CodecLengthHeaderSerializer(Codec codec, Class<T> type) {
+		this(codec, type, new ByteBufferLengthHeaderSerializer());
+	}
+
+	/**
+	 * Construct an instance with the provided {@link ByteBufferLengthHeaderSerializer} for
+	 * the framing.
+	 * @param codec the codec.
+	 * @param type the type of the objects.
+	 * @param framing the serializer for the length header.
+	 */
+	public CodecLengthHeaderSerializer(Codec codec, Class<T> type, ByteBufferLengthHeaderSerializer framing) {
+		Assert.notNull(codec, "'codec' cannot be null");
+		Assert.notNull(type, "'type' cannot be null");
+		Assert.notNull(framing, "'framing' cannot be null");
+		this.codec = codec;
+		this.type = type;
+		this.framing = framing;
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.framing.setApplicationEventPublisher(applicationEventPublisher);
+	}
+
+	@Override
+	public void serialize(T object, OutputStream outputStream) throws IOException {
+		int maxMessageSize = this.framing.getMaxMessageSize();
+		ByteBuffer buffer = obtainBuffer();
+		try {
+			while (true) {
+				try {
+					this.codec.encode(object, buffer);
+					break;
+				}
+				catch (BufferOverflowException ex) {
+					if (buffer.capacity() >= maxMessageSize) {
+						throw new IOException("Encoded message exceeds max message length: " + maxMessageSize, ex);
+					}
+					buffer = ByteBuffer.allocate((int) Math.min((long) buffer.capacity() << 1, maxMessageSize));
+				}
+			}
+			int length = buffer.position();
+			if (length > maxMessageSize) {
+				throw new IOException("Message length " + length + " exceeds max message length: " + maxMessageSize);
+			}
+			this.framing.writeHeader(outputStream,
+					length + (this.framing.isInclusive() ? this.framing.getHeaderSize() : 0));
+			outputStream.write(buffer.array(), 0, length);
+		}
+		finally {
+			if (buffer.capacity() <= MAX_POOLED_BUFFER_SIZE) {
+				this.buffers.offer(buffer);
+			}
+		}
+	}
+
+	private ByteBuffer obtainBuffer() {
+		ByteBuffer buffer = this.buffers.poll();
+		if (buffer == null) {
+			return ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+		}
+		return buffer.clear();
+	}
+
+	@Override
+	public T deserialize(InputStream inputStream) throws IOException {
+		return this.codec.decode(this.framing.deserialize(inputStream), this.type);
+	}
+
+	@Override
+	@Nullable
+	public T deserialize(ByteBuffer buffer) throws IOException {
+		int messageLength = this.framing.readFrameLength(buffer);
+		if (messageLength < 0) {
+			return null;
+		}
+		int start = buffer.position() + this.framing.getHeaderSize();
+		T decoded = this.codec.decode(buffer.slice(start, messageLength), this.type);
+		buffer.position(start + messageLength);
+		return decoded;
+	}
+
+}
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -41,6 +42,7 @@ import javax.net.ssl.SSLServerSocket;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import org.springframework.integration.ip.IpHeaders;
 import org.springframework.integration.ip.tcp.serializer.ByteArrayCrLfSerializer;
 import org.springframework.integration.ip.util.TestingUtilities;
 import org.springframework.integration.test.util.TestUtils;
@@ -645,6 +647,69 @@ public class SocketSupportTests {
 		server.stop();
 	}
 
+	@Test
+	public void testNioClientAndServerSSLWorkerSelectors() throws Exception {
+		TcpNioServerConnectionFactory server = new TcpNioServerConnectionFactory(0);
+		server.setWorkerSelectors(2);
+		DefaultTcpSSLContextSupport sslContextSupport = new DefaultTcpSSLContextSupport("test.ks",
+				"test.truststore.ks", "secret", "secret");
+		DefaultTcpNioSSLConnectionSupport tcpNioConnectionSupport =
+				new DefaultTcpNioSSLConnectionSupport(sslContextSupport, false);
+		server.setTcpNioConnectionSupport(tcpNioConnectionSupport);
+		ByteArrayCrLfSerializer deserializer = new ByteArrayCrLfSerializer();
+		deserializer.setMaxMessageSize(120000);
+		server.setDeserializer(deserializer);
+		Map<String, TcpConnection> serverConnections = new ConcurrentHashMap<>();
+		server.registerSender(connection -> serverConnections.put(connection.getConnectionId(), connection));
+		server.registerListener(message -> {
+			try {
+				serverConnections.get(message.getHeaders().get(IpHeaders.CONNECTION_ID, String.class))
+						.send(message);
+			}
+			catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+			return false;
+		});
+		server.setApplicationEventPublisher(e -> {
+		});
+		server.start();
+		TestingUtilities.waitListening(server, null);
+
+		List<TcpNioClientConnectionFactory> clients = new ArrayList<>();
+		List<Message<?>> replies = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch = new CountDownLatch(2);
+		byte[] bytes = new byte[100000];
+		try {
+			for (int i = 0; i < 2; i++) {
+				TcpNioClientConnectionFactory client =
+						new TcpNioClientConnectionFactory("localhost", server.getPort());
+				client.setTcpNioConnectionSupport(tcpNioConnectionSupport);
+				client.setDeserializer(deserializer);
+				client.registerListener(message -> {
+					replies.add(message);
+					latch.countDown();
+					return false;
+				});
+				client.setApplicationEventPublisher(e -> {
+				});
+				client.start();
+				clients.add(client);
+				client.getConnection().send(new GenericMessage<>("Hello, world!" + new String(bytes)));
+			}
+			assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+			assertThat(replies).extracting(message -> ((byte[]) message.getPayload()).length)
+					.containsExactly(13 + bytes.length, 13 + bytes.length);
+			List<NioSelectorMetrics> metrics = server.getSelectorMetrics();
+			assertThat(metrics.get(1).getKeys()).isEqualTo(1);
+			assertThat(metrics.get(2).getKeys()).isEqualTo(1);
+		}
+		finally {
+			clients.forEach(TcpNioClientConnectionFactory::stop);
+			server.stop();
+		}
+	}
+
 	private static class Replier implements TcpSender {
 
 		private TcpConnection connection;
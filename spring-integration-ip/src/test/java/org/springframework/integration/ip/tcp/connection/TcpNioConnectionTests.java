@@ -19,6 +19,7 @@ package org.springframework.integration.ip.tcp.connection;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.net.ConnectException;
 import java.net.InetAddress;
@@ -67,6 +68,7 @@ import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.integration.ip.event.IpIntegrationEvent;
 import org.springframework.integration.ip.tcp.connection.TcpNioConnection.ChannelInputStream;
 import org.springframework.integration.ip.tcp.serializer.ByteArrayCrLfSerializer;
+import org.springframework.integration.ip.tcp.serializer.ByteBufferCrLfSerializer;
 import org.springframework.integration.ip.tcp.serializer.MapJsonSerializer;
 import org.springframework.integration.ip.util.TestingUtilities;
 import org.springframework.integration.support.MessageBuilder;
@@ -890,6 +892,110 @@ public class TcpNioConnectionTests {
 		}
 	}
 
+	@Test
+	public void testWorkerSelectors() throws InterruptedException, IOException {
+		CountDownLatch serverReadyLatch = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(8);
+		List<Socket> sockets = new ArrayList<>();
+		TcpNioServerConnectionFactory server = new TcpNioServerConnectionFactory(0);
+		try {
+			List<String> threads = Collections.synchronizedList(new ArrayList<>());
+			server.setWorkerSelectors(2);
+			server.setNioHarvestInterval(100);
+			server.setApplicationEventPublisher(e -> {
+				if (e instanceof TcpConnectionServerListeningEvent) {
+					serverReadyLatch.countDown();
+				}
+			});
+			server.registerListener(m -> {
+				threads.add(Thread.currentThread().getName());
+				latch.countDown();
+				return false;
+			});
+			server.afterPropertiesSet();
+			server.start();
+			assertThat(serverReadyLatch.await(10, TimeUnit.SECONDS)).isTrue();
+			InetAddress localHost = InetAddress.getLocalHost();
+			for (int i = 0; i < 4; i++) {
+				Socket socket = SocketFactory.getDefault().createSocket(localHost, server.getPort());
+				socket.getOutputStream().write("foo\r\nbar\r\n".getBytes());
+				sockets.add(socket);
+			}
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(threads).hasSize(8);
+			assertThat(server.getConnections()).hasSize(4);
+			List<NioSelectorMetrics> metrics = server.getSelectorMetrics();
+			assertThat(metrics).extracting(NioSelectorMetrics::getName)
+					.containsExactly("acceptor", "worker-0", "worker-1");
+			assertThat(metrics.get(0).getKeys()).isEqualTo(1);
+			await().untilAsserted(() -> {
+				assertThat(metrics.get(1).getKeys()).isEqualTo(2);
+				assertThat(metrics.get(2).getKeys()).isEqualTo(2);
+			});
+			assertThat(metrics.get(1).getSelectedKeys()).isGreaterThanOrEqualTo(2);
+			assertThat(metrics.get(2).getSelectedKeys()).isGreaterThanOrEqualTo(2);
+			assertThat(metrics.get(1).getWakeups()).isGreaterThan(0);
+			assertThat(metrics.get(1).getTotalProcessingTime()).isGreaterThanOrEqualTo(metrics.get(1).getMaxProcessingTime());
+			for (Socket socket : sockets) {
+				socket.close();
+			}
+			await().untilAsserted(() -> {
+				List<?> workers = TestUtils.getPropertyValue(server, "workers", List.class);
+				workers.forEach(worker -> TestUtils.getPropertyValue(worker, "selector", Selector.class).wakeup());
+				assertThat(server.getConnections()).isEmpty();
+			});
+		}
+		finally {
+			for (Socket socket : sockets) {
+				socket.close();
+			}
+			server.stop();
+		}
+	}
+
+	@Test
+	public void testByteBufferDeserializer() throws Exception {
+		CountDownLatch serverReadyLatch = new CountDownLatch(1);
+		List<String> payloads = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch = new CountDownLatch(4);
+		TcpNioServerConnectionFactory server = new TcpNioServerConnectionFactory(0);
+		ByteBufferCrLfSerializer deserializer = new ByteBufferCrLfSerializer();
+		deserializer.setMaxMessageSize(100_000);
+		server.setDeserializer(deserializer);
+		server.setApplicationEventPublisher(e -> {
+			if (e instanceof TcpConnectionServerListeningEvent) {
+				serverReadyLatch.countDown();
+			}
+		});
+		server.registerListener(m -> {
+			payloads.add(new String((byte[]) m.getPayload()));
+			latch.countDown();
+			return false;
+		});
+		server.afterPropertiesSet();
+		server.start();
+		assertThat(serverReadyLatch.await(10, TimeUnit.SECONDS)).isTrue();
+		try (Socket socket = SocketFactory.getDefault().createSocket("localhost", server.getPort())) {
+			OutputStream outputStream = socket.getOutputStream();
+			outputStream.write("foo\r\nba".getBytes());
+			outputStream.flush();
+			Thread.sleep(100);
+			outputStream.write("r\r\nbaz\r\n".getBytes());
+			// larger than the read buffer
+			byte[] large = new byte[70_000];
+			Arrays.fill(large, (byte) 'x');
+			outputStream.write(large);
+			outputStream.write("\r\n".getBytes());
+			outputStream.flush();
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(payloads).hasSize(4).startsWith("foo", "bar", "baz");
+			assertThat(payloads.get(3)).hasSize(70_000);
+		}
+		finally {
+			server.stop();
+		}
+	}
+
 	private void readFully(InputStream is, byte[] buff) throws IOException {
 		for (int i = 0; i < buff.length; i++) {
 			buff[i] = (byte) is.read();
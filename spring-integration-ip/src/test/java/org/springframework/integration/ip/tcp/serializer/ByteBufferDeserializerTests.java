@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.ip.tcp.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.codec.kryo.PojoCodec;
+import org.springframework.integration.mapping.MessageMappingException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * @since 6.3
+ */
+public class ByteBufferDeserializerTests {
+
+	@Test
+	void crLfFramesDecodedInPlace() throws IOException {
+		ByteBufferCrLfSerializer serializer = new ByteBufferCrLfSerializer();
+		ByteBuffer buffer = ByteBuffer.wrap("foo\r\n\r\nbar\r\nba".getBytes());
+		assertThat(decodeAll(serializer, buffer)).containsExactly("foo", "", "bar");
+		assertThat(buffer.position()).isEqualTo(12);
+		assertThat(serializer.deserialize(buffer)).isNull();
+		assertThat(buffer.position()).isEqualTo(12);
+	}
+
+	@Test
+	void crLfScanResumesAfterScannedBytes() throws IOException {
+		ByteBufferCrLfSerializer serializer = new ByteBufferCrLfSerializer();
+		ByteBuffer buffer = ByteBuffer.wrap("ab\r".getBytes());
+		assertThat(serializer.deserialize(buffer)).isNull();
+		// the CRLF spans the previous and the next read
+		buffer = ByteBuffer.wrap("ab\r\n".getBytes());
+		assertThat(serializer.deserialize(buffer, 3)).isEqualTo("ab".getBytes());
+		assertThat(buffer.hasRemaining()).isFalse();
+		// the scanned bytes are not searched again
+		buffer = ByteBuffer.wrap("a\r\nbc\r\n".getBytes());
+		assertThat(serializer.deserialize(buffer, 4)).isEqualTo("a\r\nbc".getBytes());
+	}
+
+	@Test
+	void crLfMaxMessageSize() {
+		ByteBufferCrLfSerializer serializer = new ByteBufferCrLfSerializer();
+		serializer.setMaxMessageSize(5);
+		AtomicReference<TcpDeserializationExceptionEvent> event = new AtomicReference<>();
+		serializer.setApplicationEventPublisher(e -> event.set((TcpDeserializationExceptionEvent) e));
+		assertThatIOException()
+				.isThrownBy(() -> serializer.deserialize(ByteBuffer.wrap("abcdefgh".getBytes())))
+				.withMessage("CRLF not found before max message length: 5");
+		assertThat(event.get().getBuffer()).isEqualTo("abcde".getBytes());
+	}
+
+	@Test
+	void crLfSameMaxMessageSizeAsStream() throws IOException {
+		ByteBufferCrLfSerializer serializer = new ByteBufferCrLfSerializer();
+		serializer.setMaxMessageSize(5);
+		assertThat(serializer.deserialize(ByteBuffer.wrap("abc\r\n".getBytes()))).isEqualTo("abc".getBytes());
+		assertThatIOException().isThrownBy(() -> serializer.deserialize(ByteBuffer.wrap("abcd\r\n".getBytes())));
+	}
+
+	@Test
+	void stxEtxScanResumesAfterScannedBytes() throws IOException {
+		ByteBufferStxEtxSerializer serializer = new ByteBufferStxEtxSerializer();
+		byte[] data = { ByteArrayStxEtxSerializer.STX, 'a', ByteArrayStxEtxSerializer.ETX, 'b',
+				ByteArrayStxEtxSerializer.ETX };
+		// the scanned bytes are not searched again
+		assertThat(serializer.deserialize(ByteBuffer.wrap(data), 3))
+				.isEqualTo(new byte[] { 'a', ByteArrayStxEtxSerializer.ETX, 'b' });
+	}
+
+	@Test
+	void stxEtxFrames() throws IOException {
+		ByteBufferStxEtxSerializer serializer = new ByteBufferStxEtxSerializer();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		serializer.serialize("foo".getBytes(), out);
+		serializer.serialize("bar".getBytes(), out);
+		out.write(ByteArrayStxEtxSerializer.STX);
+		out.write('b');
+		ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+		assertThat(decodeAll(serializer, buffer)).containsExactly("foo", "bar");
+		assertThat(buffer.remaining()).isEqualTo(2);
+	}
+
+	@Test
+	void stxEtxMissingStx() {
+		ByteBufferStxEtxSerializer serializer = new ByteBufferStxEtxSerializer();
+		assertThatExceptionOfType(MessageMappingException.class)
+				.isThrownBy(() -> serializer.deserialize(ByteBuffer.wrap("foo".getBytes())))
+				.withMessage("Expected STX to begin message");
+	}
+
+	@Test
+	void lengthHeaderFrames() throws IOException {
+		for (int headerSize : new int[] {1, 2, 4}) {
+			ByteBufferLengthHeaderSerializer serializer = new ByteBufferLengthHeaderSerializer(headerSize);
+			serializer.setInclusive(headerSize == 2);
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			serializer.serialize("foo".getBytes(), out);
+			serializer.serialize("barbaz".getBytes(), out);
+			byte[] bytes = out.toByteArray();
+			ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+			assertThat(decodeAll(serializer, buffer)).containsExactly("foo");
+			assertThat(buffer.position()).isEqualTo(headerSize + 3);
+			buffer.limit(bytes.length);
+			assertThat(decodeAll(serializer, buffer)).containsExactly("barbaz");
+			assertThat(buffer.hasRemaining()).isFalse();
+		}
+	}
+
+	@Test
+	void lengthHeaderMaxMessageSize() {
+		ByteBufferLengthHeaderSerializer serializer = new ByteBufferLengthHeaderSerializer();
+		serializer.setMaxMessageSize(5);
+		ByteBuffer buffer = ByteBuffer.allocate(4).putInt(0, 6);
+		assertThatIOException()
+				.isThrownBy(() -> serializer.deserialize(buffer))
+				.withMessage("Message length 6 exceeds max message length: 5");
+	}
+
+	@Test
+	void codecLengthHeaderMaxMessageSize() throws IOException {
+		ByteBufferLengthHeaderSerializer framing = new ByteBufferLengthHeaderSerializer();
+		framing.setMaxMessageSize(3000);
+		CodecLengthHeaderSerializer<String> serializer =
+				new CodecLengthHeaderSerializer<>(new PojoCodec(), String.class, framing);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		serializer.serialize("x".repeat(2900), out);
+		assertThatIOException()
+				.isThrownBy(() -> serializer.serialize("x".repeat(5000), out))
+				.withMessage("Encoded message exceeds max message length: 3000");
+		framing.setMaxMessageSize(100);
+		assertThatIOException()
+				.isThrownBy(() -> serializer.serialize("x".repeat(200), out))
+				.withMessageStartingWith("Message length ")
+				.withMessageEndingWith(" exceeds max message length: 100");
+	}
+
+	@Test
+	void codecLengthHeaderFrames() throws IOException {
+		ByteBufferLengthHeaderSerializer framing = new ByteBufferLengthHeaderSerializer();
+		framing.setMaxMessageSize(10_000);
+		CodecLengthHeaderSerializer<String> serializer =
+				new CodecLengthHeaderSerializer<>(new PojoCodec(), String.class, framing);
+		String big = "x".repeat(5000);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		serializer.serialize("foo", out);
+		serializer.serialize(big, out);
+		serializer.serialize("bar", out);
+		byte[] bytes = out.toByteArray();
+
+		ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+		assertThat(serializer.deserialize(in)).isEqualTo("foo");
+		assertThat(serializer.deserialize(in)).isEqualTo(big);
+		assertThat(serializer.deserialize(in)).isEqualTo("bar");
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().limit(bytes.length - 1);
+		assertThat(serializer.deserialize(buffer)).isEqualTo("foo");
+		assertThat(serializer.deserialize(buffer)).isEqualTo(big);
+		int position = buffer.position();
+		assertThat(serializer.deserialize(buffer)).isNull();
+		assertThat(buffer.position()).isEqualTo(position);
+		buffer.limit(bytes.length);
+		assertThat(serializer.deserialize(buffer)).isEqualTo("bar");
+		assertThat(buffer.hasRemaining()).isFalse();
+	}
+
+	private static List<String> decodeAll(ByteBufferDeserializer<byte[]> deserializer, ByteBuffer buffer)
+			throws IOException {
+
+		List<String> decoded = new ArrayList<>();
+		byte[] payload;
+		while ((payload = deserializer.deserialize(buffer)) != null) {
+			decoded.add(new String(payload));
+		}
+		return decoded;
+	}
+
+}
@@ -16,9 +16,12 @@
 
 package org.springframework.integration.jdbc;
 
+import java.sql.BatchUpdateException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -30,7 +33,10 @@ import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.integration.handler.AbstractMessageHandler;
+import org.springframework.integration.handler.BatchMessageHandler;
+import org.springframework.integration.support.PartialSuccessException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -70,6 +76,9 @@ import org.springframework.util.LinkedCaseInsensitiveMap;
  * {@link JdbcOperations#batchUpdate(String, BatchPreparedStatementSetter)} function.
  * <p>
  * NOTE: The batch update is not supported when {@link #keysGenerated} is in use.
+ * <p>
+ * As a {@link BatchMessageHandler}, this handler executes the update for a batch of messages
+ * drained by a {@link org.springframework.integration.endpoint.PollingConsumer} in one JDBC batch.
  *
  * N.B. do not use quotes to escape the header keys. The default SQL parameter source (from Spring JDBC) can also handle
  * headers with dotted names (e.g. <code>business.id</code>)
@@ -80,7 +89,7 @@ import org.springframework.util.LinkedCaseInsensitiveMap;
  *
  * @since 2.0
  */
-public class JdbcMessageHandler extends AbstractMessageHandler {
+public class JdbcMessageHandler extends AbstractMessageHandler implements BatchMessageHandler {
 
 	private final ResultSetExtractor<List<Map<String, Object>>> generatedKeysResultSetExtractor =
 			new RowMapperResultSetExtractor<>(new ColumnMapRowMapper(), 1);
@@ -221,33 +230,7 @@ public class JdbcMessageHandler extends AbstractMessageHandler {
 						StreamSupport.stream(((Iterable<?>) message.getPayload()).spliterator(), false)
 								.map(payload -> payloadToMessage(payload, message.getHeaders()));
 
-				int[] updates;
-
-				if (this.preparedStatementSetter != null) {
-					Message<?>[] messages = messageStream.toArray(Message<?>[]::new);
-
-					updates = this.jdbcOperations.getJdbcOperations()
-							.batchUpdate(this.updateSql, new BatchPreparedStatementSetter() {
-
-								@Override
-								public void setValues(PreparedStatement ps, int i) throws SQLException {
-									JdbcMessageHandler.this.preparedStatementSetter.setValues(ps, messages[i]);
-								}
-
-								@Override
-								public int getBatchSize() {
-									return messages.length;
-								}
-
-							});
-				}
-				else {
-					SqlParameterSource[] sqlParameterSources =
-							messageStream.map(this.sqlParameterSourceFactory::createParameterSource)
-									.toArray(SqlParameterSource[]::new);
-
-					updates = this.jdbcOperations.batchUpdate(this.updateSql, sqlParameterSources);
-				}
+				int[] updates = batchUpdate(messageStream.toArray(Message<?>[]::new));
 
 				return Arrays.stream(updates)
 						.mapToObj(updated -> {
@@ -276,6 +259,125 @@ public class JdbcMessageHandler extends AbstractMessageHandler {
 		}
 	}
 
+	/**
+	 * Execute the update for all the messages in one JDBC batch.
+	 * If {@link #setKeysGenerated(boolean) keysGenerated} is in use or some message has an
+	 * {@link Iterable} payload, the messages are handled one by one.
+	 * When the batch fails, a {@link PartialSuccessException} is thrown, with the messages
+	 * reported as updated by the JDBC driver as the {@code partialResults}; without a
+	 * transaction those updates are not rolled back.
+	 * @param messages the messages to handle.
+	 * @since 6.3
+	 */
+	@Override
+	public void handleMessages(List<Message<?>> messages) {
+		handleMessageBatch(messages, this::doHandleMessages);
+	}
+
+	/**
+	 * Return false if {@link #setKeysGenerated(boolean) keysGenerated} is in use:
+	 * the generated keys are produced per message, so a polling endpoint hands the
+	 * messages over one by one.
+	 * @return true if the batch update is supported.
+	 * @since 6.3
+	 */
+	@Override
+	public boolean isBatchCapable() {
+		return !this.keysGenerated;
+	}
+
+	private void doHandleMessages(List<Message<?>> messages) {
+		if (this.keysGenerated || messages.stream().anyMatch(message -> message.getPayload() instanceof Iterable)) {
+			for (int i = 0; i < messages.size(); i++) {
+				try {
+					handleMessageInternal(messages.get(i));
+				}
+				catch (RuntimeException ex) {
+					throw new PartialSuccessException(messages.get(i), "Failed to handle the message " + i
+							+ " of the batch", ex, messages.subList(0, i), messages);
+				}
+			}
+		}
+		else {
+			try {
+				batchUpdate(messages.toArray(new Message<?>[0]));
+			}
+			catch (DataAccessException ex) {
+				List<Message<?>> updatedMessages = new ArrayList<>();
+				int failedIndex = -1;
+				BatchUpdateException batchUpdateException = batchUpdateException(ex);
+				if (batchUpdateException != null) {
+					int[] updateCounts = batchUpdateException.getUpdateCounts();
+					for (int i = 0; i < updateCounts.length && i < messages.size(); i++) {
+						if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+							if (failedIndex < 0) {
+								failedIndex = i;
+							}
+						}
+						else {
+							updatedMessages.add(messages.get(i));
+						}
+					}
+					if (failedIndex < 0) {
+						if (updateCounts.length < messages.size()) {
+							// The driver has stopped at the first failed statement
+							failedIndex = updateCounts.length;
+						}
+						else {
+							// All the counts are reported, but the batch has failed: blame the last one
+							failedIndex = messages.size() - 1;
+							updatedMessages.remove(updatedMessages.size() - 1);
+						}
+					}
+				}
+				else {
+					failedIndex = 0;
+				}
+				throw new PartialSuccessException(messages.get(failedIndex), "Failed to execute the batch update",
+						ex, updatedMessages, messages);
+			}
+		}
+	}
+
+	@Nullable
+	private static BatchUpdateException batchUpdateException(Throwable ex) {
+		Throwable cause = ex;
+		while (cause != null) {
+			if (cause instanceof BatchUpdateException batchUpdateException) {
+				return batchUpdateException;
+			}
+			cause = cause.getCause();
+		}
+		return null;
+	}
+
+	private int[] batchUpdate(Message<?>[] messages) {
+		if (this.preparedStatementSetter != null) {
+			return this.jdbcOperations.getJdbcOperations()
+					.batchUpdate(this.updateSql, new BatchPreparedStatementSetter() {
+
+						@Override
+						public void setValues(PreparedStatement ps, int i) throws SQLException {
+							JdbcMessageHandler.this.preparedStatementSetter.setValues(ps, messages[i]);
+						}
+
+						@Override
+						public int getBatchSize() {
+							return messages.length;
+						}
+
+					});
+		}
+		else {
+			SqlParameterSource[] sqlParameterSources =
+					Arrays.stream(messages)
+							.map(this.sqlParameterSourceFactory::createParameterSource)
+							.toArray(SqlParameterSource[]::new);
+
+			return this.jdbcOperations.batchUpdate(this.updateSql, sqlParameterSources);
+		}
+	}
+
 	private static Message<?> payloadToMessage(Object payload, MessageHeaders messageHeaders) {
 		if (payload instanceof Message) {
 			return (Message<?>) payload;
@@ -16,17 +16,17 @@
 
 package org.springframework.integration.jdbc.store;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Types;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 
 import javax.sql.DataSource;
@@ -48,14 +48,21 @@ import org.springframework.integration.store.PriorityCapableChannelMessageStore;
 import org.springframework.integration.store.SimpleMessageGroupFactory;
 import org.springframework.integration.support.converter.AllowListDeserializingConverter;
 import org.springframework.integration.util.UUIDConverter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.jdbc.support.lob.DefaultLobHandler;
 import org.springframework.jdbc.support.lob.LobHandler;
 import org.springframework.jmx.export.annotation.ManagedAttribute;
 import org.springframework.jmx.export.annotation.ManagedMetric;
 import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -80,6 +87,9 @@ import org.springframework.util.StringUtils;
  * on {@link #start()} to check if required table is present in DB.
  * The application context will fail to start if the table is not present.
  * This check can be disabled via {@link #setCheckDatabaseOnStart(boolean)}.
+ * <p>
+ * The {@link #pollMessagesFromGroup(Object, int)} selects (and removes) several messages
+ * in a single round-trip if the {@link ChannelMessageStoreQueryProvider} supports batch polling.
  *
  * @author Gunnar Hillert
  * @author Artem Bilan
@@ -116,18 +126,19 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 		POLL_WITH_EXCLUSIONS,
 		PRIORITY,
 		PRIORITY_WITH_EXCLUSIONS,
+		POLL_MESSAGES,
+		POLL_MESSAGES_WITH_EXCLUSIONS,
+		PRIORITY_MESSAGES,
+		PRIORITY_MESSAGES_WITH_EXCLUSIONS,
 		DELETE_MESSAGE
 	}
 
 	private final Map<Query, String> queryCache = new ConcurrentHashMap<>();
 
-	private final Set<String> idCache = new HashSet<>();
-
-	private final ReadWriteLock idCacheLock = new ReentrantReadWriteLock();
-
-	private final Lock idCacheReadLock = this.idCacheLock.readLock();
-
-	private final Lock idCacheWriteLock = this.idCacheLock.writeLock();
+	/**
+	 * The ids of messages being processed, per group key.
+	 */
+	private final Map<String, Set<String>> idCache = new ConcurrentHashMap<>();
 
 	private final AtomicBoolean started = new AtomicBoolean();
 
@@ -153,6 +164,8 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 
 	private boolean usingIdCache = false;
 
+	private int maxExcludedIds = Integer.MAX_VALUE;
+
 	private boolean priorityEnabled;
 
 	private boolean checkDatabaseOnStart = true;
@@ -328,7 +341,10 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 	 * <p>Using the id cache, the {@link JdbcChannelMessageStore} will store each
 	 * message id in an in-memory collection for the duration of processing. With
 	 * that, any polling threads will explicitly exclude those messages from
-	 * being polled.</p>
+	 * being polled.
+	 * The ids are tracked per group in concurrent sets, so only the ids of the polled group
+	 * are excluded and a message selected concurrently by several threads is claimed only by one of them.
+	 * See also {@link #setMaxExcludedIds(int)}.</p>
 	 * <p>For this to work, you must setup the corresponding
 	 * {@link org.springframework.integration.transaction.TransactionSynchronizationFactory}:</p>
 	 * <pre class="code">
@@ -357,6 +373,25 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 		this.usingIdCache = usingIdCache;
 	}
 
+	/**
+	 * Set the maximum number of cached message ids of a group to send to the database
+	 * as an exclusion list for a poll.
+	 * Only applicable if {@link #setUsingIdCache(boolean)} is set to {@code true}.
+	 * If more messages of the group are being processed, the rest of their rows are selected
+	 * (up to the number of not excluded ids on top of the requested messages) and skipped in memory,
+	 * so the size of the query parameters does not grow with the number of concurrent transactions.
+	 * The over-fetching requires the batch poll queries from the {@link ChannelMessageStoreQueryProvider}
+	 * and is not performed with single statement polls, where all the cached ids are excluded in the query.
+	 * Defaults to unlimited: only set it when using a database with Multiversion Concurrency Control (MVCC),
+	 * otherwise selecting rows of not yet committed transactions may block the poll.
+	 * @param maxExcludedIds the maximum number of ids in the exclusion list.
+	 * @since 6.3
+	 */
+	public void setMaxExcludedIds(int maxExcludedIds) {
+		Assert.isTrue(maxExcludedIds > 0, "'maxExcludedIds' must be greater than 0");
+		this.maxExcludedIds = maxExcludedIds;
+	}
+
 	/**
 	 * Enable a priority handling in this store.
 	 * @param priorityEnabled the priority handling enabled or not.
@@ -555,7 +590,7 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 	public Message<?> pollMessageFromGroup(Object groupId) {
 		String key = getKey(groupId);
 		Message<?> polledMessage = doPollForMessage(key);
-		if (polledMessage != null && !isSingleStatementForPoll() && !doRemoveMessageFromGroup(groupId, polledMessage)) {
+		if (polledMessage != null && !isSingleStatementForPoll() && !doRemoveMessageFromGroup(key, polledMessage)) {
 			return null;
 		}
 		return polledMessage;
@@ -573,75 +608,228 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 	 * @return a message; could be null if query produced no Messages
 	 */
 	protected Message<?> doPollForMessage(String groupIdKey) {
-		NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(this.jdbcTemplate);
-		MapSqlParameterSource parameters = new MapSqlParameterSource();
+		List<Message<?>> messages = pollAndClaim(groupIdKey, 1, false);
+		return messages == null || messages.isEmpty() ? null : messages.get(0);
+	}
+
+	/**
+	 * Poll the database for up to {@code maxMessages} messages that are persisted for the given
+	 * group id which represents the channel identifier.
+	 * The messages are selected with a single query and, unless the
+	 * {@link ChannelMessageStoreQueryProvider#isSingleStatementForPoll()}, removed with a single batch
+	 * of deletes; so, they are polled in one transaction when called within the transactional poller.
+	 * Falls back to the one-by-one polling if the {@link ChannelMessageStoreQueryProvider}
+	 * does not support batch polling.
+	 * @since 6.3
+	 */
+	@Override
+	public List<Message<?>> pollMessagesFromGroup(Object groupId, int maxMessages) {
+		Assert.isTrue(maxMessages > 0, "'maxMessages' must be greater than 0");
+		String key = getKey(groupId);
+		List<Message<?>> polledMessages = doPollForMessages(key, maxMessages);
+		if (polledMessages == null) {
+			return PriorityCapableChannelMessageStore.super.pollMessagesFromGroup(groupId, maxMessages);
+		}
+		if (!polledMessages.isEmpty() && !isSingleStatementForPoll()) {
+			return doRemoveMessagesFromGroup(key, polledMessages);
+		}
+		return polledMessages;
+	}
+
+	/**
+	 * This method executes a call to the DB to get up to {@code maxMessages} oldest Messages
+	 * in the MessageGroup which in the context of the {@link JdbcChannelMessageStore}
+	 * means the channel identifier.
+	 * @param groupIdKey String representation of message group (Channel) ID
+	 * @param maxMessages the maximum number of messages to poll
+	 * @return the messages in the polling order;
+	 * null if the {@link ChannelMessageStoreQueryProvider} does not support batch polling
+	 * @since 6.3
+	 */
+	@Nullable
+	protected List<Message<?>> doPollForMessages(String groupIdKey, int maxMessages) {
+		return pollAndClaim(groupIdKey, maxMessages, true);
+	}
+
+	/**
+	 * Select up to {@code maxMessages} messages and claim them in the id cache (if used).
+	 * Only up to {@link #maxExcludedIds} claimed ids are sent to the database as an exclusion list;
+	 * the rows for the rest of claimed messages are over-fetched and skipped in memory.
+	 */
+	@Nullable
+	private List<Message<?>> pollAndClaim(String groupIdKey, int maxMessages, boolean batch) {
+		Set<String> claimedIds = this.usingIdCache ? this.idCache.get(groupIdKey) : null;
+		List<String> excludedIds = null;
+		int notExcluded = 0;
+		if (claimedIds != null && !claimedIds.isEmpty()) {
+			excludedIds = new ArrayList<>(Math.min(claimedIds.size(), this.maxExcludedIds));
+			Iterator<String> iterator = claimedIds.iterator();
+			while (iterator.hasNext() && excludedIds.size() < this.maxExcludedIds) {
+				excludedIds.add(iterator.next());
+			}
+			// Over-fetching is not possible for a DELETE...RETURNING: all the returned rows are removed
+			if (!isSingleStatementForPoll()) {
+				notExcluded = Math.max(claimedIds.size() - excludedIds.size(), 0);
+			}
+		}
 
+		String query = getPollQuery(batch || notExcluded > 0, excludedIds != null);
+		if (query == null) {
+			if (batch) {
+				return null;
+			}
+			if (claimedIds != null) {
+				excludedIds = new ArrayList<>(claimedIds);
+			}
+			notExcluded = 0;
+			query = getPollQuery(false, excludedIds != null && !excludedIds.isEmpty());
+		}
+
+		int maxRows = maxMessages + notExcluded;
+		MapSqlParameterSource parameters = new MapSqlParameterSource();
 		parameters.addValue("region", this.region);
 		parameters.addValue("group_key", groupIdKey);
+		parameters.addValue("max_messages", maxRows);
+		if (excludedIds != null && !excludedIds.isEmpty()) {
+			parameters.addValue("message_ids", excludedIds);
+		}
 
-		String query;
+		RowMapper<Message<?>> rowMapper = this.messageRowMapper;
+		if (notExcluded > 0) {
+			Set<String> idsToSkip = claimedIds;
+			rowMapper = (resultSet, rowNum) ->
+					idsToSkip.contains(resultSet.getString("MESSAGE_ID"))
+							? null
+							: this.messageRowMapper.mapRow(resultSet, rowNum);
+		}
 
-		final List<Message<?>> messages;
+		List<Message<?>> messages = queryForMessages(query, parameters, maxRows, rowMapper);
+		if (this.usingIdCache && !messages.isEmpty()) {
+			return claim(groupIdKey, messages, maxMessages);
+		}
+		return messages;
+	}
 
-		this.idCacheReadLock.lock();
-		try {
-			if (this.usingIdCache && !this.idCache.isEmpty()) {
+	@Nullable
+	private String getPollQuery(boolean batch, boolean withExclusions) {
+		ChannelMessageStoreQueryProvider queryProvider = this.channelMessageStoreQueryProvider;
+		if (batch) {
+			if (withExclusions) {
 				if (this.priorityEnabled) {
-					query = getQuery(Query.PRIORITY_WITH_EXCLUSIONS,
-							() -> this.channelMessageStoreQueryProvider.getPriorityPollFromGroupExcludeIdsQuery());
+					return getQuery(Query.PRIORITY_MESSAGES_WITH_EXCLUSIONS,
+							queryProvider::getPriorityPollMessagesFromGroupExcludeIdsQuery);
 				}
-				else {
-					query = getQuery(Query.POLL_WITH_EXCLUSIONS,
-							() -> this.channelMessageStoreQueryProvider.getPollFromGroupExcludeIdsQuery());
-				}
-				parameters.addValue("message_ids", this.idCache);
+				return getQuery(Query.POLL_MESSAGES_WITH_EXCLUSIONS,
+						queryProvider::getPollMessagesFromGroupExcludeIdsQuery);
 			}
-			else {
-				if (this.priorityEnabled) {
-					query = getQuery(Query.PRIORITY,
-							() -> this.channelMessageStoreQueryProvider.getPriorityPollFromGroupQuery());
-				}
-				else {
-					query = getQuery(Query.POLL, () -> this.channelMessageStoreQueryProvider.getPollFromGroupQuery());
-				}
+			if (this.priorityEnabled) {
+				return getQuery(Query.PRIORITY_MESSAGES, queryProvider::getPriorityPollMessagesFromGroupQuery);
+			}
+			return getQuery(Query.POLL_MESSAGES, queryProvider::getPollMessagesFromGroupQuery);
+		}
+		if (withExclusions) {
+			if (this.priorityEnabled) {
+				return getQuery(Query.PRIORITY_WITH_EXCLUSIONS,
+						queryProvider::getPriorityPollFromGroupExcludeIdsQuery);
 			}
-			messages = namedParameterJdbcTemplate.query(query, parameters, this.messageRowMapper);
+			return getQuery(Query.POLL_WITH_EXCLUSIONS, queryProvider::getPollFromGroupExcludeIdsQuery);
 		}
-		finally {
-			this.idCacheReadLock.unlock();
+		if (this.priorityEnabled) {
+			return getQuery(Query.PRIORITY, queryProvider::getPriorityPollFromGroupQuery);
 		}
+		return getQuery(Query.POLL, queryProvider::getPollFromGroupQuery);
+	}
 
-
-		Assert.state(messages.size() < 2,
-				() -> "The query must return zero or 1 row; got " + messages.size() + " rows");
-		if (messages.size() > 0) {
-
-			final Message<?> message = messages.get(0);
-			UUID id = message.getHeaders().getId();
-			Assert.state(id != null, "Messages must have an id header to be stored");
-			final String messageId = id.toString();
-
-			if (this.usingIdCache) {
-				this.idCacheWriteLock.lock();
-				try {
-					boolean added = this.idCache.add(messageId);
-					LOGGER.debug(LogMessage.format("Polled message with id '%s' added: '%s'.", messageId, added));
+	/**
+	 * Claim the polled messages in the id cache.
+	 * A message claimed concurrently by another poller is skipped, unless it is already removed
+	 * from the database by a single poll statement.
+	 * The ids are added within the {@code compute()} for the group, so the set of the group
+	 * cannot be removed as empty in the meantime.
+	 */
+	private List<Message<?>> claim(String groupIdKey, List<Message<?>> messages, int maxMessages) {
+		boolean removed = isSingleStatementForPoll();
+		List<Message<?>> claimedMessages = new ArrayList<>(Math.min(messages.size(), maxMessages));
+		this.idCache.compute(groupIdKey, (key, existingIds) -> {
+			Set<String> claimedIds = existingIds != null ? existingIds : ConcurrentHashMap.newKeySet();
+			for (Message<?> message : messages) {
+				if (claimedMessages.size() == maxMessages) {
+					break;
 				}
-				finally {
-					this.idCacheWriteLock.unlock();
+				String messageId = message.getHeaders().getId().toString(); // NOSONAR never null for stored
+				boolean added = claimedIds.add(messageId);
+				LOGGER.debug(LogMessage.format("Polled message with id '%s' added: '%s'.", messageId, added));
+				if (added || removed) {
+					claimedMessages.add(message);
 				}
 			}
+			return claimedIds.isEmpty() ? null : claimedIds;
+		});
+		return claimedMessages;
+	}
+
+	/**
+	 * Perform the query with the statement's max rows and fetch size set to the {@code maxRows}
+	 * instead of the {@link JdbcTemplate} ones, which are {@code 1} for this store by default.
+	 */
+	private List<Message<?>> queryForMessages(String query, MapSqlParameterSource parameters, int maxRows,
+			RowMapper<Message<?>> rowMapper) {
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(query);
+		String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, parameters);
+		PreparedStatementSetter statementSetter =
+				new PreparedStatementCreatorFactory(sql,
+						NamedParameterUtils.buildSqlParameterList(parsedSql, parameters))
+						.newPreparedStatementSetter(NamedParameterUtils.buildValueArray(parsedSql, parameters, null));
+		List<Message<?>> messages =
+				this.jdbcTemplate.execute((ConnectionCallback<List<Message<?>>>) (connection) -> {
+					// The statement settings of the JdbcTemplate are applied by the connection proxy
+					try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+						preparedStatement.setMaxRows(maxRows);
+						preparedStatement.setFetchSize(maxRows);
+						statementSetter.setValues(preparedStatement);
+						try (ResultSet resultSet = preparedStatement.executeQuery()) {
+							return new RowMapperResultSetExtractor<>(rowMapper).extractData(resultSet);
+						}
+					}
+				});
+		if (messages == null) {
+			return List.of();
+		}
+		messages.removeIf((message) -> message == null);
+		return messages;
+	}
 
-			return message;
+	private List<Message<?>> doRemoveMessagesFromGroup(String groupIdKey, List<Message<?>> messagesToRemove) {
+		List<Object[]> batchArgs = new ArrayList<>(messagesToRemove.size());
+		for (Message<?> message : messagesToRemove) {
+			batchArgs.add(new Object[] {getKey(message.getHeaders().getId()), groupIdKey, this.region});
 		}
-		return null;
+		int[] updated = this.jdbcTemplate.batchUpdate(
+				getQuery(Query.DELETE_MESSAGE, () -> this.channelMessageStoreQueryProvider.getDeleteMessageQuery()),
+				batchArgs,
+				new int[] {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR});
+
+		List<Message<?>> removedMessages = new ArrayList<>(messagesToRemove.size());
+		for (int i = 0; i < updated.length; i++) {
+			Message<?> message = messagesToRemove.get(i);
+			// Statement.SUCCESS_NO_INFO (-2) is a success without a row count
+			if (updated[i] != 0) {
+				removedMessages.add(message);
+			}
+			else {
+				messageNotDeleted(groupIdKey, message.getHeaders().getId());
+			}
+		}
+		LOGGER.debug(() -> removedMessages.size() + " messages were deleted.");
+		return removedMessages;
 	}
 
-	private boolean doRemoveMessageFromGroup(Object groupId, Message<?> messageToRemove) {
+	private boolean doRemoveMessageFromGroup(String groupIdKey, Message<?> messageToRemove) {
 		UUID id = messageToRemove.getHeaders().getId();
 		int updated = this.jdbcTemplate.update(
 				getQuery(Query.DELETE_MESSAGE, () -> this.channelMessageStoreQueryProvider.getDeleteMessageQuery()),
-				new Object[] {getKey(id), getKey(groupId), this.region},
+				new Object[] {getKey(id), groupIdKey, this.region},
 				new int[] {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR});
 
 		boolean result = updated != 0;
@@ -649,11 +837,19 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 			LOGGER.debug(() -> "Message with id '" + id + "' was deleted.");
 		}
 		else {
-			LOGGER.warn(() -> "Message with id '" + id + "' was not deleted.");
+			messageNotDeleted(groupIdKey, id);
 		}
 		return result;
 	}
 
+	private void messageNotDeleted(String groupIdKey, @Nullable UUID id) {
+		LOGGER.warn(() -> "Message with id '" + id + "' was not deleted.");
+		if (this.usingIdCache) {
+			// Not returned to the caller, so not removed from the id cache by transaction synchronization
+			removeFromIdCache(groupIdKey, String.valueOf(id));
+		}
+	}
+
 	/**
 	 * Remove a Message Id from the idCache. Should be used in conjunction
 	 * with the Spring Integration Transaction Synchronization feature to remove
@@ -664,15 +860,25 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 	 */
 	public void removeFromIdCache(String messageId) {
 		LOGGER.debug(() -> "Removing Message Id: " + messageId);
-		this.idCacheWriteLock.lock();
-		try {
-			this.idCache.remove(messageId);
-		}
-		finally {
-			this.idCacheWriteLock.unlock();
+		for (Map.Entry<String, Set<String>> entry : this.idCache.entrySet()) {
+			if (entry.getValue().contains(messageId) && removeFromIdCache(entry.getKey(), messageId)) {
+				break;
+			}
 		}
 	}
 
+	/**
+	 * Remove the message id from the set of the group and the set itself when it becomes empty.
+	 */
+	private boolean removeFromIdCache(String groupIdKey, String messageId) {
+		boolean[] removed = new boolean[1];
+		this.idCache.computeIfPresent(groupIdKey, (key, claimedIds) -> {
+			removed[0] = claimedIds.remove(messageId);
+			return claimedIds.isEmpty() ? null : claimedIds;
+		});
+		return removed[0];
+	}
+
 	/**
 	 * Return the size of the Message Id Cache, which caches Message Ids for
 	 * those messages that are currently being processed.
@@ -680,7 +886,11 @@ public class JdbcChannelMessageStore implements PriorityCapableChannelMessageSto
 	 */
 	@ManagedMetric
 	public int getSizeOfIdCache() {
-		return this.idCache.size();
+		int size = 0;
+		for (Set<String> claimedIds : this.idCache.values()) {
+			size += claimedIds.size();
+		}
+		return size;
 	}
 
 }
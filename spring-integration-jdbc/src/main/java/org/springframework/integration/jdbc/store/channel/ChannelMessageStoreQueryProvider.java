@@ -16,6 +16,8 @@
 
 package org.springframework.integration.jdbc.store.channel;
 
+import org.springframework.lang.Nullable;
+
 /**
  * Common interface used in order to configure the
  * {@link org.springframework.integration.jdbc.store.JdbcChannelMessageStore} to provide
@@ -126,6 +128,53 @@ public interface ChannelMessageStoreQueryProvider {
 	 */
 	String getPriorityPollFromGroupQuery();
 
+	/**
+	 * Get the query used to retrieve up to {@code :max_messages} oldest messages for a channel
+	 * excluding messages that match the provided message ids.
+	 * The returned rows must be in the polling order.
+	 * @return query string or {@code null} if batch polling is not supported.
+	 * @since 6.3
+	 */
+	@Nullable
+	default String getPollMessagesFromGroupExcludeIdsQuery() {
+		return null;
+	}
+
+	/**
+	 * Get the query used to retrieve up to {@code :max_messages} oldest messages for a channel.
+	 * The returned rows must be in the polling order.
+	 * @return query string or {@code null} if batch polling is not supported.
+	 * @since 6.3
+	 */
+	@Nullable
+	default String getPollMessagesFromGroupQuery() {
+		return null;
+	}
+
+	/**
+	 * Get the query used to retrieve up to {@code :max_messages} oldest messages by priority
+	 * for a channel excluding messages that match the provided message ids.
+	 * The returned rows must be in the polling order.
+	 * @return query string or {@code null} if batch polling is not supported.
+	 * @since 6.3
+	 */
+	@Nullable
+	default String getPriorityPollMessagesFromGroupExcludeIdsQuery() {
+		return null;
+	}
+
+	/**
+	 * Get the query used to retrieve up to {@code :max_messages} oldest messages by priority
+	 * for a channel.
+	 * The returned rows must be in the polling order.
+	 * @return query string or {@code null} if batch polling is not supported.
+	 * @since 6.3
+	 */
+	@Nullable
+	default String getPriorityPollMessagesFromGroupQuery() {
+		return null;
+	}
+
 	/**
 	 * Indicate if the queries for polling are using a single statement (e.g. DELETE ... RETURNING) to
 	 * retrieve and delete the message from the channel store.
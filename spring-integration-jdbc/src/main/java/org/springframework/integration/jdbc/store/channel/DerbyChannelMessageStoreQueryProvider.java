@@ -52,4 +52,32 @@ public class DerbyChannelMessageStoreQueryProvider implements ChannelMessageStor
 				+ "order by MESSAGE_PRIORITY DESC NULLS LAST, CREATED_DATE, MESSAGE_SEQUENCE FETCH FIRST ROW ONLY";
 	}
 
+	@Override
+	public String getPollMessagesFromGroupExcludeIdsQuery() {
+		return SELECT_COMMON
+				+ "and %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID not in (:message_ids) "
+				+ "order by CREATED_DATE, MESSAGE_SEQUENCE FETCH FIRST :max_messages ROWS ONLY";
+	}
+
+	@Override
+	public String getPollMessagesFromGroupQuery() {
+		return SELECT_COMMON
+				+ "order by CREATED_DATE, MESSAGE_SEQUENCE FETCH FIRST :max_messages ROWS ONLY";
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupExcludeIdsQuery() {
+		return SELECT_COMMON
+				+ "and %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID not in (:message_ids) "
+				+ "order by MESSAGE_PRIORITY DESC NULLS LAST, CREATED_DATE, MESSAGE_SEQUENCE "
+				+ "FETCH FIRST :max_messages ROWS ONLY";
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupQuery() {
+		return SELECT_COMMON
+				+ "order by MESSAGE_PRIORITY DESC NULLS LAST, CREATED_DATE, MESSAGE_SEQUENCE "
+				+ "FETCH FIRST :max_messages ROWS ONLY";
+	}
+
 }
@@ -54,4 +54,34 @@ public class MySqlChannelMessageStoreQueryProvider implements ChannelMessageStor
 				"LIMIT 1 FOR UPDATE SKIP LOCKED";
 	}
 
+	@Override
+	public String getPollMessagesFromGroupExcludeIdsQuery() {
+		return SELECT_COMMON +
+				"and %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID not in (:message_ids) " +
+				"order by CREATED_DATE, MESSAGE_SEQUENCE " +
+				"LIMIT :max_messages FOR UPDATE SKIP LOCKED";
+	}
+
+	@Override
+	public String getPollMessagesFromGroupQuery() {
+		return SELECT_COMMON +
+				"order by CREATED_DATE, MESSAGE_SEQUENCE " +
+				"LIMIT :max_messages FOR UPDATE SKIP LOCKED";
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupExcludeIdsQuery() {
+		return SELECT_COMMON +
+				"and %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID not in (:message_ids) " +
+				"order by MESSAGE_PRIORITY DESC, CREATED_DATE, MESSAGE_SEQUENCE " +
+				"LIMIT :max_messages FOR UPDATE SKIP LOCKED";
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupQuery() {
+		return SELECT_COMMON +
+				"order by MESSAGE_PRIORITY DESC, CREATED_DATE, MESSAGE_SEQUENCE " +
+				"LIMIT :max_messages FOR UPDATE SKIP LOCKED";
+	}
+
 }
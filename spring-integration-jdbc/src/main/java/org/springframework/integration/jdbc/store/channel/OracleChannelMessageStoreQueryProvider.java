@@ -22,6 +22,9 @@ package org.springframework.integration.jdbc.store.channel;
  * ensure that the used {@link org.springframework.jdbc.core.JdbcTemplate}'s fetchSize
  * property is {@code 1}.
  * <p>
+ * Since a row limiting clause cannot be combined with {@code FOR UPDATE}, the batch poll queries
+ * are the same as single message ones: the number of returned (and locked) rows is limited
+ * by the statement's max rows instead.
  *
  * @author Gunnar Hillert
  * @author Artem Bilan
@@ -76,4 +79,24 @@ public class OracleChannelMessageStoreQueryProvider implements ChannelMessageSto
 				""";
 	}
 
+	@Override
+	public String getPollMessagesFromGroupExcludeIdsQuery() {
+		return getPollFromGroupExcludeIdsQuery();
+	}
+
+	@Override
+	public String getPollMessagesFromGroupQuery() {
+		return getPollFromGroupQuery();
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupExcludeIdsQuery() {
+		return getPriorityPollFromGroupExcludeIdsQuery();
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupQuery() {
+		return getPriorityPollFromGroupQuery();
+	}
+
 }
@@ -93,4 +93,82 @@ public class PostgresChannelMessageStoreQueryProvider implements ChannelMessageS
 		return true;
 	}
 
+	@Override
+	public String getPollMessagesFromGroupExcludeIdsQuery() {
+		return """
+				with POLLED as (
+					delete
+					from %PREFIX%CHANNEL_MESSAGE
+					where CTID = any(array(select CTID
+									from %PREFIX%CHANNEL_MESSAGE
+									where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key
+									and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+									and %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID not in (:message_ids)
+								order by CREATED_DATE, MESSAGE_SEQUENCE
+								limit :max_messages for update skip locked))
+					returning MESSAGE_ID, MESSAGE_BYTES, MESSAGE_PRIORITY, CREATED_DATE, MESSAGE_SEQUENCE)
+				select MESSAGE_ID, MESSAGE_BYTES
+				from POLLED
+				order by CREATED_DATE, MESSAGE_SEQUENCE;
+				""";
+	}
+
+	@Override
+	public String getPollMessagesFromGroupQuery() {
+		return """
+				with POLLED as (
+					delete
+					from %PREFIX%CHANNEL_MESSAGE
+					where CTID = any(array(select CTID
+									from %PREFIX%CHANNEL_MESSAGE
+									where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key
+									and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+								order by CREATED_DATE, MESSAGE_SEQUENCE
+								limit :max_messages for update skip locked))
+					returning MESSAGE_ID, MESSAGE_BYTES, MESSAGE_PRIORITY, CREATED_DATE, MESSAGE_SEQUENCE)
+				select MESSAGE_ID, MESSAGE_BYTES
+				from POLLED
+				order by CREATED_DATE, MESSAGE_SEQUENCE;
+				""";
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupExcludeIdsQuery() {
+		return """
+				with POLLED as (
+					delete
+					from %PREFIX%CHANNEL_MESSAGE
+					where CTID = any(array(select CTID
+									from %PREFIX%CHANNEL_MESSAGE
+									where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key
+									and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+									and %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID not in (:message_ids)
+								order by MESSAGE_PRIORITY DESC NULLS LAST, CREATED_DATE, MESSAGE_SEQUENCE
+								limit :max_messages for update skip locked))
+					returning MESSAGE_ID, MESSAGE_BYTES, MESSAGE_PRIORITY, CREATED_DATE, MESSAGE_SEQUENCE)
+				select MESSAGE_ID, MESSAGE_BYTES
+				from POLLED
+				order by MESSAGE_PRIORITY DESC NULLS LAST, CREATED_DATE, MESSAGE_SEQUENCE;
+				""";
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupQuery() {
+		return """
+				with POLLED as (
+					delete
+					from %PREFIX%CHANNEL_MESSAGE
+					where CTID = any(array(select CTID
+									from %PREFIX%CHANNEL_MESSAGE
+									where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key
+									and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+								order by MESSAGE_PRIORITY DESC NULLS LAST, CREATED_DATE, MESSAGE_SEQUENCE
+								limit :max_messages for update skip locked))
+					returning MESSAGE_ID, MESSAGE_BYTES, MESSAGE_PRIORITY, CREATED_DATE, MESSAGE_SEQUENCE)
+				select MESSAGE_ID, MESSAGE_BYTES
+				from POLLED
+				order by MESSAGE_PRIORITY DESC NULLS LAST, CREATED_DATE, MESSAGE_SEQUENCE;
+				""";
+	}
+
 }
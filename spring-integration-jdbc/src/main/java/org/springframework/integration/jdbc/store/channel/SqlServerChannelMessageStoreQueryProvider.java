@@ -67,4 +67,46 @@ public class SqlServerChannelMessageStoreQueryProvider implements ChannelMessage
 				""";
 	}
 
+	@Override
+	public String getPollMessagesFromGroupExcludeIdsQuery() {
+		return """
+				SELECT TOP (:max_messages) %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID, %PREFIX%CHANNEL_MESSAGE.MESSAGE_BYTES
+				from %PREFIX%CHANNEL_MESSAGE
+				where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+					and %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID not in (:message_ids)
+				order by CREATED_DATE, MESSAGE_SEQUENCE
+				""";
+	}
+
+	@Override
+	public String getPollMessagesFromGroupQuery() {
+		return """
+				SELECT TOP (:max_messages) %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID, %PREFIX%CHANNEL_MESSAGE.MESSAGE_BYTES
+				from %PREFIX%CHANNEL_MESSAGE
+				where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+				order by CREATED_DATE, MESSAGE_SEQUENCE
+				""";
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupExcludeIdsQuery() {
+		return """
+				SELECT TOP (:max_messages) %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID, %PREFIX%CHANNEL_MESSAGE.MESSAGE_BYTES
+				from %PREFIX%CHANNEL_MESSAGE
+				where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+					and %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID not in (:message_ids)
+				order by MESSAGE_PRIORITY DESC, CREATED_DATE, MESSAGE_SEQUENCE
+				""";
+	}
+
+	@Override
+	public String getPriorityPollMessagesFromGroupQuery() {
+		return """
+				SELECT TOP (:max_messages) %PREFIX%CHANNEL_MESSAGE.MESSAGE_ID, %PREFIX%CHANNEL_MESSAGE.MESSAGE_BYTES
+				from %PREFIX%CHANNEL_MESSAGE
+				where %PREFIX%CHANNEL_MESSAGE.GROUP_KEY = :group_key and %PREFIX%CHANNEL_MESSAGE.REGION = :region
+				order by MESSAGE_PRIORITY DESC, CREATED_DATE, MESSAGE_SEQUENCE
+				""";
+	}
+
 }
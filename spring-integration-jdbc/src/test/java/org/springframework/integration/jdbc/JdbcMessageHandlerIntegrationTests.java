@@ -16,6 +16,7 @@
 
 package org.springframework.integration.jdbc;
 
+import java.sql.BatchUpdateException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,10 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.PartialSuccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
@@ -37,6 +42,10 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.support.GenericMessage;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -210,4 +219,60 @@ public class JdbcMessageHandlerIntegrationTests {
 		assertThat(map.get("NAME")).as("Wrong name").isEqualTo("foo");
 	}
 
+	@Test
+	public void testHandleMessagesInOneBatch() {
+		JdbcMessageHandler handler = new JdbcMessageHandler(jdbcTemplate,
+				"insert into foos (id, status, name) values (:payload, 0, :payload)");
+		handler.afterPropertiesSet();
+
+		handler.handleMessages(
+				List.of(new GenericMessage<>("foo1"), new GenericMessage<>("foo2"), new GenericMessage<>("foo3")));
+
+		List<Map<String, Object>> foos = jdbcTemplate.queryForList("SELECT * FROM FOOS ORDER BY id");
+		assertThat(foos).extracting(foo -> foo.get("NAME")).containsExactly("foo1", "foo2", "foo3");
+	}
+
+	@Test
+	public void testHandleMessagesPartialSuccess() {
+		JdbcMessageHandler handler = new JdbcMessageHandler(jdbcTemplate,
+				"insert into foos (id, status, name) values (:payload, 0, :payload)");
+		handler.afterPropertiesSet();
+
+		Message<?> tooLongName = new GenericMessage<>("a name too long for the column");
+		List<Message<?>> messages =
+				List.of(new GenericMessage<>("foo1"), new GenericMessage<>("foo2"), tooLongName,
+						new GenericMessage<>("foo4"));
+
+		assertThatExceptionOfType(PartialSuccessException.class)
+				.isThrownBy(() -> handler.handleMessages(messages))
+				.satisfies(ex -> {
+					assertThat(ex.getFailedMessage()).isSameAs(tooLongName);
+					assertThat(ex.getPartialResults(Message.class)).containsExactly(messages.get(0), messages.get(1));
+					assertThat(ex.getDerivedInput()).isEqualTo(messages);
+				});
+	}
+
+	@Test
+	public void testHandleMessagesPartialSuccessWithAllUpdateCounts() {
+		JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+		given(jdbcOperations.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+				.willThrow(new UncategorizedSQLException("batch update", "insert into foos",
+						new BatchUpdateException(new int[] {1, 1, 1})));
+		JdbcMessageHandler handler = new JdbcMessageHandler(jdbcOperations,
+				"insert into foos (id, status, name) values (?, 0, ?)");
+		handler.setPreparedStatementSetter((ps, message) -> {
+		});
+		handler.afterPropertiesSet();
+
+		List<Message<?>> messages =
+				List.of(new GenericMessage<>("foo1"), new GenericMessage<>("foo2"), new GenericMessage<>("foo3"));
+
+		assertThatExceptionOfType(PartialSuccessException.class)
+				.isThrownBy(() -> handler.handleMessages(messages))
+				.satisfies(ex -> {
+					assertThat(ex.getFailedMessage()).isSameAs(messages.get(2));
+					assertThat(ex.getPartialResults(Message.class)).containsExactly(messages.get(0), messages.get(1));
+				});
+	}
+
 }
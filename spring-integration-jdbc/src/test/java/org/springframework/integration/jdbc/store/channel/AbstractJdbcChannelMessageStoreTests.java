@@ -18,6 +18,12 @@ package org.springframework.integration.jdbc.store.channel;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.sql.DataSource;
 
@@ -28,6 +34,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.serializer.support.SerializingConverter;
 import org.springframework.integration.jdbc.store.JdbcChannelMessageStore;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.integration.util.UUIDConverter;
 import org.springframework.jdbc.support.lob.DefaultLobHandler;
 import org.springframework.jdbc.support.lob.LobHandler;
 import org.springframework.messaging.Message;
@@ -130,6 +138,94 @@ public abstract class AbstractJdbcChannelMessageStoreTests {
 		assertThat(messageFromDb.getHeaders().getId()).isEqualTo(message.getHeaders().getId());
 	}
 
+	@Test
+	public void testBatchPoll() {
+		List<UUID> ids = addMessages(5);
+
+		List<Message<?>> messages = messageStore.pollMessagesFromGroup(TEST_MESSAGE_GROUP, 3);
+		assertThat(messages).extracting((message) -> message.getHeaders().getId())
+				.containsExactlyElementsOf(ids.subList(0, 3));
+		assertThat(messageStore.messageGroupSize(TEST_MESSAGE_GROUP)).isEqualTo(2);
+
+		messages = messageStore.pollMessagesFromGroup(TEST_MESSAGE_GROUP, 3);
+		assertThat(messages).extracting((message) -> message.getHeaders().getId())
+				.containsExactlyElementsOf(ids.subList(3, 5));
+		assertThat(messageStore.messageGroupSize(TEST_MESSAGE_GROUP)).isEqualTo(0);
+
+		assertThat(messageStore.pollMessagesFromGroup(TEST_MESSAGE_GROUP, 3)).isEmpty();
+	}
+
+	@Test
+	public void testBatchPollWithIdCache() {
+		messageStore.setUsingIdCache(true);
+		List<UUID> ids = addMessages(5);
+
+		List<Message<?>> messages = messageStore.pollMessagesFromGroup(TEST_MESSAGE_GROUP, 2);
+		assertThat(messages).extracting((message) -> message.getHeaders().getId())
+				.containsExactlyElementsOf(ids.subList(0, 2));
+
+		messages = messageStore.pollMessagesFromGroup(TEST_MESSAGE_GROUP, 10);
+		assertThat(messages).extracting((message) -> message.getHeaders().getId())
+				.containsExactlyElementsOf(ids.subList(2, 5));
+		assertThat(messageStore.getSizeOfIdCache()).isEqualTo(5);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testIdCacheGroupIsRemovedWhenEmpty() {
+		messageStore.setUsingIdCache(true);
+		addMessages(2);
+
+		List<Message<?>> messages = messageStore.pollMessagesFromGroup(TEST_MESSAGE_GROUP, 2);
+		assertThat(messages).hasSize(2);
+		Map<String, Set<String>> idCache = TestUtils.getPropertyValue(messageStore, "idCache", Map.class);
+		assertThat(idCache).hasSize(1);
+
+		messageStore.removeFromIdCache(messages.get(0).getHeaders().getId().toString());
+		assertThat(idCache).hasSize(1);
+		messageStore.removeFromIdCache(messages.get(1).getHeaders().getId().toString());
+		assertThat(idCache).isEmpty();
+		assertThat(messageStore.getSizeOfIdCache()).isEqualTo(0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testPollSkipsClaimedMessagesBeyondExcludedIds() {
+		messageStore.setUsingIdCache(true);
+		messageStore.setMaxExcludedIds(1);
+		List<UUID> ids = addMessages(5);
+		// Emulate messages being processed in other transactions
+		Map<String, Set<String>> idCache = TestUtils.getPropertyValue(messageStore, "idCache", Map.class);
+		Set<String> claimedIds = ConcurrentHashMap.newKeySet();
+		idCache.put(UUIDConverter.getUUID(TEST_MESSAGE_GROUP).toString(), claimedIds);
+		claimedIds.add(ids.get(0).toString());
+		claimedIds.add(ids.get(1).toString());
+		claimedIds.add(ids.get(3).toString());
+
+		Message<?> message = messageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP);
+		assertThat(message.getHeaders().getId()).isEqualTo(ids.get(2));
+
+		List<Message<?>> messages = messageStore.pollMessagesFromGroup(TEST_MESSAGE_GROUP, 5);
+		assertThat(messages).extracting((msg) -> msg.getHeaders().getId()).containsExactly(ids.get(4));
+		assertThat(messageStore.getSizeOfIdCache()).isEqualTo(5);
+
+		messageStore.removeFromIdCache(ids.get(3).toString());
+		assertThat(messageStore.pollMessageFromGroup(TEST_MESSAGE_GROUP).getHeaders().getId()).isEqualTo(ids.get(3));
+	}
+
+	private List<UUID> addMessages(int count) {
+		List<UUID> ids = new ArrayList<>();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult((status) -> {
+			for (int i = 0; i < count; i++) {
+				Message<Integer> message = MessageBuilder.withPayload(i).build();
+				ids.add(message.getHeaders().getId());
+				messageStore.addMessageToGroup(TEST_MESSAGE_GROUP, message);
+			}
+		});
+		return ids;
+	}
+
 	private ChannelMessageStorePreparedStatementSetter getMessageGroupPreparedStatementSetter() {
 		return new ChannelMessageStorePreparedStatementSetter() {
 
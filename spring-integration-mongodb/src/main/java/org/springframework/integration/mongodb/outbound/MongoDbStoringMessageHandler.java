@@ -16,7 +16,12 @@
 
 package org.springframework.integration.mongodb.outbound;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -25,6 +30,8 @@ import org.springframework.expression.common.LiteralExpression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.handler.AbstractMessageHandler;
+import org.springframework.integration.handler.BatchMessageHandler;
+import org.springframework.integration.support.PartialSuccessException;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
@@ -32,6 +39,11 @@ import org.springframework.util.Assert;
  * Implementation of {@link org.springframework.messaging.MessageHandler}
  * which writes Message payload into a MongoDb collection
  * identified by evaluation of the {@link #collectionNameExpression}.
+ * <p>
+ * As a {@link BatchMessageHandler}, with the {@link #setBulkInsert(boolean) bulkInsert}
+ * enabled, a batch of messages from a polling endpoint is inserted with an ordered bulk
+ * operation per run of consecutive messages for the same collection; otherwise the
+ * messages are saved one by one.
  *
  * @author Amol Nayak
  * @author Oleg Zhurakousky
@@ -40,7 +52,7 @@ import org.springframework.util.Assert;
  * @since 2.2
  *
  */
-public class MongoDbStoringMessageHandler extends AbstractMessageHandler {
+public class MongoDbStoringMessageHandler extends AbstractMessageHandler implements BatchMessageHandler {
 
 	private final MongoDatabaseFactory mongoDbFactory;
 
@@ -52,6 +64,8 @@ public class MongoDbStoringMessageHandler extends AbstractMessageHandler {
 
 	private Expression collectionNameExpression = new LiteralExpression("data");
 
+	private boolean bulkInsert;
+
 	private volatile boolean initialized = false;
 
 	/**
@@ -96,6 +110,20 @@ public class MongoDbStoringMessageHandler extends AbstractMessageHandler {
 		this.collectionNameExpression = collectionNameExpression;
 	}
 
+	/**
+	 * Set to true to write a batch of messages with an ordered bulk insert per run of
+	 * consecutive messages for the same collection, instead of a {@code save} for each message.
+	 * Unlike the {@code save} (an upsert), the insert fails for a document with an
+	 * existing {@code _id}.
+	 * Only applies to the batches from a polling endpoint with a {@code batchSize}
+	 * greater than {@code 1}; defaults to false.
+	 * @param bulkInsert true to insert a batch in bulk.
+	 * @since 6.3
+	 */
+	public void setBulkInsert(boolean bulkInsert) {
+		this.bulkInsert = bulkInsert;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "mongo:outbound-channel-adapter";
@@ -114,12 +142,81 @@ public class MongoDbStoringMessageHandler extends AbstractMessageHandler {
 	@Override
 	protected void handleMessageInternal(Message<?> message) {
 		Assert.isTrue(this.initialized, "This class is not yet initialized. Invoke its afterPropertiesSet() method");
-		String collectionName = this.collectionNameExpression.getValue(this.evaluationContext, message, String.class);
-		Assert.notNull(collectionName, "'collectionNameExpression' must not evaluate to null");
+		String collectionName = evaluateCollectionName(message);
 
 		Object payload = message.getPayload();
 
 		this.mongoTemplate.save(payload, collectionName);
 	}
 
+	@Override
+	public void handleMessages(List<Message<?>> messages) {
+		handleMessageBatch(messages, this::insertMessages);
+	}
+
+	/**
+	 * Return true only if the {@link #setBulkInsert(boolean) bulkInsert} is enabled:
+	 * otherwise a polling endpoint hands the messages over one by one.
+	 * @return whether the batches are inserted in bulk.
+	 * @since 6.3
+	 */
+	@Override
+	public boolean isBatchCapable() {
+		return this.bulkInsert;
+	}
+
+	private void insertMessages(List<Message<?>> messages) {
+		if (!this.bulkInsert) {
+			for (int i = 0; i < messages.size(); i++) {
+				try {
+					handleMessageInternal(messages.get(i));
+				}
+				catch (RuntimeException ex) {
+					throw new PartialSuccessException(messages.get(i), "Failed to handle the message " + i
+							+ " of the batch", ex, messages.subList(0, i), messages);
+				}
+			}
+			return;
+		}
+		Assert.isTrue(this.initialized, "This class is not yet initialized. Invoke its afterPropertiesSet() method");
+		int start = 0;
+		while (start < messages.size()) {
+			String collectionName = evaluateCollectionName(messages.get(start));
+			List<Object> payloads = new ArrayList<>();
+			payloads.add(messages.get(start).getPayload());
+			int end = start + 1;
+			while (end < messages.size()) {
+				Message<?> next = messages.get(end);
+				if (!collectionName.equals(evaluateCollectionName(next))) {
+					break;
+				}
+				payloads.add(next.getPayload());
+				end++;
+			}
+			try {
+				this.mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, collectionName)
+						.insert(payloads)
+						.execute();
+			}
+			catch (BulkOperationException ex) {
+				int failedIndex = start + (ex.getErrors().isEmpty() ? 0 : ex.getErrors().get(0).getIndex());
+				throw new PartialSuccessException(messages.get(failedIndex),
+						"Failed to insert a batch into the '" + collectionName + "' collection", ex,
+						messages.subList(0, failedIndex), messages);
+			}
+			catch (RuntimeException ex) {
+				throw new PartialSuccessException(messages.get(start),
+						"Failed to insert a batch into the '" + collectionName + "' collection", ex,
+						messages.subList(0, start), messages);
+			}
+			start = end;
+		}
+	}
+
+	private String evaluateCollectionName(Message<?> message) {
+		String collectionName = this.collectionNameExpression.getValue(this.evaluationContext, message, String.class);
+		Assert.notNull(collectionName, "'collectionNameExpression' must not evaluate to null");
+		return collectionName;
+	}
+
 }
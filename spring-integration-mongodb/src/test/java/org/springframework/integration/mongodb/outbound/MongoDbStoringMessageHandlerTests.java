@@ -16,6 +16,8 @@
 
 package org.springframework.integration.mongodb.outbound;
 
+import java.util.List;
+
 import org.bson.conversions.Bson;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -156,4 +158,33 @@ class MongoDbStoringMessageHandlerTests implements MongoDbContainerTest {
 		verify(converter, times(1)).write(Mockito.any(), Mockito.any(Bson.class));
 	}
 
+	@Test
+	void validateBatchMessageHandling() {
+		MongoDbStoringMessageHandler handler = new MongoDbStoringMessageHandler(MONGO_DATABASE_FACTORY);
+		handler.setCollectionNameExpression(new LiteralExpression("batch"));
+		handler.setBulkInsert(true);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+		handler.handleMessages(List.of(
+				MessageBuilder.withPayload(MongoDbContainerTest.createPerson("Alice")).build(),
+				MessageBuilder.withPayload(MongoDbContainerTest.createPerson("Carol")).build()));
+
+		assertThat(template.findOne(new BasicQuery("{'name' : 'Alice'}"), Person.class, "batch")).isNotNull();
+		assertThat(template.findOne(new BasicQuery("{'name' : 'Carol'}"), Person.class, "batch")).isNotNull();
+	}
+
+	@Test
+	void validateBatchMessageHandlingSavesByDefault() {
+		MongoDbStoringMessageHandler handler = new MongoDbStoringMessageHandler(MONGO_DATABASE_FACTORY);
+		handler.setCollectionNameExpression(new LiteralExpression("batchSave"));
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+		Person person = MongoDbContainerTest.createPerson("Dave");
+		handler.handleMessages(List.of(
+				MessageBuilder.withPayload(person).build(),
+				MessageBuilder.withPayload(person).build()));
+
+		assertThat(template.count(new BasicQuery("{'name' : 'Dave'}"), "batchSave")).isEqualTo(1);
+	}
+
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.redis.support;
+
+import java.io.IOException;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.integration.codec.Codec;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RedisSerializer} delegating to a {@link Codec}; for example a
+ * {@link org.springframework.integration.codec.kryo.MessageCodec} (with the
+ * {@link org.springframework.messaging.support.GenericMessage} type) for the
+ * {@code RedisChannelMessageStore} and the Redis queue channel adapters and gateways,
+ * instead of the default Java serialization.
+ * With the Kryo codecs, the objects are encoded with pooled buffers and decoded from the
+ * provided {@code byte[]} without an intermediate stream.
+ *
+ * @param <T> the type of the objects.
+ *
+ * @since 6.3
+ */
+public class CodecRedisSerializer<T> implements RedisSerializer<T> {
+
+	private final Codec codec;
+
+	private final Class<T> type;
+
+	/**
+	 * Construct an instance for the provided codec and type.
+	 * @param codec the codec.
+	 * @param type the type of the objects.
+	 */
+	public CodecRedisSerializer(Codec codec, Class<T> type) {
+		Assert.notNull(codec, "'codec' cannot be null");
+		Assert.notNull(type, "'type' cannot be null");
+		this.codec = codec;
+		this.type = type;
+	}
+
+	@Override
+	@Nullable
+	public byte[] serialize(@Nullable T value) throws SerializationException {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return this.codec.encode(value);
+		}
+		catch (IOException | RuntimeException ex) {
+			throw new SerializationException("Cannot encode " + value, ex);
+		}
+	}
+
+	@Override
+	@Nullable
+	public T deserialize(@Nullable byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		try {
+			return this.codec.decode(bytes, this.type);
+		}
+		catch (IOException | RuntimeException ex) {
+			throw new SerializationException("Cannot decode to " + this.type, ex);
+		}
+	}
+
+	@Override
+	public Class<?> getTargetType() {
+		return this.type;
+	}
+
+}
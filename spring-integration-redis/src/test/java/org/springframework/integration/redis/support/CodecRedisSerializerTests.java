@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.redis.support;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.integration.codec.kryo.KryoClassListRegistrar;
+import org.springframework.integration.codec.kryo.MessageCodec;
+import org.springframework.integration.codec.kryo.PojoCodec;
+import org.springframework.integration.redis.util.Address;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @since 6.3
+ */
+public class CodecRedisSerializerTests {
+
+	private static PojoCodec addressCodec() {
+		return new PojoCodec(new KryoClassListRegistrar(Address.class));
+	}
+
+	@Test
+	void pojoRoundTrip() {
+		CodecRedisSerializer<Address> serializer = new CodecRedisSerializer<>(addressCodec(), Address.class);
+		Address address = new Address("Main Street");
+		byte[] bytes = serializer.serialize(address);
+		assertThat(bytes).isNotEmpty();
+		assertThat(serializer.deserialize(bytes)).isEqualTo(address);
+		assertThat(serializer.getTargetType()).isEqualTo(Address.class);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void messageRoundTrip() {
+		CodecRedisSerializer<GenericMessage> serializer =
+				new CodecRedisSerializer<>(new MessageCodec(), GenericMessage.class);
+		Message<String> message = MessageBuilder.withPayload("foo")
+				.setHeader("bar", 42)
+				.build();
+		GenericMessage<String> decoded = serializer.deserialize(serializer.serialize((GenericMessage) message));
+		assertThat(decoded.getPayload()).isEqualTo("foo");
+		assertThat(decoded.getHeaders()).containsEntry("bar", 42);
+	}
+
+	@Test
+	void nullAndEmpty() {
+		CodecRedisSerializer<String> serializer = new CodecRedisSerializer<>(new PojoCodec(), String.class);
+		assertThat(serializer.serialize(null)).isNull();
+		assertThat(serializer.deserialize(null)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	void decodeFailure() {
+		CodecRedisSerializer<Address> serializer = new CodecRedisSerializer<>(addressCodec(), Address.class);
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> serializer.deserialize(new byte[] { 1, 2, 3, 4, 5 }))
+				.withMessageContaining(Address.class.getName());
+	}
+
+}